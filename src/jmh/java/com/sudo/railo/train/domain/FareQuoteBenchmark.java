@@ -0,0 +1,81 @@
+package com.sudo.railo.train.domain;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.sudo.railo.train.domain.type.FareClass;
+import com.sudo.railo.train.domain.type.PassengerType;
+
+/**
+ * 검색 결과 한 페이지(20개 열차)의 승객 구성별 총 운임 계산 비교
+ * - bigDecimalPerPassenger : 열차/객실/승객마다 BigDecimal 곱셈 (기존 방식)
+ * - fareTableTotal         : 미리 계산한 정수 운임표로 합산
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FareQuoteBenchmark {
+
+	private static final int TRAINS_PER_PAGE = 20;
+	private static final int STANDARD_FARE = 59800;
+	private static final int FIRST_CLASS_FARE = 83700;
+
+	private PassengerType[] passengers;
+	private int[] passengerCounts;
+	private FareTable fareTable;
+
+	@Setup
+	public void setUp() {
+		// 어른 2, 어린이 1, 경로 1
+		passengers = new PassengerType[] {
+			PassengerType.ADULT, PassengerType.ADULT, PassengerType.CHILD, PassengerType.SENIOR
+		};
+		passengerCounts = new int[PassengerType.values().length];
+		for (PassengerType passenger : passengers) {
+			passengerCounts[passenger.ordinal()]++;
+		}
+		fareTable = FareTable.of(STANDARD_FARE, FIRST_CLASS_FARE);
+	}
+
+	@Benchmark
+	public long bigDecimalPerPassenger() {
+		long sum = 0;
+		for (int train = 0; train < TRAINS_PER_PAGE; train++) {
+			BigDecimal standard = BigDecimal.ZERO;
+			BigDecimal firstClass = BigDecimal.ZERO;
+			BigDecimal standing = BigDecimal.ZERO;
+			for (PassengerType passenger : passengers) {
+				BigDecimal rate = BigDecimal.valueOf(passenger.getFareRatePermille() / 1000.0);
+				standard = standard.add(BigDecimal.valueOf(STANDARD_FARE).multiply(rate));
+				firstClass = firstClass.add(BigDecimal.valueOf(FIRST_CLASS_FARE).multiply(rate));
+				standing = standing.add(BigDecimal.valueOf(STANDARD_FARE * 0.9).multiply(rate));
+			}
+			sum += standard.intValue() + firstClass.intValue() + standing.intValue();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long fareTableTotal() {
+		long sum = 0;
+		for (int train = 0; train < TRAINS_PER_PAGE; train++) {
+			sum += fareTable.total(FareClass.STANDARD, passengerCounts)
+				+ fareTable.total(FareClass.FIRST_CLASS, passengerCounts)
+				+ fareTable.total(FareClass.STANDING, passengerCounts);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public FareTable fareTableBuild() {
+		return FareTable.of(STANDARD_FARE, FIRST_CLASS_FARE);
+	}
+}
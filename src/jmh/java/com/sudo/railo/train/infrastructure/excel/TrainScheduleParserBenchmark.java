@@ -0,0 +1,89 @@
+package com.sudo.railo.train.infrastructure.excel;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellAddress;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 운행 시간표(files/train_schedule.xlsx) 하루치 파싱 비교
+ * - domParse       : WorkbookFactory로 워크북 전체를 읽은 뒤 시트별 파싱 (기존 방식)
+ * - streamingParse : XSSF 이벤트 API로 행 단위 파싱
+ *
+ * 처리량은 JMH 결과로, 최대 힙 사용량은 반복(iteration)마다 출력되는 `peak heap` 값으로 비교한다.
+ * 할당량까지 보려면 `./gradlew jmh -Pjmh.profilers=gc` 처럼 GC 프로파일러를 함께 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TrainScheduleParserBenchmark {
+
+	private static final String FILE_NAME = "train_schedule.xlsx";
+	private static final LocalDate OPERATION_DATE = LocalDate.of(2025, 7, 1);
+
+	private TrainScheduleParser parser;
+
+	@Setup
+	public void setUp() {
+		parser = new TrainScheduleParser() {
+			@Override
+			protected String getFileName() {
+				return FILE_NAME;
+			}
+		};
+	}
+
+	@Setup(Level.Iteration)
+	public void resetPeakHeap() {
+		System.gc();
+		heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+	}
+
+	@TearDown(Level.Iteration)
+	public void printPeakHeap() {
+		long peak = heapPools().stream()
+			.mapToLong(pool -> pool.getPeakUsage().getUsed())
+			.sum();
+		System.out.printf("%npeak heap: %d MB%n", peak / (1024 * 1024));
+	}
+
+	@Benchmark
+	public int domParse() {
+		int count = 0;
+		for (Sheet sheet : parser.getSheets()) {
+			CellAddress downTrainAddress = parser.getFirstCellAddress(sheet, 0);
+			count += parser.getTrainScheduleData(sheet, downTrainAddress, OPERATION_DATE).size();
+
+			CellAddress upTrainAddress = parser.getFirstCellAddress(sheet, downTrainAddress.getColumn() + 1);
+			count += parser.getTrainScheduleData(sheet, upTrainAddress, OPERATION_DATE).size();
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int streamingParse() {
+		int[] count = new int[1];
+		parser.streamTrainScheduleData(OPERATION_DATE, data -> count[0]++);
+		return count[0];
+	}
+
+	private List<MemoryPoolMXBean> heapPools() {
+		return ManagementFactory.getMemoryPoolMXBeans().stream()
+			.filter(pool -> pool.getType() == MemoryType.HEAP)
+			.toList();
+	}
+}
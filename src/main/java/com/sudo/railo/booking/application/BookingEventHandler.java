@@ -0,0 +1,20 @@
+package com.sudo.railo.booking.application;
+
+import java.util.List;
+
+import com.sudo.railo.booking.application.dto.BookingEventMessage;
+import com.sudo.railo.booking.domain.BookingEventType;
+
+/**
+ * 애플리케이션 내부 예약 도메인 이벤트 구독자
+ *
+ * 릴레이가 발행한 배치 중 구독하는 유형의 이벤트만 묶어서 전달한다.
+ * 같은 이벤트가 다시 전달될 수 있으므로 (at-least-once) 멱등하게 처리해야 하며,
+ * 예외를 던지면 배치 전체가 재발행된다.
+ */
+public interface BookingEventHandler {
+
+	boolean supports(BookingEventType eventType);
+
+	void handle(List<BookingEventMessage> messages);
+}
@@ -0,0 +1,47 @@
+package com.sudo.railo.booking.application;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sudo.railo.booking.domain.BookingEventOutbox;
+import com.sudo.railo.booking.domain.BookingEventType;
+import com.sudo.railo.booking.infra.BookingEventOutboxRepository;
+import com.sudo.railo.global.exception.error.BusinessException;
+import com.sudo.railo.global.exception.error.GlobalError;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예약 도메인 이벤트 Outbox 적재 서비스
+ *
+ * 예약 변경과 같은 트랜잭션에서만 적재할 수 있어, 롤백된 변경의 이벤트가 발행되거나
+ * 커밋된 변경의 이벤트가 유실되지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BookingEventOutboxService {
+
+	private final ObjectMapper objectMapper;
+	private final BookingEventOutboxRepository bookingEventOutboxRepository;
+
+	/***
+	 * 이벤트를 Outbox에 적재하는 메서드
+	 * @param eventType 이벤트 유형
+	 * @param aggregateId 예약 ID (여러 예약을 묶은 이벤트면 null)
+	 * @param payload 이벤트 본문
+	 */
+	@Transactional(Transactional.TxType.MANDATORY)
+	public void append(BookingEventType eventType, Long aggregateId, Object payload) {
+		bookingEventOutboxRepository.save(BookingEventOutbox.create(eventType, aggregateId, write(payload)));
+	}
+
+	private String write(Object payload) {
+		try {
+			return objectMapper.writeValueAsString(payload);
+		} catch (JsonProcessingException e) {
+			throw new BusinessException(GlobalError.INTERNAL_SERVER_ERROR, e);
+		}
+	}
+}
@@ -0,0 +1,158 @@
+package com.sudo.railo.booking.application;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sudo.railo.booking.application.dto.BookingEventMessage;
+import com.sudo.railo.booking.config.BookingConfig;
+import com.sudo.railo.booking.infra.BookingEventOutboxJdbcRepository;
+import com.sudo.railo.booking.infra.BookingEventOutboxJdbcRepository.PendingStats;
+import com.sudo.railo.booking.infra.BookingEventStreamRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예약 도메인 이벤트 릴레이
+ *
+ * Outbox에서 커밋된 이벤트를 배치 단위로 점유해 Redis Stream(설정 시)과 애플리케이션 내부 구독자에게 발행하고,
+ * 발행이 끝나면 같은 트랜잭션에서 완료 처리한다. 발행 도중 실패하면 완료 처리가 롤백되어 다시 발행된다.
+ */
+@Slf4j
+@Service
+public class BookingEventRelay {
+
+	private final BookingConfig.Outbox config;
+	private final TransactionTemplate transactionTemplate;
+	private final BookingEventOutboxJdbcRepository bookingEventOutboxJdbcRepository;
+	private final BookingEventStreamRepository bookingEventStreamRepository;
+	private final List<BookingEventHandler> handlers;
+	private final MeterRegistry meterRegistry;
+	private final Timer lagTimer;
+	private final AtomicLong pending = new AtomicLong();
+	private final AtomicLong oldestAgeSeconds = new AtomicLong();
+
+	public BookingEventRelay(BookingConfig bookingConfig, TransactionTemplate transactionTemplate,
+		BookingEventOutboxJdbcRepository bookingEventOutboxJdbcRepository,
+		BookingEventStreamRepository bookingEventStreamRepository, List<BookingEventHandler> handlers,
+		MeterRegistry meterRegistry) {
+		this.config = bookingConfig.getOutbox();
+		this.transactionTemplate = transactionTemplate;
+		this.bookingEventOutboxJdbcRepository = bookingEventOutboxJdbcRepository;
+		this.bookingEventStreamRepository = bookingEventStreamRepository;
+		this.handlers = handlers;
+		this.meterRegistry = meterRegistry;
+
+		// 이벤트 발생부터 발행까지 걸린 시간
+		this.lagTimer = Timer.builder("booking.outbox.lag")
+			.publishPercentiles(0.5, 0.99)
+			.register(meterRegistry);
+		Gauge.builder("booking.outbox.pending", pending, AtomicLong::get).register(meterRegistry);
+		Gauge.builder("booking.outbox.oldest.age", oldestAgeSeconds, AtomicLong::get)
+			.baseUnit("seconds")
+			.register(meterRegistry);
+	}
+
+	/***
+	 * 이벤트를 한 배치 점유해 발행하는 메서드
+	 * @return 처리한 이벤트 수
+	 */
+	public int relayNextBatch() {
+		List<BookingEventMessage> claimed;
+		try {
+			claimed = transactionTemplate.execute(status -> {
+				List<BookingEventMessage> messages = bookingEventOutboxJdbcRepository.claim(config.getBatchSize(),
+					config.getMaxAttempts());
+				if (!messages.isEmpty()) {
+					publish(messages);
+				}
+				return messages;
+			});
+		} catch (Exception e) {
+			// 어떤 이벤트가 실패했는지 알 수 없으므로 건별로 다시 발행해 실패한 이벤트만 재시도 대상으로 남김
+			log.warn("예약 이벤트 일괄 발행 실패, 건별 발행으로 전환", e);
+			return relayOneByOne();
+		}
+		return claimed != null ? claimed.size() : 0;
+	}
+
+	/***
+	 * 발행 대기 현황 지표를 갱신하는 메서드
+	 */
+	public void refreshPendingStats() {
+		PendingStats stats = bookingEventOutboxJdbcRepository.findPendingStats(config.getMaxAttempts());
+		pending.set(stats.pending());
+		oldestAgeSeconds.set(stats.oldestCreatedAt() != null
+			? Duration.between(stats.oldestCreatedAt(), LocalDateTime.now()).toSeconds()
+			: 0);
+	}
+
+	/***
+	 * 보관 기간이 지난 발행 완료 이벤트를 삭제하는 메서드
+	 * @return 삭제된 이벤트 수
+	 */
+	public int purgePublished() {
+		LocalDateTime publishedBefore = LocalDateTime.now().minusDays(config.getRetentionDays());
+		int total = 0;
+		int deleted;
+		do {
+			deleted = bookingEventOutboxJdbcRepository.deletePublishedBefore(publishedBefore, config.getBatchSize());
+			total += deleted;
+		} while (deleted >= config.getBatchSize());
+		return total;
+	}
+
+	private int relayOneByOne() {
+		List<BookingEventMessage> claimed = transactionTemplate.execute(
+			status -> bookingEventOutboxJdbcRepository.claim(config.getBatchSize(), config.getMaxAttempts()));
+		if (claimed == null) {
+			return 0;
+		}
+		for (BookingEventMessage message : claimed) {
+			try {
+				transactionTemplate.executeWithoutResult(status -> {
+					if (bookingEventOutboxJdbcRepository.claimOne(message.eventId())) {
+						publish(List.of(message));
+					}
+				});
+			} catch (Exception e) {
+				log.error("예약 이벤트 발행 실패: eventId={}, eventType={}", message.eventId(), message.eventType(), e);
+				meterRegistry.counter("booking.outbox.failed", "type", message.eventType().name()).increment();
+				bookingEventOutboxJdbcRepository.markFailed(List.of(message.eventId()), e.getMessage());
+			}
+		}
+		return claimed.size();
+	}
+
+	/**
+	 * 스트림과 내부 구독자에게 발행하고 완료 처리 (점유 트랜잭션 내에서 호출)
+	 */
+	private void publish(List<BookingEventMessage> messages) {
+		if (config.isStreamEnabled()) {
+			bookingEventStreamRepository.addAll(config.getStreamKey(), messages, config.getStreamMaxLength());
+		}
+		for (BookingEventHandler handler : handlers) {
+			List<BookingEventMessage> supported = messages.stream()
+				.filter(message -> handler.supports(message.eventType()))
+				.toList();
+			if (!supported.isEmpty()) {
+				handler.handle(supported);
+			}
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		bookingEventOutboxJdbcRepository.markPublished(messages.stream().map(BookingEventMessage::eventId).toList(),
+			now);
+		for (BookingEventMessage message : messages) {
+			lagTimer.record(Duration.between(message.occurredAt(), now));
+			meterRegistry.counter("booking.outbox.published", "type", message.eventType().name()).increment();
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package com.sudo.railo.booking.application;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sudo.railo.booking.config.BookingConfig;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookingEventRelayScheduler {
+
+	// 다른 스케줄 작업이 밀리지 않도록 한 번에 발행하는 최대 배치 수
+	private static final int MAX_BATCHES_PER_RUN = 10;
+
+	private final BookingEventRelay bookingEventRelay;
+	private final BookingConfig bookingConfig;
+
+	@Scheduled(fixedDelayString = "${booking.outbox.poll-interval:200}")
+	public void relay() {
+		try {
+			int batchSize = bookingConfig.getOutbox().getBatchSize();
+			for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+				if (bookingEventRelay.relayNextBatch() < batchSize) {
+					return;
+				}
+			}
+		} catch (Exception e) {
+			log.error("예약 이벤트 발행 실패", e);
+		}
+	}
+
+	@Scheduled(fixedDelay = 5000) // 5초마다 실행
+	public void refreshPendingStats() {
+		try {
+			bookingEventRelay.refreshPendingStats();
+		} catch (Exception e) {
+			log.error("예약 이벤트 발행 대기 현황 갱신 실패", e);
+		}
+	}
+
+	@Scheduled(cron = "0 40 3 * * *") // 매일 03:40에 실행
+	public void purgePublished() {
+		try {
+			int deleted = bookingEventRelay.purgePublished();
+			log.info("발행 완료된 예약 이벤트 삭제: {}건", deleted);
+		} catch (Exception e) {
+			log.error("발행 완료된 예약 이벤트 삭제 실패", e);
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.sudo.railo.booking.application;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntitlementScheduler {
+
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+	private final VeteranEntitlementService veteranEntitlementService;
+
+	@Scheduled(cron = "0 30 4 * * *") // 매일 04:30에 실행
+	public void reconcileVeteranFreeTrips() {
+		// 연말에는 다음 해 운행 예약도 있으므로 올해와 다음 해를 함께 보정
+		int year = LocalDate.now(ZONE_ID).getYear();
+		for (int target = year; target <= year + 1; target++) {
+			try {
+				int corrected = veteranEntitlementService.reconcile(target);
+				log.info("국가유공자 무임 사용 횟수 보정 완료: year={}, corrected={}", target, corrected);
+			} catch (Exception e) {
+				log.error("국가유공자 무임 사용 횟수 보정 실패: year={}", target, e);
+			}
+		}
+	}
+}
@@ -1,25 +1,30 @@
 package com.sudo.railo.booking.application;
 
 import java.math.BigDecimal;
-import java.util.Map;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
 
 import org.springframework.stereotype.Service;
 
 import com.sudo.railo.booking.application.dto.request.FareCalculateRequest;
-import com.sudo.railo.booking.domain.PassengerType;
+import com.sudo.railo.booking.application.dto.request.FareQuoteRequest;
+import com.sudo.railo.booking.application.dto.response.FareQuoteResponse;
+import com.sudo.railo.train.application.FareQuoteEngine;
+import com.sudo.railo.train.domain.FareTable;
+import com.sudo.railo.train.domain.type.FareClass;
+import com.sudo.railo.train.domain.type.PassengerType;
+
+import lombok.RequiredArgsConstructor;
 
 @Service
+@RequiredArgsConstructor
 public class FareCalculationService {
 
-	private static final Map<PassengerType, BigDecimal> DISCOUNT_RATES = Map.of(
-		PassengerType.ADULT, BigDecimal.valueOf(1.0), // 정상가
-		PassengerType.CHILD, BigDecimal.valueOf(0.6), // 10~40% 할인
-		PassengerType.INFANT, BigDecimal.valueOf(0.25), // 좌석 지정 시 75% 할인, 좌석 지정 안하면 100% 할인
-		PassengerType.SENIOR, BigDecimal.valueOf(0.7), // 30% 할인
-		PassengerType.DISABLED_HEAVY, BigDecimal.valueOf(0.5), // 50% 할인 (보호자 1인 포함)
-		PassengerType.DISABLED_LIGHT, BigDecimal.valueOf(0.7), // 30% 할인
-		PassengerType.VETERAN, BigDecimal.valueOf(0.5) // 연 6회 무임, 6회 초과 시 50% 할인
-	);
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+	private final VeteranEntitlementService veteranEntitlementService;
+	private final FareQuoteEngine fareQuoteEngine;
 
 	/***
 	 * 승객 유형별로 내야 할 금액을 계산하는 메서드
@@ -27,7 +32,49 @@ public class FareCalculationService {
 	 * @return 할인이 적용 된 운임
 	 */
 	public BigDecimal calculateFare(FareCalculateRequest request) {
-		BigDecimal discountRate = DISCOUNT_RATES.get(request.passengerType());
+		BigDecimal discountRate = BigDecimal.valueOf(request.passengerType().getFareRatePermille() / 1000.0);
 		return request.fare().multiply(discountRate);
 	}
+
+	/***
+	 * 회원의 연간 혜택을 반영해 내야 할 금액을 계산하는 메서드
+	 * 국가유공자는 운행 연도의 무임 횟수가 남아 있으면 무임, 모두 사용했으면 50% 할인이 적용된다.
+	 * 예약 시 무임 사용 처리와 같은 기준(운행일의 연도)으로 남은 횟수를 확인한다.
+	 * @param request 승객 유형, 원래 운임을 포함하는 DTO
+	 * @param memberNo 회원번호
+	 * @return 할인이 적용 된 운임
+	 */
+	public BigDecimal calculateFare(FareCalculateRequest request, String memberNo) {
+		if (request.passengerType() == PassengerType.VETERAN) {
+			LocalDate operationDate = request.operationDate() != null
+				? request.operationDate()
+				: LocalDate.now(ZONE_ID);
+			if (veteranEntitlementService.getRemainingFreeTrips(memberNo, operationDate.getYear()) > 0) {
+				return BigDecimal.ZERO;
+			}
+		}
+		return calculateFare(request);
+	}
+
+	/***
+	 * 여러 구간/승객 구성의 운임을 한 번에 조회하는 메서드
+	 * @param requests 구간과 승객 구성 목록
+	 * @return 요청 순서대로 객실 등급별 총 운임
+	 */
+	public List<FareQuoteResponse> quoteAll(List<FareQuoteRequest> requests) {
+		return requests.stream()
+			.map(request -> {
+				FareTable fareTable = fareQuoteEngine.getFareTable(request.departureStationId(),
+					request.arrivalStationId());
+				int[] passengerCounts = FareTable.toPassengerCounts(request.passengers());
+				return new FareQuoteResponse(
+					request.departureStationId(),
+					request.arrivalStationId(),
+					fareTable.total(FareClass.STANDARD, passengerCounts),
+					fareTable.total(FareClass.FIRST_CLASS, passengerCounts),
+					fareTable.total(FareClass.STANDING, passengerCounts)
+				);
+			})
+			.toList();
+	}
 }
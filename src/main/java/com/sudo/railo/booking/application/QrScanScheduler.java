@@ -0,0 +1,40 @@
+package com.sudo.railo.booking.application;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QrScanScheduler {
+
+	private final QrScanService qrScanService;
+
+	@Scheduled(fixedDelay = 1000) // 매 초마다 실행
+	public void flushToRedis() {
+		try {
+			qrScanService.flushToRedis();
+		} catch (Exception e) {
+			log.error("QR 스캔 횟수 Redis 반영 실패", e);
+		}
+	}
+
+	@Scheduled(cron = "15 * * * * *") // 매 분 15초마다 실행
+	public void flushToDatabase() {
+		try {
+			qrScanService.flushToDatabase();
+		} catch (Exception e) {
+			log.error("QR 스캔 횟수 DB 반영 실패", e);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		// 종료 시 메모리에 남은 스캔 횟수를 Redis에 반영
+		flushToRedis();
+	}
+}
@@ -0,0 +1,139 @@
+package com.sudo.railo.booking.application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sudo.railo.booking.application.dto.QrTokenPayload;
+import com.sudo.railo.booking.application.dto.request.QrScanRequest;
+import com.sudo.railo.booking.application.dto.response.QrScanResponse;
+import com.sudo.railo.booking.exception.BookingError;
+import com.sudo.railo.booking.infra.QrJdbcRepository;
+import com.sudo.railo.booking.infra.QrRevocationRepository;
+import com.sudo.railo.booking.infra.QrScanCountRepository;
+import com.sudo.railo.booking.infra.QrScanCountRepository.FlushBatch;
+import com.sudo.railo.global.exception.error.BusinessException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 승차권 QR 스캔 서비스
+ *
+ * QR 토큰은 서명만으로 검증하고, 스캔 횟수는 메모리 → Redis → DB 순으로 모아서 반영한다.
+ * 취소/재발권된 승차권은 Redis 무효화 목록으로 거르며, 스캔 요청 처리 중에는 DB에 접근하지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QrScanService {
+
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private static final Duration FLUSH_LOCK_TTL = Duration.ofMinutes(1);
+	private static final Duration FLUSH_HISTORY_RETENTION = Duration.ofDays(7);
+
+	private final QrTokenProvider qrTokenProvider;
+	private final QrScanCountRepository qrScanCountRepository;
+	private final QrJdbcRepository qrJdbcRepository;
+	private final QrRevocationRepository qrRevocationRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	// Redis 반영 전 승차권별 스캔 횟수
+	private final Map<Long, Long> pendingCounts = new ConcurrentHashMap<>();
+
+	/***
+	 * 승차권 QR을 검증하고 스캔을 기록하는 메서드
+	 * @param request QR 스캔 요청 DTO
+	 * @return 승차권 정보
+	 */
+	public QrScanResponse scan(QrScanRequest request) {
+		QrTokenPayload payload = qrTokenProvider.verify(request.token(), Instant.now());
+		if (request.trainScheduleId() != null && !request.trainScheduleId().equals(payload.trainScheduleId())) {
+			throw new BusinessException(BookingError.QR_SCHEDULE_MISMATCH);
+		}
+		if (qrRevocationRepository.isRevoked(payload.ticketId())) {
+			throw new BusinessException(BookingError.QR_TOKEN_REVOKED);
+		}
+
+		pendingCounts.merge(payload.ticketId(), 1L, Long::sum);
+		return new QrScanResponse(
+			payload.ticketId(),
+			payload.trainScheduleId(),
+			payload.departureStationId(),
+			payload.arrivalStationId(),
+			payload.seatId(),
+			LocalDateTime.ofInstant(payload.validUntil(), ZONE_ID)
+		);
+	}
+
+	/***
+	 * 메모리에 모인 스캔 횟수를 Redis에 반영하는 메서드
+	 */
+	public void flushToRedis() {
+		Map<Long, Long> counts = new HashMap<>();
+		// remove는 merge와 원자적으로 동작하므로 반영 중 들어온 스캔도 누락되지 않음
+		for (Long ticketId : pendingCounts.keySet()) {
+			Long count = pendingCounts.remove(ticketId);
+			if (count != null) {
+				counts.put(ticketId, count);
+			}
+		}
+		if (counts.isEmpty()) {
+			return;
+		}
+
+		try {
+			qrScanCountRepository.incrementAll(counts);
+		} catch (Exception e) {
+			// Redis 반영에 실패하면 다음 주기에 다시 반영
+			counts.forEach((ticketId, count) -> pendingCounts.merge(ticketId, count, Long::sum));
+			throw e;
+		}
+	}
+
+	/***
+	 * Redis에 모인 스캔 횟수를 QR 테이블에 일괄 반영하는 메서드
+	 * 묶음 ID를 스캔 횟수와 같은 트랜잭션에서 기록하므로, DB 반영 후 Redis 정리 전에 중단되어도
+	 * 다음 주기에 같은 묶음을 다시 누적하지 않고 Redis만 정리한다.
+	 */
+	public void flushToDatabase() {
+		if (!qrScanCountRepository.lock(FLUSH_LOCK_TTL)) {
+			return;
+		}
+		try {
+			Optional<FlushBatch> batch = qrScanCountRepository.takeForFlush(UUID.randomUUID().toString());
+			if (batch.isEmpty()) {
+				return;
+			}
+			FlushBatch flushBatch = batch.get();
+			Boolean applied = transactionTemplate.execute(status -> {
+				LocalDateTime now = LocalDateTime.now();
+				if (!qrJdbcRepository.markFlushed(flushBatch.batchId(), now)) {
+					return false;
+				}
+				if (!flushBatch.counts().isEmpty()) {
+					qrJdbcRepository.addScanCounts(flushBatch.counts());
+				}
+				qrJdbcRepository.deleteFlushesBefore(now.minus(FLUSH_HISTORY_RETENTION));
+				return true;
+			});
+			qrScanCountRepository.completeFlush(flushBatch.batchId());
+			if (Boolean.TRUE.equals(applied)) {
+				log.info("QR 스캔 횟수 반영: tickets={}", flushBatch.counts().size());
+			} else {
+				log.info("이미 반영된 QR 스캔 횟수 묶음 정리: batchId={}", flushBatch.batchId());
+			}
+		} finally {
+			qrScanCountRepository.unlock();
+		}
+	}
+}
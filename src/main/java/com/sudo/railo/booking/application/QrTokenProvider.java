@@ -0,0 +1,147 @@
+package com.sudo.railo.booking.application;
+
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.stereotype.Component;
+
+import com.sudo.railo.booking.application.dto.QrTokenPayload;
+import com.sudo.railo.booking.config.BookingConfig;
+import com.sudo.railo.booking.exception.BookingError;
+import com.sudo.railo.global.exception.error.BusinessException;
+
+/**
+ * 승차권 QR 토큰 발급/검증
+ *
+ * 토큰 = Base64URL(payload + HMAC-SHA256 서명 앞 16바이트)
+ * payload = 버전(1) | 승차권 ID(8) | 스케줄 ID(8) | 출발역 ID(8) | 도착역 ID(8) | 좌석 ID(8) | 시작(8) | 종료(8)
+ * 서명 키만 있으면 DB 조회 없이 검증할 수 있어 개찰구에서도 오프라인으로 검증할 수 있다.
+ */
+@Component
+public class QrTokenProvider {
+
+	private static final String ALGORITHM = "HmacSHA256";
+	private static final byte VERSION = 1;
+	private static final int PAYLOAD_LENGTH = 1 + Long.BYTES * 7;
+	private static final int SIGNATURE_LENGTH = 16;
+	private static final long STANDING_SEAT_ID = 0L;
+	private static final int MIN_SECRET_BYTES = 32;
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	// Mac은 스레드 안전하지 않으므로 스레드별로 생성
+	private final ThreadLocal<Mac> mac;
+
+	public QrTokenProvider(BookingConfig bookingConfig) {
+		SecretKeySpec key = new SecretKeySpec(decodeSecret(bookingConfig.getQr().getSecret()), ALGORITHM);
+		this.mac = ThreadLocal.withInitial(() -> {
+			try {
+				Mac instance = Mac.getInstance(ALGORITHM);
+				instance.init(key);
+				return instance;
+			} catch (GeneralSecurityException e) {
+				throw new IllegalStateException("QR 서명 키 초기화에 실패했습니다.", e);
+			}
+		});
+	}
+
+	/***
+	 * QR 토큰을 발급하는 메서드
+	 * @param payload 승차권 정보
+	 * @return 서명된 QR 토큰
+	 */
+	public String issue(QrTokenPayload payload) {
+		ByteBuffer buffer = ByteBuffer.allocate(PAYLOAD_LENGTH + SIGNATURE_LENGTH)
+			.put(VERSION)
+			.putLong(payload.ticketId())
+			.putLong(payload.trainScheduleId())
+			.putLong(payload.departureStationId())
+			.putLong(payload.arrivalStationId())
+			.putLong(payload.seatId() != null ? payload.seatId() : STANDING_SEAT_ID)
+			.putLong(payload.validFrom().getEpochSecond())
+			.putLong(payload.validUntil().getEpochSecond());
+		buffer.put(sign(buffer.array()));
+		return ENCODER.encodeToString(buffer.array());
+	}
+
+	/***
+	 * QR 토큰의 서명과 사용 가능 시간을 검증하는 메서드
+	 * @param token QR 토큰
+	 * @param now 검증 기준 시각
+	 * @return 승차권 정보
+	 */
+	public QrTokenPayload verify(String token, Instant now) {
+		byte[] bytes = decode(token);
+		if (bytes.length != PAYLOAD_LENGTH + SIGNATURE_LENGTH || bytes[0] != VERSION) {
+			throw new BusinessException(BookingError.QR_TOKEN_INVALID);
+		}
+		byte[] signature = Arrays.copyOfRange(bytes, PAYLOAD_LENGTH, bytes.length);
+		if (!MessageDigest.isEqual(signature, sign(bytes))) {
+			throw new BusinessException(BookingError.QR_TOKEN_INVALID);
+		}
+
+		ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, PAYLOAD_LENGTH - 1);
+		long ticketId = buffer.getLong();
+		long trainScheduleId = buffer.getLong();
+		long departureStationId = buffer.getLong();
+		long arrivalStationId = buffer.getLong();
+		long seatId = buffer.getLong();
+		Instant validFrom = Instant.ofEpochSecond(buffer.getLong());
+		Instant validUntil = Instant.ofEpochSecond(buffer.getLong());
+
+		if (now.isBefore(validFrom)) {
+			throw new BusinessException(BookingError.QR_TOKEN_NOT_YET_VALID);
+		}
+		if (now.isAfter(validUntil)) {
+			throw new BusinessException(BookingError.QR_TOKEN_EXPIRED);
+		}
+		return new QrTokenPayload(ticketId, trainScheduleId, departureStationId, arrivalStationId,
+			seatId != STANDING_SEAT_ID ? seatId : null, validFrom, validUntil);
+	}
+
+	/**
+	 * payload 영역에 대한 서명 (앞 16바이트)
+	 */
+	private byte[] sign(byte[] bytes) {
+		Mac instance = mac.get();
+		instance.update(bytes, 0, PAYLOAD_LENGTH);
+		return Arrays.copyOf(instance.doFinal(), SIGNATURE_LENGTH);
+	}
+
+	private byte[] decode(String token) {
+		try {
+			return DECODER.decode(token);
+		} catch (IllegalArgumentException e) {
+			throw new BusinessException(BookingError.QR_TOKEN_INVALID);
+		}
+	}
+
+	/**
+	 * 서명 키가 없거나 잘못되었으면 기동 시점에 실패시켜, 잘못된 키로 QR이 발급되지 않도록 한다.
+	 */
+	private static byte[] decodeSecret(String secret) {
+		if (secret == null || secret.isBlank() || secret.startsWith("${")) {
+			throw new IllegalStateException(
+				"QR 서명 키(booking.qr.secret)가 설정되지 않았습니다. QR_SECRET 환경 변수에 Base64 키를 지정해주세요.");
+		}
+		byte[] decoded;
+		try {
+			decoded = Base64.getDecoder().decode(secret.strip());
+		} catch (IllegalArgumentException e) {
+			throw new IllegalStateException("QR 서명 키(booking.qr.secret)가 올바른 Base64 값이 아닙니다.", e);
+		}
+		if (decoded.length < MIN_SECRET_BYTES) {
+			throw new IllegalStateException(
+				"QR 서명 키(booking.qr.secret)는 " + MIN_SECRET_BYTES + "바이트 이상이어야 합니다.");
+		}
+		return decoded;
+	}
+}
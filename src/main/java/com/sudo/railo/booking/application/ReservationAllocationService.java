@@ -9,13 +9,14 @@ import org.springframework.stereotype.Service;
 
 import com.sudo.railo.booking.application.dto.request.ReservationCreateRequest;
 import com.sudo.railo.booking.application.dto.response.ReservationCreateResponse;
-import com.sudo.railo.booking.domain.PassengerSummary;
-import com.sudo.railo.booking.domain.PassengerType;
 import com.sudo.railo.booking.domain.Reservation;
 import com.sudo.railo.booking.domain.SeatReservation;
 import com.sudo.railo.booking.exception.BookingError;
 import com.sudo.railo.global.exception.error.BusinessException;
+import com.sudo.railo.queue.application.AdmissionQueueService;
+import com.sudo.railo.train.domain.PassengerSummary;
 import com.sudo.railo.train.domain.Seat;
+import com.sudo.railo.train.domain.type.PassengerType;
 import com.sudo.railo.train.infrastructure.SeatRepository;
 
 import jakarta.transaction.Transactional;
@@ -28,11 +29,14 @@ public class ReservationAllocationService {
 	private final ReservationService reservationService;
 	private final SeatReservationService seatReservationService;
 	private final SeatRepository seatRepository;
+	private final WaitlistService waitlistService;
+	private final AdmissionQueueService admissionQueueService;
 
 	@Transactional
 	public ReservationCreateResponse createReservation(ReservationCreateRequest request, UserDetails userDetails) {
 		// TODO: 요청 파라미터를 여기서 모두 검증할지, 각 서비스에서 검증할지 결정 필요
 		Reservation reservation = reservationService.createReservation(request, userDetails);
+		admissionQueueService.verifyOperationDate(reservation.getTrainSchedule().getOperationDate());
 
 		// 승객 정보, 좌석 정보 정렬 (승객 정보는 PassengerType에 정의한 순서대로, 좌석 정보는 오름차순)
 		List<PassengerSummary> passengers = request.passengers();
@@ -57,9 +61,14 @@ public class ReservationAllocationService {
 			for (int i = 0; i < passengerCnt && idx < seatIds.size(); i++, idx++) {
 				Seat seat = seatRepository.findById(seatIds.get(idx))
 					.orElseThrow(() -> new BusinessException((BookingError.SEAT_NOT_FOUND)));
+				// 대기자에게 선점된 좌석은 해당 대기자만 예약 가능
+				Long trainScheduleId = reservation.getTrainSchedule().getId();
+				waitlistService.validateHold(trainScheduleId, seat.getId(), userDetails.getUsername());
 				SeatReservation seatReservation = seatReservationService.reserveNewSeat(reservation, seat,
 					passengerType);
 				seatReservationIds.add(seatReservation.getId());
+				waitlistService.completeHold(trainScheduleId, seat.getId(), seat.getTrainCar().getCarType(),
+					userDetails.getUsername());
 			}
 		}
 		return new ReservationCreateResponse(reservation.getId(), seatReservationIds);
@@ -0,0 +1,45 @@
+package com.sudo.railo.booking.application;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+import org.springframework.stereotype.Component;
+
+import com.sudo.railo.global.sequence.SequenceGenerator;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ReservationCodeGenerator {
+
+	private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private static final String SEQUENCE_NAME = "reservationCode";
+	private static final int BLOCK_SIZE = 100;
+	private static final int SUFFIX_LENGTH = 4;
+
+	private final SequenceGenerator sequenceGenerator;
+
+	/***
+	 * 고객용 예매번호를 생성하는 메서드
+	 * yyyyMMddHHmmss<일별 순번 36진수 4자리> 형식으로, 같은 날짜 내 순번이 중복되지 않아 예매번호도 중복되지 않는다.
+	 * @return 고객용 예매번호
+	 */
+	public String generateReservationCode() {
+		LocalDateTime now = LocalDateTime.now(ZONE_ID);
+		String today = now.format(DATE_FORMATTER);
+		long sequence = sequenceGenerator.next(SEQUENCE_NAME, today, BLOCK_SIZE);
+		return now.format(DATE_TIME_FORMATTER) + toSuffix(sequence);
+	}
+
+	private String toSuffix(long sequence) {
+		String suffix = Long.toString(sequence, Character.MAX_RADIX).toUpperCase();
+		if (suffix.length() >= SUFFIX_LENGTH) {
+			return suffix;
+		}
+		return "0".repeat(SUFFIX_LENGTH - suffix.length()) + suffix;
+	}
+}
@@ -0,0 +1,164 @@
+package com.sudo.railo.booking.application;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sudo.railo.booking.application.dto.ReservationHistoryInfo;
+import com.sudo.railo.booking.application.dto.ReservationHistorySeatInfo;
+import com.sudo.railo.booking.application.dto.response.ReservationHistoryResponse;
+import com.sudo.railo.booking.application.dto.response.ReservationHistoryResponse.ReservationItem;
+import com.sudo.railo.booking.application.dto.response.ReservationHistoryResponse.SeatItem;
+import com.sudo.railo.booking.infra.ReservationHistoryCacheRepository;
+import com.sudo.railo.booking.infra.ReservationRepositoryCustom;
+import com.sudo.railo.booking.infra.SeatReservationJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원 예약 내역 조회 서비스
+ * 예약 목록과 좌석 목록을 각각 한 번의 Projection 쿼리로 조회하고, 결과를 회원별로 짧게 캐싱한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationHistoryService {
+
+	private static final int DEFAULT_SIZE = 20;
+	private static final int MAX_SIZE = 50;
+	private static final Duration CACHE_TTL = Duration.ofSeconds(30);
+
+	private final ObjectMapper objectMapper;
+	private final ReservationRepositoryCustom reservationRepositoryCustom;
+	private final ReservationHistoryCacheRepository reservationHistoryCacheRepository;
+	private final SeatReservationJdbcRepository seatReservationJdbcRepository;
+
+	/***
+	 * 회원의 예약 내역을 조회하는 메서드
+	 * @param memberNo 회원번호
+	 * @param cursorReservedAt 이전 페이지 마지막 예약 일시 (첫 페이지면 null)
+	 * @param cursorReservationId 이전 페이지 마지막 예약 ID (첫 페이지면 null)
+	 * @param size 페이지 크기
+	 * @return 예약 내역
+	 */
+	public ReservationHistoryResponse getReservations(String memberNo, LocalDateTime cursorReservedAt,
+		Long cursorReservationId, Integer size) {
+		int pageSize = size == null || size <= 0 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+		String page = cursorReservedAt + ":" + cursorReservationId + ":" + pageSize;
+
+		Optional<ReservationHistoryResponse> cached = readCache(memberNo, page);
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+
+		ReservationHistoryResponse response = query(memberNo, cursorReservedAt, cursorReservationId, pageSize);
+		writeCache(memberNo, page, response);
+		return response;
+	}
+
+	/***
+	 * 회원의 예약 내역 캐시를 삭제하는 메서드 (트랜잭션 커밋 후 실행)
+	 */
+	public void evict(String memberNo) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			evictNow(memberNo);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evictNow(memberNo);
+			}
+		});
+	}
+
+	/***
+	 * 회원의 예약 내역 캐시를 바로 삭제하는 메서드 (커밋 후 이벤트 리스너에서 호출)
+	 */
+	public void evictNow(String memberNo) {
+		try {
+			reservationHistoryCacheRepository.evict(memberNo);
+		} catch (Exception e) {
+			log.warn("예약 내역 캐시 삭제 실패: memberNo={}", memberNo, e);
+		}
+	}
+
+	private ReservationHistoryResponse query(String memberNo, LocalDateTime cursorReservedAt,
+		Long cursorReservationId, int pageSize) {
+		// hasNext 확인용 +1
+		List<ReservationHistoryInfo> rows = reservationRepositoryCustom.findHistory(memberNo, cursorReservedAt,
+			cursorReservationId, pageSize + 1);
+		boolean hasNext = rows.size() > pageSize;
+		List<ReservationHistoryInfo> content = hasNext ? rows.subList(0, pageSize) : rows;
+		if (content.isEmpty()) {
+			return new ReservationHistoryResponse(Collections.emptyList(), false, null, null);
+		}
+
+		Map<Long, List<SeatItem>> seats = new HashMap<>(groupSeats(reservationRepositoryCustom.findHistorySeats(
+			content.stream().map(ReservationHistoryInfo::reservationId).toList())));
+
+		// 지난 운행의 좌석 예약은 보관 테이블로 옮겨졌을 수 있음
+		LocalDate today = LocalDate.now();
+		List<Long> archivedIds = content.stream()
+			.filter(info -> info.operationDate().isBefore(today) && !seats.containsKey(info.reservationId()))
+			.map(ReservationHistoryInfo::reservationId)
+			.toList();
+		if (!archivedIds.isEmpty()) {
+			seats.putAll(groupSeats(seatReservationJdbcRepository.findArchivedHistorySeats(archivedIds)));
+		}
+
+		List<ReservationItem> reservations = content.stream()
+			.map(info -> ReservationItem.of(info, seats.getOrDefault(info.reservationId(), List.of())))
+			.toList();
+		ReservationHistoryInfo last = content.get(content.size() - 1);
+		return new ReservationHistoryResponse(
+			reservations,
+			hasNext,
+			hasNext ? last.reservedAt() : null,
+			hasNext ? last.reservationId() : null
+		);
+	}
+
+	private Map<Long, List<SeatItem>> groupSeats(List<ReservationHistorySeatInfo> seatInfos) {
+		return seatInfos.stream()
+			.collect(Collectors.groupingBy(ReservationHistorySeatInfo::reservationId,
+				Collectors.mapping(SeatItem::from, Collectors.toList())));
+	}
+
+	/**
+	 * 캐시 장애 시에도 조회는 DB로 계속 처리
+	 */
+	private Optional<ReservationHistoryResponse> readCache(String memberNo, String page) {
+		try {
+			Optional<String> cached = reservationHistoryCacheRepository.find(memberNo, page);
+			if (cached.isPresent()) {
+				return Optional.of(objectMapper.readValue(cached.get(), ReservationHistoryResponse.class));
+			}
+		} catch (Exception e) {
+			log.warn("예약 내역 캐시 조회 실패: memberNo={}", memberNo, e);
+		}
+		return Optional.empty();
+	}
+
+	private void writeCache(String memberNo, String page, ReservationHistoryResponse response) {
+		try {
+			reservationHistoryCacheRepository.save(memberNo, page, objectMapper.writeValueAsString(response),
+				CACHE_TTL);
+		} catch (JsonProcessingException | RuntimeException e) {
+			log.warn("예약 내역 캐시 저장 실패: memberNo={}", memberNo, e);
+		}
+	}
+}
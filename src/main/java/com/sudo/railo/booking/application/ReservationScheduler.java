@@ -4,19 +4,31 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ReservationScheduler {
 
 	private final ReservationService reservationService;
+	private final WaitlistService waitlistService;
 
 	@Scheduled(cron = "0 * * * * *") // 매 분마다 실행
 	public void expireReservations() {
 		try {
 			reservationService.expireReservations();
 		} catch (Exception e) {
-			// TODO: 로깅
+			log.error("예약 만료 처리 중 오류가 발생했습니다.", e);
+		}
+	}
+
+	@Scheduled(cron = "30 * * * * *") // 매 분 30초마다 실행
+	public void reofferExpiredHolds() {
+		try {
+			waitlistService.reofferExpiredHolds();
+		} catch (Exception e) {
+			log.error("대기자 좌석 재배정 중 오류가 발생했습니다.", e);
 		}
 	}
 }
@@ -1,29 +1,45 @@
 package com.sudo.railo.booking.application;
 
-import java.security.SecureRandom;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sudo.railo.booking.application.dto.ReleasedSeatInfo;
 import com.sudo.railo.booking.application.dto.request.ReservationCreateRequest;
 import com.sudo.railo.booking.application.dto.request.ReservationDeleteRequest;
 import com.sudo.railo.booking.config.BookingConfig;
-import com.sudo.railo.booking.domain.PassengerSummary;
+import com.sudo.railo.booking.domain.BookingEventType;
 import com.sudo.railo.booking.domain.Reservation;
 import com.sudo.railo.booking.domain.ReservationStatus;
+import com.sudo.railo.booking.domain.TicketIssueRequest;
+import com.sudo.railo.booking.domain.TripType;
+import com.sudo.railo.booking.domain.event.ReservationCancelledEvent;
+import com.sudo.railo.booking.domain.event.ReservationCreatedEvent;
+import com.sudo.railo.booking.domain.event.ReservationPaidEvent;
+import com.sudo.railo.booking.domain.event.ReservationsExpiredEvent;
 import com.sudo.railo.booking.exception.BookingError;
+import com.sudo.railo.booking.infra.ReservationJdbcRepository;
+import com.sudo.railo.booking.infra.ReservationPassengerJdbcRepository;
+import com.sudo.railo.booking.infra.ReservationPassengerRepository;
 import com.sudo.railo.booking.infra.ReservationRepository;
+import com.sudo.railo.booking.infra.SeatReservationRepository;
+import com.sudo.railo.booking.infra.TicketIssueRequestRepository;
 import com.sudo.railo.global.exception.error.BusinessException;
 import com.sudo.railo.member.domain.Member;
 import com.sudo.railo.member.exception.MemberError;
 import com.sudo.railo.member.infra.MemberRepository;
+import com.sudo.railo.train.application.ScheduleInventoryService;
+import com.sudo.railo.train.domain.PassengerSummary;
 import com.sudo.railo.train.domain.Station;
 import com.sudo.railo.train.domain.TrainSchedule;
 import com.sudo.railo.train.domain.status.OperationStatus;
+import com.sudo.railo.train.domain.type.CarType;
+import com.sudo.railo.train.domain.type.PassengerType;
 import com.sudo.railo.train.exception.TrainErrorCode;
 import com.sudo.railo.train.infrastructure.StationRepository;
 import com.sudo.railo.train.infrastructure.TrainScheduleRepository;
@@ -35,32 +51,22 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ReservationService {
 
-	private final ObjectMapper objectMapper;
 	private final BookingConfig bookingConfig;
 	private final TrainScheduleRepository trainScheduleRepository;
 	private final MemberRepository memberRepository;
 	private final StationRepository stationRepository;
 	private final ReservationRepository reservationRepository;
-
-	/***
-	 * 고객용 예매번호를 생성하는 메서드
-	 * @return 고객용 예매번호
-	 */
-	private String generateReservationCode() {
-		// yyyyMMddHHmmss<랜덤4자리> 형식
-		LocalDateTime now = LocalDateTime.now();
-		DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
-		String dateTimeStr = now.format(formatter);
-
-		String chars = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
-		StringBuilder randomStr = new StringBuilder();
-		SecureRandom secureRandom = new SecureRandom();
-		for (int i = 0; i < 4; i++) {
-			int idx = secureRandom.nextInt(chars.length());
-			randomStr.append(chars.charAt(idx));
-		}
-		return dateTimeStr + randomStr;
-	}
+	private final ReservationJdbcRepository reservationJdbcRepository;
+	private final ReservationPassengerJdbcRepository reservationPassengerJdbcRepository;
+	private final ReservationPassengerRepository reservationPassengerRepository;
+	private final VeteranEntitlementService veteranEntitlementService;
+	private final SeatReservationRepository seatReservationRepository;
+	private final ReservationCodeGenerator reservationCodeGenerator;
+	private final TicketIssueRequestRepository ticketIssueRequestRepository;
+	private final ReservationHistoryService reservationHistoryService;
+	private final BookingEventOutboxService bookingEventOutboxService;
+	private final ScheduleInventoryService scheduleInventoryService;
+	private final TicketRevocationService ticketRevocationService;
 
 	/***
 	 * 예약을 생성하는 메서드
@@ -86,46 +92,183 @@ public class ReservationService {
 			Station arrivalStation = stationRepository.findById(request.arrivalStationId())
 				.orElseThrow(() -> new BusinessException(TrainErrorCode.STATION_NOT_FOUND));
 
-			List<PassengerSummary> passengerSummary = request.passengers();
-			LocalDateTime now = LocalDateTime.now();
-			Reservation reservation = Reservation.builder()
-				.trainSchedule(trainSchedule)
-				.member(member)
-				.reservationCode(generateReservationCode())
-				.tripType(request.tripType())
-				.totalPassengers(passengerSummary.stream().mapToInt(PassengerSummary::getCount).sum())
-				.passengerSummary(objectMapper.writeValueAsString(passengerSummary))
-				.reservationStatus(ReservationStatus.RESERVED)
-				.expiresAt(now.plusMinutes(bookingConfig.getExpiration().getReservation()))
-				.reservedAt(now)
-				.departureStation(departureStation)
-				.arrivalStation(arrivalStation)
-				.build();
-			return reservationRepository.save(reservation);
+			return createLeg(trainSchedule, member, departureStation, arrivalStation, request.passengers(),
+				request.tripType());
 		} catch (Exception e) {
 			throw new BusinessException(BookingError.RESERVATION_CREATE_FAILED);
 		}
 	}
 
+	/***
+	 * 조회한 스케줄, 회원, 구간으로 예약 한 건을 생성하는 메서드 (트랜잭션 내에서 호출)
+	 * 왕복 등 여러 구간을 예약할 때 스케줄과 역을 한 번에 조회한 뒤 구간별로 호출한다.
+	 * @return 예약 레코드
+	 */
+	@Transactional(Transactional.TxType.MANDATORY)
+	public Reservation createLeg(TrainSchedule trainSchedule, Member member, Station departureStation,
+		Station arrivalStation, List<PassengerSummary> passengerSummary, TripType tripType) {
+		String memberNo = member.getMemberDetail().getMemberNo();
+		LocalDateTime now = LocalDateTime.now();
+		Reservation reservation = Reservation.builder()
+			.trainSchedule(trainSchedule)
+			.member(member)
+			.reservationCode(reservationCodeGenerator.generateReservationCode())
+			.tripType(tripType)
+			.totalPassengers(passengerSummary.stream().mapToInt(PassengerSummary::getCount).sum())
+			.reservationStatus(ReservationStatus.RESERVED)
+			.expiresAt(now.plusMinutes(bookingConfig.getExpiration().getReservation()))
+			.reservedAt(now)
+			.departureStation(departureStation)
+			.arrivalStation(arrivalStation)
+			.build();
+		Reservation savedReservation = reservationRepository.save(reservation);
+		Map<PassengerType, Integer> passengerCounts = countByType(passengerSummary);
+		int freeVeterans = veteranEntitlementService.claimFreeTrips(memberNo, trainSchedule.getOperationDate(),
+			passengerCounts.getOrDefault(PassengerType.VETERAN, 0));
+		reservationPassengerJdbcRepository.insertAll(savedReservation.getId(), passengerCounts,
+			freeVeterans > 0 ? Map.of(PassengerType.VETERAN, freeVeterans) : Map.of());
+		bookingEventOutboxService.append(BookingEventType.RESERVATION_CREATED, savedReservation.getId(),
+			new ReservationCreatedEvent(savedReservation.getId(), memberNo, trainSchedule.getId(),
+				departureStation.getId(), arrivalStation.getId(), savedReservation.getTotalPassengers()));
+		reservationHistoryService.evict(memberNo);
+		return savedReservation;
+	}
+
 	/***
 	 * 예약 번호로 예약을 삭제하는 메서드
+	 * 좌석을 점유 중인 예약(예약완료/결제완료)은 삭제할 수 없으며, 먼저 취소해 좌석과 승차권, 무임 횟수를 반환해야 한다.
+	 * 취소/만료된 예약은 좌석 등을 이미 반환했으므로 예약 기록만 삭제한다.
 	 * @param request 예약 삭제 요청 DTO
 	 */
 	@Transactional
-	public void deleteReservation(ReservationDeleteRequest request) {
-		try {
-			reservationRepository.deleteById(request.reservationId());
-		} catch (Exception e) {
-			throw new BusinessException(BookingError.RESERVATION_DELETE_FAILED);
+	public void deleteReservation(ReservationDeleteRequest request, UserDetails userDetails) {
+		Reservation reservation = reservationRepository.findById(request.reservationId())
+			.orElseThrow(() -> new BusinessException(BookingError.RESERVATION_NOT_FOUND));
+		String memberNo = validateOwner(reservation, userDetails);
+		if (reservation.getReservationStatus().isActive()) {
+			throw new BusinessException(BookingError.RESERVATION_NOT_DELETABLE);
 		}
+
+		reservationRepository.delete(reservation);
+		reservationHistoryService.evict(memberNo);
 	}
 
 	/***
-	 * 만료된 예약을 일괄삭제하는 메서드
+	 * 결제가 확정된 예약을 결제 완료 처리하고 발권 요청을 적재하는 메서드
+	 * 승차권과 QR은 발권 워커가 비동기로 발급한다.
+	 * @param reservationId 예약 ID
 	 */
 	@Transactional
-	public void expireReservations() {
+	public void confirmPayment(Long reservationId) {
+		Reservation reservation = reservationRepository.findById(reservationId)
+			.orElseThrow(() -> new BusinessException(BookingError.RESERVATION_NOT_FOUND));
+		reservation.markPaid(LocalDateTime.now());
+		ticketIssueRequestRepository.save(TicketIssueRequest.create(reservationId));
+		String memberNo = reservation.getMember() != null
+			? reservation.getMember().getMemberDetail().getMemberNo()
+			: null;
+		bookingEventOutboxService.append(BookingEventType.RESERVATION_PAID, reservationId,
+			new ReservationPaidEvent(reservationId, memberNo, reservation.getTrainSchedule().getId(),
+				reservation.getPaidAt()));
+		if (memberNo != null) {
+			reservationHistoryService.evict(memberNo);
+		}
+	}
+
+	/***
+	 * 예약을 취소하고 배정된 좌석을 일괄 반환하는 메서드
+	 * 결제 후 발권된 승차권은 함께 취소하고 QR을 무효화한다.
+	 * 반환된 좌석의 대기자 배정 등은 예약 취소 이벤트 구독자가 처리한다.
+	 * @param reservationId 예약 ID
+	 */
+	@Transactional
+	public void cancelReservation(Long reservationId, UserDetails userDetails) {
+		Reservation reservation = reservationRepository.findById(reservationId)
+			.orElseThrow(() -> new BusinessException(BookingError.RESERVATION_NOT_FOUND));
+		String memberNo = validateOwner(reservation, userDetails);
+
 		LocalDateTime now = LocalDateTime.now();
-		reservationRepository.deleteAllByExpiresAtBefore(now);
+		reservation.cancel(now);
+		List<ReleasedSeatInfo> releasedSeats = seatReservationRepository.findReleasedSeatsByReservationId(
+			reservationId);
+		seatReservationRepository.releaseAllByReservationId(reservationId, now);
+		ticketRevocationService.revokeByReservationId(reservationId);
+		releaseInventory(releasedSeats);
+		veteranEntitlementService.releaseAfterCommit(reservationPassengerRepository.sumFreeCountsByReservationIds(
+			List.of(reservationId), PassengerType.VETERAN));
+
+		bookingEventOutboxService.append(BookingEventType.RESERVATION_CANCELLED, reservationId,
+			new ReservationCancelledEvent(
+				reservationId,
+				memberNo,
+				reservation.getTrainSchedule().getId(),
+				reservation.getDepartureStation().getId(),
+				reservation.getArrivalStation().getId(),
+				releasedSeats,
+				reservation.getTotalPassengers() - releasedSeats.size()
+			));
+		reservationHistoryService.evict(memberNo);
+	}
+
+	/***
+	 * 결제되지 않은 채 만료된 예약을 일괄삭제하고, 예약 만료 이벤트를 적재하는 메서드
+	 * 만료 대상을 잠그고 처리하므로 같은 예약의 결제/취소나 다른 인스턴스의 만료 처리와 겹치지 않으며,
+	 * 실제로 삭제된 예약의 좌석만 반환한다. 반환된 좌석은 이벤트 구독자가 대기자에게 배정한다.
+	 */
+	@Transactional
+	public void expireReservations() {
+		List<Long> reservationIds = reservationJdbcRepository.lockExpiredIds(LocalDateTime.now());
+		if (reservationIds.isEmpty()) {
+			return;
+		}
+		List<ReleasedSeatInfo> releasedSeats = seatReservationRepository.findReleasedSeatsByReservationIds(
+			reservationIds);
+		veteranEntitlementService.releaseAfterCommit(
+			reservationPassengerRepository.sumFreeCountsByReservationIds(reservationIds, PassengerType.VETERAN));
+		int deleted = reservationJdbcRepository.deleteUnpaid(reservationIds);
+		if (deleted != reservationIds.size()) {
+			// 잠근 예약의 상태가 바뀌었다면 반환 좌석이 맞지 않으므로 롤백하고 다음 주기에 다시 처리
+			throw new IllegalStateException("만료 처리 중 상태가 변경된 예약이 있습니다.");
+		}
+		releaseInventory(releasedSeats);
+		bookingEventOutboxService.append(BookingEventType.RESERVATION_EXPIRED, null,
+			new ReservationsExpiredEvent(reservationIds, releasedSeats));
+	}
+
+	/**
+	 * 본인의 예약인지 확인하고 회원번호를 반환
+	 */
+	private String validateOwner(Reservation reservation, UserDetails userDetails) {
+		String memberNo = reservation.getMember() != null
+			? reservation.getMember().getMemberDetail().getMemberNo()
+			: null;
+		if (memberNo == null || !memberNo.equals(userDetails.getUsername())) {
+			throw new BusinessException(BookingError.RESERVATION_ACCESS_DENIED);
+		}
+		return memberNo;
+	}
+
+	/**
+	 * 반환된 좌석을 스케줄, 좌석 타입별로 모아 잔여 좌석 카운터에 반영
+	 */
+	private void releaseInventory(List<ReleasedSeatInfo> releasedSeats) {
+		Map<Long, Map<CarType, Integer>> counts = new HashMap<>();
+		releasedSeats.forEach(seat -> counts.computeIfAbsent(seat.trainScheduleId(), id -> new EnumMap<>(CarType.class))
+			.merge(seat.carType(), 1, Integer::sum));
+		counts.forEach((trainScheduleId, carTypeCounts) -> carTypeCounts.forEach((carType, count) ->
+			scheduleInventoryService.release(trainScheduleId, carType, count)));
+	}
+
+	/**
+	 * 같은 승객 유형이 여러 번 요청되면 합산 (인원이 없는 유형은 제외)
+	 */
+	private Map<PassengerType, Integer> countByType(List<PassengerSummary> passengers) {
+		Map<PassengerType, Integer> counts = new EnumMap<>(PassengerType.class);
+		for (PassengerSummary passenger : passengers) {
+			if (passenger.getCount() > 0) {
+				counts.merge(passenger.getPassengerType(), passenger.getCount(), Integer::sum);
+			}
+		}
+		return counts;
 	}
 }
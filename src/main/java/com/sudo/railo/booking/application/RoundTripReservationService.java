@@ -0,0 +1,228 @@
+package com.sudo.railo.booking.application;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import com.sudo.railo.booking.application.dto.request.ReservationLegRequest;
+import com.sudo.railo.booking.application.dto.request.RoundTripReservationCreateRequest;
+import com.sudo.railo.booking.application.dto.response.ReservationCreateResponse;
+import com.sudo.railo.booking.application.dto.response.RoundTripReservationCreateResponse;
+import com.sudo.railo.booking.domain.Reservation;
+import com.sudo.railo.booking.domain.TripType;
+import com.sudo.railo.booking.exception.BookingError;
+import com.sudo.railo.booking.infra.SeatReservationJdbcRepository.NewSeatReservation;
+import com.sudo.railo.booking.infra.SeatReservationJdbcRepository;
+import com.sudo.railo.global.exception.error.BusinessException;
+import com.sudo.railo.member.domain.Member;
+import com.sudo.railo.member.exception.MemberError;
+import com.sudo.railo.member.infra.MemberRepository;
+import com.sudo.railo.queue.application.AdmissionQueueService;
+import com.sudo.railo.train.application.ScheduleInventoryService;
+import com.sudo.railo.train.domain.PassengerSummary;
+import com.sudo.railo.train.domain.Seat;
+import com.sudo.railo.train.domain.Station;
+import com.sudo.railo.train.domain.TrainSchedule;
+import com.sudo.railo.train.domain.status.OperationStatus;
+import com.sudo.railo.train.domain.type.CarType;
+import com.sudo.railo.train.exception.TrainErrorCode;
+import com.sudo.railo.train.infrastructure.SeatRepository;
+import com.sudo.railo.train.infrastructure.StationRepository;
+import com.sudo.railo.train.infrastructure.TrainScheduleRepository;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 왕복 예약 서비스
+ *
+ * 가는 편과 오는 편을 하나의 트랜잭션에서 예약해 한쪽만 예약되는 경우가 없도록 한다.
+ * 두 구간의 스케줄, 역, 좌석은 한 번에 조회하고 좌석 예약은 배치 SQL로 일괄 생성한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RoundTripReservationService {
+
+	private final ReservationService reservationService;
+	private final WaitlistService waitlistService;
+	private final TrainScheduleRepository trainScheduleRepository;
+	private final MemberRepository memberRepository;
+	private final StationRepository stationRepository;
+	private final SeatRepository seatRepository;
+	private final ScheduleInventoryService scheduleInventoryService;
+	private final SeatReservationJdbcRepository seatReservationJdbcRepository;
+	private final AdmissionQueueService admissionQueueService;
+
+	/***
+	 * 왕복 예약을 생성하는 메서드
+	 * @param request 왕복 예약 생성 요청 DTO
+	 * @return 가는 편, 오는 편 예약
+	 */
+	@Transactional
+	public RoundTripReservationCreateResponse createReservation(RoundTripReservationCreateRequest request,
+		UserDetails userDetails) {
+		String memberNo = userDetails.getUsername();
+		List<ReservationLegRequest> legs = List.of(request.outbound(), request.inbound());
+
+		// 승객 정보는 PassengerType에 정의한 순서대로, 좌석 정보는 오름차순으로 정렬해 차례대로 배정
+		List<PassengerSummary> passengers = new ArrayList<>(request.passengers());
+		passengers.sort(Comparator.comparingInt(ps -> ps.getPassengerType().ordinal()));
+		int passengersCnt = passengers.stream()
+			.mapToInt(PassengerSummary::getCount)
+			.sum();
+		for (ReservationLegRequest leg : legs) {
+			if (leg.seatIds().size() != passengersCnt) {
+				throw new BusinessException(BookingError.RESERVATION_CREATE_SEATS_INVALID);
+			}
+		}
+
+		Map<Long, TrainSchedule> schedules = findSchedules(legs);
+		TrainSchedule outboundSchedule = schedules.get(request.outbound().trainScheduleId());
+		TrainSchedule inboundSchedule = schedules.get(request.inbound().trainScheduleId());
+		validateLegs(request.outbound(), request.inbound(), outboundSchedule, inboundSchedule);
+		// 대기표는 가는 편 운행일 대기열에서 발급받음
+		admissionQueueService.verifyOperationDate(outboundSchedule.getOperationDate());
+
+		Member member = memberRepository.findByMemberNo(memberNo)
+			.orElseThrow(() -> new BusinessException(MemberError.USER_NOT_FOUND));
+		Map<Long, Station> stations = findStations(request.outbound());
+		Map<Long, Seat> seats = findSeats(legs, schedules);
+
+		List<Reservation> reservations = new ArrayList<>(legs.size());
+		List<NewSeatReservation> seatReservations = new ArrayList<>();
+		for (ReservationLegRequest leg : legs) {
+			TrainSchedule trainSchedule = schedules.get(leg.trainScheduleId());
+			leg.seatIds().forEach(seatId -> waitlistService.validateHold(trainSchedule.getId(), seatId, memberNo));
+
+			Reservation reservation = reservationService.createLeg(trainSchedule, member,
+				stations.get(leg.departureStationId()), stations.get(leg.arrivalStationId()), passengers, TripType.RT);
+			reservations.add(reservation);
+			seatReservations.addAll(assignSeats(reservation, leg, passengers));
+		}
+
+		List<Long> seatReservationIds = reserveSeats(seatReservations);
+		Map<Long, Map<CarType, Integer>> reservedCounts = new HashMap<>();
+		for (NewSeatReservation seatReservation : seatReservations) {
+			Seat seat = seats.get(seatReservation.seatId());
+			CarType carType = seat.getTrainCar().getCarType();
+			waitlistService.completeHold(seatReservation.trainScheduleId(), seat.getId(), carType, memberNo);
+			reservedCounts.computeIfAbsent(seatReservation.trainScheduleId(), id -> new EnumMap<>(CarType.class))
+				.merge(carType, 1, Integer::sum);
+		}
+		reservedCounts.forEach((trainScheduleId, counts) -> counts.forEach((carType, count) ->
+			scheduleInventoryService.reserve(trainScheduleId, carType, count)));
+
+		return new RoundTripReservationCreateResponse(
+			new ReservationCreateResponse(reservations.get(0).getId(), seatReservationIds.subList(0, passengersCnt)),
+			new ReservationCreateResponse(reservations.get(1).getId(),
+				seatReservationIds.subList(passengersCnt, seatReservationIds.size()))
+		);
+	}
+
+	private Map<Long, TrainSchedule> findSchedules(List<ReservationLegRequest> legs) {
+		Set<Long> scheduleIds = legs.stream().map(ReservationLegRequest::trainScheduleId).collect(Collectors.toSet());
+		Map<Long, TrainSchedule> schedules = trainScheduleRepository.findAllById(scheduleIds).stream()
+			.collect(Collectors.toMap(TrainSchedule::getId, Function.identity()));
+		for (Long scheduleId : scheduleIds) {
+			TrainSchedule trainSchedule = schedules.get(scheduleId);
+			if (trainSchedule == null) {
+				throw new BusinessException(TrainErrorCode.TRAIN_SCHEDULE_NOT_FOUND);
+			}
+			if (trainSchedule.getOperationStatus() == OperationStatus.CANCELLED) {
+				throw new BusinessException(TrainErrorCode.TRAIN_OPERATION_CANCELLED);
+			}
+		}
+		return schedules;
+	}
+
+	/**
+	 * 오는 편은 가는 편의 역방향 구간이어야 하고, 가는 편보다 늦게 출발해야 함
+	 */
+	private void validateLegs(ReservationLegRequest outbound, ReservationLegRequest inbound,
+		TrainSchedule outboundSchedule, TrainSchedule inboundSchedule) {
+		boolean reversed = Objects.equals(inbound.departureStationId(), outbound.arrivalStationId())
+			&& Objects.equals(inbound.arrivalStationId(), outbound.departureStationId());
+		LocalDateTime outboundDeparture = outboundSchedule.getOperationDate()
+			.atTime(outboundSchedule.getDepartureTime());
+		LocalDateTime inboundDeparture = inboundSchedule.getOperationDate().atTime(inboundSchedule.getDepartureTime());
+		if (!reversed || !inboundDeparture.isAfter(outboundDeparture)) {
+			throw new BusinessException(BookingError.ROUND_TRIP_LEGS_INVALID);
+		}
+	}
+
+	private Map<Long, Station> findStations(ReservationLegRequest outbound) {
+		Map<Long, Station> stations = stationRepository.findAllById(
+				Set.of(outbound.departureStationId(), outbound.arrivalStationId())).stream()
+			.collect(Collectors.toMap(Station::getId, Function.identity()));
+		if (stations.size() != 2) {
+			throw new BusinessException(TrainErrorCode.STATION_NOT_FOUND);
+		}
+		return stations;
+	}
+
+	/**
+	 * 두 구간의 좌석을 한 번에 조회하고, 좌석이 해당 스케줄 열차의 좌석인지 확인
+	 */
+	private Map<Long, Seat> findSeats(List<ReservationLegRequest> legs, Map<Long, TrainSchedule> schedules) {
+		Set<Long> seatIds = legs.stream()
+			.flatMap(leg -> leg.seatIds().stream())
+			.collect(Collectors.toSet());
+		Map<Long, Seat> seats = seatRepository.findAllWithTrainCarByIdIn(seatIds).stream()
+			.collect(Collectors.toMap(Seat::getId, Function.identity()));
+
+		for (ReservationLegRequest leg : legs) {
+			Long trainId = schedules.get(leg.trainScheduleId()).getTrain().getId();
+			for (Long seatId : leg.seatIds()) {
+				Seat seat = seats.get(seatId);
+				if (seat == null || !seat.getTrainCar().getTrain().getId().equals(trainId)) {
+					throw new BusinessException(BookingError.SEAT_NOT_FOUND);
+				}
+			}
+		}
+		return seats;
+	}
+
+	private List<NewSeatReservation> assignSeats(Reservation reservation, ReservationLegRequest leg,
+		List<PassengerSummary> passengers) {
+		List<Long> seatIds = new ArrayList<>(leg.seatIds());
+		seatIds.sort(Comparator.naturalOrder());
+
+		List<NewSeatReservation> seatReservations = new ArrayList<>(seatIds.size());
+		int idx = 0;
+		for (PassengerSummary passenger : passengers) {
+			for (int i = 0; i < passenger.getCount(); i++, idx++) {
+				seatReservations.add(new NewSeatReservation(
+					reservation.getId(),
+					leg.trainScheduleId(),
+					seatIds.get(idx),
+					passenger.getPassengerType(),
+					leg.departureStationId(),
+					leg.arrivalStationId()
+				));
+			}
+		}
+		return seatReservations;
+	}
+
+	private List<Long> reserveSeats(List<NewSeatReservation> seatReservations) {
+		try {
+			seatReservationJdbcRepository.deleteReleased(seatReservations);
+			return seatReservationJdbcRepository.insertAll(seatReservations);
+		} catch (DataIntegrityViolationException e) {
+			// 유니크 제약 위반 (다른 요청이 먼저 예약한 좌석)
+			throw new BusinessException(BookingError.SEAT_ALREADY_RESERVED);
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package com.sudo.railo.booking.application;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sudo.railo.booking.application.dto.BookingEventMessage;
+import com.sudo.railo.booking.application.dto.ReservationHolderInfo;
+import com.sudo.railo.booking.application.dto.ScheduleChangeNotification;
+import com.sudo.railo.booking.domain.BookingEventType;
+import com.sudo.railo.booking.domain.ReservationStatus;
+import com.sudo.railo.booking.domain.event.ScheduleOperationChangedEvent;
+import com.sudo.railo.booking.infra.ReservationRepository;
+import com.sudo.railo.booking.infra.ScheduleChangeNotificationQueueRepository;
+import com.sudo.railo.global.exception.error.BusinessException;
+import com.sudo.railo.global.exception.error.GlobalError;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 운행 상태 일괄 변경(운행 취소/지연)을 예약자에게 알리는 구독자
+ * 배치의 변경 스케줄에 유효한 예약을 가진 예약자를 모아, 예약 내역 캐시를 비우고 알림 큐에 한 번에 적재한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleChangeNotificationHandler implements BookingEventHandler {
+
+	private static final int QUERY_CHUNK_SIZE = 1000;
+	private static final List<ReservationStatus> ACTIVE_RESERVATION_STATUSES = List.of(
+		ReservationStatus.RESERVED, ReservationStatus.PAID);
+
+	private final ObjectMapper objectMapper;
+	private final ReservationRepository reservationRepository;
+	private final ReservationHistoryService reservationHistoryService;
+	private final ScheduleChangeNotificationQueueRepository scheduleChangeNotificationQueueRepository;
+
+	@Override
+	public boolean supports(BookingEventType eventType) {
+		return eventType == BookingEventType.SCHEDULE_OPERATION_CHANGED;
+	}
+
+	@Override
+	public void handle(List<BookingEventMessage> messages) {
+		List<ScheduleChangeNotification> notifications = new ArrayList<>();
+		for (BookingEventMessage message : messages) {
+			ScheduleOperationChangedEvent event = read(message);
+			List<Long> trainScheduleIds = event.trainScheduleIds();
+			for (int from = 0; from < trainScheduleIds.size(); from += QUERY_CHUNK_SIZE) {
+				List<Long> chunk = trainScheduleIds.subList(from, Math.min(from + QUERY_CHUNK_SIZE,
+					trainScheduleIds.size()));
+				for (ReservationHolderInfo holder : reservationRepository.findHoldersByTrainScheduleIds(chunk,
+					ACTIVE_RESERVATION_STATUSES)) {
+					notifications.add(new ScheduleChangeNotification(message.eventId(), holder.reservationId(),
+						holder.memberNo(), holder.trainScheduleId(), event.operationStatus(), event.delayMinutes()));
+				}
+			}
+		}
+
+		notifications.stream()
+			.map(ScheduleChangeNotification::memberNo)
+			.distinct()
+			.forEach(reservationHistoryService::evict);
+		scheduleChangeNotificationQueueRepository.enqueueAll(notifications);
+	}
+
+	private ScheduleOperationChangedEvent read(BookingEventMessage message) {
+		try {
+			return objectMapper.readValue(message.payload(), ScheduleOperationChangedEvent.class);
+		} catch (JsonProcessingException e) {
+			throw new BusinessException(GlobalError.INTERNAL_SERVER_ERROR, e);
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package com.sudo.railo.booking.application;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.sudo.railo.booking.domain.event.SeasonTicketChangedEvent;
+import com.sudo.railo.booking.infra.SeasonTicketChangeChannel;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 정기권 변경 이벤트를 트랜잭션 커밋 후 모든 인스턴스에 알림
+ * 알림은 이 인스턴스도 구독하므로, 발행에 실패했을 때만 이 인스턴스의 인덱스를 직접 갱신한다.
+ * (다른 인스턴스는 매일 재적재 시 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeasonTicketChangeRelay {
+
+	private final SeasonTicketChangeChannel seasonTicketChangeChannel;
+	private final SeasonTicketIndex seasonTicketIndex;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onSeasonTicketChanged(SeasonTicketChangedEvent event) {
+		try {
+			seasonTicketChangeChannel.publish(event.memberId());
+		} catch (Exception e) {
+			log.warn("정기권 변경 알림 발행 실패: memberId={}", event.memberId(), e);
+			seasonTicketIndex.refresh(event.memberId());
+		}
+	}
+}
@@ -0,0 +1,165 @@
+package com.sudo.railo.booking.application;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.sudo.railo.booking.application.dto.SeasonTicketInfo;
+import com.sudo.railo.booking.domain.SeasonTicketStatus;
+import com.sudo.railo.booking.domain.TicketType;
+import com.sudo.railo.booking.infra.SeasonTicketRepository;
+import com.sudo.railo.train.application.HolidayCalendar;
+import com.sudo.railo.train.domain.TrainSchedule;
+import com.sudo.railo.train.domain.type.BusinessDayType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원별 유효 정기권 인덱스
+ *
+ * 사용 가능한 정기권만 회원 ID별 배열로 보관해 승차 가능 여부를 DB 조회 없이 판단한다.
+ * 정기권이 저장/변경/삭제되면 커밋 후 모든 인스턴스가 변경 알림(SeasonTicketChangeChannel)을 받아 해당 회원만 다시 조회하고,
+ * 만료된 정기권은 매일 재적재하며 정리한다.
+ * 재적재 중에 갱신된 회원은 재적재 결과로 덮어써질 수 있으므로 재적재가 끝난 뒤 다시 갱신한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeasonTicketIndex {
+
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private static final SeasonPass[] EMPTY = new SeasonPass[0];
+
+	private final SeasonTicketRepository seasonTicketRepository;
+	private final HolidayCalendar holidayCalendar;
+
+	// 회원 ID -> 사용 가능한 정기권 (회원당 보통 1~2개)
+	private volatile Map<Long, SeasonPass[]> passes = new ConcurrentHashMap<>();
+
+	// 재적재 중 여부와 재적재 중에 갱신된 회원 ID
+	private volatile boolean reloading;
+	private final Set<Long> changedDuringReload = ConcurrentHashMap.newKeySet();
+
+	/***
+	 * 회원이 열차 스케줄을 정기권으로 이용할 수 있는지 확인하는 메서드
+	 * @param memberId 회원 ID
+	 * @param trainSchedule 열차 스케줄
+	 * @return 이용 가능 여부
+	 */
+	public boolean canRide(Long memberId, TrainSchedule trainSchedule) {
+		return canRide(memberId, trainSchedule.getOperationDate());
+	}
+
+	/***
+	 * 회원이 운행일에 정기권으로 승차할 수 있는지 확인하는 메서드
+	 * 주말/공휴일에는 휴일 사용 가능한 정기권만 이용할 수 있다.
+	 */
+	public boolean canRide(Long memberId, LocalDate operationDate) {
+		return findPass(memberId, operationDate) != null;
+	}
+
+	/***
+	 * 운행일에 사용할 수 있는 정기권 종류를 조회하는 메서드
+	 * @return 정기권 종류 (사용 가능한 정기권이 없으면 null)
+	 */
+	public TicketType findTicketType(Long memberId, LocalDate operationDate) {
+		SeasonPass pass = findPass(memberId, operationDate);
+		return pass != null ? pass.ticketType() : null;
+	}
+
+	private SeasonPass findPass(Long memberId, LocalDate operationDate) {
+		SeasonPass[] memberPasses = passes.getOrDefault(memberId, EMPTY);
+		if (memberPasses.length == 0) {
+			return null;
+		}
+		int day = (int)operationDate.toEpochDay();
+		boolean holiday = holidayCalendar.getBusinessDayType(operationDate) != BusinessDayType.WEEKDAY;
+		for (SeasonPass pass : memberPasses) {
+			if (pass.covers(day) && (!holiday || pass.holidayUsable())) {
+				return pass;
+			}
+		}
+		return null;
+	}
+
+	/***
+	 * 사용 가능한 정기권을 전체 재적재하는 메서드
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void reload() {
+		changedDuringReload.clear();
+		reloading = true;
+		try {
+			List<SeasonTicketInfo> seasonTickets = seasonTicketRepository.findUsableAfter(SeasonTicketStatus.VALID,
+				LocalDate.now(ZONE_ID));
+
+			Map<Long, List<SeasonPass>> grouped = new HashMap<>();
+			seasonTickets.forEach(info -> grouped.computeIfAbsent(info.memberId(), id -> new ArrayList<>())
+				.add(SeasonPass.from(info)));
+
+			Map<Long, SeasonPass[]> reloaded = new ConcurrentHashMap<>(grouped.size() * 2);
+			grouped.forEach((memberId, memberPasses) ->
+				reloaded.put(memberId, memberPasses.toArray(SeasonPass[]::new)));
+			this.passes = reloaded;
+			log.info("정기권 인덱스 적재 완료: members={}, seasonTickets={}", reloaded.size(), seasonTickets.size());
+		} finally {
+			reloading = false;
+		}
+
+		// 재적재 조회 이후 반영된 변경이 교체된 인덱스에서 빠지지 않도록 다시 갱신
+		for (Long memberId : changedDuringReload) {
+			refresh(memberId);
+		}
+		changedDuringReload.clear();
+	}
+
+	/***
+	 * 회원의 사용 가능한 정기권을 다시 조회해 반영하는 메서드 (정기권 변경 알림 수신 시)
+	 * @param memberId 회원 ID
+	 */
+	public void refresh(Long memberId) {
+		if (reloading) {
+			changedDuringReload.add(memberId);
+		}
+		SeasonPass[] memberPasses = seasonTicketRepository.findUsableByMemberAfter(memberId,
+				SeasonTicketStatus.VALID, LocalDate.now(ZONE_ID)).stream()
+			.map(SeasonPass::from)
+			.toArray(SeasonPass[]::new);
+		if (memberPasses.length > 0) {
+			passes.put(memberId, memberPasses);
+		} else {
+			passes.remove(memberId);
+		}
+	}
+
+	/**
+	 * 정기권의 압축 표현 (사용 기간은 epoch day)
+	 */
+	private record SeasonPass(long seasonTicketId, int startDay, int endDay, boolean holidayUsable,
+							  TicketType ticketType) {
+
+		static SeasonPass from(SeasonTicketInfo info) {
+			return new SeasonPass(
+				info.seasonTicketId(),
+				(int)info.startAt().toEpochDay(),
+				info.endAt() != null ? (int)info.endAt().toEpochDay() : Integer.MAX_VALUE,
+				info.holidayUsable(),
+				info.ticketType()
+			);
+		}
+
+		boolean covers(int day) {
+			return startDay <= day && day <= endDay;
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package com.sudo.railo.booking.application;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeasonTicketScheduler {
+
+	private final SeasonTicketIndex seasonTicketIndex;
+
+	/**
+	 * 매일 자정 이후 만료된 정기권을 정리한다. (변경 알림을 놓친 인스턴스도 이때 DB 기준으로 맞춰진다)
+	 */
+	@Scheduled(cron = "0 1 0 * * *")
+	public void reloadSeasonTicketIndex() {
+		try {
+			seasonTicketIndex.reload();
+		} catch (Exception e) {
+			log.error("정기권 인덱스 재적재 실패", e);
+		}
+	}
+}
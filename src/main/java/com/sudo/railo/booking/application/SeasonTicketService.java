@@ -0,0 +1,43 @@
+package com.sudo.railo.booking.application;
+
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import com.sudo.railo.booking.application.dto.response.SeasonTicketRideResponse;
+import com.sudo.railo.booking.domain.TicketType;
+import com.sudo.railo.global.exception.error.BusinessException;
+import com.sudo.railo.member.domain.Member;
+import com.sudo.railo.member.exception.MemberError;
+import com.sudo.railo.member.infra.MemberRepository;
+import com.sudo.railo.train.domain.TrainSchedule;
+import com.sudo.railo.train.exception.TrainErrorCode;
+import com.sudo.railo.train.infrastructure.TrainScheduleRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class SeasonTicketService {
+
+	private final SeasonTicketIndex seasonTicketIndex;
+	private final MemberRepository memberRepository;
+	private final TrainScheduleRepository trainScheduleRepository;
+
+	/***
+	 * 회원이 열차 스케줄을 정기권으로 이용할 수 있는지 확인하는 메서드
+	 * @param trainScheduleId 열차 스케줄 ID
+	 * @return 정기권 이용 가능 여부와 사용할 정기권 종류
+	 */
+	public SeasonTicketRideResponse checkRide(Long trainScheduleId, UserDetails userDetails) {
+		Member member = memberRepository.findByMemberNo(userDetails.getUsername())
+			.orElseThrow(() -> new BusinessException(MemberError.USER_NOT_FOUND));
+		TrainSchedule trainSchedule = trainScheduleRepository.findById(trainScheduleId)
+			.orElseThrow(() -> new BusinessException(TrainErrorCode.TRAIN_SCHEDULE_NOT_FOUND));
+
+		if (!seasonTicketIndex.canRide(member.getId(), trainSchedule)) {
+			return new SeasonTicketRideResponse(false, null);
+		}
+		TicketType ticketType = seasonTicketIndex.findTicketType(member.getId(), trainSchedule.getOperationDate());
+		return new SeasonTicketRideResponse(true, ticketType);
+	}
+}
@@ -3,16 +3,24 @@ package com.sudo.railo.booking.application;
 import java.time.LocalDateTime;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
-import com.sudo.railo.booking.domain.PassengerType;
+import com.sudo.railo.booking.application.dto.request.SeatChangeRequest;
+import com.sudo.railo.booking.application.dto.response.SeatChangeResponse;
+import com.sudo.railo.booking.domain.BookingEventType;
 import com.sudo.railo.booking.domain.Reservation;
+import com.sudo.railo.booking.domain.ReservationStatus;
 import com.sudo.railo.booking.domain.SeatReservation;
 import com.sudo.railo.booking.domain.SeatStatus;
+import com.sudo.railo.booking.domain.event.SeatChangedEvent;
 import com.sudo.railo.booking.exception.BookingError;
 import com.sudo.railo.booking.infra.SeatReservationRepository;
 import com.sudo.railo.global.exception.error.BusinessException;
+import com.sudo.railo.train.application.ScheduleInventoryService;
 import com.sudo.railo.train.domain.Seat;
+import com.sudo.railo.train.domain.type.CarType;
+import com.sudo.railo.train.domain.type.PassengerType;
 import com.sudo.railo.train.infrastructure.SeatRepository;
 
 import jakarta.persistence.OptimisticLockException;
@@ -25,6 +33,11 @@ public class SeatReservationService {
 
 	private final SeatRepository seatRepository;
 	private final SeatReservationRepository seatReservationRepository;
+	private final WaitlistService waitlistService;
+	private final BookingEventOutboxService bookingEventOutboxService;
+	private final ReservationHistoryService reservationHistoryService;
+	private final ScheduleInventoryService scheduleInventoryService;
+	private final TicketRevocationService ticketRevocationService;
 
 	/***
 	 * 새로운 좌석 예약 현황을 생성하고 예약하는 메서드
@@ -35,6 +48,10 @@ public class SeatReservationService {
 	@Transactional
 	public SeatReservation reserveNewSeat(Reservation reservation, Seat seat, PassengerType passengerType) {
 		try {
+			// 취소로 반환된 좌석이면 기존 좌석 예약을 정리한 뒤 예약
+			if (seat != null) {
+				seatReservationRepository.deleteReleasedSeat(reservation.getTrainSchedule().getId(), seat.getId());
+			}
 			SeatStatus seatStatus = SeatStatus.RESERVED;
 			LocalDateTime reservedAt = LocalDateTime.now();
 			SeatReservation seatReservation = SeatReservation.builder()
@@ -47,13 +64,104 @@ public class SeatReservationService {
 				.departureStation(reservation.getDepartureStation())
 				.arrivalStation(reservation.getArrivalStation())
 				.build();
-			return seatReservationRepository.save(seatReservation);
+			SeatReservation saved = seatReservationRepository.save(seatReservation);
+			if (seat != null) {
+				scheduleInventoryService.reserve(reservation.getTrainSchedule().getId(),
+					seat.getTrainCar().getCarType(), 1);
+			}
+			return saved;
 		} catch (OptimisticLockException | DataIntegrityViolationException e) {
 			// 동시성 문제 및 유니크 제약 위반 발생
 			throw new BusinessException(BookingError.SEAT_ALREADY_RESERVED);
+		} catch (BusinessException e) {
+			// 잔여 좌석 부족 등 이미 분류된 예외는 그대로 전달
+			throw e;
 		} catch (Exception e) {
 			// 알 수 없는 모든 경우는 실패 처리
 			throw new BusinessException(BookingError.SEAT_RESERVATION_FAILED);
 		}
 	}
+
+	/***
+	 * 같은 구간에서 다른 좌석으로 변경하는 메서드
+	 * 조회 시점의 버전과 같을 때만 좌석을 교체하며, 예약(Reservation)은 변경하지 않는다.
+	 * 결제된 예약이면 이전 좌석의 승차권과 QR을 무효화하고 변경된 좌석으로 다시 발권한다.
+	 * 반환된 이전 좌석의 대기자 배정 등은 좌석 변경 이벤트 구독자가 처리한다.
+	 * @param seatReservationId 좌석 예약 ID
+	 * @param request 변경할 좌석 ID, 조회 시점의 버전
+	 * @return 변경된 좌석 예약 정보
+	 */
+	@Transactional
+	public SeatChangeResponse changeSeat(Long seatReservationId, SeatChangeRequest request,
+		UserDetails userDetails) {
+		SeatReservation seatReservation = seatReservationRepository.findWithReservationById(seatReservationId)
+			.orElseThrow(() -> new BusinessException(BookingError.SEAT_RESERVATION_NOT_FOUND));
+		Reservation reservation = seatReservation.getReservation();
+		String memberNo = reservation.getMember() != null
+			? reservation.getMember().getMemberDetail().getMemberNo()
+			: null;
+		if (memberNo == null || !memberNo.equals(userDetails.getUsername())) {
+			throw new BusinessException(BookingError.RESERVATION_ACCESS_DENIED);
+		}
+		// 입석, 반환된 좌석, 비활성 예약은 변경 불가
+		Seat fromSeat = seatReservation.getSeat();
+		if (fromSeat == null || seatReservation.getSeatStatus() != SeatStatus.RESERVED
+			|| !reservation.getReservationStatus().isActive()) {
+			throw new BusinessException(BookingError.SEAT_CHANGE_NOT_ALLOWED);
+		}
+		if (fromSeat.getId().equals(request.seatId())) {
+			throw new BusinessException(BookingError.SEAT_CHANGE_NOT_ALLOWED);
+		}
+
+		Long trainScheduleId = seatReservation.getTrainSchedule().getId();
+		Seat toSeat = seatRepository.findById(request.seatId())
+			.orElseThrow(() -> new BusinessException(BookingError.SEAT_NOT_FOUND));
+		if (!toSeat.getTrainCar().getTrain().getId().equals(seatReservation.getTrainSchedule().getTrain().getId())) {
+			throw new BusinessException(BookingError.SEAT_NOT_FOUND);
+		}
+		waitlistService.validateHold(trainScheduleId, toSeat.getId(), memberNo);
+
+		// 벌크 연산이 영속성 컨텍스트를 비우므로 이벤트에 필요한 값을 먼저 꺼내 둠
+		Long version = request.version() != null ? request.version() : seatReservation.getVersion();
+		boolean paid = reservation.getReservationStatus() == ReservationStatus.PAID;
+		CarType fromCarType = fromSeat.getTrainCar().getCarType();
+		CarType toCarType = toSeat.getTrainCar().getCarType();
+		SeatChangedEvent event = new SeatChangedEvent(
+			reservation.getId(),
+			seatReservationId,
+			trainScheduleId,
+			seatReservation.getDepartureStation().getId(),
+			seatReservation.getArrivalStation().getId(),
+			fromSeat.getId(),
+			fromCarType,
+			toSeat.getId(),
+			toCarType
+		);
+
+		try {
+			// 취소로 반환된 좌석이면 기존 좌석 예약을 정리한 뒤 변경
+			seatReservationRepository.deleteReleasedSeat(trainScheduleId, toSeat.getId());
+			int changed = seatReservationRepository.changeSeat(seatReservationId, toSeat, version,
+				LocalDateTime.now());
+			if (changed == 0) {
+				throw new BusinessException(BookingError.SEAT_CHANGE_CONFLICT);
+			}
+		} catch (DataIntegrityViolationException e) {
+			// 다른 예약이 이미 점유한 좌석
+			throw new BusinessException(BookingError.SEAT_ALREADY_RESERVED);
+		}
+		if (fromCarType != toCarType) {
+			scheduleInventoryService.release(trainScheduleId, fromCarType, 1);
+			scheduleInventoryService.reserve(trainScheduleId, toCarType, 1);
+		}
+
+		if (paid) {
+			ticketRevocationService.reissueByReservationId(reservation.getId());
+		}
+
+		bookingEventOutboxService.append(BookingEventType.SEAT_CHANGED, reservation.getId(), event);
+		waitlistService.completeHold(trainScheduleId, toSeat.getId(), toCarType, memberNo);
+		reservationHistoryService.evict(memberNo);
+		return new SeatChangeResponse(seatReservationId, toSeat.getId(), version + 1);
+	}
 }
@@ -0,0 +1,78 @@
+package com.sudo.railo.booking.application;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sudo.railo.booking.config.BookingConfig;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 승차권 발권 워커 스케줄러
+ *
+ * 설정된 병렬도만큼 워커를 실행하고, 각 워커는 발권 요청이 남아 있는 동안 배치를 계속 처리한다.
+ */
+@Slf4j
+@Component
+public class TicketIssueScheduler {
+
+	private final TicketIssueService ticketIssueService;
+	private final int parallelism;
+	private final int batchSize;
+	private final ExecutorService executor;
+	private final Semaphore workers;
+	private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+
+	public TicketIssueScheduler(TicketIssueService ticketIssueService, BookingConfig bookingConfig) {
+		this.ticketIssueService = ticketIssueService;
+		this.parallelism = bookingConfig.getTicketIssue().getParallelism();
+		this.batchSize = bookingConfig.getTicketIssue().getBatchSize();
+		this.workers = new Semaphore(parallelism);
+
+		AtomicInteger threadNumber = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(parallelism,
+			runnable -> new Thread(runnable, "ticket-issue-" + threadNumber.incrementAndGet()));
+	}
+
+	@Scheduled(fixedDelayString = "${booking.ticket-issue.poll-interval:1000}")
+	public void issueTickets() {
+		// 실행 중인 워커 수만큼은 건너뛰고 비어 있는 슬롯에만 워커를 추가
+		for (int i = 0; i < parallelism && workers.tryAcquire(); i++) {
+			try {
+				executor.execute(this::drain);
+			} catch (Exception e) {
+				workers.release();
+				log.error("승차권 발권 워커 실행 실패", e);
+			}
+		}
+	}
+
+	private void drain() {
+		String workerId = instanceId + "-" + Thread.currentThread().getName();
+		try {
+			while (ticketIssueService.issueNextBatch(workerId) >= batchSize) {
+				// 가득 찬 배치를 처리했다면 남은 요청이 있으므로 계속 처리
+			}
+		} catch (Exception e) {
+			log.error("승차권 발권 실패: workerId={}", workerId, e);
+		} finally {
+			workers.release();
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		executor.shutdown();
+		if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+			executor.shutdownNow();
+		}
+	}
+}
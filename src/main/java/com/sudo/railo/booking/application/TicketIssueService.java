@@ -0,0 +1,144 @@
+package com.sudo.railo.booking.application;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sudo.railo.booking.application.dto.QrTokenPayload;
+import com.sudo.railo.booking.config.BookingConfig;
+import com.sudo.railo.booking.infra.TicketIssueJdbcRepository;
+import com.sudo.railo.booking.infra.TicketIssueJdbcRepository.ClaimedRequest;
+import com.sudo.railo.booking.infra.TicketIssueJdbcRepository.IssuePassenger;
+import com.sudo.railo.booking.infra.TicketIssueJdbcRepository.NewTicket;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 승차권 발권 서비스
+ *
+ * 결제 완료 시 적재된 발권 요청을 배치 단위로 점유해 승차권과 QR을 일괄 생성한다.
+ * 점유와 발권은 별도 트랜잭션으로 처리해 점유 잠금을 짧게 유지하고,
+ * 발권 중 워커가 종료되면 점유 만료 후 다른 워커가 같은 요청을 다시 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TicketIssueService {
+
+	private static final String PURCHASE_UID_FORMAT = "%02d";
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+	private final BookingConfig bookingConfig;
+	private final TransactionTemplate transactionTemplate;
+	private final TicketIssueJdbcRepository ticketIssueJdbcRepository;
+	private final TicketSequenceGenerator ticketSequenceGenerator;
+	private final QrTokenProvider qrTokenProvider;
+
+	/***
+	 * 발권 요청을 한 배치 점유해 발권하는 메서드
+	 * @param workerId 워커 식별자
+	 * @return 처리한 발권 요청 수
+	 */
+	public int issueNextBatch(String workerId) {
+		BookingConfig.TicketIssue config = bookingConfig.getTicketIssue();
+		LocalDateTime lockedUntil = LocalDateTime.now().plusSeconds(config.getLeaseSeconds());
+		List<ClaimedRequest> claimed = transactionTemplate.execute(
+			status -> ticketIssueJdbcRepository.claim(workerId, config.getBatchSize(), lockedUntil));
+		if (claimed == null || claimed.isEmpty()) {
+			return 0;
+		}
+
+		try {
+			transactionTemplate.executeWithoutResult(status -> issue(claimed, workerId));
+		} catch (Exception e) {
+			// 배치 중 한 건이라도 실패하면 건별로 다시 처리해 실패한 요청만 재시도 대상으로 남김
+			log.warn("승차권 일괄 발권 실패, 건별 처리로 전환: size={}", claimed.size(), e);
+			claimed.forEach(request -> issueOne(request, workerId, config.getMaxAttempts()));
+		}
+		return claimed.size();
+	}
+
+	private void issueOne(ClaimedRequest request, String workerId, int maxAttempts) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> issue(List.of(request), workerId));
+		} catch (Exception e) {
+			log.error("승차권 발권 실패: ticketIssueRequestId={}, reservationId={}, attempts={}",
+				request.id(), request.reservationId(), request.attempts(), e);
+			ticketIssueJdbcRepository.markFailed(request, workerId, maxAttempts, e.getMessage());
+		}
+	}
+
+	/**
+	 * 승객별 QR과 승차권을 생성하고 발권 요청을 완료 처리
+	 */
+	private void issue(List<ClaimedRequest> requests, String workerId) {
+		List<Long> reservationIds = requests.stream().map(ClaimedRequest::reservationId).toList();
+		List<IssuePassenger> passengers = ticketIssueJdbcRepository.findPassengers(reservationIds);
+
+		if (!passengers.isEmpty()) {
+			// QR 토큰에 승차권 ID가 필요하므로 임시 값으로 QR을 생성한 뒤 승차권 생성 후 교체
+			List<String> placeholders = passengers.stream().map(passenger -> UUID.randomUUID().toString()).toList();
+			List<Long> qrIds = ticketIssueJdbcRepository.insertQrs(placeholders);
+			List<Long> ticketIds = ticketIssueJdbcRepository.insertTickets(toTickets(passengers, qrIds));
+			ticketIssueJdbcRepository.updateQrUrls(qrIds, toQrTokens(passengers, ticketIds));
+		}
+
+		int done = ticketIssueJdbcRepository.markDone(requests.stream().map(ClaimedRequest::id).toList(), workerId);
+		if (done != requests.size()) {
+			// 점유가 만료되어 다른 워커가 처리 중인 요청이 있으면 중복 발권을 막기 위해 롤백
+			throw new IllegalStateException("점유가 만료된 발권 요청이 포함되어 있습니다.");
+		}
+	}
+
+	private List<String> toQrTokens(List<IssuePassenger> passengers, List<Long> ticketIds) {
+		BookingConfig.Qr config = bookingConfig.getQr();
+		List<String> tokens = new ArrayList<>(passengers.size());
+		for (int i = 0; i < passengers.size(); i++) {
+			IssuePassenger passenger = passengers.get(i);
+			tokens.add(qrTokenProvider.issue(new QrTokenPayload(
+				ticketIds.get(i),
+				passenger.trainScheduleId(),
+				passenger.departureStationId(),
+				passenger.arrivalStationId(),
+				passenger.seatId(),
+				passenger.departureAt().minusMinutes(config.getValidBefore()).atZone(ZONE_ID).toInstant(),
+				passenger.arrivalAt().plusMinutes(config.getValidAfter()).atZone(ZONE_ID).toInstant()
+			)));
+		}
+		return tokens;
+	}
+
+	private List<NewTicket> toTickets(List<IssuePassenger> passengers, List<Long> qrIds) {
+		String vendorCode = bookingConfig.getTicketIssue().getVendorCode();
+		String purchaseDate = ticketSequenceGenerator.currentPurchaseDate();
+
+		List<NewTicket> tickets = new ArrayList<>(passengers.size());
+		Long previousReservationId = null;
+		int purchaseUid = 0;
+		for (int i = 0; i < passengers.size(); i++) {
+			IssuePassenger passenger = passengers.get(i);
+			// 승차권 고유번호는 예약 내 승객 순번
+			purchaseUid = Objects.equals(previousReservationId, passenger.reservationId()) ? purchaseUid + 1 : 1;
+			previousReservationId = passenger.reservationId();
+
+			tickets.add(new NewTicket(
+				passenger.reservationId(),
+				qrIds.get(i),
+				passenger.passengerType(),
+				passenger.paidAt(),
+				vendorCode,
+				purchaseDate,
+				ticketSequenceGenerator.nextPurchaseSeq(purchaseDate),
+				String.format(PURCHASE_UID_FORMAT, purchaseUid)
+			));
+		}
+		return tickets;
+	}
+}
@@ -0,0 +1,58 @@
+package com.sudo.railo.booking.application;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sudo.railo.booking.application.dto.BookingEventMessage;
+import com.sudo.railo.booking.domain.BookingEventType;
+import com.sudo.railo.booking.domain.event.TicketsRevokedEvent;
+import com.sudo.railo.booking.infra.QrRevocationRepository;
+import com.sudo.railo.global.exception.error.BusinessException;
+import com.sudo.railo.global.exception.error.GlobalError;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 무효화된 승차권을 QR 무효화 목록에 반영하는 구독자
+ * 무효화 기록은 운행일 다음 날이 끝날 때까지 보관한다. (자정을 넘겨 도착하는 열차와 지연 포함)
+ */
+@Component
+@RequiredArgsConstructor
+public class TicketRevocationEventHandler implements BookingEventHandler {
+
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private static final int RETENTION_DAYS = 2;
+
+	private final ObjectMapper objectMapper;
+	private final QrRevocationRepository qrRevocationRepository;
+
+	@Override
+	public boolean supports(BookingEventType eventType) {
+		return eventType == BookingEventType.TICKETS_REVOKED;
+	}
+
+	@Override
+	public void handle(List<BookingEventMessage> messages) {
+		Map<Long, Instant> expireAtByTicket = new HashMap<>();
+		for (BookingEventMessage message : messages) {
+			read(message).tickets().forEach(ticket -> expireAtByTicket.put(ticket.ticketId(),
+				ticket.operationDate().plusDays(RETENTION_DAYS).atStartOfDay(ZONE_ID).toInstant()));
+		}
+		qrRevocationRepository.revokeAll(expireAtByTicket, Instant.now());
+	}
+
+	private TicketsRevokedEvent read(BookingEventMessage message) {
+		try {
+			return objectMapper.readValue(message.payload(), TicketsRevokedEvent.class);
+		} catch (JsonProcessingException e) {
+			throw new BusinessException(GlobalError.INTERNAL_SERVER_ERROR, e);
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package com.sudo.railo.booking.application;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import com.sudo.railo.booking.domain.BookingEventType;
+import com.sudo.railo.booking.domain.event.TicketsRevokedEvent;
+import com.sudo.railo.booking.domain.event.TicketsRevokedEvent.RevokedTicket;
+import com.sudo.railo.booking.infra.TicketIssueJdbcRepository;
+import com.sudo.railo.booking.infra.TicketJdbcRepository;
+import com.sudo.railo.booking.infra.TicketJdbcRepository.IssuedTicket;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 승차권 무효화 서비스
+ *
+ * QR 토큰은 서명만으로 검증되므로 승차권을 취소 처리하는 것만으로는 이미 발급된 QR을 막을 수 없다.
+ * 승차권 취소와 함께 무효화 이벤트를 Outbox에 적재하고, 구독자(TicketRevocationEventHandler)가
+ * QR 스캔 시 확인하는 무효화 목록에 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TicketRevocationService {
+
+	private final TicketJdbcRepository ticketJdbcRepository;
+	private final TicketIssueJdbcRepository ticketIssueJdbcRepository;
+	private final BookingEventOutboxService bookingEventOutboxService;
+
+	/***
+	 * 예약의 발권된 승차권을 모두 무효화하는 메서드 (예약 변경 트랜잭션 내에서 호출)
+	 * 예약을 잠그고 조회하므로 진행 중인 발권과 경합해도 무효화 대상에서 빠지는 승차권이 없다.
+	 * @param reservationId 예약 ID
+	 * @return 무효화된 승차권 수
+	 */
+	@Transactional(Transactional.TxType.MANDATORY)
+	public int revokeByReservationId(Long reservationId) {
+		List<IssuedTicket> tickets = ticketJdbcRepository.lockIssuedTickets(reservationId);
+		if (tickets.isEmpty()) {
+			return 0;
+		}
+		ticketJdbcRepository.cancelTickets(tickets.stream().map(IssuedTicket::ticketId).toList(), LocalDateTime.now());
+		bookingEventOutboxService.append(BookingEventType.TICKETS_REVOKED, reservationId,
+			new TicketsRevokedEvent(reservationId, tickets.stream()
+				.map(ticket -> new RevokedTicket(ticket.ticketId(), ticket.operationDate()))
+				.toList()));
+		return tickets.size();
+	}
+
+	/***
+	 * 예약의 발권된 승차권을 무효화하고 현재 좌석으로 다시 발권하도록 요청하는 메서드 (예약 변경 트랜잭션 내에서 호출)
+	 * 새 승차권과 QR은 발권 워커가 비동기로 발급한다.
+	 * @param reservationId 예약 ID
+	 */
+	@Transactional(Transactional.TxType.MANDATORY)
+	public void reissueByReservationId(Long reservationId) {
+		revokeByReservationId(reservationId);
+		ticketIssueJdbcRepository.requestReissue(reservationId);
+	}
+}
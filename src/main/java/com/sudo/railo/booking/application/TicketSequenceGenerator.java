@@ -0,0 +1,55 @@
+package com.sudo.railo.booking.application;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+import org.springframework.stereotype.Component;
+
+import com.sudo.railo.global.sequence.SequenceGenerator;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class TicketSequenceGenerator {
+
+	private static final DateTimeFormatter PURCHASE_DATE_FORMATTER = DateTimeFormatter.ofPattern("MMdd");
+	private static final DateTimeFormatter PERIOD_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private static final String SEQUENCE_NAME = "ticketPurchaseSeq";
+	private static final int BLOCK_SIZE = 100;
+	private static final long PURCHASE_SEQ_START = 10000;
+
+	private final SequenceGenerator sequenceGenerator;
+
+	/***
+	 * 승차권 결제 일자를 반환하는 메서드
+	 * @return 결제 일자 (MMdd)
+	 */
+	public String currentPurchaseDate() {
+		return LocalDate.now(ZONE_ID).format(PURCHASE_DATE_FORMATTER);
+	}
+
+	/***
+	 * 결제 일자별 승차권 결제 순번을 발급하는 메서드
+	 * @param purchaseDate 결제 일자 (MMdd)
+	 * @return 결제 순번 (10000~)
+	 */
+	public String nextPurchaseSeq(String purchaseDate) {
+		long sequence = sequenceGenerator.next(SEQUENCE_NAME, toPeriod(purchaseDate), BLOCK_SIZE);
+		return String.valueOf(PURCHASE_SEQ_START + sequence - 1);
+	}
+
+	/**
+	 * 결제 일자(MMdd)에 연도를 붙인 순번 주기 (발급 기록이 해마다 같은 주기로 이어지지 않도록)
+	 * 오늘보다 뒤의 날짜면 연말에 조회한 결제 일자이므로 작년으로 본다.
+	 */
+	private String toPeriod(String purchaseDate) {
+		LocalDate today = LocalDate.now(ZONE_ID);
+		MonthDay monthDay = MonthDay.parse(purchaseDate, PURCHASE_DATE_FORMATTER);
+		int year = monthDay.isAfter(MonthDay.from(today)) ? today.getYear() - 1 : today.getYear();
+		return monthDay.atYear(year).format(PERIOD_FORMATTER);
+	}
+}
@@ -0,0 +1,216 @@
+package com.sudo.railo.booking.application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sudo.railo.booking.application.dto.EntitlementUsageInfo;
+import com.sudo.railo.booking.application.dto.MemberFreeCountInfo;
+import com.sudo.railo.booking.domain.ReservationStatus;
+import com.sudo.railo.booking.infra.EntitlementCounterRepository;
+import com.sudo.railo.booking.infra.ReservationPassengerRepository;
+import com.sudo.railo.train.domain.type.PassengerType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 국가유공자 연간 무임 혜택 관리 서비스
+ *
+ * 회원별 연간(운행일 기준) 무임 사용 횟수를 Redis에 보관하고 예약 시 원자적으로 차감해 한도(연 6회)를 넘지 않게 한다.
+ * Redis에 없는 회원은 DB에서 집계해 적재하고, 매일 밤 DB 기준으로 보정한다.
+ * 사용/반환은 예약 트랜잭션이 끝날 때까지 진행 중으로 표시되며, 보정은 진행 중이거나 집계 도중 바뀐 회원을 건너뛴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class VeteranEntitlementService {
+
+	public static final int FREE_TRIPS_PER_YEAR = 6;
+
+	private static final String ENTITLEMENT = "veteran-free";
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private static final Duration PENDING_TTL = Duration.ofMinutes(10);
+	private static final List<ReservationStatus> ACTIVE_STATUSES = List.of(ReservationStatus.RESERVED,
+		ReservationStatus.PAID);
+
+	private final EntitlementCounterRepository entitlementCounterRepository;
+	private final ReservationPassengerRepository reservationPassengerRepository;
+
+	/***
+	 * 무임 혜택을 사용 처리하는 메서드 (예약 트랜잭션 내에서 호출)
+	 * 트랜잭션이 끝나면 진행 중 표시를 해제하고, 롤백되었으면 사용 처리한 횟수를 반환한다.
+	 * @param memberNo 회원번호
+	 * @param operationDate 운행일
+	 * @param requested 국가유공자 승객 수
+	 * @return 무임이 적용되는 인원 (나머지는 50% 할인)
+	 */
+	public int claimFreeTrips(String memberNo, LocalDate operationDate, int requested) {
+		if (requested <= 0) {
+			return 0;
+		}
+		int year = operationDate.getYear();
+		long claimed = entitlementCounterRepository.claim(ENTITLEMENT, year, memberNo, FREE_TRIPS_PER_YEAR,
+			requested, PENDING_TTL, expireAt(year));
+		if (claimed == EntitlementCounterRepository.NOT_LOADED) {
+			load(memberNo, year);
+			claimed = entitlementCounterRepository.claim(ENTITLEMENT, year, memberNo, FREE_TRIPS_PER_YEAR,
+				requested, PENDING_TTL, expireAt(year));
+		}
+		if (claimed <= 0) {
+			return 0;
+		}
+		completeClaim(memberNo, year, (int)claimed);
+		return (int)claimed;
+	}
+
+	/***
+	 * 남은 무임 횟수를 조회하는 메서드
+	 * @param memberNo 회원번호
+	 * @param year 운행 연도
+	 * @return 남은 무임 횟수
+	 */
+	public int getRemainingFreeTrips(String memberNo, int year) {
+		long used = entitlementCounterRepository.findUsed(ENTITLEMENT, year, memberNo)
+			.orElseGet(() -> load(memberNo, year));
+		return (int)Math.max(0, FREE_TRIPS_PER_YEAR - used);
+	}
+
+	/***
+	 * 취소/만료/삭제된 예약의 무임 혜택을 반환하는 메서드 (트랜잭션 커밋 후 실행)
+	 * 커밋 직전에 반환을 진행 중으로 표시해, 커밋과 반환 사이에 보정이 끼어들지 않게 한다.
+	 * @param usages 회원, 운행일별 무임 혜택 사용 인원
+	 */
+	public void releaseAfterCommit(List<EntitlementUsageInfo> usages) {
+		if (usages.isEmpty()) {
+			return;
+		}
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			usages.forEach(usage -> release(usage.memberNo(), usage.operationDate().getYear(),
+				usage.freeCount().intValue(), false));
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+			private final Set<EntitlementUsageInfo> pending = new HashSet<>();
+
+			@Override
+			public void beforeCommit(boolean readOnly) {
+				for (EntitlementUsageInfo usage : usages) {
+					int year = usage.operationDate().getYear();
+					try {
+						entitlementCounterRepository.beginRelease(ENTITLEMENT, year, usage.memberNo(), PENDING_TTL,
+							expireAt(year));
+						pending.add(usage);
+					} catch (Exception e) {
+						// 표시에 실패해도 반환은 진행하고, 어긋난 값은 야간 보정에서 맞춰짐
+						log.warn("무임 혜택 반환 표시 실패: memberNo={}, year={}", usage.memberNo(), year, e);
+					}
+				}
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				for (EntitlementUsageInfo usage : usages) {
+					int year = usage.operationDate().getYear();
+					boolean marked = pending.contains(usage);
+					if (status == STATUS_COMMITTED) {
+						release(usage.memberNo(), year, usage.freeCount().intValue(), marked);
+					} else if (marked) {
+						release(usage.memberNo(), year, 0, true);
+					}
+				}
+			}
+		});
+	}
+
+	/***
+	 * 연간 무임 사용 횟수를 DB 기준으로 보정하는 메서드
+	 * 변경 버전을 DB 집계보다 먼저 조회하므로, 집계 시점에 진행 중이던 사용/반환이나 이후 사용/반환된 회원은
+	 * 버전이 바뀌었거나 아직 진행 중이어서 건너뛰고 다음 보정에서 맞춘다.
+	 * @param year 운행 연도
+	 * @return 보정한 회원 수
+	 */
+	public int reconcile(int year) {
+		Map<Object, Object> versions = entitlementCounterRepository.findVersions(ENTITLEMENT, year);
+		Map<Object, Object> snapshot = entitlementCounterRepository.findAll(ENTITLEMENT, year);
+		Map<String, Long> usedByMember = reservationPassengerRepository.sumFreeCountsByMember(
+				PassengerType.VETERAN, ACTIVE_STATUSES, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31))
+			.stream()
+			.collect(Collectors.toMap(MemberFreeCountInfo::memberNo, MemberFreeCountInfo::freeCount));
+
+		int corrected = 0;
+		for (Map.Entry<Object, Object> entry : snapshot.entrySet()) {
+			String memberNo = (String)entry.getKey();
+			String expected = (String)entry.getValue();
+			long used = usedByMember.getOrDefault(memberNo, 0L);
+			String version = (String)versions.getOrDefault(memberNo, "0");
+			if (Long.parseLong(expected) != used
+				&& entitlementCounterRepository.reconcile(ENTITLEMENT, year, memberNo, version, used)) {
+				log.info("무임 사용 횟수 보정: memberNo={}, year={}, {} -> {}", memberNo, year, expected, used);
+				corrected++;
+			}
+		}
+		for (Map.Entry<String, Long> entry : usedByMember.entrySet()) {
+			if (!snapshot.containsKey(entry.getKey())) {
+				entitlementCounterRepository.load(ENTITLEMENT, year, entry.getKey(), entry.getValue(),
+					expireAt(year));
+			}
+		}
+		return corrected;
+	}
+
+	private long load(String memberNo, int year) {
+		long used = reservationPassengerRepository.sumFreeCountByMemberNo(memberNo, PassengerType.VETERAN,
+			ACTIVE_STATUSES, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31));
+		entitlementCounterRepository.load(ENTITLEMENT, year, memberNo, used, expireAt(year));
+		return used;
+	}
+
+	/**
+	 * 반환하고 진행 중 표시를 해제한다. (marked가 false면 반환만)
+	 */
+	private void release(String memberNo, int year, int count, boolean marked) {
+		try {
+			if (marked) {
+				entitlementCounterRepository.complete(ENTITLEMENT, year, memberNo, count);
+			} else {
+				entitlementCounterRepository.release(ENTITLEMENT, year, memberNo, count);
+			}
+		} catch (Exception e) {
+			// 반환에 실패해도 야간 보정에서 맞춰짐 (진행 중 표시는 TTL이 지나면 해제)
+			log.warn("무임 혜택 반환 실패: memberNo={}, year={}, count={}", memberNo, year, count, e);
+		}
+	}
+
+	/**
+	 * 사용 트랜잭션이 끝나면 진행 중 표시를 해제하고, 롤백되었으면 사용 횟수를 반환한다.
+	 */
+	private void completeClaim(String memberNo, int year, int count) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			release(memberNo, year, 0, true);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				release(memberNo, year, status == STATUS_COMMITTED ? 0 : count, true);
+			}
+		});
+	}
+
+	// 해당 연도가 끝나고 한 달 뒤 만료
+	private Instant expireAt(int year) {
+		return LocalDate.of(year + 1, 2, 1).atStartOfDay(ZONE_ID).toInstant();
+	}
+}
@@ -0,0 +1,64 @@
+package com.sudo.railo.booking.application;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sudo.railo.booking.application.dto.BookingEventMessage;
+import com.sudo.railo.booking.application.dto.ReleasedSeatInfo;
+import com.sudo.railo.booking.domain.BookingEventType;
+import com.sudo.railo.booking.domain.event.ReservationCancelledEvent;
+import com.sudo.railo.booking.domain.event.ReservationsExpiredEvent;
+import com.sudo.railo.booking.domain.event.SeatChangedEvent;
+import com.sudo.railo.global.exception.error.BusinessException;
+import com.sudo.railo.global.exception.error.GlobalError;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예약 취소/만료, 좌석 변경으로 반환된 좌석을 대기자에게 배정하는 구독자
+ * 배치의 반환 좌석을 모아 한 번에 배정하며, 이미 선점되거나 예약된 좌석은 배정 과정에서 건너뛴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WaitlistBookingEventHandler implements BookingEventHandler {
+
+	private final ObjectMapper objectMapper;
+	private final WaitlistService waitlistService;
+
+	@Override
+	public boolean supports(BookingEventType eventType) {
+		return eventType == BookingEventType.RESERVATION_CANCELLED
+			|| eventType == BookingEventType.RESERVATION_EXPIRED
+			|| eventType == BookingEventType.SEAT_CHANGED;
+	}
+
+	@Override
+	public void handle(List<BookingEventMessage> messages) {
+		List<ReleasedSeatInfo> releasedSeats = new ArrayList<>();
+		for (BookingEventMessage message : messages) {
+			switch (message.eventType()) {
+				case RESERVATION_CANCELLED ->
+					releasedSeats.addAll(read(message, ReservationCancelledEvent.class).releasedSeats());
+				case SEAT_CHANGED -> {
+					SeatChangedEvent event = read(message, SeatChangedEvent.class);
+					releasedSeats.add(
+						new ReleasedSeatInfo(event.trainScheduleId(), event.fromSeatId(), event.fromCarType()));
+				}
+				default -> releasedSeats.addAll(read(message, ReservationsExpiredEvent.class).releasedSeats());
+			}
+		}
+		waitlistService.offerSeats(releasedSeats);
+	}
+
+	private <T> T read(BookingEventMessage message, Class<T> type) {
+		try {
+			return objectMapper.readValue(message.payload(), type);
+		} catch (JsonProcessingException e) {
+			throw new BusinessException(GlobalError.INTERNAL_SERVER_ERROR, e);
+		}
+	}
+}
@@ -0,0 +1,283 @@
+package com.sudo.railo.booking.application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sudo.railo.booking.application.dto.ReleasedSeatInfo;
+import com.sudo.railo.booking.application.dto.request.WaitlistRequest;
+import com.sudo.railo.booking.application.dto.response.WaitlistOfferResponse;
+import com.sudo.railo.booking.application.dto.response.WaitlistPositionResponse;
+import com.sudo.railo.booking.config.BookingConfig;
+import com.sudo.railo.booking.domain.SeatStatus;
+import com.sudo.railo.booking.exception.BookingError;
+import com.sudo.railo.booking.infra.SeatReservationRepository;
+import com.sudo.railo.booking.infra.WaitlistRepository;
+import com.sudo.railo.global.exception.error.BusinessException;
+import com.sudo.railo.train.domain.TrainSchedule;
+import com.sudo.railo.train.domain.status.OperationStatus;
+import com.sudo.railo.train.domain.type.CarType;
+import com.sudo.railo.train.exception.TrainErrorCode;
+import com.sudo.railo.train.infrastructure.TrainScheduleRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 매진된 열차의 좌석 대기열 서비스
+ *
+ * 만료/취소로 좌석이 반환되면 같은 스케줄, 같은 객실 타입의 대기자 중
+ * 가장 먼저 신청한 회원에게 좌석을 일정 시간 선점해 배정한다.
+ * 좌석 예약은 스케줄 단위로 유일하므로 반환된 좌석은 모든 구간의 대기자에게 배정 가능하다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitlistService {
+
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private static final String DELIMITER = ":";
+	private static final int MAX_OFFER_RETRY = 3;
+
+	private final BookingConfig bookingConfig;
+	private final WaitlistRepository waitlistRepository;
+	private final TrainScheduleRepository trainScheduleRepository;
+	private final SeatReservationRepository seatReservationRepository;
+
+	/***
+	 * 좌석 대기를 신청하는 메서드
+	 * @param request 대기 신청 요청 DTO
+	 * @return 대기 순번
+	 */
+	public WaitlistPositionResponse register(WaitlistRequest request, UserDetails userDetails) {
+		TrainSchedule trainSchedule = trainScheduleRepository.findById(request.trainScheduleId())
+			.orElseThrow(() -> new BusinessException(TrainErrorCode.TRAIN_SCHEDULE_NOT_FOUND));
+		if (trainSchedule.getOperationStatus() == OperationStatus.CANCELLED) {
+			throw new BusinessException(TrainErrorCode.TRAIN_OPERATION_CANCELLED);
+		}
+
+		String segment = toSegment(request.departureStationId(), request.arrivalStationId());
+		long waitingCount = waitlistRepository.countWaiters(request.trainScheduleId(), request.carType(), segment);
+		if (waitingCount >= bookingConfig.getWaitlist().getMaxSize()) {
+			throw new BusinessException(BookingError.WAITLIST_FULL);
+		}
+
+		// 대기열은 운행일이 끝나면 자동 삭제
+		Instant expireAt = trainSchedule.getOperationDate().plusDays(1)
+			.atStartOfDay(ZONE_ID)
+			.toInstant();
+		boolean added = waitlistRepository.addWaiter(request.trainScheduleId(), request.carType(), segment,
+			userDetails.getUsername(), System.currentTimeMillis(), expireAt);
+		if (!added) {
+			throw new BusinessException(BookingError.WAITLIST_ALREADY_REGISTERED);
+		}
+		return getPosition(request, userDetails);
+	}
+
+	/***
+	 * 대기 순번을 조회하는 메서드
+	 */
+	public WaitlistPositionResponse getPosition(WaitlistRequest request, UserDetails userDetails) {
+		String segment = toSegment(request.departureStationId(), request.arrivalStationId());
+		long rank = waitlistRepository.findRank(request.trainScheduleId(), request.carType(), segment,
+				userDetails.getUsername())
+			.orElseThrow(() -> new BusinessException(BookingError.WAITLIST_NOT_FOUND));
+		long waitingCount = waitlistRepository.countWaiters(request.trainScheduleId(), request.carType(), segment);
+		return new WaitlistPositionResponse(rank + 1, waitingCount);
+	}
+
+	/***
+	 * 좌석 대기를 취소하는 메서드
+	 */
+	public void cancel(WaitlistRequest request, UserDetails userDetails) {
+		String segment = toSegment(request.departureStationId(), request.arrivalStationId());
+		boolean removed = waitlistRepository.removeWaiter(request.trainScheduleId(), request.carType(), segment,
+			userDetails.getUsername());
+		if (!removed) {
+			throw new BusinessException(BookingError.WAITLIST_NOT_FOUND);
+		}
+	}
+
+	/***
+	 * 회원에게 배정된 좌석 목록을 조회하는 메서드
+	 */
+	public List<WaitlistOfferResponse> getOffers(UserDetails userDetails) {
+		long now = System.currentTimeMillis();
+		Map<Object, Object> offers = waitlistRepository.findOffers(userDetails.getUsername());
+
+		List<WaitlistOfferResponse> responses = new ArrayList<>();
+		offers.forEach((field, value) -> {
+			// field = {스케줄}:{좌석}, value = {출발}:{도착}:{선점 만료 시각}
+			String[] seat = field.toString().split(DELIMITER);
+			String[] offer = value.toString().split(DELIMITER);
+			long holdExpiresAt = Long.parseLong(offer[2]);
+			if (holdExpiresAt < now) {
+				return;
+			}
+			responses.add(new WaitlistOfferResponse(
+				Long.parseLong(seat[0]),
+				Long.parseLong(seat[1]),
+				Long.parseLong(offer[0]),
+				Long.parseLong(offer[1]),
+				LocalDateTime.ofInstant(Instant.ofEpochMilli(holdExpiresAt), ZONE_ID)
+			));
+		});
+		return responses;
+	}
+
+	/***
+	 * 대기자에게 선점된 좌석인지 검증하는 메서드
+	 * 다른 회원에게 선점된 좌석이면 예약할 수 없다.
+	 */
+	public void validateHold(Long trainScheduleId, Long seatId, String memberNo) {
+		Optional<String> holder = waitlistRepository.findHolder(trainScheduleId, seatId);
+		if (holder.isPresent() && !holder.get().equals(memberNo)) {
+			throw new BusinessException(BookingError.SEAT_HELD_FOR_WAITLIST);
+		}
+	}
+
+	/***
+	 * 선점 좌석 예약이 완료되면 선점 정보를 정리하는 메서드 (트랜잭션 커밋 후 실행)
+	 */
+	public void completeHold(Long trainScheduleId, Long seatId, CarType carType, String memberNo) {
+		runAfterCommit(() -> {
+			Optional<String> holder = waitlistRepository.findHolder(trainScheduleId, seatId);
+			if (holder.isPresent() && holder.get().equals(memberNo)) {
+				waitlistRepository.releaseHold(trainScheduleId, seatId, carType);
+				waitlistRepository.deleteOffer(memberNo, trainScheduleId, seatId);
+			}
+		});
+	}
+
+	/***
+	 * 반환된 좌석을 대기자에게 바로 배정하는 메서드 (이벤트 구독자에서 호출)
+	 * 같은 반환 이벤트가 다시 전달될 수 있으므로 그 사이 다시 예약된 좌석은 건너뛴다.
+	 */
+	public void offerSeats(List<ReleasedSeatInfo> releasedSeats) {
+		for (ReleasedSeatInfo releasedSeat : releasedSeats) {
+			if (isReservedAgain(releasedSeat.trainScheduleId(), releasedSeat.seatId())) {
+				continue;
+			}
+			offerSafely(releasedSeat);
+		}
+	}
+
+	/***
+	 * 선점 시간 내에 예약하지 않은 좌석을 다음 대기자에게 재배정하는 메서드
+	 */
+	public void reofferExpiredHolds() {
+		Set<String> expiredHolds = waitlistRepository.popExpiredHolds(System.currentTimeMillis());
+		for (String expiredHold : expiredHolds) {
+			// {스케줄}:{좌석}:{객실}
+			String[] parts = expiredHold.split(DELIMITER);
+			Long trainScheduleId = Long.parseLong(parts[0]);
+			Long seatId = Long.parseLong(parts[1]);
+			if (isReservedAgain(trainScheduleId, seatId)) {
+				continue;
+			}
+			offerSafely(new ReleasedSeatInfo(trainScheduleId, seatId, CarType.valueOf(parts[2])));
+		}
+	}
+
+	private boolean isReservedAgain(Long trainScheduleId, Long seatId) {
+		return seatReservationRepository.existsByTrainScheduleIdAndSeatIdAndSeatStatusNot(trainScheduleId, seatId,
+			SeatStatus.AVAILABLE);
+	}
+
+	private void offerSafely(ReleasedSeatInfo releasedSeat) {
+		try {
+			offer(releasedSeat);
+		} catch (Exception e) {
+			log.error("대기자 좌석 배정 실패: trainScheduleId={}, seatId={}",
+				releasedSeat.trainScheduleId(), releasedSeat.seatId(), e);
+		}
+	}
+
+	/**
+	 * 구간별 대기열의 맨 앞 대기자 중 가장 먼저 신청한 회원에게 좌석을 선점
+	 */
+	private void offer(ReleasedSeatInfo releasedSeat) {
+		Long trainScheduleId = releasedSeat.trainScheduleId();
+		Long seatId = releasedSeat.seatId();
+		CarType carType = releasedSeat.carType();
+
+		if (waitlistRepository.findHolder(trainScheduleId, seatId).isPresent()) {
+			return;
+		}
+
+		for (int retry = 0; retry < MAX_OFFER_RETRY; retry++) {
+			Optional<Waiter> next = findNextWaiter(trainScheduleId, carType);
+			if (next.isEmpty()) {
+				return;
+			}
+			Waiter waiter = next.get();
+
+			// 다른 인스턴스가 먼저 꺼낸 경우 재시도
+			if (!waitlistRepository.removeWaiter(trainScheduleId, carType, waiter.segment(), waiter.memberNo())) {
+				continue;
+			}
+
+			Duration holdDuration = Duration.ofMinutes(bookingConfig.getWaitlist().getHold());
+			if (!waitlistRepository.hold(trainScheduleId, seatId, carType, waiter.memberNo(), holdDuration)) {
+				// 이미 선점된 좌석이면 대기자를 원래 순번으로 되돌림
+				waitlistRepository.addWaiter(trainScheduleId, carType, waiter.segment(), waiter.memberNo(),
+					waiter.requestedAt(), Instant.now().plus(Duration.ofDays(1)));
+				return;
+			}
+
+			long holdExpiresAt = Instant.now().plus(holdDuration).toEpochMilli();
+			waitlistRepository.saveOffer(waiter.memberNo(), trainScheduleId, seatId,
+				waiter.segment() + DELIMITER + holdExpiresAt, holdDuration);
+			log.info("대기자 좌석 배정: trainScheduleId={}, seatId={}, memberNo={}",
+				trainScheduleId, seatId, waiter.memberNo());
+			return;
+		}
+	}
+
+	private Optional<Waiter> findNextWaiter(Long trainScheduleId, CarType carType) {
+		List<Waiter> heads = new ArrayList<>();
+		for (String segment : waitlistRepository.findSegments(trainScheduleId, carType)) {
+			Optional<TypedTuple<String>> head = waitlistRepository.peekFirst(trainScheduleId, carType, segment);
+			if (head.isEmpty()) {
+				waitlistRepository.removeSegment(trainScheduleId, carType, segment);
+				continue;
+			}
+			TypedTuple<String> tuple = head.get();
+			heads.add(new Waiter(segment, tuple.getValue(), tuple.getScore().longValue()));
+		}
+		return heads.stream().min(Comparator.comparingLong(Waiter::requestedAt));
+	}
+
+	private void runAfterCommit(Runnable task) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			task.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				task.run();
+			}
+		});
+	}
+
+	private String toSegment(Long departureStationId, Long arrivalStationId) {
+		return departureStationId + DELIMITER + arrivalStationId;
+	}
+
+	private record Waiter(String segment, String memberNo, long requestedAt) {
+	}
+}
@@ -0,0 +1,21 @@
+package com.sudo.railo.booking.application.dto;
+
+import java.time.LocalDateTime;
+
+import com.sudo.railo.booking.domain.BookingEventType;
+
+/**
+ * 릴레이가 발행하는 예약 도메인 이벤트
+ * @param eventId Outbox ID (중복 수신 시 멱등 처리 기준)
+ * @param aggregateId 예약 ID (여러 예약을 묶은 이벤트면 null)
+ * @param payload 이벤트 본문 (JSON)
+ * @param occurredAt 이벤트 발생 일시
+ */
+public record BookingEventMessage(
+	Long eventId,
+	BookingEventType eventType,
+	Long aggregateId,
+	String payload,
+	LocalDateTime occurredAt
+) {
+}
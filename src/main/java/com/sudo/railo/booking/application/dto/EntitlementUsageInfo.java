@@ -0,0 +1,13 @@
+package com.sudo.railo.booking.application.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 회원의 운행일별 무임 혜택 사용 인원 Projection
+ */
+public record EntitlementUsageInfo(
+	String memberNo,
+	LocalDate operationDate,
+	Long freeCount
+) {
+}
@@ -0,0 +1,10 @@
+package com.sudo.railo.booking.application.dto;
+
+/**
+ * 회원별 무임 혜택 사용 인원 Projection
+ */
+public record MemberFreeCountInfo(
+	String memberNo,
+	Long freeCount
+) {
+}
@@ -0,0 +1,12 @@
+package com.sudo.railo.booking.application.dto;
+
+import com.sudo.railo.train.domain.type.PassengerType;
+
+/**
+ * 승객 유형별 인원 집계 Projection
+ */
+public record PassengerCountInfo(
+	PassengerType passengerType,
+	long passengerCount
+) {
+}
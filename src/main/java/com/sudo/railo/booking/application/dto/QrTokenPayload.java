@@ -0,0 +1,20 @@
+package com.sudo.railo.booking.application.dto;
+
+import java.time.Instant;
+
+/**
+ * QR 토큰에 담기는 승차권 정보
+ * @param seatId 좌석 ID (입석이면 null)
+ * @param validFrom 사용 가능 시작 시각
+ * @param validUntil 사용 가능 종료 시각
+ */
+public record QrTokenPayload(
+	Long ticketId,
+	Long trainScheduleId,
+	Long departureStationId,
+	Long arrivalStationId,
+	Long seatId,
+	Instant validFrom,
+	Instant validUntil
+) {
+}
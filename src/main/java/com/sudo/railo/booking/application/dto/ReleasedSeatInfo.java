@@ -0,0 +1,14 @@
+package com.sudo.railo.booking.application.dto;
+
+import com.sudo.railo.train.domain.type.CarType;
+
+/**
+ * 만료/취소로 반환된 좌석 정보
+ * 대기열의 다음 대기자에게 좌석을 배정할 때 사용
+ */
+public record ReleasedSeatInfo(
+	Long trainScheduleId,
+	Long seatId,
+	CarType carType
+) {
+}
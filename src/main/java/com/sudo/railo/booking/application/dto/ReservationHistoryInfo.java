@@ -0,0 +1,28 @@
+package com.sudo.railo.booking.application.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import com.sudo.railo.booking.domain.ReservationStatus;
+
+/**
+ * 예약 내역 조회 Projection (열차, 구간 정보 포함)
+ */
+public record ReservationHistoryInfo(
+	Long reservationId,
+	String reservationCode,
+	ReservationStatus reservationStatus,
+	LocalDateTime reservedAt,
+	LocalDateTime expiresAt,
+	int totalPassengers,
+	Long trainScheduleId,
+	LocalDate operationDate,
+	int trainNumber,
+	String trainName,
+	String departureStationName,
+	String arrivalStationName,
+	LocalTime departureTime,
+	LocalTime arrivalTime
+) {
+}
@@ -0,0 +1,18 @@
+package com.sudo.railo.booking.application.dto;
+
+import com.sudo.railo.train.domain.type.CarType;
+import com.sudo.railo.train.domain.type.PassengerType;
+
+/**
+ * 예약 내역 좌석 조회 Projection (입석이면 좌석 정보 null)
+ */
+public record ReservationHistorySeatInfo(
+	Long reservationId,
+	PassengerType passengerType,
+	boolean standing,
+	Integer carNumber,
+	CarType carType,
+	Integer seatRow,
+	String seatColumn
+) {
+}
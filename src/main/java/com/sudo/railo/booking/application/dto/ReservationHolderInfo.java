@@ -0,0 +1,11 @@
+package com.sudo.railo.booking.application.dto;
+
+/**
+ * 운행 스케줄 예약자 조회 결과 (운행 상태 변경 알림 대상)
+ */
+public record ReservationHolderInfo(
+	Long reservationId,
+	String memberNo,
+	Long trainScheduleId
+) {
+}
@@ -0,0 +1,11 @@
+package com.sudo.railo.booking.application.dto;
+
+/**
+ * 운행 스케줄의 예약 구간 조회 결과 (시간표 재적재 시 정차역 변경 가능 여부 확인)
+ */
+public record ReservedSegmentInfo(
+	Long trainScheduleId,
+	Long departureStationId,
+	Long arrivalStationId
+) {
+}
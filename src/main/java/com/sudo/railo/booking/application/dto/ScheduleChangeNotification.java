@@ -0,0 +1,20 @@
+package com.sudo.railo.booking.application.dto;
+
+import com.sudo.railo.train.domain.status.OperationStatus;
+
+/**
+ * 운행 상태 변경 알림 (알림 큐에 적재)
+ * 같은 이벤트가 다시 전달되면 같은 알림이 다시 적재될 수 있으므로, 소비자는 (eventId, reservationId)로 중복을 거른다.
+ * @param eventId 운행 상태 변경 이벤트 ID
+ * @param operationStatus 변경 후 운행 상태 (CANCELLED: 운행 취소, DELAYED: 지연, ACTIVE: 지연이 추가됐지만 지연 기준 미만)
+ * @param delayMinutes 추가된 지연 시간(분), 운행 취소면 0
+ */
+public record ScheduleChangeNotification(
+	Long eventId,
+	Long reservationId,
+	String memberNo,
+	Long trainScheduleId,
+	OperationStatus operationStatus,
+	int delayMinutes
+) {
+}
@@ -0,0 +1,19 @@
+package com.sudo.railo.booking.application.dto;
+
+import java.time.LocalDate;
+
+import com.sudo.railo.booking.domain.TicketType;
+
+/**
+ * 정기권 인덱스 적재용 조회 결과
+ * @param endAt 사용 종료일 (없으면 기한 없음)
+ */
+public record SeasonTicketInfo(
+	Long seasonTicketId,
+	Long memberId,
+	TicketType ticketType,
+	LocalDate startAt,
+	LocalDate endAt,
+	boolean holidayUsable
+) {
+}
@@ -1,8 +1,9 @@
 package com.sudo.railo.booking.application.dto.request;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
-import com.sudo.railo.booking.domain.PassengerType;
+import com.sudo.railo.train.domain.type.PassengerType;
 
 import jakarta.validation.constraints.NotNull;
 
@@ -11,6 +12,9 @@ public record FareCalculateRequest(
 	PassengerType passengerType,
 
 	@NotNull(message = "원래 운임은 필수입니다")
-	BigDecimal fare
+	BigDecimal fare,
+
+	// 무임 혜택 연도 기준 운행일 (없으면 오늘)
+	LocalDate operationDate
 ) {
 }
@@ -0,0 +1,24 @@
+package com.sudo.railo.booking.application.dto.request;
+
+import java.util.List;
+
+import com.sudo.railo.train.domain.PassengerSummary;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "구간 운임 조회 요청 DTO")
+public record FareQuoteRequest(
+	@Schema(description = "출발역 ID", example = "2")
+	@NotNull(message = "출발역 ID는 필수입니다")
+	Long departureStationId,
+
+	@Schema(description = "도착역 ID", example = "11")
+	@NotNull(message = "도착역 ID는 필수입니다")
+	Long arrivalStationId,
+
+	@Schema(description = "승객 유형과 인원을 담은 오브젝트를 요소로 하는 리스트")
+	@NotNull(message = "승객 정보는 필수입니다")
+	List<PassengerSummary> passengers
+) {
+}
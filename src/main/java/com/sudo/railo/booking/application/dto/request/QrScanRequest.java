@@ -0,0 +1,15 @@
+package com.sudo.railo.booking.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+@Schema(description = "승차권 QR 스캔 요청 DTO")
+public record QrScanRequest(
+	@Schema(description = "승차권 QR 토큰")
+	@NotBlank(message = "QR 토큰은 필수입니다")
+	String token,
+
+	@Schema(description = "개찰 중인 열차 스케줄 ID (없으면 스케줄 검증 생략)", example = "54")
+	Long trainScheduleId
+) {
+}
@@ -0,0 +1,27 @@
+package com.sudo.railo.booking.application.dto.request;
+
+import java.util.List;
+
+import com.sudo.railo.train.domain.PassengerSummary;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "왕복 예약 생성 요청 DTO")
+public record RoundTripReservationCreateRequest(
+	@Schema(description = "승객 유형과 인원을 담은 오브젝트를 요소로 하는 리스트 (가는 편, 오는 편 동일)")
+	@NotNull(message = "승객 정보는 필수입니다")
+	List<PassengerSummary> passengers,
+
+	@Schema(description = "가는 편")
+	@Valid
+	@NotNull(message = "가는 편 정보는 필수입니다")
+	ReservationLegRequest outbound,
+
+	@Schema(description = "오는 편")
+	@Valid
+	@NotNull(message = "오는 편 정보는 필수입니다")
+	ReservationLegRequest inbound
+) {
+}
@@ -0,0 +1,15 @@
+package com.sudo.railo.booking.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "좌석 변경 요청 DTO")
+public record SeatChangeRequest(
+	@Schema(description = "변경할 좌석 ID", example = "46458")
+	@NotNull(message = "변경할 좌석 ID는 필수입니다")
+	Long seatId,
+
+	@Schema(description = "조회 시점의 좌석 예약 버전 (생략하면 현재 버전 기준으로 변경)", example = "0")
+	Long version
+) {
+}
@@ -0,0 +1,26 @@
+package com.sudo.railo.booking.application.dto.request;
+
+import com.sudo.railo.train.domain.type.CarType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "좌석 대기 신청/취소 요청 DTO")
+public record WaitlistRequest(
+	@Schema(description = "열차 스케줄 ID", example = "54")
+	@NotNull(message = "열차 스케줄 ID는 필수입니다")
+	Long trainScheduleId,
+
+	@Schema(description = "출발역 ID", example = "2")
+	@NotNull(message = "출발역 ID는 필수입니다")
+	Long departureStationId,
+
+	@Schema(description = "도착역 ID", example = "11")
+	@NotNull(message = "도착역 ID는 필수입니다")
+	Long arrivalStationId,
+
+	@Schema(description = "객실 타입 (STANDARD - 일반실, FIRST_CLASS - 특실)", example = "STANDARD")
+	@NotNull(message = "객실 타입은 필수입니다")
+	CarType carType
+) {
+}
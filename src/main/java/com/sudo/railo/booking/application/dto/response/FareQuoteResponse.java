@@ -0,0 +1,22 @@
+package com.sudo.railo.booking.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "구간 운임 조회 응답 DTO")
+public record FareQuoteResponse(
+	@Schema(description = "출발역 ID", example = "2")
+	Long departureStationId,
+
+	@Schema(description = "도착역 ID", example = "11")
+	Long arrivalStationId,
+
+	@Schema(description = "일반실 총 운임", example = "42300")
+	int standardTotal,
+
+	@Schema(description = "특실 총 운임", example = "59200")
+	int firstClassTotal,
+
+	@Schema(description = "입석 총 운임", example = "38070")
+	int standingTotal
+) {
+}
@@ -0,0 +1,27 @@
+package com.sudo.railo.booking.application.dto.response;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "승차권 QR 스캔 응답 DTO")
+public record QrScanResponse(
+	@Schema(description = "승차권 ID", example = "1")
+	Long ticketId,
+
+	@Schema(description = "열차 스케줄 ID", example = "54")
+	Long trainScheduleId,
+
+	@Schema(description = "출발역 ID", example = "2")
+	Long departureStationId,
+
+	@Schema(description = "도착역 ID", example = "11")
+	Long arrivalStationId,
+
+	@Schema(description = "좌석 ID (입석이면 null)", example = "120")
+	Long seatId,
+
+	@Schema(description = "승차권 사용 가능 종료 시각", example = "2025-07-01T14:30:00")
+	LocalDateTime validUntil
+) {
+}
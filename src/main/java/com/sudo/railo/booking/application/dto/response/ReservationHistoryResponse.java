@@ -0,0 +1,123 @@
+package com.sudo.railo.booking.application.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import com.sudo.railo.booking.application.dto.ReservationHistoryInfo;
+import com.sudo.railo.booking.application.dto.ReservationHistorySeatInfo;
+import com.sudo.railo.booking.domain.ReservationStatus;
+import com.sudo.railo.train.domain.type.CarType;
+import com.sudo.railo.train.domain.type.PassengerType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "예약 내역 조회 응답 DTO")
+public record ReservationHistoryResponse(
+	@Schema(description = "예약 목록")
+	List<ReservationItem> reservations,
+
+	@Schema(description = "다음 페이지 존재 여부", example = "true")
+	boolean hasNext,
+
+	@Schema(description = "다음 페이지 조회 커서 - 마지막 예약 일시", example = "2025-07-01T10:15:30")
+	LocalDateTime nextReservedAt,
+
+	@Schema(description = "다음 페이지 조회 커서 - 마지막 예약 ID", example = "31")
+	Long nextReservationId
+) {
+
+	@Schema(description = "예약 정보")
+	public record ReservationItem(
+		@Schema(description = "예약 ID", example = "31")
+		Long reservationId,
+
+		@Schema(description = "예약 번호", example = "20250701101530A1B2")
+		String reservationCode,
+
+		@Schema(description = "예약 상태", example = "RESERVED")
+		ReservationStatus reservationStatus,
+
+		@Schema(description = "예약 일시", example = "2025-07-01T10:15:30")
+		LocalDateTime reservedAt,
+
+		@Schema(description = "결제 기한", example = "2025-07-01T10:25:30")
+		LocalDateTime expiresAt,
+
+		@Schema(description = "총 승객 수", example = "2")
+		int totalPassengers,
+
+		@Schema(description = "열차 스케줄 ID", example = "54")
+		Long trainScheduleId,
+
+		@Schema(description = "운행일", example = "2025-07-05")
+		LocalDate operationDate,
+
+		@Schema(description = "열차 번호", example = "101")
+		int trainNumber,
+
+		@Schema(description = "열차명", example = "KTX")
+		String trainName,
+
+		@Schema(description = "출발역", example = "서울")
+		String departureStationName,
+
+		@Schema(description = "도착역", example = "부산")
+		String arrivalStationName,
+
+		@Schema(description = "출발 시각", example = "08:00")
+		LocalTime departureTime,
+
+		@Schema(description = "도착 시각", example = "10:40")
+		LocalTime arrivalTime,
+
+		@Schema(description = "좌석 목록")
+		List<SeatItem> seats
+	) {
+
+		public static ReservationItem of(ReservationHistoryInfo info, List<SeatItem> seats) {
+			return new ReservationItem(
+				info.reservationId(),
+				info.reservationCode(),
+				info.reservationStatus(),
+				info.reservedAt(),
+				info.expiresAt(),
+				info.totalPassengers(),
+				info.trainScheduleId(),
+				info.operationDate(),
+				info.trainNumber(),
+				info.trainName(),
+				info.departureStationName(),
+				info.arrivalStationName(),
+				info.departureTime(),
+				info.arrivalTime(),
+				seats
+			);
+		}
+	}
+
+	@Schema(description = "좌석 정보 (입석이면 호차/좌석 정보 null)")
+	public record SeatItem(
+		@Schema(description = "승객 유형", example = "ADULT")
+		PassengerType passengerType,
+
+		@Schema(description = "입석 여부", example = "false")
+		boolean standing,
+
+		@Schema(description = "호차 번호", example = "3")
+		Integer carNumber,
+
+		@Schema(description = "객실 타입", example = "STANDARD")
+		CarType carType,
+
+		@Schema(description = "좌석 번호", example = "5A")
+		String seatNumber
+	) {
+
+		public static SeatItem from(ReservationHistorySeatInfo info) {
+			String seatNumber = info.seatRow() != null ? info.seatRow() + info.seatColumn() : null;
+			return new SeatItem(info.passengerType(), info.standing(), info.carNumber(), info.carType(), seatNumber);
+		}
+	}
+}
@@ -0,0 +1,13 @@
+package com.sudo.railo.booking.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "왕복 예약 생성 응답 DTO")
+public record RoundTripReservationCreateResponse(
+	@Schema(description = "가는 편 예약")
+	ReservationCreateResponse outbound,
+
+	@Schema(description = "오는 편 예약")
+	ReservationCreateResponse inbound
+) {
+}
@@ -0,0 +1,15 @@
+package com.sudo.railo.booking.application.dto.response;
+
+import com.sudo.railo.booking.domain.TicketType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "정기권 승차 가능 여부 응답 DTO")
+public record SeasonTicketRideResponse(
+	@Schema(description = "정기권으로 승차 가능 여부", example = "true")
+	boolean canRide,
+
+	@Schema(description = "사용할 정기권 종류 (승차할 수 없으면 null)", example = "NORMAL")
+	TicketType ticketType
+) {
+}
@@ -0,0 +1,16 @@
+package com.sudo.railo.booking.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "좌석 변경 응답 DTO")
+public record SeatChangeResponse(
+	@Schema(description = "좌석 예약 ID", example = "1")
+	Long seatReservationId,
+
+	@Schema(description = "변경된 좌석 ID", example = "46458")
+	Long seatId,
+
+	@Schema(description = "변경 후 좌석 예약 버전", example = "1")
+	Long version
+) {
+}
@@ -0,0 +1,24 @@
+package com.sudo.railo.booking.application.dto.response;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "대기자에게 배정된 좌석 응답 DTO")
+public record WaitlistOfferResponse(
+	@Schema(description = "열차 스케줄 ID", example = "54")
+	Long trainScheduleId,
+
+	@Schema(description = "배정된 좌석 ID", example = "46456")
+	Long seatId,
+
+	@Schema(description = "출발역 ID", example = "2")
+	Long departureStationId,
+
+	@Schema(description = "도착역 ID", example = "11")
+	Long arrivalStationId,
+
+	@Schema(description = "좌석 선점 만료 시간", example = "2025-06-01T10:05:00")
+	LocalDateTime holdExpiresAt
+) {
+}
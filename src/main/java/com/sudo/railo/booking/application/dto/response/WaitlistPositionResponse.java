@@ -0,0 +1,13 @@
+package com.sudo.railo.booking.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "좌석 대기 순번 응답 DTO")
+public record WaitlistPositionResponse(
+	@Schema(description = "현재 대기 순번 (1부터 시작)", example = "3")
+	long position,
+
+	@Schema(description = "같은 열차/객실의 전체 대기 인원", example = "12")
+	long waitingCount
+) {
+}
@@ -11,10 +11,50 @@ import lombok.Getter;
 public class BookingConfig {
 
 	private final Expiration expiration;
+	private final Waitlist waitlist;
+	private final TicketIssue ticketIssue;
+	private final Qr qr;
+	private final Outbox outbox;
 
 	@Getter
 	@AllArgsConstructor
 	public static class Expiration {
 		private final int reservation;
 	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class Waitlist {
+		private final int hold;
+		private final int maxSize;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class TicketIssue {
+		private final int parallelism;
+		private final int batchSize;
+		private final int leaseSeconds;
+		private final int maxAttempts;
+		private final String vendorCode;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class Qr {
+		private final String secret;
+		private final int validBefore;
+		private final int validAfter;
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class Outbox {
+		private final int batchSize;
+		private final int maxAttempts;
+		private final int retentionDays;
+		private final boolean streamEnabled;
+		private final String streamKey;
+		private final long streamMaxLength;
+	}
 }
@@ -0,0 +1,29 @@
+package com.sudo.railo.booking.config;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.sudo.railo.booking.application.SeasonTicketIndex;
+import com.sudo.railo.booking.infra.SeasonTicketChangeChannel;
+
+/**
+ * 정기권 변경 알림 구독 설정
+ * 다른 인스턴스에서 변경된 정기권도 변경 즉시 이 인스턴스의 정기권 인덱스에 반영한다.
+ */
+@Configuration
+public class SeasonTicketSyncConfig {
+
+	@Bean
+	public RedisMessageListenerContainer seasonTicketChangeListenerContainer(
+		RedisConnectionFactory redisConnectionFactory, SeasonTicketIndex seasonTicketIndex) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener((message, pattern) -> seasonTicketIndex.refresh(
+			Long.valueOf(new String(message.getBody(), StandardCharsets.UTF_8))), SeasonTicketChangeChannel.TOPIC);
+		return container;
+	}
+}
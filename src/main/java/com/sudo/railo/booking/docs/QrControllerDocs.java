@@ -0,0 +1,28 @@
+package com.sudo.railo.booking.docs;
+
+import org.springframework.web.bind.annotation.RequestBody;
+
+import com.sudo.railo.booking.application.dto.request.QrScanRequest;
+import com.sudo.railo.booking.application.dto.response.QrScanResponse;
+import com.sudo.railo.global.exception.error.ErrorResponse;
+import com.sudo.railo.global.success.SuccessResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "QR")
+public interface QrControllerDocs {
+
+	@Operation(method = "POST", summary = "승차권 QR 검증", description = "승차권 QR 토큰의 서명과 사용 가능 시간을 검증하고 스캔을 기록합니다.", security = {
+		@SecurityRequirement(name = "bearerAuth")})
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "승차권 QR이 확인되었습니다."),
+		@ApiResponse(responseCode = "400", description = "유효하지 않거나 사용 기간이 아닌 QR, 또는 취소된 승차권의 QR입니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	SuccessResponse<QrScanResponse> scan(@RequestBody QrScanRequest request);
+}
@@ -1,16 +1,23 @@
 package com.sudo.railo.booking.docs;
 
+import java.time.LocalDateTime;
+
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 
 import com.sudo.railo.booking.application.dto.request.ReservationCreateRequest;
 import com.sudo.railo.booking.application.dto.request.ReservationDeleteRequest;
+import com.sudo.railo.booking.application.dto.request.RoundTripReservationCreateRequest;
 import com.sudo.railo.booking.application.dto.response.ReservationCreateResponse;
+import com.sudo.railo.booking.application.dto.response.ReservationHistoryResponse;
+import com.sudo.railo.booking.application.dto.response.RoundTripReservationCreateResponse;
 import com.sudo.railo.global.exception.error.ErrorResponse;
 import com.sudo.railo.global.success.SuccessResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -26,10 +33,59 @@ public interface ReservationControllerDocs {
 	@ApiResponses(value = {
 		@ApiResponse(responseCode = "201", description = "예약이 성공적으로 생성되었습니다."),
 		@ApiResponse(responseCode = "400", description = "요청 본문이 유효하지 않습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
-		@ApiResponse(responseCode = "404", description = "요청한 유저, 역, 요청한 좌석을 찾을 수 없습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+		@ApiResponse(responseCode = "404", description = "요청한 유저, 역, 요청한 좌석을 찾을 수 없습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+		@ApiResponse(responseCode = "409", description = "같은 Idempotency-Key의 요청이 처리 중입니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+		@ApiResponse(responseCode = "422", description = "Idempotency-Key가 다른 요청에 이미 사용되었습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
 	})
 	SuccessResponse<ReservationCreateResponse> createReservation(@RequestBody ReservationCreateRequest request,
+		@Parameter(description = "재시도 시 중복 예약을 방지하기 위한 키 (최대 100자)")
+		@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+		@AuthenticationPrincipal UserDetails userDetails);
+
+	@Operation(method = "POST", summary = "왕복 예약 생성", description = "가는 편과 오는 편을 한 번에 예약합니다. 한 편이라도 실패하면 모두 예약되지 않습니다.", security = {
+		@SecurityRequirement(name = "bearerAuth")})
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "201", description = "왕복 예약이 성공적으로 생성되었습니다."),
+		@ApiResponse(responseCode = "400", description = "요청 본문이 유효하지 않거나 오는 편 구간이 올바르지 않습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+		@ApiResponse(responseCode = "404", description = "요청한 유저, 역, 요청한 좌석을 찾을 수 없습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+		@ApiResponse(responseCode = "409", description = "이미 예약된 좌석이 있거나 같은 Idempotency-Key의 요청이 처리 중입니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	SuccessResponse<RoundTripReservationCreateResponse> createRoundTripReservation(
+		@RequestBody RoundTripReservationCreateRequest request,
+		@Parameter(description = "재시도 시 중복 예약을 방지하기 위한 키 (최대 100자)")
+		@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+		@AuthenticationPrincipal UserDetails userDetails);
+
+	@Operation(method = "GET", summary = "예약 내역 조회", description = "회원의 예약 내역을 최근 예약 순으로 조회합니다. 다음 페이지는 응답의 커서 값으로 조회합니다.", security = {
+		@SecurityRequirement(name = "bearerAuth")})
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "예약 내역을 성공적으로 조회했습니다.")
+	})
+	SuccessResponse<ReservationHistoryResponse> getReservations(
+		@Parameter(description = "이전 페이지 마지막 예약 일시 (첫 페이지면 생략)") LocalDateTime cursorReservedAt,
+		@Parameter(description = "이전 페이지 마지막 예약 ID (첫 페이지면 생략)") Long cursorReservationId,
+		@Parameter(description = "페이지 크기 (기본 20, 최대 50)") Integer size,
+		@AuthenticationPrincipal UserDetails userDetails);
+
+	@Operation(method = "PATCH", summary = "예약 취소", description = "예약을 취소하고 배정된 좌석을 반환합니다. 발권된 승차권과 QR도 함께 취소됩니다.", security = {
+		@SecurityRequirement(name = "bearerAuth")})
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "예약이 성공적으로 취소되었습니다."),
+		@ApiResponse(responseCode = "400", description = "취소할 수 없는 예약입니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+		@ApiResponse(responseCode = "403", description = "본인의 예약만 취소할 수 있습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+		@ApiResponse(responseCode = "404", description = "예약을 찾을 수 없습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	SuccessResponse<?> cancelReservation(@Parameter(description = "예약 ID") Long reservationId,
 		@AuthenticationPrincipal UserDetails userDetails);
 
-	SuccessResponse<?> deleteReservation(@RequestBody ReservationDeleteRequest request);
+	@Operation(method = "DELETE", summary = "예약 삭제", description = "취소되었거나 만료된 예약 기록을 삭제합니다. 예약완료/결제완료 상태의 예약은 먼저 취소해야 합니다.", security = {
+		@SecurityRequirement(name = "bearerAuth")})
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "204", description = "예약이 성공적으로 삭제되었습니다."),
+		@ApiResponse(responseCode = "400", description = "취소하지 않은 예약은 삭제할 수 없습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+		@ApiResponse(responseCode = "403", description = "본인의 예약만 삭제할 수 있습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+		@ApiResponse(responseCode = "404", description = "예약을 찾을 수 없습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	SuccessResponse<?> deleteReservation(@RequestBody ReservationDeleteRequest request,
+		@AuthenticationPrincipal UserDetails userDetails);
 }
@@ -0,0 +1,30 @@
+package com.sudo.railo.booking.docs;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.sudo.railo.booking.application.dto.response.SeasonTicketRideResponse;
+import com.sudo.railo.global.exception.error.ErrorResponse;
+import com.sudo.railo.global.success.SuccessResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "SeasonTicket")
+public interface SeasonTicketControllerDocs {
+
+	@Operation(method = "GET", summary = "정기권 승차 가능 여부 조회", description = "보유한 정기권으로 열차 스케줄에 승차할 수 있는지 확인합니다.", security = {
+		@SecurityRequirement(name = "bearerAuth")})
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "정기권 승차 가능 여부를 조회했습니다."),
+		@ApiResponse(responseCode = "404", description = "열차 스케줄 또는 회원을 찾을 수 없습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	SuccessResponse<SeasonTicketRideResponse> checkRide(@RequestParam Long trainScheduleId,
+		@AuthenticationPrincipal UserDetails userDetails);
+}
@@ -0,0 +1,35 @@
+package com.sudo.railo.booking.docs;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import com.sudo.railo.booking.application.dto.request.SeatChangeRequest;
+import com.sudo.railo.booking.application.dto.response.SeatChangeResponse;
+import com.sudo.railo.global.exception.error.ErrorResponse;
+import com.sudo.railo.global.success.SuccessResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "SeatReservation")
+public interface SeatReservationControllerDocs {
+
+	@Operation(method = "PATCH", summary = "좌석 변경", description = "예약한 좌석을 같은 구간의 다른 좌석으로 변경합니다. 조회 시점의 버전을 함께 보내면 그 사이 변경된 경우 409를 반환합니다. 결제된 예약은 기존 승차권 QR이 무효화되고 변경된 좌석으로 다시 발권됩니다.", security = {
+		@SecurityRequirement(name = "bearerAuth")})
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "좌석이 성공적으로 변경되었습니다."),
+		@ApiResponse(responseCode = "400", description = "입석이거나 좌석을 변경할 수 없는 예약입니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+		@ApiResponse(responseCode = "403", description = "본인의 예약만 변경할 수 있습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+		@ApiResponse(responseCode = "404", description = "좌석 예약 또는 좌석을 찾을 수 없습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+		@ApiResponse(responseCode = "409", description = "이미 예약된 좌석이거나 다른 요청으로 좌석 예약이 변경되었습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	SuccessResponse<SeatChangeResponse> changeSeat(@Parameter(description = "좌석 예약 ID") Long seatReservationId,
+		@RequestBody SeatChangeRequest request, @AuthenticationPrincipal UserDetails userDetails);
+}
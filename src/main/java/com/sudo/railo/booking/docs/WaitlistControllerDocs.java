@@ -0,0 +1,52 @@
+package com.sudo.railo.booking.docs;
+
+import java.util.List;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import com.sudo.railo.booking.application.dto.request.WaitlistRequest;
+import com.sudo.railo.booking.application.dto.response.WaitlistOfferResponse;
+import com.sudo.railo.booking.application.dto.response.WaitlistPositionResponse;
+import com.sudo.railo.global.exception.error.ErrorResponse;
+import com.sudo.railo.global.success.SuccessResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Waitlist")
+public interface WaitlistControllerDocs {
+
+	@Operation(method = "POST", summary = "좌석 대기 신청", description = "매진된 열차의 구간/객실에 좌석 대기를 신청합니다. 좌석이 반환되면 신청 순서대로 좌석이 선점 배정됩니다.", security = {
+		@SecurityRequirement(name = "bearerAuth")})
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "201", description = "좌석 대기가 성공적으로 신청되었습니다."),
+		@ApiResponse(responseCode = "404", description = "요청한 열차 스케줄을 찾을 수 없습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+		@ApiResponse(responseCode = "409", description = "이미 대기 신청했거나 대기 인원이 초과되었습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	SuccessResponse<WaitlistPositionResponse> register(@RequestBody WaitlistRequest request,
+		@AuthenticationPrincipal UserDetails userDetails);
+
+	@Operation(method = "POST", summary = "대기 순번 조회", description = "좌석 대기 순번과 전체 대기 인원을 조회합니다.", security = {
+		@SecurityRequirement(name = "bearerAuth")})
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "대기 순번을 성공적으로 조회했습니다."),
+		@ApiResponse(responseCode = "404", description = "대기 신청 내역을 찾을 수 없습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	SuccessResponse<WaitlistPositionResponse> getPosition(@RequestBody WaitlistRequest request,
+		@AuthenticationPrincipal UserDetails userDetails);
+
+	@Operation(method = "GET", summary = "배정 좌석 조회", description = "대기 후 선점 배정된 좌석 목록을 조회합니다. 선점 시간 내에 예약해야 합니다.", security = {
+		@SecurityRequirement(name = "bearerAuth")})
+	SuccessResponse<List<WaitlistOfferResponse>> getOffers(@AuthenticationPrincipal UserDetails userDetails);
+
+	@Operation(method = "DELETE", summary = "좌석 대기 취소", description = "좌석 대기 신청을 취소합니다.", security = {
+		@SecurityRequirement(name = "bearerAuth")})
+	SuccessResponse<?> cancel(@RequestBody WaitlistRequest request, @AuthenticationPrincipal UserDetails userDetails);
+}
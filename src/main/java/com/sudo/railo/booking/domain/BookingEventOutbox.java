@@ -0,0 +1,70 @@
+package com.sudo.railo.booking.domain;
+
+import java.time.LocalDateTime;
+
+import com.sudo.railo.global.domain.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 예약 도메인 이벤트 (Outbox)
+ * 예약 변경과 같은 트랜잭션에서 적재하고, 릴레이가 커밋된 이벤트만 배치 단위로 발행한다.
+ * 발행 후 완료 처리 전에 실패하면 다시 발행되므로 (at-least-once) 구독자는 멱등하게 처리해야 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+	name = "booking_event_outbox",
+	indexes = {
+		// 릴레이의 발행 대상 조회용
+		@Index(name = "idx_booking_event_outbox_published", columnList = "published_at, booking_event_outbox_id")
+	}
+)
+public class BookingEventOutbox extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "booking_event_outbox_id")
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private BookingEventType eventType;
+
+	private Long aggregateId;
+
+	@Column(nullable = false, columnDefinition = "TEXT")
+	private String payload;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	@Column(name = "published_at")
+	private LocalDateTime publishedAt;
+
+	@Column(length = 500)
+	private String lastError;
+
+	private BookingEventOutbox(BookingEventType eventType, Long aggregateId, String payload) {
+		this.eventType = eventType;
+		this.aggregateId = aggregateId;
+		this.payload = payload;
+		this.attempts = 0;
+	}
+
+	public static BookingEventOutbox create(BookingEventType eventType, Long aggregateId, String payload) {
+		return new BookingEventOutbox(eventType, aggregateId, payload);
+	}
+}
@@ -0,0 +1,21 @@
+package com.sudo.railo.booking.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예약 도메인 이벤트 유형 enum
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BookingEventType {
+	RESERVATION_CREATED("예약 생성"),
+	RESERVATION_PAID("결제 완료"),
+	RESERVATION_CANCELLED("예약 취소"),
+	RESERVATION_EXPIRED("예약 만료"),
+	SEAT_CHANGED("좌석 변경"),
+	SCHEDULE_OPERATION_CHANGED("운행 상태 변경"),
+	TICKETS_REVOKED("승차권 무효화");
+
+	private final String description;
+}
@@ -1,5 +0,0 @@
-package com.sudo.railo.booking.domain;
-
-public enum PassengerType {
-	ADULT, CHILD, INFANT, SENIOR, DISABLED_HEAVY, DISABLED_LIGHT, VETERAN
-}
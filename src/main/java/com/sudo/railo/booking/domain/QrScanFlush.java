@@ -0,0 +1,37 @@
+package com.sudo.railo.booking.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * QR 스캔 횟수 DB 반영 이력
+ * Redis에서 꺼낸 스캔 횟수 묶음(batch)을 반영하는 트랜잭션에서 함께 기록해, 반영 후 Redis 정리 전에
+ * 중단되어 같은 묶음을 다시 꺼내도 스캔 횟수가 두 번 누적되지 않도록 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+	name = "qr_scan_flush",
+	indexes = {
+		// 오래된 이력 정리용
+		@Index(name = "idx_qr_scan_flush_flushed_at", columnList = "flushed_at")
+	}
+)
+public class QrScanFlush {
+
+	@Id
+	@Column(name = "batch_id", length = 36)
+	private String batchId;
+
+	@Column(name = "flushed_at", nullable = false)
+	private LocalDateTime flushedAt;
+}
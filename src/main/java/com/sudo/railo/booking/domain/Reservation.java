@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.sudo.railo.booking.exception.BookingError;
+import com.sudo.railo.global.exception.error.BusinessException;
 import com.sudo.railo.member.domain.Member;
 import com.sudo.railo.train.domain.Station;
 import com.sudo.railo.train.domain.TrainSchedule;
@@ -17,8 +19,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -31,6 +35,13 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
+@Table(
+	name = "reservation",
+	indexes = {
+		// 회원별 예약 내역 커서 조회용
+		@Index(name = "idx_reservation_member_reserved", columnList = "member_id, reserved_at, reservation_id")
+	}
+)
 public class Reservation {
 
 	@Id
@@ -54,7 +65,7 @@ public class Reservation {
 	@JoinColumn(name = "arrival_station_id", nullable = false)
 	private Station arrivalStation;
 
-	@Column(nullable = false)
+	@Column(nullable = false, unique = true)
 	private String reservationCode;
 
 	@Enumerated(EnumType.STRING)
@@ -64,9 +75,6 @@ public class Reservation {
 	@Column(nullable = false)
 	private int totalPassengers;
 
-	@Column(nullable = false)
-	private String passengerSummary;
-
 	@Enumerated(EnumType.STRING)
 	@Column(nullable = false)
 	private ReservationStatus reservationStatus;
@@ -80,4 +88,28 @@ public class Reservation {
 	private LocalDateTime paidAt;
 
 	private LocalDateTime cancelledAt;
+
+	/***
+	 * 결제 완료 처리하는 메서드
+	 * @param paidAt 결제 일시
+	 */
+	public void markPaid(LocalDateTime paidAt) {
+		if (!reservationStatus.isPayable()) {
+			throw new BusinessException(BookingError.RESERVATION_NOT_PAYABLE);
+		}
+		this.reservationStatus = ReservationStatus.PAID;
+		this.paidAt = paidAt;
+	}
+
+	/***
+	 * 예약을 취소 처리하는 메서드
+	 * @param cancelledAt 취소 일시
+	 */
+	public void cancel(LocalDateTime cancelledAt) {
+		if (!reservationStatus.isCancellable()) {
+			throw new BusinessException(BookingError.RESERVATION_NOT_CANCELLABLE);
+		}
+		this.reservationStatus = ReservationStatus.CANCELLED;
+		this.cancelledAt = cancelledAt;
+	}
 }
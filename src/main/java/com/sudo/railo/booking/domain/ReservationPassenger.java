@@ -0,0 +1,59 @@
+package com.sudo.railo.booking.domain;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import com.sudo.railo.train.domain.type.PassengerType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 예약의 승객 유형별 인원
+ * 예약 생성 시 일괄 저장하며, 승객 유형별 집계(리포트, 운임, 할인 대상 확인)는 이 테이블을 기준으로 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+	name = "reservation_passenger",
+	uniqueConstraints = {
+		@UniqueConstraint(columnNames = {"reservation_id", "passenger_type"})
+	}
+)
+public class ReservationPassenger {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "reservation_passenger_id")
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "reservation_id", nullable = false)
+	@OnDelete(action = OnDeleteAction.CASCADE)
+	private Reservation reservation;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "passenger_type", nullable = false)
+	private PassengerType passengerType;
+
+	@Column(name = "passenger_count", nullable = false)
+	private int passengerCount;
+
+	// 연간 무임 혜택이 적용된 인원 (국가유공자)
+	@Column(name = "free_count", nullable = false)
+	private int freeCount;
+}
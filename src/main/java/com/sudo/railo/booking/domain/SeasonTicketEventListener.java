@@ -0,0 +1,34 @@
+package com.sudo.railo.booking.domain;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.sudo.railo.booking.domain.event.SeasonTicketChangedEvent;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 정기권 엔티티가 저장/변경/삭제되면 정기권 변경 이벤트를 발행하는 엔티티 리스너
+ */
+@Component
+@RequiredArgsConstructor
+public class SeasonTicketEventListener {
+
+	// EntityManagerFactory 생성 시점의 순환 참조를 피하기 위해 지연 조회
+	private final ObjectProvider<ApplicationEventPublisher> eventPublisher;
+
+	@PostPersist
+	@PostUpdate
+	@PostRemove
+	public void onChanged(SeasonTicket seasonTicket) {
+		if (seasonTicket.getMember() == null) {
+			return;
+		}
+		eventPublisher.getObject().publishEvent(
+			new SeasonTicketChangedEvent(seasonTicket.getMember().getId(), seasonTicket.getId()));
+	}
+}
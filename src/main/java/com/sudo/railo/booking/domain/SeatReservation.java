@@ -9,6 +9,7 @@ import com.sudo.railo.global.domain.BaseEntity;
 import com.sudo.railo.train.domain.Seat;
 import com.sudo.railo.train.domain.Station;
 import com.sudo.railo.train.domain.TrainSchedule;
+import com.sudo.railo.train.domain.type.PassengerType;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -0,0 +1,74 @@
+package com.sudo.railo.booking.domain;
+
+import java.time.LocalDateTime;
+
+import com.sudo.railo.global.domain.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 승차권 발권 요청 (Outbox)
+ * 결제가 확정된 예약을 같은 트랜잭션에서 적재하고, 발권 워커가 비동기로 처리한다.
+ * 워커가 점유한 채 종료되면 lockedUntil 이후 다른 워커가 다시 처리한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+	name = "ticket_issue_request",
+	indexes = {
+		// 워커의 처리 대상 조회용
+		@Index(name = "idx_ticket_issue_request_status", columnList = "status, ticket_issue_request_id")
+	},
+	uniqueConstraints = {
+		@UniqueConstraint(columnNames = {"reservation_id"})
+	}
+)
+public class TicketIssueRequest extends BaseEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "ticket_issue_request_id")
+	private Long id;
+
+	@Column(name = "reservation_id", nullable = false)
+	private Long reservationId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private TicketIssueStatus status;
+
+	@Column(nullable = false)
+	private int attempts;
+
+	private String lockedBy;
+
+	private LocalDateTime lockedUntil;
+
+	private LocalDateTime processedAt;
+
+	@Column(length = 500)
+	private String lastError;
+
+	private TicketIssueRequest(Long reservationId) {
+		this.reservationId = reservationId;
+		this.status = TicketIssueStatus.PENDING;
+		this.attempts = 0;
+	}
+
+	public static TicketIssueRequest create(Long reservationId) {
+		return new TicketIssueRequest(reservationId);
+	}
+}
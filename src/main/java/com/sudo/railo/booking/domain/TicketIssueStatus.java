@@ -0,0 +1,19 @@
+package com.sudo.railo.booking.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 승차권 발권 요청 처리 상태
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TicketIssueStatus {
+	PENDING("대기", "발권 대기 중인 상태"),
+	PROCESSING("처리중", "발권 워커가 점유해 처리 중인 상태"),
+	DONE("완료", "승차권과 QR 발급이 완료된 상태"),
+	FAILED("실패", "최대 재시도 횟수를 초과해 실패한 상태");
+
+	private final String displayName;
+	private final String description;
+}
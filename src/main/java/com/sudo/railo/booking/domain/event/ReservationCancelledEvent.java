@@ -0,0 +1,23 @@
+package com.sudo.railo.booking.domain.event;
+
+import java.util.List;
+
+import com.sudo.railo.booking.application.dto.ReleasedSeatInfo;
+
+/**
+ * 예약 취소 이벤트
+ * 반환된 구간과 좌석 정보를 담아 구독자가 다시 조회하지 않고 잔여석, 좌석 배치도 등을 갱신할 수 있게 한다.
+ * @param memberNo 예약 회원번호 (비회원 예약이면 null)
+ * @param releasedSeats 반환된 좌석 목록 (입석 제외)
+ * @param standingCount 반환된 입석 수
+ */
+public record ReservationCancelledEvent(
+	Long reservationId,
+	String memberNo,
+	Long trainScheduleId,
+	Long departureStationId,
+	Long arrivalStationId,
+	List<ReleasedSeatInfo> releasedSeats,
+	int standingCount
+) {
+}
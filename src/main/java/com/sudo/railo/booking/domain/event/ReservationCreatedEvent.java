@@ -0,0 +1,14 @@
+package com.sudo.railo.booking.domain.event;
+
+/**
+ * 예약 생성 이벤트
+ */
+public record ReservationCreatedEvent(
+	Long reservationId,
+	String memberNo,
+	Long trainScheduleId,
+	Long departureStationId,
+	Long arrivalStationId,
+	int totalPassengers
+) {
+}
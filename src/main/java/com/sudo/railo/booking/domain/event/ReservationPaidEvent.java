@@ -0,0 +1,14 @@
+package com.sudo.railo.booking.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결제 완료 이벤트
+ */
+public record ReservationPaidEvent(
+	Long reservationId,
+	String memberNo,
+	Long trainScheduleId,
+	LocalDateTime paidAt
+) {
+}
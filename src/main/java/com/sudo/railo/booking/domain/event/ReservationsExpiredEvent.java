@@ -0,0 +1,17 @@
+package com.sudo.railo.booking.domain.event;
+
+import java.util.List;
+
+import com.sudo.railo.booking.application.dto.ReleasedSeatInfo;
+
+/**
+ * 예약 만료 이벤트
+ * 만료 처리 1회에 삭제된 예약을 묶어 하나의 이벤트로 발행한다.
+ * @param reservationIds 만료된 예약 ID 목록
+ * @param releasedSeats 반환된 좌석 목록 (입석 제외)
+ */
+public record ReservationsExpiredEvent(
+	List<Long> reservationIds,
+	List<ReleasedSeatInfo> releasedSeats
+) {
+}
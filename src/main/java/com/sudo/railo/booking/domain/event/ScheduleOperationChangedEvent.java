@@ -0,0 +1,19 @@
+package com.sudo.railo.booking.domain.event;
+
+import java.util.List;
+
+import com.sudo.railo.train.domain.status.OperationStatus;
+
+/**
+ * 운행 상태 일괄 변경 이벤트
+ * 관리자 일괄 운행 취소/지연 1회(청크)에 변경된 운행 스케줄을 변경 후 운행 상태별로 묶어 이벤트로 발행한다.
+ * @param trainScheduleIds 변경된 운행 스케줄 ID 목록
+ * @param operationStatus 변경 후 운행 상태 (CANCELLED: 운행 취소, DELAYED: 지연, ACTIVE: 지연이 추가됐지만 지연 기준 미만)
+ * @param delayMinutes 추가된 지연 시간(분), 운행 취소면 0
+ */
+public record ScheduleOperationChangedEvent(
+	List<Long> trainScheduleIds,
+	OperationStatus operationStatus,
+	int delayMinutes
+) {
+}
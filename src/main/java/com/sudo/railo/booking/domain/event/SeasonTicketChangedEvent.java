@@ -0,0 +1,11 @@
+package com.sudo.railo.booking.domain.event;
+
+/**
+ * 정기권 변경 이벤트 (저장/변경/삭제)
+ * 구독자는 회원의 사용 가능한 정기권을 다시 조회해 반영한다.
+ */
+public record SeasonTicketChangedEvent(
+	Long memberId,
+	Long seasonTicketId
+) {
+}
@@ -0,0 +1,20 @@
+package com.sudo.railo.booking.domain.event;
+
+import com.sudo.railo.train.domain.type.CarType;
+
+/**
+ * 좌석 변경 이벤트
+ * 같은 구간에서 이전 좌석이 반환되고 새 좌석이 점유된 변경분만 담는다.
+ */
+public record SeatChangedEvent(
+	Long reservationId,
+	Long seatReservationId,
+	Long trainScheduleId,
+	Long departureStationId,
+	Long arrivalStationId,
+	Long fromSeatId,
+	CarType fromCarType,
+	Long toSeatId,
+	CarType toCarType
+) {
+}
@@ -0,0 +1,22 @@
+package com.sudo.railo.booking.domain.event;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 승차권 무효화 이벤트
+ * 예약 취소, 좌석 변경 등으로 더 이상 사용할 수 없게 된 승차권을 담는다.
+ * @param reservationId 예약 ID
+ * @param tickets 무효화된 승차권 목록
+ */
+public record TicketsRevokedEvent(
+	Long reservationId,
+	List<RevokedTicket> tickets
+) {
+
+	/**
+	 * @param operationDate 운행일 (무효화 기록 보관 기간 계산에 사용)
+	 */
+	public record RevokedTicket(Long ticketId, LocalDate operationDate) {
+	}
+}
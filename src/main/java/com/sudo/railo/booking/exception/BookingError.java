@@ -22,7 +22,25 @@ public enum BookingError implements ErrorCode {
 	RESERVATION_CREATE_FAILED("예약에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR, "B_009"),
 	RESERVATION_DELETE_FAILED("예약 취소에 실패했습니다.", HttpStatus.INTERNAL_SERVER_ERROR, "B_010"),
 	TRAIN_NOT_OPERATIONAL("운행중인 스케줄이 아닙니다.", HttpStatus.BAD_REQUEST, "B_011"),
-	RESERVATION_CREATE_SEATS_INVALID("좌석 수는 총 승객 수와 같아야 합니다.", HttpStatus.BAD_REQUEST, "B_012");
+	RESERVATION_CREATE_SEATS_INVALID("좌석 수는 총 승객 수와 같아야 합니다.", HttpStatus.BAD_REQUEST, "B_012"),
+	WAITLIST_ALREADY_REGISTERED("이미 대기 신청한 열차입니다.", HttpStatus.CONFLICT, "B_013"),
+	WAITLIST_FULL("대기 인원이 초과되었습니다.", HttpStatus.CONFLICT, "B_014"),
+	WAITLIST_NOT_FOUND("대기 신청 내역을 찾을 수 없습니다.", HttpStatus.NOT_FOUND, "B_015"),
+	SEAT_HELD_FOR_WAITLIST("대기자에게 배정된 좌석입니다.", HttpStatus.CONFLICT, "B_016"),
+	RESERVATION_NOT_FOUND("예약을 찾을 수 없습니다.", HttpStatus.NOT_FOUND, "B_017"),
+	RESERVATION_NOT_PAYABLE("결제할 수 없는 예약입니다.", HttpStatus.BAD_REQUEST, "B_018"),
+	QR_TOKEN_INVALID("유효하지 않은 승차권 QR입니다.", HttpStatus.BAD_REQUEST, "B_019"),
+	QR_TOKEN_EXPIRED("사용 기간이 지난 승차권 QR입니다.", HttpStatus.BAD_REQUEST, "B_020"),
+	QR_TOKEN_NOT_YET_VALID("아직 사용할 수 없는 승차권 QR입니다.", HttpStatus.BAD_REQUEST, "B_021"),
+	QR_SCHEDULE_MISMATCH("다른 열차의 승차권 QR입니다.", HttpStatus.BAD_REQUEST, "B_022"),
+	RESERVATION_NOT_CANCELLABLE("취소할 수 없는 예약입니다.", HttpStatus.BAD_REQUEST, "B_023"),
+	RESERVATION_ACCESS_DENIED("본인의 예약만 변경할 수 있습니다.", HttpStatus.FORBIDDEN, "B_024"),
+	ROUND_TRIP_LEGS_INVALID("오는 편은 가는 편의 역방향 구간이며 가는 편보다 늦게 출발해야 합니다.", HttpStatus.BAD_REQUEST, "B_025"),
+	SEAT_RESERVATION_NOT_FOUND("좌석 예약을 찾을 수 없습니다.", HttpStatus.NOT_FOUND, "B_026"),
+	SEAT_CHANGE_NOT_ALLOWED("좌석을 변경할 수 없는 예약입니다.", HttpStatus.BAD_REQUEST, "B_027"),
+	SEAT_CHANGE_CONFLICT("좌석 예약이 다른 요청으로 변경되었습니다. 다시 조회해 주세요.", HttpStatus.CONFLICT, "B_028"),
+	QR_TOKEN_REVOKED("취소되었거나 다시 발권된 승차권 QR입니다.", HttpStatus.BAD_REQUEST, "B_029"),
+	RESERVATION_NOT_DELETABLE("취소하지 않은 예약은 삭제할 수 없습니다. 먼저 예약을 취소해 주세요.", HttpStatus.BAD_REQUEST, "B_030");
 
 	private final String message;
 	private final HttpStatus status;
@@ -0,0 +1,118 @@
+package com.sudo.railo.booking.infra;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.sudo.railo.booking.application.dto.BookingEventMessage;
+import com.sudo.railo.booking.domain.BookingEventType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예약 도메인 이벤트 Outbox JDBC 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookingEventOutboxJdbcRepository {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/***
+	 * 발행할 이벤트를 점유하는 메서드 (트랜잭션 내에서 호출)
+	 * 다른 릴레이가 점유 중인 행은 건너뛰므로 여러 인스턴스가 같은 이벤트를 동시에 발행하지 않는다.
+	 * @param limit 최대 점유 개수
+	 * @param maxAttempts 최대 발행 시도 횟수 (초과한 이벤트는 제외)
+	 * @return ID 순으로 정렬된 이벤트 목록
+	 */
+	public List<BookingEventMessage> claim(int limit, int maxAttempts) {
+		return namedParameterJdbcTemplate.query(
+			"SELECT booking_event_outbox_id, event_type, aggregate_id, payload, created_at "
+				+ "FROM booking_event_outbox "
+				+ "WHERE published_at IS NULL AND attempts < :maxAttempts "
+				+ "ORDER BY booking_event_outbox_id LIMIT :limit FOR UPDATE SKIP LOCKED",
+			new MapSqlParameterSource()
+				.addValue("maxAttempts", maxAttempts)
+				.addValue("limit", limit),
+			(rs, rowNum) -> new BookingEventMessage(
+				rs.getLong("booking_event_outbox_id"),
+				BookingEventType.valueOf(rs.getString("event_type")),
+				rs.getObject("aggregate_id", Long.class),
+				rs.getString("payload"),
+				rs.getTimestamp("created_at").toLocalDateTime()
+			));
+	}
+
+	/***
+	 * 아직 발행되지 않은 이벤트 하나를 점유하는 메서드 (트랜잭션 내에서 호출)
+	 * @return 점유 여부 (이미 발행됐거나 다른 릴레이가 점유 중이면 false)
+	 */
+	public boolean claimOne(Long id) {
+		List<Long> claimed = namedParameterJdbcTemplate.queryForList(
+			"SELECT booking_event_outbox_id FROM booking_event_outbox "
+				+ "WHERE booking_event_outbox_id = :id AND published_at IS NULL FOR UPDATE SKIP LOCKED",
+			new MapSqlParameterSource("id", id),
+			Long.class);
+		return !claimed.isEmpty();
+	}
+
+	public void markPublished(List<Long> ids, LocalDateTime publishedAt) {
+		namedParameterJdbcTemplate.update(
+			"UPDATE booking_event_outbox SET published_at = :publishedAt, updated_at = :publishedAt "
+				+ "WHERE booking_event_outbox_id IN (:ids)",
+			new MapSqlParameterSource()
+				.addValue("publishedAt", Timestamp.valueOf(publishedAt))
+				.addValue("ids", ids));
+	}
+
+	/***
+	 * 발행 실패를 기록하는 메서드
+	 */
+	public void markFailed(List<Long> ids, String error) {
+		String lastError = error != null && error.length() > MAX_ERROR_LENGTH
+			? error.substring(0, MAX_ERROR_LENGTH)
+			: error;
+		namedParameterJdbcTemplate.update(
+			"UPDATE booking_event_outbox SET attempts = attempts + 1, last_error = :lastError, updated_at = :now "
+				+ "WHERE booking_event_outbox_id IN (:ids)",
+			new MapSqlParameterSource()
+				.addValue("lastError", lastError)
+				.addValue("now", Timestamp.valueOf(LocalDateTime.now()))
+				.addValue("ids", ids));
+	}
+
+	/***
+	 * 발행 대기 중인 이벤트 현황을 조회하는 메서드
+	 */
+	public PendingStats findPendingStats(int maxAttempts) {
+		return namedParameterJdbcTemplate.queryForObject(
+			"SELECT COUNT(*) AS pending, MIN(created_at) AS oldest FROM booking_event_outbox "
+				+ "WHERE published_at IS NULL AND attempts < :maxAttempts",
+			new MapSqlParameterSource("maxAttempts", maxAttempts),
+			(rs, rowNum) -> {
+				Timestamp oldest = rs.getTimestamp("oldest");
+				return new PendingStats(rs.getLong("pending"), oldest != null ? oldest.toLocalDateTime() : null);
+			});
+	}
+
+	/***
+	 * 보관 기간이 지난 발행 완료 이벤트를 삭제하는 메서드
+	 * @return 삭제된 이벤트 수 (limit보다 작으면 더 삭제할 이벤트가 없음)
+	 */
+	public int deletePublishedBefore(LocalDateTime publishedBefore, int limit) {
+		return namedParameterJdbcTemplate.update(
+			"DELETE FROM booking_event_outbox WHERE published_at < :publishedBefore LIMIT :limit",
+			new MapSqlParameterSource()
+				.addValue("publishedBefore", Timestamp.valueOf(publishedBefore))
+				.addValue("limit", limit));
+	}
+
+	public record PendingStats(long pending, LocalDateTime oldestCreatedAt) {
+	}
+}
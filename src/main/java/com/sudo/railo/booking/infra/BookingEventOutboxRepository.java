@@ -0,0 +1,8 @@
+package com.sudo.railo.booking.infra;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.sudo.railo.booking.domain.BookingEventOutbox;
+
+public interface BookingEventOutboxRepository extends JpaRepository<BookingEventOutbox, Long> {
+}
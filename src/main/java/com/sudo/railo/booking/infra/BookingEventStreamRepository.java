@@ -0,0 +1,57 @@
+package com.sudo.railo.booking.infra;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Repository;
+
+import com.sudo.railo.booking.application.dto.BookingEventMessage;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예약 도메인 이벤트 Redis Stream 저장소
+ *
+ * - booking:events : 예약 도메인 이벤트 (STREAM, 필드 = eventId, eventType, aggregateId, payload, occurredAt)
+ * 외부 구독자는 컨슈머 그룹으로 COUNT 단위 일괄 조회 후 eventId 기준으로 중복을 제거한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookingEventStreamRepository {
+
+	private final RedisTemplate<String, String> stringRedisTemplate;
+
+	/***
+	 * 이벤트를 스트림에 일괄 추가하고 최대 길이를 넘는 오래된 이벤트를 정리하는 메서드
+	 */
+	public void addAll(String streamKey, List<BookingEventMessage> messages, long maxLength) {
+		stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+				RedisOperations<String, String> redisOperations = (RedisOperations<String, String>)operations;
+				for (BookingEventMessage message : messages) {
+					redisOperations.opsForStream()
+						.add(StreamRecords.string(toFields(message)).withStreamKey(streamKey));
+				}
+				redisOperations.opsForStream().trim(streamKey, maxLength, true);
+				return null;
+			}
+		});
+	}
+
+	private Map<String, String> toFields(BookingEventMessage message) {
+		return Map.of(
+			"eventId", String.valueOf(message.eventId()),
+			"eventType", message.eventType().name(),
+			"aggregateId", message.aggregateId() != null ? String.valueOf(message.aggregateId()) : "",
+			"payload", message.payload(),
+			"occurredAt", message.occurredAt().toString()
+		);
+	}
+}
@@ -0,0 +1,170 @@
+package com.sudo.railo.booking.infra;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 연간 혜택 사용 횟수 Redis 저장소
+ *
+ * - entitlement:{혜택}:{연도}                  : 회원별 연간 사용 횟수 (HASH, field = 회원번호)
+ * - entitlement:{혜택}:{연도}:version          : 회원별 사용 횟수 변경 버전 (HASH, 사용/반환 시작과 완료 때마다 증가)
+ * - entitlement:{혜택}:{연도}:pending:{회원번호} : DB 반영이 끝나지 않은 사용/반환 수 (STRING, TTL)
+ * 사용 횟수 확인과 증가는 Lua 스크립트로 한 번에 처리해 동시 예약에도 한도를 넘지 않는다.
+ * 사용/반환은 트랜잭션이 끝날 때까지 진행 중으로 표시해, 보정이 커밋 전 DB 값으로 덮어쓰지 않게 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EntitlementCounterRepository {
+
+	public static final long NOT_LOADED = -1L;
+
+	private static final String KEY_PREFIX = "entitlement:";
+	private static final String DELIMITER = ":";
+	private static final String VERSION_SUFFIX = ":version";
+	private static final String PENDING_INFIX = ":pending:";
+
+	// 한도 내에서 요청 횟수만큼 사용 처리하고 실제 사용 처리된 횟수를 반환 (회원 필드가 없으면 -1)
+	private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+		"local used = redis.call('HGET', KEYS[1], ARGV[1]) "
+			+ "if not used then return -1 end "
+			+ "local claimed = math.min(tonumber(ARGV[3]), tonumber(ARGV[2]) - tonumber(used)) "
+			+ "if claimed <= 0 then return 0 end "
+			+ "redis.call('HINCRBY', KEYS[1], ARGV[1], claimed) "
+			+ "redis.call('HINCRBY', KEYS[2], ARGV[1], 1) "
+			+ "redis.call('EXPIREAT', KEYS[2], ARGV[5]) "
+			+ "redis.call('INCR', KEYS[3]) "
+			+ "redis.call('EXPIRE', KEYS[3], ARGV[4]) "
+			+ "return claimed",
+		Long.class);
+
+	// 반환을 진행 중으로 표시
+	private static final RedisScript<Long> BEGIN_SCRIPT = new DefaultRedisScript<>(
+		"redis.call('HINCRBY', KEYS[1], ARGV[1], 1) "
+			+ "redis.call('EXPIREAT', KEYS[1], ARGV[3]) "
+			+ "redis.call('INCR', KEYS[2]) "
+			+ "redis.call('EXPIRE', KEYS[2], ARGV[2]) "
+			+ "return 1",
+		Long.class);
+
+	// 0 미만으로 내려가지 않게 사용 횟수를 반환하고 진행 중 표시를 해제 (ARGV[3] = 1 이면 진행 중 표시 없이 반환만)
+	private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+		"local released = 0 "
+			+ "if tonumber(ARGV[2]) > 0 then "
+			+ "local used = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') "
+			+ "released = math.min(used, tonumber(ARGV[2])) "
+			+ "if released > 0 then redis.call('HINCRBY', KEYS[1], ARGV[1], -released) end "
+			+ "end "
+			+ "redis.call('HINCRBY', KEYS[2], ARGV[1], 1) "
+			+ "if ARGV[3] ~= '1' and redis.call('DECR', KEYS[3]) <= 0 then redis.call('DEL', KEYS[3]) end "
+			+ "return released",
+		Long.class);
+
+	// 조회 이후 사용/반환이 없었고 진행 중인 사용/반환도 없을 때만 보정 (그 외에는 다음 보정으로 미룸)
+	private static final RedisScript<Long> RECONCILE_SCRIPT = new DefaultRedisScript<>(
+		"if (redis.call('HGET', KEYS[2], ARGV[1]) or '0') ~= ARGV[2] then return 0 end "
+			+ "if tonumber(redis.call('GET', KEYS[3]) or '0') > 0 then return 0 end "
+			+ "redis.call('HSET', KEYS[1], ARGV[1], ARGV[3]) "
+			+ "return 1",
+		Long.class);
+
+	private final RedisTemplate<String, String> stringRedisTemplate;
+
+	/***
+	 * 한도 내에서 혜택을 사용 처리하고 진행 중으로 표시하는 메서드
+	 * 사용 처리되었으면 트랜잭션이 끝난 뒤 complete를 호출해야 한다.
+	 * @return 사용 처리된 횟수, 회원 사용 횟수가 적재되지 않았으면 NOT_LOADED
+	 */
+	public long claim(String entitlement, int year, String memberNo, int quota, int requested, Duration pendingTtl,
+		Instant expireAt) {
+		Long claimed = stringRedisTemplate.execute(CLAIM_SCRIPT, keys(entitlement, year, memberNo), memberNo,
+			String.valueOf(quota), String.valueOf(requested), String.valueOf(pendingTtl.toSeconds()),
+			String.valueOf(expireAt.getEpochSecond()));
+		return claimed != null ? claimed : NOT_LOADED;
+	}
+
+	/***
+	 * 반환을 진행 중으로 표시하는 메서드 (반환할 예약 변경이 커밋되기 전에 호출)
+	 * 표시했으면 트랜잭션이 끝난 뒤 complete를 호출해야 한다.
+	 */
+	public void beginRelease(String entitlement, int year, String memberNo, Duration pendingTtl, Instant expireAt) {
+		String usedKey = key(entitlement, year);
+		stringRedisTemplate.execute(BEGIN_SCRIPT, List.of(usedKey + VERSION_SUFFIX,
+				usedKey + PENDING_INFIX + memberNo), memberNo, String.valueOf(pendingTtl.toSeconds()),
+			String.valueOf(expireAt.getEpochSecond()));
+	}
+
+	/***
+	 * 진행 중인 사용/반환을 마치는 메서드
+	 * @param released 반환할 횟수 (사용 트랜잭션이 커밋되었으면 0)
+	 * @return 실제 반환된 횟수
+	 */
+	public long complete(String entitlement, int year, String memberNo, int released) {
+		Long result = stringRedisTemplate.execute(COMPLETE_SCRIPT, keys(entitlement, year, memberNo), memberNo,
+			String.valueOf(released), "0");
+		return result != null ? result : 0L;
+	}
+
+	/***
+	 * 진행 중 표시 없이 바로 반환하는 메서드 (진행 중 표시에 실패한 경우)
+	 */
+	public long release(String entitlement, int year, String memberNo, int count) {
+		Long released = stringRedisTemplate.execute(COMPLETE_SCRIPT, keys(entitlement, year, memberNo), memberNo,
+			String.valueOf(count), "1");
+		return released != null ? released : 0L;
+	}
+
+	public Optional<Long> findUsed(String entitlement, int year, String memberNo) {
+		Object used = stringRedisTemplate.opsForHash().get(key(entitlement, year), memberNo);
+		return Optional.ofNullable(used).map(value -> Long.parseLong((String)value));
+	}
+
+	/***
+	 * DB에서 집계한 사용 횟수를 적재하는 메서드 (이미 적재되어 있으면 유지)
+	 */
+	public void load(String entitlement, int year, String memberNo, long used, Instant expireAt) {
+		String key = key(entitlement, year);
+		stringRedisTemplate.opsForHash().putIfAbsent(key, memberNo, String.valueOf(used));
+		stringRedisTemplate.expireAt(key, expireAt);
+	}
+
+	public Map<Object, Object> findAll(String entitlement, int year) {
+		return stringRedisTemplate.opsForHash().entries(key(entitlement, year));
+	}
+
+	/***
+	 * 회원별 사용 횟수 변경 버전을 조회하는 메서드 (보정 시 DB 집계보다 먼저 조회)
+	 */
+	public Map<Object, Object> findVersions(String entitlement, int year) {
+		return stringRedisTemplate.opsForHash().entries(key(entitlement, year) + VERSION_SUFFIX);
+	}
+
+	/***
+	 * 사용 횟수를 보정하는 메서드
+	 * @param expectedVersion DB 집계 전에 조회한 변경 버전 (없으면 "0")
+	 * @return 보정 여부
+	 */
+	public boolean reconcile(String entitlement, int year, String memberNo, String expectedVersion, long used) {
+		Long updated = stringRedisTemplate.execute(RECONCILE_SCRIPT, keys(entitlement, year, memberNo), memberNo,
+			expectedVersion, String.valueOf(used));
+		return updated != null && updated == 1L;
+	}
+
+	private List<String> keys(String entitlement, int year, String memberNo) {
+		String usedKey = key(entitlement, year);
+		return List.of(usedKey, usedKey + VERSION_SUFFIX, usedKey + PENDING_INFIX + memberNo);
+	}
+
+	private String key(String entitlement, int year) {
+		return KEY_PREFIX + entitlement + DELIMITER + year;
+	}
+}
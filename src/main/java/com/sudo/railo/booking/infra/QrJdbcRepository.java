@@ -0,0 +1,60 @@
+package com.sudo.railo.booking.infra;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class QrJdbcRepository {
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/***
+	 * 승차권별 QR 스캔 횟수를 일괄 누적하는 메서드
+	 * @param counts 승차권 ID별 스캔 횟수
+	 */
+	public void addScanCounts(Map<Long, Long> counts) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		SqlParameterSource[] batchArgs = counts.entrySet().stream()
+			.map(entry -> new MapSqlParameterSource()
+				.addValue("ticketId", entry.getKey())
+				.addValue("count", entry.getValue())
+				.addValue("now", now))
+			.toArray(SqlParameterSource[]::new);
+
+		namedParameterJdbcTemplate.batchUpdate(
+			"UPDATE qr q JOIN ticket t ON t.qr_id = q.qr_id "
+				+ "SET q.scan_count = q.scan_count + :count, q.updated_at = :now "
+				+ "WHERE t.ticket_id = :ticketId",
+			batchArgs);
+	}
+
+	/***
+	 * 스캔 횟수 묶음의 반영 이력을 남기는 메서드 (스캔 횟수 반영과 같은 트랜잭션에서 호출)
+	 * @return 처음 반영하는 묶음이면 true, 이미 반영한 묶음이면 false
+	 */
+	public boolean markFlushed(String batchId, LocalDateTime flushedAt) {
+		return namedParameterJdbcTemplate.update(
+			"INSERT IGNORE INTO qr_scan_flush (batch_id, flushed_at) VALUES (:batchId, :flushedAt)",
+			new MapSqlParameterSource()
+				.addValue("batchId", batchId)
+				.addValue("flushedAt", Timestamp.valueOf(flushedAt))) > 0;
+	}
+
+	/***
+	 * 보관 기간이 지난 반영 이력을 삭제하는 메서드
+	 */
+	public void deleteFlushesBefore(LocalDateTime cutoff) {
+		namedParameterJdbcTemplate.update(
+			"DELETE FROM qr_scan_flush WHERE flushed_at < :cutoff",
+			new MapSqlParameterSource("cutoff", Timestamp.valueOf(cutoff)));
+	}
+}
@@ -0,0 +1,50 @@
+package com.sudo.railo.booking.infra;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 무효화된 승차권 QR Redis 저장소
+ *
+ * - qr:revoked:{승차권 ID} : 무효화된 승차권 (STRING, TTL = QR 사용 기간이 확실히 지난 시점까지)
+ * QR 토큰은 서명만으로 검증되므로, 취소/재발권된 승차권은 이 목록으로 걸러낸다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class QrRevocationRepository {
+
+	private static final String REVOKED_PREFIX = "qr:revoked:";
+	private static final Duration MIN_TTL = Duration.ofMinutes(1);
+
+	private final RedisTemplate<String, String> stringRedisTemplate;
+
+	/***
+	 * 승차권을 한 번의 파이프라인으로 무효화하는 메서드 (같은 승차권을 다시 무효화해도 결과는 같음)
+	 * @param expireAtByTicket 승차권 ID별 무효화 기록 만료 시각
+	 */
+	public void revokeAll(Map<Long, Instant> expireAtByTicket, Instant now) {
+		byte[] value = "1".getBytes(StandardCharsets.UTF_8);
+		stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			expireAtByTicket.forEach((ticketId, expireAt) -> {
+				Duration ttl = Duration.between(now, expireAt);
+				connection.stringCommands().set((REVOKED_PREFIX + ticketId).getBytes(StandardCharsets.UTF_8), value,
+					Expiration.from(ttl.compareTo(MIN_TTL) > 0 ? ttl : MIN_TTL), SetOption.upsert());
+			});
+			return null;
+		});
+	}
+
+	public boolean isRevoked(Long ticketId) {
+		return Boolean.TRUE.equals(stringRedisTemplate.hasKey(REVOKED_PREFIX + ticketId));
+	}
+}
@@ -0,0 +1,105 @@
+package com.sudo.railo.booking.infra;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * QR 스캔 횟수 Redis 저장소
+ *
+ * - qr:scan-counts          : 승차권별 누적 스캔 횟수 (HASH, field = 승차권 ID)
+ * - qr:scan-counts:flushing : DB 반영 중인 스캔 횟수 (HASH, 반영 실패 시 다음 주기에 재처리)
+ * - qr:scan-counts:batch    : DB 반영 중인 스캔 횟수의 묶음 ID (STRING, DB 반영 이력과 대조해 중복 반영 방지)
+ * - qr:scan-counts:lock     : DB 반영 잠금 (STRING)
+ */
+@Repository
+@RequiredArgsConstructor
+public class QrScanCountRepository {
+
+	private static final String COUNTS_KEY = "qr:scan-counts";
+	private static final String FLUSHING_KEY = "qr:scan-counts:flushing";
+	private static final String BATCH_KEY = "qr:scan-counts:batch";
+	private static final String LOCK_KEY = "qr:scan-counts:lock";
+
+	// 반영 중인 묶음이 없으면 누적 스캔 횟수를 새 묶음으로 옮기고, 반영 중인 묶음의 ID를 반환
+	private static final RedisScript<String> TAKE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('EXISTS', KEYS[2]) == 0 then "
+			+ "if redis.call('EXISTS', KEYS[1]) == 0 then return false end "
+			+ "redis.call('RENAME', KEYS[1], KEYS[2]) "
+			+ "redis.call('DEL', KEYS[3]) "
+			+ "end "
+			+ "local batch = redis.call('GET', KEYS[3]) "
+			+ "if not batch then batch = ARGV[1] redis.call('SET', KEYS[3], batch) end "
+			+ "return batch",
+		String.class);
+
+	// 반영한 묶음이 아직 반영 중인 묶음일 때만 정리
+	private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('GET', KEYS[2]) ~= ARGV[1] then return 0 end "
+			+ "return redis.call('DEL', KEYS[1], KEYS[2])",
+		Long.class);
+
+	private final RedisTemplate<String, String> stringRedisTemplate;
+
+	/***
+	 * 승차권별 스캔 횟수를 한 번의 파이프라인으로 누적하는 메서드
+	 * @param counts 승차권 ID별 스캔 횟수
+	 */
+	public void incrementAll(Map<Long, Long> counts) {
+		byte[] key = COUNTS_KEY.getBytes(StandardCharsets.UTF_8);
+		stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			counts.forEach((ticketId, count) -> connection.hashCommands()
+				.hIncrBy(key, ticketId.toString().getBytes(StandardCharsets.UTF_8), count));
+			return null;
+		});
+	}
+
+	/***
+	 * DB에 반영할 스캔 횟수 묶음을 꺼내는 메서드
+	 * 이전 반영이 실패해 남아 있는 묶음이 있으면 같은 묶음 ID로 그 묶음을 먼저 반환한다.
+	 * @param newBatchId 새 묶음을 만들 때 사용할 ID
+	 * @return 반영할 묶음 (반영할 스캔 횟수가 없으면 empty)
+	 */
+	public Optional<FlushBatch> takeForFlush(String newBatchId) {
+		String batchId = stringRedisTemplate.execute(TAKE_SCRIPT, List.of(COUNTS_KEY, FLUSHING_KEY, BATCH_KEY),
+			newBatchId);
+		if (batchId == null) {
+			return Optional.empty();
+		}
+
+		Map<Long, Long> counts = new HashMap<>();
+		stringRedisTemplate.<String, String>opsForHash().entries(FLUSHING_KEY)
+			.forEach((ticketId, count) -> counts.put(Long.parseLong(ticketId), Long.parseLong(count)));
+		return Optional.of(new FlushBatch(batchId, counts));
+	}
+
+	/***
+	 * DB 반영이 끝난 스캔 횟수 묶음을 삭제하는 메서드
+	 * @param batchId 반영한 묶음 ID
+	 */
+	public void completeFlush(String batchId) {
+		stringRedisTemplate.execute(COMPLETE_SCRIPT, List.of(FLUSHING_KEY, BATCH_KEY), batchId);
+	}
+
+	public boolean lock(Duration ttl) {
+		return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", ttl));
+	}
+
+	public void unlock() {
+		stringRedisTemplate.delete(LOCK_KEY);
+	}
+
+	public record FlushBatch(String batchId, Map<Long, Long> counts) {
+	}
+}
@@ -0,0 +1,46 @@
+package com.sudo.railo.booking.infra;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원별 예약 내역 캐시 Redis 저장소
+ *
+ * - reservation:history:{회원번호} : 페이지별 예약 내역 (HASH, field = 커서:크기, TTL = 캐시 유지 시간)
+ * 회원의 예약이 바뀌면 키를 삭제해 모든 페이지를 한 번에 무효화한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationHistoryCacheRepository {
+
+	private static final String KEY_PREFIX = "reservation:history:";
+
+	private final RedisTemplate<String, String> stringRedisTemplate;
+
+	public Optional<String> find(String memberNo, String page) {
+		Object value = stringRedisTemplate.opsForHash().get(KEY_PREFIX + memberNo, page);
+		return Optional.ofNullable(value).map(Object::toString);
+	}
+
+	/***
+	 * 예약 내역 페이지를 저장하는 메서드
+	 * 캐시 유지 시간은 회원의 첫 페이지 저장 시점부터 계산한다.
+	 */
+	public void save(String memberNo, String page, String value, Duration ttl) {
+		String key = KEY_PREFIX + memberNo;
+		stringRedisTemplate.opsForHash().put(key, page, value);
+		Long expire = stringRedisTemplate.getExpire(key);
+		if (expire == null || expire < 0) {
+			stringRedisTemplate.expire(key, ttl);
+		}
+	}
+
+	public void evict(String memberNo) {
+		stringRedisTemplate.delete(KEY_PREFIX + memberNo);
+	}
+}
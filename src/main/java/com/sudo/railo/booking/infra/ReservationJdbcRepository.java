@@ -0,0 +1,54 @@
+package com.sudo.railo.booking.infra;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.sudo.railo.booking.domain.ReservationStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예약 JDBC 저장소
+ *
+ * 만료 처리처럼 여러 인스턴스가 동시에 같은 예약을 다룰 수 있는 일괄 처리를 잠금 SQL로 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationJdbcRepository {
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/***
+	 * 결제 기한이 지난 예약을 잠그고 ID를 조회하는 메서드 (트랜잭션 내에서 호출)
+	 * 결제/취소 중이거나 다른 인스턴스가 만료 처리 중인 예약은 건너뛴다.
+	 * @param now 만료 기준 시간
+	 * @return 잠근 예약 ID 목록
+	 */
+	public List<Long> lockExpiredIds(LocalDateTime now) {
+		return namedParameterJdbcTemplate.queryForList(
+			"SELECT reservation_id FROM reservation "
+				+ "WHERE reservation_status = :reserved AND expires_at < :now "
+				+ "ORDER BY reservation_id FOR UPDATE SKIP LOCKED",
+			new MapSqlParameterSource()
+				.addValue("reserved", ReservationStatus.RESERVED.name())
+				.addValue("now", Timestamp.valueOf(now)),
+			Long.class);
+	}
+
+	/***
+	 * 아직 결제되지 않은 예약만 일괄 삭제하는 메서드 (좌석 예약, 예약 승객은 FK로 함께 삭제)
+	 * @return 삭제된 예약 수
+	 */
+	public int deleteUnpaid(List<Long> reservationIds) {
+		return namedParameterJdbcTemplate.update(
+			"DELETE FROM reservation WHERE reservation_id IN (:reservationIds) AND reservation_status = :reserved",
+			new MapSqlParameterSource()
+				.addValue("reservationIds", reservationIds)
+				.addValue("reserved", ReservationStatus.RESERVED.name()));
+	}
+}
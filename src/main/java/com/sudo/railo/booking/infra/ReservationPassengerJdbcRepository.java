@@ -0,0 +1,43 @@
+package com.sudo.railo.booking.infra;
+
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.sudo.railo.train.domain.type.PassengerType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예약 승객 JDBC 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationPassengerJdbcRepository {
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/***
+	 * 예약의 승객 유형별 인원을 일괄 저장하는 메서드
+	 * @param reservationId 예약 ID
+	 * @param passengerCounts 승객 유형별 인원
+	 * @param freeCounts 승객 유형별 무임 혜택 적용 인원
+	 */
+	public void insertAll(Long reservationId, Map<PassengerType, Integer> passengerCounts,
+		Map<PassengerType, Integer> freeCounts) {
+		SqlParameterSource[] batchArgs = passengerCounts.entrySet().stream()
+			.map(entry -> new MapSqlParameterSource()
+				.addValue("reservationId", reservationId)
+				.addValue("passengerType", entry.getKey().name())
+				.addValue("passengerCount", entry.getValue())
+				.addValue("freeCount", freeCounts.getOrDefault(entry.getKey(), 0)))
+			.toArray(SqlParameterSource[]::new);
+		namedParameterJdbcTemplate.batchUpdate(
+			"INSERT INTO reservation_passenger (reservation_id, passenger_type, passenger_count, free_count) "
+				+ "VALUES (:reservationId, :passengerType, :passengerCount, :freeCount)",
+			batchArgs);
+	}
+}
@@ -0,0 +1,89 @@
+package com.sudo.railo.booking.infra;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.sudo.railo.booking.application.dto.EntitlementUsageInfo;
+import com.sudo.railo.booking.application.dto.MemberFreeCountInfo;
+import com.sudo.railo.booking.application.dto.PassengerCountInfo;
+import com.sudo.railo.booking.domain.ReservationPassenger;
+import com.sudo.railo.booking.domain.ReservationStatus;
+import com.sudo.railo.train.domain.type.PassengerType;
+
+public interface ReservationPassengerRepository extends JpaRepository<ReservationPassenger, Long> {
+
+	List<ReservationPassenger> findAllByReservationId(Long reservationId);
+
+	/***
+	 * 열차 스케줄의 승객 유형별 인원을 집계하는 메서드
+	 * @param trainScheduleId 열차 스케줄 ID
+	 * @param reservationStatuses 집계할 예약 상태
+	 * @return 승객 유형별 인원 리스트
+	 */
+	@Query("SELECT new com.sudo.railo.booking.application.dto.PassengerCountInfo(rp.passengerType, "
+		+ "SUM(rp.passengerCount)) "
+		+ "FROM ReservationPassenger rp JOIN rp.reservation r "
+		+ "WHERE r.trainSchedule.id = :trainScheduleId AND r.reservationStatus IN :reservationStatuses "
+		+ "GROUP BY rp.passengerType")
+	List<PassengerCountInfo> sumPassengerCountsByTrainScheduleId(
+		@Param("trainScheduleId") Long trainScheduleId,
+		@Param("reservationStatuses") Collection<ReservationStatus> reservationStatuses);
+
+	/***
+	 * 예약 목록의 무임 혜택 사용 인원을 회원, 운행일별로 집계하는 메서드 (취소/만료 시 혜택 반환용)
+	 * @param reservationIds 예약 ID 목록
+	 * @param passengerType 승객 유형
+	 * @return 회원, 운행일별 무임 혜택 사용 인원 리스트
+	 */
+	@Query("SELECT new com.sudo.railo.booking.application.dto.EntitlementUsageInfo(m.memberDetail.memberNo, "
+		+ "ts.operationDate, SUM(rp.freeCount)) "
+		+ "FROM ReservationPassenger rp JOIN rp.reservation r JOIN r.member m "
+		+ "JOIN r.trainSchedule ts "
+		+ "WHERE r.id IN :reservationIds AND rp.passengerType = :passengerType AND rp.freeCount > 0 "
+		+ "GROUP BY m.memberDetail.memberNo, ts.operationDate")
+	List<EntitlementUsageInfo> sumFreeCountsByReservationIds(
+		@Param("reservationIds") Collection<Long> reservationIds,
+		@Param("passengerType") PassengerType passengerType);
+
+	/***
+	 * 기간 내 운행하는 유효한 예약의 무임 혜택 사용 인원을 회원별로 집계하는 메서드 (야간 보정용)
+	 * @param passengerType 승객 유형
+	 * @param reservationStatuses 집계할 예약 상태
+	 * @param from 운행일 시작 (포함)
+	 * @param to 운행일 끝 (포함)
+	 * @return 회원별 무임 혜택 사용 인원 리스트
+	 */
+	@Query("SELECT new com.sudo.railo.booking.application.dto.MemberFreeCountInfo(m.memberDetail.memberNo, "
+		+ "SUM(rp.freeCount)) "
+		+ "FROM ReservationPassenger rp JOIN rp.reservation r JOIN r.member m "
+		+ "JOIN r.trainSchedule ts "
+		+ "WHERE rp.passengerType = :passengerType AND rp.freeCount > 0 "
+		+ "AND r.reservationStatus IN :reservationStatuses AND ts.operationDate BETWEEN :from AND :to "
+		+ "GROUP BY m.memberDetail.memberNo")
+	List<MemberFreeCountInfo> sumFreeCountsByMember(
+		@Param("passengerType") PassengerType passengerType,
+		@Param("reservationStatuses") Collection<ReservationStatus> reservationStatuses,
+		@Param("from") LocalDate from,
+		@Param("to") LocalDate to);
+
+	/***
+	 * 기간 내 운행하는 회원의 유효한 예약의 무임 혜택 사용 인원을 조회하는 메서드
+	 * @return 무임 혜택 사용 인원 (없으면 0)
+	 */
+	@Query("SELECT COALESCE(SUM(rp.freeCount), 0) "
+		+ "FROM ReservationPassenger rp JOIN rp.reservation r JOIN r.member m "
+		+ "JOIN r.trainSchedule ts "
+		+ "WHERE m.memberDetail.memberNo = :memberNo AND rp.passengerType = :passengerType "
+		+ "AND r.reservationStatus IN :reservationStatuses AND ts.operationDate BETWEEN :from AND :to")
+	long sumFreeCountByMemberNo(
+		@Param("memberNo") String memberNo,
+		@Param("passengerType") PassengerType passengerType,
+		@Param("reservationStatuses") Collection<ReservationStatus> reservationStatuses,
+		@Param("from") LocalDate from,
+		@Param("to") LocalDate to);
+}
@@ -1,11 +1,56 @@
 package com.sudo.railo.booking.infra;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.sudo.railo.booking.application.dto.ReservationHolderInfo;
+import com.sudo.railo.booking.application.dto.ReservedSegmentInfo;
 import com.sudo.railo.booking.domain.Reservation;
+import com.sudo.railo.booking.domain.ReservationStatus;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
-	void deleteAllByExpiresAtBefore(LocalDateTime expiresAtBefore);
+
+	/***
+	 * 운행 스케줄에 예약을 가진 회원번호 목록을 조회하는 메서드
+	 * @param trainScheduleIds 운행 스케줄 ID 목록
+	 * @param reservationStatuses 대상 예약 상태
+	 * @return 회원번호 리스트 (중복 제거)
+	 */
+	@Query("SELECT DISTINCT m.memberDetail.memberNo FROM Reservation r JOIN r.member m "
+		+ "WHERE r.trainSchedule.id IN :trainScheduleIds AND r.reservationStatus IN :reservationStatuses")
+	List<String> findMemberNosByTrainScheduleIds(
+		@Param("trainScheduleIds") Collection<Long> trainScheduleIds,
+		@Param("reservationStatuses") Collection<ReservationStatus> reservationStatuses);
+
+	/***
+	 * 운행 스케줄의 예약과 예약자 회원번호를 조회하는 메서드
+	 * @param trainScheduleIds 운행 스케줄 ID 목록
+	 * @param reservationStatuses 대상 예약 상태
+	 * @return 예약자 조회 결과 리스트
+	 */
+	@Query("SELECT new com.sudo.railo.booking.application.dto.ReservationHolderInfo("
+		+ "r.id, m.memberDetail.memberNo, r.trainSchedule.id) "
+		+ "FROM Reservation r JOIN r.member m "
+		+ "WHERE r.trainSchedule.id IN :trainScheduleIds AND r.reservationStatus IN :reservationStatuses")
+	List<ReservationHolderInfo> findHoldersByTrainScheduleIds(
+		@Param("trainScheduleIds") Collection<Long> trainScheduleIds,
+		@Param("reservationStatuses") Collection<ReservationStatus> reservationStatuses);
+
+	/***
+	 * 운행 스케줄의 예약 구간(출발역, 도착역) 목록을 조회하는 메서드
+	 * @param trainScheduleIds 운행 스케줄 ID 목록
+	 * @param reservationStatuses 대상 예약 상태
+	 * @return 예약 구간 리스트 (중복 제거)
+	 */
+	@Query("SELECT DISTINCT new com.sudo.railo.booking.application.dto.ReservedSegmentInfo("
+		+ "r.trainSchedule.id, r.departureStation.id, r.arrivalStation.id) "
+		+ "FROM Reservation r "
+		+ "WHERE r.trainSchedule.id IN :trainScheduleIds AND r.reservationStatus IN :reservationStatuses")
+	List<ReservedSegmentInfo> findReservedSegmentsByTrainScheduleIds(
+		@Param("trainScheduleIds") Collection<Long> trainScheduleIds,
+		@Param("reservationStatuses") Collection<ReservationStatus> reservationStatuses);
 }
@@ -0,0 +1,21 @@
+package com.sudo.railo.booking.infra;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.sudo.railo.booking.application.dto.ReservationHistoryInfo;
+import com.sudo.railo.booking.application.dto.ReservationHistorySeatInfo;
+
+public interface ReservationRepositoryCustom {
+
+	/**
+	 * 회원의 예약 내역 조회 (예약 일시 내림차순, 커서 기반)
+	 */
+	List<ReservationHistoryInfo> findHistory(String memberNo, LocalDateTime cursorReservedAt,
+		Long cursorReservationId, int limit);
+
+	/**
+	 * 예약 목록의 좌석 정보 일괄 조회
+	 */
+	List<ReservationHistorySeatInfo> findHistorySeats(List<Long> reservationIds);
+}
@@ -0,0 +1,115 @@
+package com.sudo.railo.booking.infra;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sudo.railo.booking.application.dto.ReservationHistoryInfo;
+import com.sudo.railo.booking.application.dto.ReservationHistorySeatInfo;
+import com.sudo.railo.booking.domain.QReservation;
+import com.sudo.railo.booking.domain.QSeatReservation;
+import com.sudo.railo.train.domain.QScheduleStop;
+import com.sudo.railo.train.domain.QSeat;
+import com.sudo.railo.train.domain.QStation;
+import com.sudo.railo.train.domain.QTrain;
+import com.sudo.railo.train.domain.QTrainCar;
+import com.sudo.railo.train.domain.QTrainSchedule;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예약 커스텀 Repository 구현체
+ * 예약 내역은 필요한 컬럼만 Projection으로 조회해 연관 엔티티 지연 로딩(N+1)을 피한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReservationRepositoryCustomImpl implements ReservationRepositoryCustom {
+
+	private final JPAQueryFactory queryFactory;
+
+	/**
+	 * 회원의 예약 내역 조회
+	 * - (member_id, reserved_at) 인덱스를 타도록 예약 일시, 예약 ID 내림차순 커서 조회
+	 * - 구간 출발/도착 시각은 예약 구간의 정차역 시각
+	 */
+	@Override
+	public List<ReservationHistoryInfo> findHistory(String memberNo, LocalDateTime cursorReservedAt,
+		Long cursorReservationId, int limit) {
+		QReservation r = QReservation.reservation;
+		QTrainSchedule ts = QTrainSchedule.trainSchedule;
+		QTrain t = QTrain.train;
+		QStation departureStation = new QStation("departureStation");
+		QStation arrivalStation = new QStation("arrivalStation");
+		QScheduleStop departureStop = new QScheduleStop("departureStop");
+		QScheduleStop arrivalStop = new QScheduleStop("arrivalStop");
+
+		return queryFactory
+			.select(Projections.constructor(ReservationHistoryInfo.class,
+				r.id,
+				r.reservationCode,
+				r.reservationStatus,
+				r.reservedAt,
+				r.expiresAt,
+				r.totalPassengers,
+				ts.id,
+				ts.operationDate,
+				t.trainNumber,
+				t.trainName,
+				departureStation.stationName,
+				arrivalStation.stationName,
+				departureStop.departureTime.coalesce(ts.departureTime),
+				arrivalStop.arrivalTime.coalesce(ts.arrivalTime)))
+			.from(r)
+			.join(r.trainSchedule, ts)
+			.join(ts.train, t)
+			.join(r.departureStation, departureStation)
+			.join(r.arrivalStation, arrivalStation)
+			.leftJoin(ts.scheduleStops, departureStop).on(departureStop.station.eq(departureStation))
+			.leftJoin(ts.scheduleStops, arrivalStop).on(arrivalStop.station.eq(arrivalStation))
+			.where(
+				r.member.memberDetail.memberNo.eq(memberNo),
+				afterCursor(r, cursorReservedAt, cursorReservationId)
+			)
+			.orderBy(r.reservedAt.desc(), r.id.desc())
+			.limit(limit)
+			.fetch();
+	}
+
+	/**
+	 * 예약 목록의 좌석 정보 일괄 조회 (입석은 좌석 정보 없이 조회)
+	 */
+	@Override
+	public List<ReservationHistorySeatInfo> findHistorySeats(List<Long> reservationIds) {
+		QSeatReservation sr = QSeatReservation.seatReservation;
+		QSeat s = QSeat.seat;
+		QTrainCar tc = QTrainCar.trainCar;
+
+		return queryFactory
+			.select(Projections.constructor(ReservationHistorySeatInfo.class,
+				sr.reservation.id,
+				sr.passengerType,
+				sr.isStanding,
+				tc.carNumber,
+				tc.carType,
+				s.seatRow,
+				s.seatColumn))
+			.from(sr)
+			.leftJoin(sr.seat, s)
+			.leftJoin(s.trainCar, tc)
+			.where(sr.reservation.id.in(reservationIds))
+			.orderBy(sr.reservation.id.asc(), sr.id.asc())
+			.fetch();
+	}
+
+	private BooleanExpression afterCursor(QReservation r, LocalDateTime cursorReservedAt, Long cursorReservationId) {
+		if (cursorReservedAt == null || cursorReservationId == null) {
+			return null;
+		}
+		return r.reservedAt.lt(cursorReservedAt)
+			.or(r.reservedAt.eq(cursorReservedAt).and(r.id.lt(cursorReservationId)));
+	}
+}
@@ -0,0 +1,70 @@
+package com.sudo.railo.booking.infra;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sudo.railo.booking.application.dto.ScheduleChangeNotification;
+import com.sudo.railo.global.exception.error.BusinessException;
+import com.sudo.railo.global.exception.error.GlobalError;
+
+/**
+ * 운행 상태 변경 알림 큐 Redis 저장소
+ *
+ * - booking:notifications:schedule-change : 운행 상태 변경 알림 (LIST, 값 = 알림 JSON)
+ * 알림 발송기는 LPOP(또는 BLPOP)으로 꺼내 발송한다.
+ */
+@Repository
+public class ScheduleChangeNotificationQueueRepository {
+
+	private static final int PUSH_SIZE = 1000;
+
+	private final RedisTemplate<String, String> stringRedisTemplate;
+	private final ObjectMapper objectMapper;
+	private final String queueKey;
+
+	public ScheduleChangeNotificationQueueRepository(RedisTemplate<String, String> stringRedisTemplate,
+		ObjectMapper objectMapper,
+		@Value("${booking.notification.schedule-change-queue:booking:notifications:schedule-change}") String queueKey) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.objectMapper = objectMapper;
+		this.queueKey = queueKey;
+	}
+
+	/***
+	 * 알림을 큐에 일괄 적재하는 메서드 (한 번의 파이프라인으로 전송)
+	 */
+	public void enqueueAll(List<ScheduleChangeNotification> notifications) {
+		if (notifications.isEmpty()) {
+			return;
+		}
+		List<String> values = notifications.stream().map(this::write).toList();
+		stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+				RedisOperations<String, String> redisOperations = (RedisOperations<String, String>)operations;
+				for (int from = 0; from < values.size(); from += PUSH_SIZE) {
+					redisOperations.opsForList()
+						.rightPushAll(queueKey, values.subList(from, Math.min(from + PUSH_SIZE, values.size())));
+				}
+				return null;
+			}
+		});
+	}
+
+	private String write(ScheduleChangeNotification notification) {
+		try {
+			return objectMapper.writeValueAsString(notification);
+		} catch (JsonProcessingException e) {
+			throw new BusinessException(GlobalError.INTERNAL_SERVER_ERROR, e);
+		}
+	}
+}
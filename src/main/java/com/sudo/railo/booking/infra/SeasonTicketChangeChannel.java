@@ -0,0 +1,25 @@
+package com.sudo.railo.booking.infra;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 정기권 변경 알림 Redis Pub/Sub 채널
+ *
+ * - booking:season-ticket:changed : 정기권이 변경된 회원 ID (모든 인스턴스가 구독해 정기권 인덱스를 갱신)
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeasonTicketChangeChannel {
+
+	public static final ChannelTopic TOPIC = new ChannelTopic("booking:season-ticket:changed");
+
+	private final RedisTemplate<String, String> stringRedisTemplate;
+
+	public void publish(Long memberId) {
+		stringRedisTemplate.convertAndSend(TOPIC.getTopic(), memberId.toString());
+	}
+}
@@ -0,0 +1,38 @@
+package com.sudo.railo.booking.infra;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.sudo.railo.booking.application.dto.SeasonTicketInfo;
+import com.sudo.railo.booking.domain.SeasonTicket;
+import com.sudo.railo.booking.domain.SeasonTicketStatus;
+
+public interface SeasonTicketRepository extends JpaRepository<SeasonTicket, Long> {
+
+	/***
+	 * 기준일 이후에도 사용할 수 있는 정기권 목록을 조회하는 메서드
+	 * @param status 정기권 상태
+	 * @param date 기준일
+	 * @return 정기권 인덱스 적재용 조회 결과 리스트
+	 */
+	@Query("SELECT new com.sudo.railo.booking.application.dto.SeasonTicketInfo("
+		+ "st.id, st.member.id, st.ticketType, st.startAt, st.endAt, st.isHolidayUsable) "
+		+ "FROM SeasonTicket st "
+		+ "WHERE st.seasonTicketStatus = :status AND (st.endAt IS NULL OR st.endAt >= :date)")
+	List<SeasonTicketInfo> findUsableAfter(@Param("status") SeasonTicketStatus status, @Param("date") LocalDate date);
+
+	/***
+	 * 회원의 기준일 이후에도 사용할 수 있는 정기권 목록을 조회하는 메서드
+	 */
+	@Query("SELECT new com.sudo.railo.booking.application.dto.SeasonTicketInfo("
+		+ "st.id, st.member.id, st.ticketType, st.startAt, st.endAt, st.isHolidayUsable) "
+		+ "FROM SeasonTicket st "
+		+ "WHERE st.member.id = :memberId AND st.seasonTicketStatus = :status "
+		+ "AND (st.endAt IS NULL OR st.endAt >= :date)")
+	List<SeasonTicketInfo> findUsableByMemberAfter(@Param("memberId") Long memberId,
+		@Param("status") SeasonTicketStatus status, @Param("date") LocalDate date);
+}
@@ -0,0 +1,125 @@
+package com.sudo.railo.booking.infra;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.sudo.railo.booking.application.dto.ReservationHistorySeatInfo;
+import com.sudo.railo.booking.domain.SeatStatus;
+import com.sudo.railo.train.domain.type.CarType;
+import com.sudo.railo.train.domain.type.PassengerType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 좌석 예약 JDBC 저장소
+ *
+ * 여러 구간의 좌석 예약을 배치 SQL로 한 번에 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SeatReservationJdbcRepository {
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/***
+	 * 취소로 반환된 좌석 예약을 일괄 삭제하는 메서드
+	 * 스케줄별 좌석 유일 제약이 있으므로 같은 좌석을 다시 예약하기 전에 호출한다.
+	 * @param seats 스케줄, 좌석 목록
+	 */
+	public void deleteReleased(List<NewSeatReservation> seats) {
+		SqlParameterSource[] batchArgs = seats.stream()
+			.map(seat -> new MapSqlParameterSource()
+				.addValue("trainScheduleId", seat.trainScheduleId())
+				.addValue("seatId", seat.seatId())
+				.addValue("available", SeatStatus.AVAILABLE.name()))
+			.toArray(SqlParameterSource[]::new);
+		namedParameterJdbcTemplate.batchUpdate(
+			"DELETE FROM seat_reservation WHERE train_schedule_id = :trainScheduleId AND seat_id = :seatId "
+				+ "AND seat_status = :available",
+			batchArgs);
+	}
+
+	/***
+	 * 좌석 예약을 일괄 생성하는 메서드
+	 * 이미 예약된 좌석이 있으면 스케줄별 좌석 유일 제약 위반으로 실패한다.
+	 * @param seats 생성할 좌석 예약 목록
+	 * @return 생성된 좌석 예약 ID 목록 (입력 순서와 동일)
+	 */
+	public List<Long> insertAll(List<NewSeatReservation> seats) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		SqlParameterSource[] batchArgs = seats.stream()
+			.map(seat -> new MapSqlParameterSource()
+				.addValue("trainScheduleId", seat.trainScheduleId())
+				.addValue("seatId", seat.seatId())
+				.addValue("reservationId", seat.reservationId())
+				.addValue("passengerType", seat.passengerType().name())
+				.addValue("seatStatus", SeatStatus.RESERVED.name())
+				.addValue("departureStationId", seat.departureStationId())
+				.addValue("arrivalStationId", seat.arrivalStationId())
+				.addValue("now", now))
+			.toArray(SqlParameterSource[]::new);
+
+		GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+		namedParameterJdbcTemplate.batchUpdate(
+			"INSERT INTO seat_reservation (train_schedule_id, seat_id, reservation_id, passenger_type, "
+				+ "seat_status, reserved_at, departure_station_id, arrival_station_id, is_standing, version, "
+				+ "created_at, updated_at) "
+				+ "VALUES (:trainScheduleId, :seatId, :reservationId, :passengerType, :seatStatus, "
+				+ ":now, :departureStationId, :arrivalStationId, false, 0, :now, :now)",
+			batchArgs, keyHolder);
+
+		List<Long> ids = new ArrayList<>(keyHolder.getKeyList().size());
+		for (Map<String, Object> keys : keyHolder.getKeyList()) {
+			ids.add(((Number)keys.values().iterator().next()).longValue());
+		}
+		return ids;
+	}
+
+	/***
+	 * 보관 테이블로 옮겨진 좌석 예약을 예약 내역 좌석 정보로 조회하는 메서드
+	 * @param reservationIds 예약 ID 목록
+	 * @return 예약 ID, 좌석 예약 ID 순으로 정렬된 좌석 정보 (입석이면 좌석 정보 null)
+	 */
+	public List<ReservationHistorySeatInfo> findArchivedHistorySeats(List<Long> reservationIds) {
+		return namedParameterJdbcTemplate.query(
+			"SELECT sr.reservation_id, sr.passenger_type, sr.is_standing, tc.car_number, tc.car_type, "
+				+ "s.seat_row, s.seat_column "
+				+ "FROM seat_reservation_archive sr "
+				+ "LEFT JOIN seat s ON s.seat_id = sr.seat_id "
+				+ "LEFT JOIN train_car tc ON tc.train_car_id = s.train_car_id "
+				+ "WHERE sr.reservation_id IN (:reservationIds) "
+				+ "ORDER BY sr.reservation_id, sr.seat_reservation_id",
+			new MapSqlParameterSource("reservationIds", reservationIds),
+			(rs, rowNum) -> {
+				String carType = rs.getString("car_type");
+				return new ReservationHistorySeatInfo(
+					rs.getLong("reservation_id"),
+					PassengerType.valueOf(rs.getString("passenger_type")),
+					rs.getBoolean("is_standing"),
+					rs.getObject("car_number", Integer.class),
+					carType != null ? CarType.valueOf(carType) : null,
+					rs.getObject("seat_row", Integer.class),
+					rs.getString("seat_column")
+				);
+			});
+	}
+
+	public record NewSeatReservation(
+		Long reservationId,
+		Long trainScheduleId,
+		Long seatId,
+		PassengerType passengerType,
+		Long departureStationId,
+		Long arrivalStationId
+	) {
+	}
+}
@@ -1,12 +1,19 @@
 package com.sudo.railo.booking.infra;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.sudo.railo.booking.application.dto.ReleasedSeatInfo;
 import com.sudo.railo.booking.domain.SeatReservation;
+import com.sudo.railo.booking.domain.SeatStatus;
+import com.sudo.railo.train.domain.Seat;
 
 public interface SeatReservationRepository extends JpaRepository<SeatReservation, Long> {
 
@@ -24,4 +31,67 @@ public interface SeatReservationRepository extends JpaRepository<SeatReservation
 	 * @return 만료된 SeatReservation 엔티티 리스트
 	 */
 	List<SeatReservation> findAllByReservedAtBefore(LocalDateTime reservedAtBefore);
+
+	boolean existsByTrainScheduleIdAndSeatIdAndSeatStatusNot(Long trainScheduleId, Long seatId,
+		SeatStatus seatStatus);
+
+	/***
+	 * 좌석 예약을 예약, 회원, 좌석 정보와 함께 조회하는 메서드
+	 */
+	@Query("SELECT sr FROM SeatReservation sr JOIN FETCH sr.reservation r LEFT JOIN FETCH r.member "
+		+ "LEFT JOIN FETCH sr.seat s LEFT JOIN FETCH s.trainCar WHERE sr.id = :seatReservationId")
+	Optional<SeatReservation> findWithReservationById(@Param("seatReservationId") Long seatReservationId);
+
+	/***
+	 * 좌석을 변경하는 메서드 (조회 시점의 버전과 같을 때만 변경)
+	 * @return 변경된 좌석 예약 수 (0이면 다른 요청이 먼저 변경함)
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE SeatReservation sr SET sr.seat = :seat, sr.version = sr.version + 1, sr.updatedAt = :now "
+		+ "WHERE sr.id = :seatReservationId AND sr.version = :version "
+		+ "AND sr.seatStatus = com.sudo.railo.booking.domain.SeatStatus.RESERVED")
+	int changeSeat(@Param("seatReservationId") Long seatReservationId, @Param("seat") Seat seat,
+		@Param("version") Long version, @Param("now") LocalDateTime now);
+
+	/***
+	 * 예약에 배정된 좌석을 일괄 반환하는 메서드
+	 * @param reservationId 예약 ID
+	 * @param now 반환 일시
+	 * @return 반환된 좌석 예약 수
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE SeatReservation sr SET sr.seatStatus = com.sudo.railo.booking.domain.SeatStatus.AVAILABLE, "
+		+ "sr.version = sr.version + 1, sr.updatedAt = :now "
+		+ "WHERE sr.reservation.id = :reservationId "
+		+ "AND sr.seatStatus <> com.sudo.railo.booking.domain.SeatStatus.AVAILABLE")
+	int releaseAllByReservationId(@Param("reservationId") Long reservationId, @Param("now") LocalDateTime now);
+
+	/***
+	 * 취소로 반환된 좌석 예약을 삭제하는 메서드
+	 * 스케줄별 좌석 유일 제약이 있으므로 같은 좌석을 다시 예약하기 전에 호출한다.
+	 */
+	@Modifying
+	@Query("DELETE FROM SeatReservation sr WHERE sr.trainSchedule.id = :trainScheduleId AND sr.seat.id = :seatId "
+		+ "AND sr.seatStatus = com.sudo.railo.booking.domain.SeatStatus.AVAILABLE")
+	int deleteReleasedSeat(@Param("trainScheduleId") Long trainScheduleId, @Param("seatId") Long seatId);
+
+	/***
+	 * 여러 예약에 배정된 좌석 목록을 조회하는 메서드 (입석 제외)
+	 * @param reservationIds 예약 ID 목록
+	 * @return 반환될 좌석 정보 리스트
+	 */
+	@Query("SELECT new com.sudo.railo.booking.application.dto.ReleasedSeatInfo(sr.trainSchedule.id, s.id, tc.carType) "
+		+ "FROM SeatReservation sr JOIN sr.seat s JOIN s.trainCar tc "
+		+ "WHERE sr.reservation.id IN :reservationIds")
+	List<ReleasedSeatInfo> findReleasedSeatsByReservationIds(@Param("reservationIds") Collection<Long> reservationIds);
+
+	/***
+	 * 예약에 배정된 좌석 목록을 조회하는 메서드 (입석 제외)
+	 * @param reservationId 예약 ID
+	 * @return 반환될 좌석 정보 리스트
+	 */
+	@Query("SELECT new com.sudo.railo.booking.application.dto.ReleasedSeatInfo(sr.trainSchedule.id, s.id, tc.carType) "
+		+ "FROM SeatReservation sr JOIN sr.seat s JOIN s.trainCar tc "
+		+ "WHERE sr.reservation.id = :reservationId")
+	List<ReleasedSeatInfo> findReleasedSeatsByReservationId(@Param("reservationId") Long reservationId);
 }
@@ -0,0 +1,287 @@
+package com.sudo.railo.booking.infra;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.sudo.railo.booking.domain.PaymentStatus;
+import com.sudo.railo.booking.domain.ReservationStatus;
+import com.sudo.railo.booking.domain.SeatStatus;
+import com.sudo.railo.booking.domain.TicketIssueStatus;
+import com.sudo.railo.booking.domain.TicketStatus;
+import com.sudo.railo.train.domain.type.PassengerType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 승차권 발권 JDBC 저장소
+ *
+ * 발권 요청 점유와 승차권/QR 일괄 생성을 JPA 영속성 컨텍스트 없이 배치 SQL로 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TicketIssueJdbcRepository {
+
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/***
+	 * 처리할 발권 요청을 점유하는 메서드 (트랜잭션 내에서 호출)
+	 * 대기 중인 요청과, 점유 시간이 지난 처리 중 요청(워커 비정상 종료)을 대상으로 한다.
+	 * @param workerId 워커 식별자
+	 * @param limit 최대 점유 개수
+	 * @param lockedUntil 점유 만료 시각
+	 * @return 점유한 발권 요청 목록
+	 */
+	public List<ClaimedRequest> claim(String workerId, int limit, LocalDateTime lockedUntil) {
+		LocalDateTime now = LocalDateTime.now();
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("pending", TicketIssueStatus.PENDING.name())
+			.addValue("processing", TicketIssueStatus.PROCESSING.name())
+			.addValue("now", Timestamp.valueOf(now))
+			.addValue("limit", limit);
+
+		// 다른 워커가 점유 중인 행은 건너뛰어 워커끼리 대기하지 않도록 함
+		List<ClaimedRequest> claimed = namedParameterJdbcTemplate.query(
+			"SELECT ticket_issue_request_id, reservation_id, attempts FROM ticket_issue_request "
+				+ "WHERE status = :pending OR (status = :processing AND locked_until < :now) "
+				+ "ORDER BY ticket_issue_request_id LIMIT :limit FOR UPDATE SKIP LOCKED",
+			params,
+			(rs, rowNum) -> new ClaimedRequest(
+				rs.getLong("ticket_issue_request_id"),
+				rs.getLong("reservation_id"),
+				rs.getInt("attempts") + 1
+			));
+		if (claimed.isEmpty()) {
+			return claimed;
+		}
+
+		params.addValue("ids", claimed.stream().map(ClaimedRequest::id).toList())
+			.addValue("workerId", workerId)
+			.addValue("lockedUntil", Timestamp.valueOf(lockedUntil));
+		namedParameterJdbcTemplate.update(
+			"UPDATE ticket_issue_request SET status = :processing, locked_by = :workerId, "
+				+ "locked_until = :lockedUntil, attempts = attempts + 1, updated_at = :now "
+				+ "WHERE ticket_issue_request_id IN (:ids)",
+			params);
+		return claimed;
+	}
+
+	/***
+	 * 예약별 발권 대상 승객 정보를 조회하는 메서드 (트랜잭션 내에서 호출)
+	 * 결제 완료 상태의 예약에서 반환되지 않은 좌석만 대상으로 하고, 발권이 끝날 때까지 공유 잠금을 잡아
+	 * 발권 중에 취소/좌석 변경이 끼어들지 못하게 한다. (먼저 취소되었으면 승객이 조회되지 않음)
+	 * @param reservationIds 예약 ID 목록
+	 * @return 예약 ID, 좌석 예약 ID 순으로 정렬된 승객 목록
+	 */
+	public List<IssuePassenger> findPassengers(List<Long> reservationIds) {
+		return namedParameterJdbcTemplate.query(
+			"SELECT sr.reservation_id, sr.passenger_type, r.paid_at, sr.train_schedule_id, "
+				+ "sr.departure_station_id, sr.arrival_station_id, sr.seat_id, "
+				+ "ts.operation_date, ts.departure_time, ts.arrival_time, ts.delay_minutes "
+				+ "FROM seat_reservation sr "
+				+ "JOIN reservation r ON r.reservation_id = sr.reservation_id "
+				+ "JOIN train_schedule ts ON ts.train_schedule_id = sr.train_schedule_id "
+				+ "WHERE sr.reservation_id IN (:reservationIds) AND r.reservation_status = :paid "
+				+ "AND sr.seat_status <> :available "
+				+ "ORDER BY sr.reservation_id, sr.seat_reservation_id "
+				+ "FOR SHARE OF sr, r",
+			new MapSqlParameterSource()
+				.addValue("reservationIds", reservationIds)
+				.addValue("paid", ReservationStatus.PAID.name())
+				.addValue("available", SeatStatus.AVAILABLE.name()),
+			(rs, rowNum) -> {
+				LocalDate operationDate = rs.getDate("operation_date").toLocalDate();
+				LocalDateTime departureAt = operationDate.atTime(rs.getTime("departure_time").toLocalTime());
+				LocalDateTime arrivalAt = operationDate.atTime(rs.getTime("arrival_time").toLocalTime());
+				if (arrivalAt.isBefore(departureAt)) {
+					// 자정을 넘겨 도착하는 열차
+					arrivalAt = arrivalAt.plusDays(1);
+				}
+				return new IssuePassenger(
+					rs.getLong("reservation_id"),
+					PassengerType.valueOf(rs.getString("passenger_type")),
+					rs.getTimestamp("paid_at").toLocalDateTime(),
+					rs.getLong("train_schedule_id"),
+					rs.getLong("departure_station_id"),
+					rs.getLong("arrival_station_id"),
+					rs.getObject("seat_id", Long.class),
+					departureAt,
+					arrivalAt.plusMinutes(rs.getInt("delay_minutes"))
+				);
+			});
+	}
+
+	/***
+	 * QR을 일괄 생성하는 메서드
+	 * @param qrUrls 생성할 QR URL 목록 (승차권 생성 후 서명된 토큰으로 교체)
+	 * @return 생성된 QR ID 목록 (입력 순서와 동일)
+	 */
+	public List<Long> insertQrs(List<String> qrUrls) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		SqlParameterSource[] batchArgs = qrUrls.stream()
+			.map(qrUrl -> new MapSqlParameterSource()
+				.addValue("qrUrl", qrUrl)
+				.addValue("now", now))
+			.toArray(SqlParameterSource[]::new);
+
+		GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+		namedParameterJdbcTemplate.batchUpdate(
+			"INSERT INTO qr (is_usable, scan_count, qr_url, created_at, updated_at) "
+				+ "VALUES (true, 0, :qrUrl, :now, :now)",
+			batchArgs, keyHolder);
+
+		return toIds(keyHolder);
+	}
+
+	/***
+	 * QR URL을 일괄 변경하는 메서드
+	 */
+	public void updateQrUrls(List<Long> qrIds, List<String> qrUrls) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		SqlParameterSource[] batchArgs = new SqlParameterSource[qrIds.size()];
+		for (int i = 0; i < qrIds.size(); i++) {
+			batchArgs[i] = new MapSqlParameterSource()
+				.addValue("qrId", qrIds.get(i))
+				.addValue("qrUrl", qrUrls.get(i))
+				.addValue("now", now);
+		}
+		namedParameterJdbcTemplate.batchUpdate(
+			"UPDATE qr SET qr_url = :qrUrl, updated_at = :now WHERE qr_id = :qrId", batchArgs);
+	}
+
+	/***
+	 * 승차권을 일괄 생성하는 메서드
+	 * @param tickets 생성할 승차권 목록
+	 * @return 생성된 승차권 ID 목록 (입력 순서와 동일)
+	 */
+	public List<Long> insertTickets(List<NewTicket> tickets) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		SqlParameterSource[] batchArgs = tickets.stream()
+			.map(ticket -> new MapSqlParameterSource()
+				.addValue("reservationId", ticket.reservationId())
+				.addValue("qrId", ticket.qrId())
+				.addValue("passengerType", ticket.passengerType().name())
+				.addValue("paymentStatus", PaymentStatus.PAID.name())
+				.addValue("paymentAt", Timestamp.valueOf(ticket.paymentAt()))
+				.addValue("status", TicketStatus.ISSUED.name())
+				.addValue("vendorCode", ticket.vendorCode())
+				.addValue("purchaseDate", ticket.purchaseDate())
+				.addValue("purchaseSeq", ticket.purchaseSeq())
+				.addValue("purchaseUid", ticket.purchaseUid())
+				.addValue("now", now))
+			.toArray(SqlParameterSource[]::new);
+
+		GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+		namedParameterJdbcTemplate.batchUpdate(
+			"INSERT INTO ticket (reservation_id, qr_id, passenger_type, payment_status, payment_at, status, "
+				+ "vendor_code, purchase_date, purchase_seq, purchase_uid, created_at, updated_at) "
+				+ "VALUES (:reservationId, :qrId, :passengerType, :paymentStatus, :paymentAt, :status, "
+				+ ":vendorCode, :purchaseDate, :purchaseSeq, :purchaseUid, :now, :now)",
+			batchArgs, keyHolder);
+		return toIds(keyHolder);
+	}
+
+	/***
+	 * 발권 요청을 완료 처리하는 메서드
+	 * @return 완료 처리된 개수 (점유가 만료되어 다른 워커에게 넘어간 요청은 제외)
+	 */
+	public int markDone(List<Long> requestIds, String workerId) {
+		LocalDateTime now = LocalDateTime.now();
+		return namedParameterJdbcTemplate.update(
+			"UPDATE ticket_issue_request SET status = :done, processed_at = :now, locked_by = NULL, "
+				+ "locked_until = NULL, last_error = NULL, updated_at = :now "
+				+ "WHERE ticket_issue_request_id IN (:ids) AND status = :processing AND locked_by = :workerId",
+			new MapSqlParameterSource()
+				.addValue("done", TicketIssueStatus.DONE.name())
+				.addValue("processing", TicketIssueStatus.PROCESSING.name())
+				.addValue("now", Timestamp.valueOf(now))
+				.addValue("ids", requestIds)
+				.addValue("workerId", workerId));
+	}
+
+	/***
+	 * 예약의 발권 요청을 다시 대기 상태로 되돌리는 메서드 (좌석 변경 등으로 재발권이 필요할 때)
+	 * 처리 중이던 요청은 완료 처리에 실패해 롤백되고 다시 처리된다.
+	 * @return 되돌린 요청 수
+	 */
+	public int requestReissue(Long reservationId) {
+		return namedParameterJdbcTemplate.update(
+			"UPDATE ticket_issue_request SET status = :pending, attempts = 0, locked_by = NULL, locked_until = NULL, "
+				+ "processed_at = NULL, last_error = NULL, updated_at = :now "
+				+ "WHERE reservation_id = :reservationId",
+			new MapSqlParameterSource()
+				.addValue("pending", TicketIssueStatus.PENDING.name())
+				.addValue("now", Timestamp.valueOf(LocalDateTime.now()))
+				.addValue("reservationId", reservationId));
+	}
+
+	/***
+	 * 발권 실패를 기록하는 메서드
+	 * 최대 재시도 횟수에 도달하면 실패 처리하고, 그렇지 않으면 다시 대기 상태로 되돌린다.
+	 */
+	public void markFailed(ClaimedRequest request, String workerId, int maxAttempts, String error) {
+		TicketIssueStatus status = request.attempts() >= maxAttempts
+			? TicketIssueStatus.FAILED
+			: TicketIssueStatus.PENDING;
+		String lastError = error != null && error.length() > MAX_ERROR_LENGTH
+			? error.substring(0, MAX_ERROR_LENGTH)
+			: error;
+		namedParameterJdbcTemplate.update(
+			"UPDATE ticket_issue_request SET status = :status, locked_by = NULL, locked_until = NULL, "
+				+ "last_error = :lastError, updated_at = :now "
+				+ "WHERE ticket_issue_request_id = :id AND locked_by = :workerId",
+			new MapSqlParameterSource()
+				.addValue("status", status.name())
+				.addValue("lastError", lastError)
+				.addValue("now", Timestamp.valueOf(LocalDateTime.now()))
+				.addValue("id", request.id())
+				.addValue("workerId", workerId));
+	}
+
+	private List<Long> toIds(GeneratedKeyHolder keyHolder) {
+		List<Long> ids = new ArrayList<>(keyHolder.getKeyList().size());
+		for (Map<String, Object> keys : keyHolder.getKeyList()) {
+			ids.add(((Number)keys.values().iterator().next()).longValue());
+		}
+		return ids;
+	}
+
+	public record ClaimedRequest(Long id, Long reservationId, int attempts) {
+	}
+
+	public record IssuePassenger(
+		Long reservationId,
+		PassengerType passengerType,
+		LocalDateTime paidAt,
+		Long trainScheduleId,
+		Long departureStationId,
+		Long arrivalStationId,
+		Long seatId,
+		LocalDateTime departureAt,
+		LocalDateTime arrivalAt
+	) {
+	}
+
+	public record NewTicket(
+		Long reservationId,
+		Long qrId,
+		PassengerType passengerType,
+		LocalDateTime paymentAt,
+		String vendorCode,
+		String purchaseDate,
+		String purchaseSeq,
+		String purchaseUid
+	) {
+	}
+}
@@ -0,0 +1,62 @@
+package com.sudo.railo.booking.infra;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.sudo.railo.booking.domain.TicketStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 발권된 승차권 JDBC 저장소
+ */
+@Repository
+@RequiredArgsConstructor
+public class TicketJdbcRepository {
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/***
+	 * 예약과 예약의 발권된 승차권을 잠그고 조회하는 메서드 (트랜잭션 내에서 호출)
+	 * 발권은 예약을 공유 잠금으로 읽으므로, 진행 중인 발권이 있으면 커밋을 기다린 뒤 그 승차권까지 조회하고
+	 * 이후 시작된 발권은 이 트랜잭션이 끝날 때까지 기다린다.
+	 * @return 발권 상태인 승차권 목록
+	 */
+	public List<IssuedTicket> lockIssuedTickets(Long reservationId) {
+		List<IssuedTicket> tickets = namedParameterJdbcTemplate.query(
+			"SELECT t.ticket_id, ts.operation_date FROM reservation r "
+				+ "JOIN train_schedule ts ON ts.train_schedule_id = r.train_schedule_id "
+				+ "LEFT JOIN ticket t ON t.reservation_id = r.reservation_id AND t.status = :issued "
+				+ "WHERE r.reservation_id = :reservationId "
+				+ "FOR UPDATE OF r, t",
+			new MapSqlParameterSource()
+				.addValue("reservationId", reservationId)
+				.addValue("issued", TicketStatus.ISSUED.name()),
+			(rs, rowNum) -> new IssuedTicket(rs.getObject("ticket_id", Long.class),
+				rs.getDate("operation_date").toLocalDate()));
+		return tickets.stream().filter(ticket -> ticket.ticketId() != null).toList();
+	}
+
+	/***
+	 * 승차권을 취소 처리하고 QR을 사용할 수 없게 하는 메서드
+	 */
+	public void cancelTickets(List<Long> ticketIds, LocalDateTime now) {
+		namedParameterJdbcTemplate.update(
+			"UPDATE ticket t JOIN qr q ON q.qr_id = t.qr_id "
+				+ "SET t.status = :cancelled, t.updated_at = :now, q.is_usable = false, q.updated_at = :now "
+				+ "WHERE t.ticket_id IN (:ticketIds)",
+			new MapSqlParameterSource()
+				.addValue("ticketIds", ticketIds)
+				.addValue("cancelled", TicketStatus.CANCELLED.name())
+				.addValue("now", Timestamp.valueOf(now)));
+	}
+
+	public record IssuedTicket(Long ticketId, LocalDate operationDate) {
+	}
+}
@@ -0,0 +1,173 @@
+package com.sudo.railo.booking.infra;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Repository;
+
+import com.sudo.railo.train.domain.type.CarType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 좌석 대기열 Redis 저장소
+ *
+ * - waitlist:{스케줄}:{객실}:{출발}:{도착} : 구간별 대기열 (ZSET, score = 신청 시각)
+ * - waitlist:segments:{스케줄}:{객실}    : 대기자가 존재하는 구간 목록 (SET)
+ * - waitlist:hold:{스케줄}:{좌석}        : 대기자에게 선점된 좌석 (STRING, TTL = 선점 시간)
+ * - waitlist:holds                       : 선점 만료 시각 인덱스 (ZSET, score = 만료 시각)
+ * - waitlist:offer:{회원번호}            : 회원에게 배정된 좌석 목록 (HASH)
+ */
+@Repository
+@RequiredArgsConstructor
+public class WaitlistRepository {
+
+	private static final String QUEUE_PREFIX = "waitlist:";
+	private static final String SEGMENTS_PREFIX = "waitlist:segments:";
+	private static final String HOLD_PREFIX = "waitlist:hold:";
+	private static final String HOLDS_INDEX_KEY = "waitlist:holds";
+	private static final String OFFER_PREFIX = "waitlist:offer:";
+	private static final String DELIMITER = ":";
+
+	private final RedisTemplate<String, String> stringRedisTemplate;
+
+	/* 대기열 */
+
+	/***
+	 * 대기열에 회원을 추가하는 메서드 (이미 존재하면 추가하지 않음)
+	 * @return 추가 여부
+	 */
+	public boolean addWaiter(Long trainScheduleId, CarType carType, String segment, String memberNo,
+		long requestedAt, Instant expireAt) {
+		String queueKey = queueKey(trainScheduleId, carType, segment);
+		String segmentsKey = segmentsKey(trainScheduleId, carType);
+
+		Boolean added = stringRedisTemplate.opsForZSet().addIfAbsent(queueKey, memberNo, requestedAt);
+		if (!Boolean.TRUE.equals(added)) {
+			return false;
+		}
+		stringRedisTemplate.opsForSet().add(segmentsKey, segment);
+		stringRedisTemplate.expireAt(queueKey, expireAt);
+		stringRedisTemplate.expireAt(segmentsKey, expireAt);
+		return true;
+	}
+
+	public boolean removeWaiter(Long trainScheduleId, CarType carType, String segment, String memberNo) {
+		Long removed = stringRedisTemplate.opsForZSet().remove(queueKey(trainScheduleId, carType, segment), memberNo);
+		return removed != null && removed > 0;
+	}
+
+	/***
+	 * 대기 순번을 조회하는 메서드
+	 * @return 0부터 시작하는 순번, 대기열에 없으면 empty
+	 */
+	public Optional<Long> findRank(Long trainScheduleId, CarType carType, String segment, String memberNo) {
+		return Optional.ofNullable(
+			stringRedisTemplate.opsForZSet().rank(queueKey(trainScheduleId, carType, segment), memberNo));
+	}
+
+	public long countWaiters(Long trainScheduleId, CarType carType, String segment) {
+		Long size = stringRedisTemplate.opsForZSet().zCard(queueKey(trainScheduleId, carType, segment));
+		return size != null ? size : 0L;
+	}
+
+	public Set<String> findSegments(Long trainScheduleId, CarType carType) {
+		Set<String> segments = stringRedisTemplate.opsForSet().members(segmentsKey(trainScheduleId, carType));
+		return segments != null ? segments : Set.of();
+	}
+
+	/***
+	 * 구간 대기열의 가장 앞 대기자를 조회하는 메서드
+	 */
+	public Optional<TypedTuple<String>> peekFirst(Long trainScheduleId, CarType carType, String segment) {
+		Set<TypedTuple<String>> first = stringRedisTemplate.opsForZSet()
+			.rangeWithScores(queueKey(trainScheduleId, carType, segment), 0, 0);
+		if (first == null || first.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(first.iterator().next());
+	}
+
+	public void removeSegment(Long trainScheduleId, CarType carType, String segment) {
+		stringRedisTemplate.opsForSet().remove(segmentsKey(trainScheduleId, carType), segment);
+	}
+
+	/* 좌석 선점 */
+
+	/***
+	 * 좌석을 대기자에게 선점하는 메서드 (이미 선점된 좌석이면 실패)
+	 * @return 선점 성공 여부
+	 */
+	public boolean hold(Long trainScheduleId, Long seatId, CarType carType, String memberNo, Duration holdDuration) {
+		Boolean held = stringRedisTemplate.opsForValue()
+			.setIfAbsent(holdKey(trainScheduleId, seatId), memberNo, holdDuration);
+		if (!Boolean.TRUE.equals(held)) {
+			return false;
+		}
+		long expireAt = Instant.now().plus(holdDuration).toEpochMilli();
+		stringRedisTemplate.opsForZSet().add(HOLDS_INDEX_KEY, holdIndexMember(trainScheduleId, seatId, carType),
+			expireAt);
+		return true;
+	}
+
+	public Optional<String> findHolder(Long trainScheduleId, Long seatId) {
+		return Optional.ofNullable(stringRedisTemplate.opsForValue().get(holdKey(trainScheduleId, seatId)));
+	}
+
+	public void releaseHold(Long trainScheduleId, Long seatId, CarType carType) {
+		stringRedisTemplate.delete(holdKey(trainScheduleId, seatId));
+		stringRedisTemplate.opsForZSet().remove(HOLDS_INDEX_KEY, holdIndexMember(trainScheduleId, seatId, carType));
+	}
+
+	/***
+	 * 선점 만료 시각이 지난 좌석 목록을 꺼내는 메서드
+	 * @return "{스케줄}:{좌석}:{객실}" 형식의 목록
+	 */
+	public Set<String> popExpiredHolds(long now) {
+		Set<String> expired = stringRedisTemplate.opsForZSet().rangeByScore(HOLDS_INDEX_KEY, 0, now);
+		if (expired == null || expired.isEmpty()) {
+			return Set.of();
+		}
+		stringRedisTemplate.opsForZSet().remove(HOLDS_INDEX_KEY, expired.toArray());
+		return expired;
+	}
+
+	/* 회원별 배정 내역 */
+
+	public void saveOffer(String memberNo, Long trainScheduleId, Long seatId, String offer, Duration holdDuration) {
+		String offerKey = OFFER_PREFIX + memberNo;
+		stringRedisTemplate.opsForHash().put(offerKey, trainScheduleId + DELIMITER + seatId, offer);
+		stringRedisTemplate.expire(offerKey, holdDuration);
+	}
+
+	public Map<Object, Object> findOffers(String memberNo) {
+		return stringRedisTemplate.opsForHash().entries(OFFER_PREFIX + memberNo);
+	}
+
+	public void deleteOffer(String memberNo, Long trainScheduleId, Long seatId) {
+		stringRedisTemplate.opsForHash().delete(OFFER_PREFIX + memberNo, trainScheduleId + DELIMITER + seatId);
+	}
+
+	/* 키 생성 */
+
+	private String queueKey(Long trainScheduleId, CarType carType, String segment) {
+		return QUEUE_PREFIX + trainScheduleId + DELIMITER + carType.name() + DELIMITER + segment;
+	}
+
+	private String segmentsKey(Long trainScheduleId, CarType carType) {
+		return SEGMENTS_PREFIX + trainScheduleId + DELIMITER + carType.name();
+	}
+
+	private String holdKey(Long trainScheduleId, Long seatId) {
+		return HOLD_PREFIX + trainScheduleId + DELIMITER + seatId;
+	}
+
+	private String holdIndexMember(Long trainScheduleId, Long seatId, CarType carType) {
+		return trainScheduleId + DELIMITER + seatId + DELIMITER + carType.name();
+	}
+}
@@ -1,7 +1,10 @@
 package com.sudo.railo.booking.presentation;
 
 import java.math.BigDecimal;
+import java.util.List;
 
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -9,6 +12,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.sudo.railo.booking.application.FareCalculationService;
 import com.sudo.railo.booking.application.dto.request.FareCalculateRequest;
+import com.sudo.railo.booking.application.dto.request.FareQuoteRequest;
+import com.sudo.railo.booking.application.dto.response.FareQuoteResponse;
 import com.sudo.railo.booking.success.FareSuccess;
 import com.sudo.railo.global.success.SuccessResponse;
 
@@ -22,13 +27,25 @@ public class BookingController {
 	private final FareCalculationService fareCalculationService;
 
 	/***
-	 * 승객 유형과 운임을 입력받아 할인된 운임을 계산하는 메서드
+	 * 승객 유형과 운임을 입력받아 할인된 운임을 계산하는 메서드 (국가유공자 연간 무임 횟수 반영)
 	 * @param request 승객 유형과 운임이 담긴 DTO
 	 * @return 할인된 운임 가격
 	 */
 	@PostMapping("/fare")
-	public SuccessResponse<BigDecimal> calculateFare(@RequestBody FareCalculateRequest request) {
-		BigDecimal newFare = fareCalculationService.calculateFare(request);
+	public SuccessResponse<BigDecimal> calculateFare(@RequestBody FareCalculateRequest request,
+		@AuthenticationPrincipal UserDetails userDetails) {
+		BigDecimal newFare = fareCalculationService.calculateFare(request, userDetails.getUsername());
 		return SuccessResponse.of(FareSuccess.FARE_CALCULATE_SUCCESS, newFare);
 	}
+
+	/***
+	 * 여러 구간/승객 구성의 객실 등급별 총 운임을 한 번에 조회하는 메서드
+	 * @param requests 구간과 승객 구성 목록
+	 * @return 요청 순서대로 일반실/특실/입석 총 운임
+	 */
+	@PostMapping("/fare/quotes")
+	public SuccessResponse<List<FareQuoteResponse>> quoteFares(@RequestBody List<FareQuoteRequest> requests) {
+		List<FareQuoteResponse> response = fareCalculationService.quoteAll(requests);
+		return SuccessResponse.of(FareSuccess.FARE_QUOTE_SUCCESS, response);
+	}
 }
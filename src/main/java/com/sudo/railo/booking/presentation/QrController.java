@@ -0,0 +1,35 @@
+package com.sudo.railo.booking.presentation;
+
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.sudo.railo.booking.application.QrScanService;
+import com.sudo.railo.booking.application.dto.request.QrScanRequest;
+import com.sudo.railo.booking.application.dto.response.QrScanResponse;
+import com.sudo.railo.booking.docs.QrControllerDocs;
+import com.sudo.railo.booking.success.QrSuccess;
+import com.sudo.railo.global.success.SuccessResponse;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/booking/qr")
+@RequiredArgsConstructor
+public class QrController implements QrControllerDocs {
+
+	private final QrScanService qrScanService;
+
+	/***
+	 * 승차권 QR을 검증하는 메서드
+	 * @param request QR 스캔 요청 DTO
+	 * @return 승차권 정보
+	 */
+	@PostMapping("/scan")
+	public SuccessResponse<QrScanResponse> scan(@Valid @RequestBody QrScanRequest request) {
+		QrScanResponse response = qrScanService.scan(request);
+		return SuccessResponse.of(QrSuccess.QR_SCAN_SUCCESS, response);
+	}
+}
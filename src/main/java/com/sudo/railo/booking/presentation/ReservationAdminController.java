@@ -0,0 +1,34 @@
+package com.sudo.railo.booking.presentation;
+
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.sudo.railo.booking.application.ReservationService;
+import com.sudo.railo.booking.success.ReservationSuccess;
+import com.sudo.railo.global.success.SuccessResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/admin/reservations")
+@RequiredArgsConstructor
+@Tag(name = "예약 관리", description = "관리자/결제 서버 연동 예약 API")
+public class ReservationAdminController {
+
+	private final ReservationService reservationService;
+
+	/**
+	 * 결제 확정 (결제 서버가 승인 결과를 반영할 때 호출)
+	 */
+	@PostMapping("/{reservationId}/payment")
+	@Operation(summary = "예약 결제 확정",
+		description = "결제 승인이 끝난 예약을 결제 완료 처리하고 승차권 발권 요청을 적재합니다. 승차권과 QR은 비동기로 발급됩니다.")
+	public SuccessResponse<?> confirmPayment(@PathVariable Long reservationId) {
+		reservationService.confirmPayment(reservationId);
+		return SuccessResponse.of(ReservationSuccess.RESERVATION_PAYMENT_CONFIRM_SUCCESS);
+	}
+}
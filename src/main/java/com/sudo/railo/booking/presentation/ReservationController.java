@@ -1,22 +1,39 @@
 package com.sudo.railo.booking.presentation;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.sudo.railo.booking.application.ReservationAllocationService;
+import com.sudo.railo.booking.application.ReservationHistoryService;
 import com.sudo.railo.booking.application.ReservationService;
+import com.sudo.railo.booking.application.RoundTripReservationService;
 import com.sudo.railo.booking.application.dto.request.ReservationCreateRequest;
 import com.sudo.railo.booking.application.dto.request.ReservationDeleteRequest;
+import com.sudo.railo.booking.application.dto.request.RoundTripReservationCreateRequest;
 import com.sudo.railo.booking.application.dto.response.ReservationCreateResponse;
+import com.sudo.railo.booking.application.dto.response.ReservationHistoryResponse;
+import com.sudo.railo.booking.application.dto.response.RoundTripReservationCreateResponse;
+import com.sudo.railo.booking.config.BookingConfig;
 import com.sudo.railo.booking.docs.ReservationControllerDocs;
 import com.sudo.railo.booking.success.ReservationSuccess;
+import com.sudo.railo.global.idempotency.IdempotencyService;
 import com.sudo.railo.global.success.SuccessResponse;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -26,29 +43,114 @@ public class ReservationController implements ReservationControllerDocs {
 
 	private final ReservationAllocationService reservationAllocationService;
 	private final ReservationService reservationService;
+	private final RoundTripReservationService roundTripReservationService;
+	private final ReservationHistoryService reservationHistoryService;
+	private final IdempotencyService idempotencyService;
+	private final BookingConfig bookingConfig;
 
 	/***
 	 * 예약을 생성하는 메서드
+	 * Idempotency-Key 헤더가 있으면 예약 만료 시간 동안 같은 키의 재요청에 최초 응답을 반환
 	 * @param request 예약 생성 요청 DTO
+	 * @param idempotencyKey 중복 요청 방지 키
 	 * @return 예약 생성 성공 응답
 	 */
 	@PostMapping
 	public SuccessResponse<ReservationCreateResponse> createReservation(
 		@RequestBody ReservationCreateRequest request,
+		@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
 		@AuthenticationPrincipal UserDetails userDetails
 	) {
-		ReservationCreateResponse response = reservationAllocationService.createReservation(request, userDetails);
+		ReservationCreateResponse response;
+		if (idempotencyKey == null) {
+			response = reservationAllocationService.createReservation(request, userDetails);
+		} else {
+			response = idempotencyService.execute(
+				"reservation:" + userDetails.getUsername(),
+				idempotencyKey,
+				request,
+				Duration.ofMinutes(bookingConfig.getExpiration().getReservation()),
+				ReservationCreateResponse.class,
+				() -> reservationAllocationService.createReservation(request, userDetails)
+			);
+		}
 		return SuccessResponse.of(ReservationSuccess.RESERVATION_CREATE_SUCCESS, response);
 	}
 
+	/***
+	 * 왕복 예약을 생성하는 메서드
+	 * 가는 편과 오는 편을 모두 예약하거나 모두 실패한다.
+	 * @param request 왕복 예약 생성 요청 DTO
+	 * @param idempotencyKey 중복 요청 방지 키
+	 * @return 왕복 예약 생성 성공 응답
+	 */
+	@PostMapping("/round-trip")
+	public SuccessResponse<RoundTripReservationCreateResponse> createRoundTripReservation(
+		@Valid @RequestBody RoundTripReservationCreateRequest request,
+		@RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+		@AuthenticationPrincipal UserDetails userDetails
+	) {
+		RoundTripReservationCreateResponse response;
+		if (idempotencyKey == null) {
+			response = roundTripReservationService.createReservation(request, userDetails);
+		} else {
+			response = idempotencyService.execute(
+				"reservation:" + userDetails.getUsername(),
+				idempotencyKey,
+				request,
+				Duration.ofMinutes(bookingConfig.getExpiration().getReservation()),
+				RoundTripReservationCreateResponse.class,
+				() -> roundTripReservationService.createReservation(request, userDetails)
+			);
+		}
+		return SuccessResponse.of(ReservationSuccess.ROUND_TRIP_RESERVATION_CREATE_SUCCESS, response);
+	}
+
+	/***
+	 * 회원의 예약 내역을 조회하는 메서드
+	 * @param cursorReservedAt 이전 페이지 마지막 예약 일시 (첫 페이지면 생략)
+	 * @param cursorReservationId 이전 페이지 마지막 예약 ID (첫 페이지면 생략)
+	 * @param size 페이지 크기 (기본 20, 최대 50)
+	 * @return 예약 내역
+	 */
+	@GetMapping
+	public SuccessResponse<ReservationHistoryResponse> getReservations(
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+		LocalDateTime cursorReservedAt,
+		@RequestParam(required = false) Long cursorReservationId,
+		@RequestParam(required = false) Integer size,
+		@AuthenticationPrincipal UserDetails userDetails
+	) {
+		ReservationHistoryResponse response = reservationHistoryService.getReservations(userDetails.getUsername(),
+			cursorReservedAt, cursorReservationId, size);
+		return SuccessResponse.of(ReservationSuccess.RESERVATION_HISTORY_SUCCESS, response);
+	}
+
+	/***
+	 * 예약을 취소하는 메서드
+	 * @param reservationId 예약 ID
+	 * @return 예약 취소 성공 응답
+	 */
+	@PatchMapping("/{reservationId}/cancel")
+	public SuccessResponse<?> cancelReservation(
+		@PathVariable Long reservationId,
+		@AuthenticationPrincipal UserDetails userDetails
+	) {
+		reservationService.cancelReservation(reservationId, userDetails);
+		return SuccessResponse.of(ReservationSuccess.RESERVATION_CANCEL_SUCCESS);
+	}
+
 	/***
 	 * 예약을 삭제하는 메서드
 	 * @param request 예약 삭제 요청 DTO
 	 * @return 예약 삭제 성공 응답
 	 */
 	@DeleteMapping
-	public SuccessResponse<?> deleteReservation(@RequestBody ReservationDeleteRequest request) {
-		reservationService.deleteReservation(request);
+	public SuccessResponse<?> deleteReservation(
+		@RequestBody ReservationDeleteRequest request,
+		@AuthenticationPrincipal UserDetails userDetails
+	) {
+		reservationService.deleteReservation(request, userDetails);
 		return SuccessResponse.of(ReservationSuccess.RESERVATION_DELETE_SUCCESS);
 	}
 }
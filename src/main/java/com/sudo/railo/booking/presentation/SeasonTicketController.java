@@ -0,0 +1,38 @@
+package com.sudo.railo.booking.presentation;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.sudo.railo.booking.application.SeasonTicketService;
+import com.sudo.railo.booking.application.dto.response.SeasonTicketRideResponse;
+import com.sudo.railo.booking.docs.SeasonTicketControllerDocs;
+import com.sudo.railo.booking.success.SeasonTicketSuccess;
+import com.sudo.railo.global.success.SuccessResponse;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/booking/season-tickets")
+@RequiredArgsConstructor
+public class SeasonTicketController implements SeasonTicketControllerDocs {
+
+	private final SeasonTicketService seasonTicketService;
+
+	/***
+	 * 정기권으로 열차 스케줄에 승차할 수 있는지 확인하는 메서드
+	 * @param trainScheduleId 열차 스케줄 ID
+	 * @return 정기권 승차 가능 여부
+	 */
+	@GetMapping("/ride-check")
+	public SuccessResponse<SeasonTicketRideResponse> checkRide(
+		@RequestParam Long trainScheduleId,
+		@AuthenticationPrincipal UserDetails userDetails
+	) {
+		SeasonTicketRideResponse response = seasonTicketService.checkRide(trainScheduleId, userDetails);
+		return SuccessResponse.of(SeasonTicketSuccess.SEASON_TICKET_RIDE_CHECK_SUCCESS, response);
+	}
+}
@@ -1,11 +1,43 @@
 package com.sudo.railo.booking.presentation;
 
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.sudo.railo.booking.application.SeatReservationService;
+import com.sudo.railo.booking.application.dto.request.SeatChangeRequest;
+import com.sudo.railo.booking.application.dto.response.SeatChangeResponse;
+import com.sudo.railo.booking.docs.SeatReservationControllerDocs;
+import com.sudo.railo.booking.success.SeatReservationSuccess;
+import com.sudo.railo.global.success.SuccessResponse;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
 @RestController
 @RequestMapping("/api/v1/booking/seat")
-public class SeatReservationController {
+@RequiredArgsConstructor
+public class SeatReservationController implements SeatReservationControllerDocs {
+
+	private final SeatReservationService seatReservationService;
 
-	// TODO: 좌석 예약 현황 관련 엔드포인트 구현
+	/***
+	 * 같은 구간에서 좌석을 변경하는 메서드
+	 * @param seatReservationId 좌석 예약 ID
+	 * @param request 좌석 변경 요청 DTO
+	 * @return 변경된 좌석 예약 정보
+	 */
+	@PatchMapping("/{seatReservationId}")
+	public SuccessResponse<SeatChangeResponse> changeSeat(
+		@PathVariable Long seatReservationId,
+		@Valid @RequestBody SeatChangeRequest request,
+		@AuthenticationPrincipal UserDetails userDetails
+	) {
+		SeatChangeResponse response = seatReservationService.changeSeat(seatReservationId, request, userDetails);
+		return SuccessResponse.of(SeatReservationSuccess.SEAT_CHANGE_SUCCESS, response);
+	}
 }
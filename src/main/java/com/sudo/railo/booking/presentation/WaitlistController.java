@@ -0,0 +1,83 @@
+package com.sudo.railo.booking.presentation;
+
+import java.util.List;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.sudo.railo.booking.application.WaitlistService;
+import com.sudo.railo.booking.application.dto.request.WaitlistRequest;
+import com.sudo.railo.booking.application.dto.response.WaitlistOfferResponse;
+import com.sudo.railo.booking.application.dto.response.WaitlistPositionResponse;
+import com.sudo.railo.booking.docs.WaitlistControllerDocs;
+import com.sudo.railo.booking.success.WaitlistSuccess;
+import com.sudo.railo.global.success.SuccessResponse;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/booking/waitlist")
+@RequiredArgsConstructor
+public class WaitlistController implements WaitlistControllerDocs {
+
+	private final WaitlistService waitlistService;
+
+	/***
+	 * 좌석 대기를 신청하는 메서드
+	 * @param request 대기 신청 요청 DTO
+	 * @return 대기 순번
+	 */
+	@PostMapping
+	public SuccessResponse<WaitlistPositionResponse> register(
+		@Valid @RequestBody WaitlistRequest request,
+		@AuthenticationPrincipal UserDetails userDetails
+	) {
+		WaitlistPositionResponse response = waitlistService.register(request, userDetails);
+		return SuccessResponse.of(WaitlistSuccess.WAITLIST_REGISTER_SUCCESS, response);
+	}
+
+	/***
+	 * 대기 순번을 조회하는 메서드
+	 * @param request 대기 조회 요청 DTO
+	 * @return 대기 순번
+	 */
+	@PostMapping("/position")
+	public SuccessResponse<WaitlistPositionResponse> getPosition(
+		@Valid @RequestBody WaitlistRequest request,
+		@AuthenticationPrincipal UserDetails userDetails
+	) {
+		WaitlistPositionResponse response = waitlistService.getPosition(request, userDetails);
+		return SuccessResponse.of(WaitlistSuccess.WAITLIST_POSITION_SUCCESS, response);
+	}
+
+	/***
+	 * 선점 배정된 좌석 목록을 조회하는 메서드
+	 * @return 배정 좌석 목록
+	 */
+	@GetMapping("/offers")
+	public SuccessResponse<List<WaitlistOfferResponse>> getOffers(@AuthenticationPrincipal UserDetails userDetails) {
+		List<WaitlistOfferResponse> response = waitlistService.getOffers(userDetails);
+		return SuccessResponse.of(WaitlistSuccess.WAITLIST_OFFER_SUCCESS, response);
+	}
+
+	/***
+	 * 좌석 대기를 취소하는 메서드
+	 * @param request 대기 취소 요청 DTO
+	 * @return 대기 취소 성공 응답
+	 */
+	@DeleteMapping
+	public SuccessResponse<?> cancel(
+		@Valid @RequestBody WaitlistRequest request,
+		@AuthenticationPrincipal UserDetails userDetails
+	) {
+		waitlistService.cancel(request, userDetails);
+		return SuccessResponse.of(WaitlistSuccess.WAITLIST_CANCEL_SUCCESS);
+	}
+}
@@ -11,7 +11,8 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum FareSuccess implements SuccessCode {
 
-	FARE_CALCULATE_SUCCESS(HttpStatus.OK, "정상적으로 계산되었습니다.");
+	FARE_CALCULATE_SUCCESS(HttpStatus.OK, "정상적으로 계산되었습니다."),
+	FARE_QUOTE_SUCCESS(HttpStatus.OK, "운임이 정상적으로 조회되었습니다.");
 
 	private final HttpStatus status;
 	private final String message;
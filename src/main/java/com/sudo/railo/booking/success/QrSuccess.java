@@ -0,0 +1,18 @@
+package com.sudo.railo.booking.success;
+
+import org.springframework.http.HttpStatus;
+
+import com.sudo.railo.global.success.SuccessCode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum QrSuccess implements SuccessCode {
+
+	QR_SCAN_SUCCESS(HttpStatus.OK, "승차권 QR이 확인되었습니다.");
+
+	private final HttpStatus status;
+	private final String message;
+}
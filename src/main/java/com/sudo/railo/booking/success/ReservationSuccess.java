@@ -12,7 +12,11 @@ import lombok.RequiredArgsConstructor;
 public enum ReservationSuccess implements SuccessCode {
 
 	RESERVATION_CREATE_SUCCESS(HttpStatus.CREATED, "예약이 성공적으로 생성되었습니다."),
-	RESERVATION_DELETE_SUCCESS(HttpStatus.NO_CONTENT, "예약이 성공적으로 삭제되었습니다.");
+	ROUND_TRIP_RESERVATION_CREATE_SUCCESS(HttpStatus.CREATED, "왕복 예약이 성공적으로 생성되었습니다."),
+	RESERVATION_CANCEL_SUCCESS(HttpStatus.OK, "예약이 성공적으로 취소되었습니다."),
+	RESERVATION_DELETE_SUCCESS(HttpStatus.NO_CONTENT, "예약이 성공적으로 삭제되었습니다."),
+	RESERVATION_PAYMENT_CONFIRM_SUCCESS(HttpStatus.OK, "예약 결제가 성공적으로 확정되었습니다."),
+	RESERVATION_HISTORY_SUCCESS(HttpStatus.OK, "예약 내역을 성공적으로 조회했습니다.");
 
 	private final HttpStatus status;
 	private final String message;
@@ -0,0 +1,18 @@
+package com.sudo.railo.booking.success;
+
+import org.springframework.http.HttpStatus;
+
+import com.sudo.railo.global.success.SuccessCode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SeasonTicketSuccess implements SuccessCode {
+
+	SEASON_TICKET_RIDE_CHECK_SUCCESS(HttpStatus.OK, "정기권 승차 가능 여부를 조회했습니다.");
+
+	private final HttpStatus status;
+	private final String message;
+}
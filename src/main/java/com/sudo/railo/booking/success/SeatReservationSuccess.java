@@ -0,0 +1,18 @@
+package com.sudo.railo.booking.success;
+
+import org.springframework.http.HttpStatus;
+
+import com.sudo.railo.global.success.SuccessCode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum SeatReservationSuccess implements SuccessCode {
+
+	SEAT_CHANGE_SUCCESS(HttpStatus.OK, "좌석이 성공적으로 변경되었습니다.");
+
+	private final HttpStatus status;
+	private final String message;
+}
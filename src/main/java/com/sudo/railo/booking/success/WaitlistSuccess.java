@@ -0,0 +1,21 @@
+package com.sudo.railo.booking.success;
+
+import org.springframework.http.HttpStatus;
+
+import com.sudo.railo.global.success.SuccessCode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum WaitlistSuccess implements SuccessCode {
+
+	WAITLIST_REGISTER_SUCCESS(HttpStatus.CREATED, "좌석 대기가 성공적으로 신청되었습니다."),
+	WAITLIST_POSITION_SUCCESS(HttpStatus.OK, "대기 순번을 성공적으로 조회했습니다."),
+	WAITLIST_OFFER_SUCCESS(HttpStatus.OK, "배정된 좌석을 성공적으로 조회했습니다."),
+	WAITLIST_CANCEL_SUCCESS(HttpStatus.NO_CONTENT, "좌석 대기가 성공적으로 취소되었습니다.");
+
+	private final HttpStatus status;
+	private final String message;
+}
@@ -19,6 +19,9 @@ public enum GlobalError implements ErrorCode {
 	FORBIDDEN_ACCESS("접근 권한이 없습니다.", HttpStatus.FORBIDDEN, "G_007"),
 	METHOD_NOT_ALLOWED("허용되지 않은 HTTP 메소드입니다.", HttpStatus.METHOD_NOT_ALLOWED, "G_008"),
 	INVALID_YN_VALUE("Y 또는 N 값만 허용됩니다.", HttpStatus.BAD_REQUEST, "G_009"),
+	INVALID_IDEMPOTENCY_KEY("Idempotency-Key 형식이 유효하지 않습니다.", HttpStatus.BAD_REQUEST, "G_010"),
+	IDEMPOTENCY_KEY_REUSED("다른 요청에 이미 사용된 Idempotency-Key입니다.", HttpStatus.UNPROCESSABLE_ENTITY, "G_011"),
+	IDEMPOTENCY_REQUEST_IN_PROGRESS("동일한 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.", HttpStatus.CONFLICT, "G_012"),
 
 	// 5xx 서버 에러
 	INTERNAL_SERVER_ERROR("내부 서버 오류가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR, "G_500"),
@@ -0,0 +1,200 @@
+package com.sudo.railo.global.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sudo.railo.global.exception.error.BusinessException;
+import com.sudo.railo.global.exception.error.GlobalError;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key 기반 중복 요청 처리 서비스
+ *
+ * 같은 키로 들어온 요청은 최초 1회만 실행하고, 이후 요청에는 저장된 응답을 반환한다.
+ * 최초 요청이 처리 중이면 같은 인스턴스의 요청은 실행 완료를 기다리고,
+ * 다른 인스턴스의 요청은 Redis에 결과가 저장될 때까지 대기한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IdempotencyService {
+
+	private static final String KEY_PREFIX = "idempotency:";
+	private static final int MAX_KEY_LENGTH = 100;
+	private static final long POLL_INTERVAL_MILLIS = 100;
+	private static final long WAIT_TIMEOUT_MILLIS = 10_000;
+	// 처리 중 표시는 대기 시간보다 조금 길게만 유지해, 인스턴스가 죽어도 키가 응답 보관 기간 내내 막히지 않게 한다
+	private static final Duration IN_PROGRESS_TTL = Duration.ofMillis(WAIT_TIMEOUT_MILLIS).plusSeconds(5);
+
+	private final RedisTemplate<String, String> stringRedisTemplate;
+	private final ObjectMapper objectMapper;
+
+	// 이 인스턴스에서 실행 중인 요청
+	private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+	/***
+	 * Idempotency-Key 단위로 한 번만 실행하는 메서드
+	 * @param scope 키 범위 (ex. reservation:{회원번호})
+	 * @param idempotencyKey 클라이언트가 전달한 Idempotency-Key
+	 * @param request 요청 본문 (같은 키로 다른 요청이 오는지 검증)
+	 * @param ttl 응답 보관 기간
+	 * @param responseType 응답 타입
+	 * @param action 실제 실행할 로직
+	 * @return 최초 실행 결과
+	 */
+	public <T> T execute(String scope, String idempotencyKey, Object request, Duration ttl, Class<T> responseType,
+		Supplier<T> action) {
+		validateKey(idempotencyKey);
+		String redisKey = KEY_PREFIX + scope + ":" + idempotencyKey;
+		String fingerprint = fingerprint(request);
+		long deadline = System.currentTimeMillis() + WAIT_TIMEOUT_MILLIS;
+
+		while (true) {
+			CompletableFuture<Void> mine = new CompletableFuture<>();
+			CompletableFuture<Void> running = inFlight.putIfAbsent(redisKey, mine);
+			if (running != null) {
+				awaitLocal(running, deadline);
+				continue;
+			}
+
+			try {
+				Optional<T> result = tryExecute(redisKey, fingerprint, ttl, responseType, action, deadline);
+				if (result.isPresent()) {
+					return result.get();
+				}
+			} finally {
+				inFlight.remove(redisKey, mine);
+				mine.complete(null);
+			}
+		}
+	}
+
+	/***
+	 * 같은 키의 요청이 완료되어 저장된 응답이 있는지 확인하는 메서드
+	 * @param scope 키 범위 (ex. reservation:{회원번호})
+	 * @param idempotencyKey 클라이언트가 전달한 Idempotency-Key
+	 * @return 저장된 응답이 있으면 true
+	 */
+	public boolean hasCompletedResponse(String scope, String idempotencyKey) {
+		String value = stringRedisTemplate.opsForValue().get(KEY_PREFIX + scope + ":" + idempotencyKey);
+		return value != null && read(value, IdempotencyRecord.class).completed();
+	}
+
+	/**
+	 * 키를 선점하면 실행 후 응답을 저장하고, 이미 선점된 키면 저장된 응답을 기다린다.
+	 * 선점했던 요청이 실패해 키가 삭제되면 empty를 반환해 다시 선점을 시도한다.
+	 */
+	private <T> Optional<T> tryExecute(String redisKey, String fingerprint, Duration ttl, Class<T> responseType,
+		Supplier<T> action, long deadline) {
+		String placeholder = write(IdempotencyRecord.inProgress(fingerprint));
+		Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(redisKey, placeholder, IN_PROGRESS_TTL);
+
+		if (Boolean.TRUE.equals(acquired)) {
+			try {
+				T response = action.get();
+				stringRedisTemplate.opsForValue()
+					.set(redisKey, write(IdempotencyRecord.completed(fingerprint, write(response))), ttl);
+				return Optional.of(response);
+			} catch (RuntimeException e) {
+				// 실패한 요청은 재시도할 수 있도록 키 삭제
+				stringRedisTemplate.delete(redisKey);
+				throw e;
+			}
+		}
+
+		while (System.currentTimeMillis() < deadline) {
+			String value = stringRedisTemplate.opsForValue().get(redisKey);
+			if (value == null) {
+				return Optional.empty();
+			}
+			IdempotencyRecord record = read(value, IdempotencyRecord.class);
+			if (!record.fingerprint().equals(fingerprint)) {
+				throw new BusinessException(GlobalError.IDEMPOTENCY_KEY_REUSED);
+			}
+			if (record.completed()) {
+				return Optional.of(read(record.response(), responseType));
+			}
+			sleep();
+		}
+		throw new BusinessException(GlobalError.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+	}
+
+	private void awaitLocal(CompletableFuture<Void> running, long deadline) {
+		long remaining = deadline - System.currentTimeMillis();
+		if (remaining <= 0) {
+			throw new BusinessException(GlobalError.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+		}
+		try {
+			running.get(remaining, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			throw new BusinessException(GlobalError.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BusinessException(GlobalError.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+		} catch (ExecutionException e) {
+			// 먼저 실행한 요청의 실패 여부와 관계없이 Redis 상태를 다시 확인
+		}
+	}
+
+	private void validateKey(String idempotencyKey) {
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			throw new BusinessException(GlobalError.INVALID_IDEMPOTENCY_KEY);
+		}
+	}
+
+	private String fingerprint(Object request) {
+		return DigestUtils.md5DigestAsHex(write(request).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void sleep() {
+		try {
+			Thread.sleep(POLL_INTERVAL_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BusinessException(GlobalError.IDEMPOTENCY_REQUEST_IN_PROGRESS);
+		}
+	}
+
+	private String write(Object value) {
+		try {
+			return objectMapper.writeValueAsString(value);
+		} catch (JsonProcessingException e) {
+			throw new BusinessException(GlobalError.INTERNAL_SERVER_ERROR, e);
+		}
+	}
+
+	private <T> T read(String value, Class<T> type) {
+		try {
+			return objectMapper.readValue(value, type);
+		} catch (JsonProcessingException e) {
+			throw new BusinessException(GlobalError.INTERNAL_SERVER_ERROR, e);
+		}
+	}
+
+	public record IdempotencyRecord(String fingerprint, boolean completed, String response) {
+
+		static IdempotencyRecord inProgress(String fingerprint) {
+			return new IdempotencyRecord(fingerprint, false, null);
+		}
+
+		static IdempotencyRecord completed(String fingerprint, String response) {
+			return new IdempotencyRecord(fingerprint, true, response);
+		}
+	}
+}
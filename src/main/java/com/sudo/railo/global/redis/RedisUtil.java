@@ -24,11 +24,20 @@ public class RedisUtil {
 		stringRedisTemplate.opsForValue().set(key, value);
 	}
 
+	public String get(String key) {
+		return stringRedisTemplate.opsForValue().get(key);
+	}
+
 	// Redis 키 값 증가
 	public Long increment(String key) {
 		return stringRedisTemplate.opsForValue().increment(key);
 	}
 
+	// Redis 키 값을 delta 만큼 증가
+	public Long increment(String key, long delta) {
+		return stringRedisTemplate.opsForValue().increment(key, delta);
+	}
+
 	// Redis 키 만료 시간 설정
 	public void expireAt(String key, Instant expireTime) {
 		stringRedisTemplate.expireAt(key, expireTime);
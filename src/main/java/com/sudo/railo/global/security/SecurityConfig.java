@@ -15,12 +15,18 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sudo.railo.global.idempotency.IdempotencyService;
 import com.sudo.railo.global.redis.RedisUtil;
 import com.sudo.railo.global.security.jwt.JwtAccessDeniedHandler;
 import com.sudo.railo.global.security.jwt.JwtAuthenticationEntryPoint;
 import com.sudo.railo.global.security.jwt.JwtFilter;
 import com.sudo.railo.global.security.jwt.TokenExtractor;
 import com.sudo.railo.global.security.jwt.TokenProvider;
+import com.sudo.railo.member.domain.Role;
+import com.sudo.railo.queue.application.AdmissionQueueService;
+import com.sudo.railo.queue.config.AdmissionProperties;
+import com.sudo.railo.queue.presentation.AdmissionFilter;
 
 import lombok.RequiredArgsConstructor;
 
@@ -34,6 +40,10 @@ public class SecurityConfig {
 	private final TokenExtractor tokenExtractor;
 	private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 	private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
+	private final AdmissionProperties admissionProperties;
+	private final AdmissionQueueService admissionQueueService;
+	private final IdempotencyService idempotencyService;
+	private final ObjectMapper objectMapper;
 
 	@Bean
 	public BCryptPasswordEncoder passwordEncoder() {
@@ -65,10 +75,14 @@ public class SecurityConfig {
 					.requestMatchers("/api/v1/guest/register", "/api/v1/trains/**").permitAll()
 					.requestMatchers("/v3/api-docs/**", "/swagger-ui/**", "/swagger-ui.html").permitAll()
 					.requestMatchers("/actuator/**", "/health").permitAll()
+					.requestMatchers("/api/v1/admin/**").hasAuthority(Role.ADMIN.name())
 					.anyRequest().authenticated();
 			})
 			.addFilterBefore(new JwtFilter(tokenExtractor, tokenProvider, redisUtil),
 				UsernamePasswordAuthenticationFilter.class)
+			// 예매/좌석 API는 대기열을 통과한 요청만 허용
+			.addFilterAfter(new AdmissionFilter(admissionProperties, admissionQueueService, idempotencyService,
+				objectMapper), JwtFilter.class)
 			.build();
 	}
 }
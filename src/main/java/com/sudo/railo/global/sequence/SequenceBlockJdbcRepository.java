@@ -0,0 +1,62 @@
+package com.sudo.railo.global.sequence;
+
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 순번 구간 JDBC 저장소
+ *
+ * id_sequence 테이블에 순번별 마지막 발급 값을 기록하고, 구간 단위로 늘려 할당한다.
+ * 호출한 트랜잭션과 별도의 짧은 트랜잭션에서 할당하므로, 예약 등 긴 트랜잭션이 행 잠금을 오래 잡지 않는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SequenceBlockJdbcRepository {
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/***
+	 * 순번 구간을 할당하는 메서드
+	 * 발급 기록이 없으면 initialValue로 만든 뒤 blockSize만큼 늘린다.
+	 * @param sequenceName 순번 이름
+	 * @param blockSize 할당할 순번 수
+	 * @param initialValue 발급 기록이 없을 때의 마지막 발급 값
+	 * @return 할당한 구간의 마지막 순번
+	 */
+	@Transactional(Transactional.TxType.REQUIRES_NEW)
+	public long allocate(String sequenceName, int blockSize, long initialValue) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("sequenceName", sequenceName)
+			.addValue("blockSize", blockSize)
+			.addValue("initialValue", initialValue);
+		namedParameterJdbcTemplate.update(
+			"INSERT IGNORE INTO id_sequence (sequence_name, last_id) VALUES (:sequenceName, :initialValue)", params);
+
+		// LAST_INSERT_ID(expr)는 연결별 값이므로 같은 트랜잭션(연결)에서 바로 읽는다
+		int updated = namedParameterJdbcTemplate.update(
+			"UPDATE id_sequence SET last_id = LAST_INSERT_ID(last_id + :blockSize) WHERE sequence_name = :sequenceName",
+			params);
+		if (updated != 1) {
+			throw new IllegalStateException("순번 발급 기록이 없습니다: " + sequenceName);
+		}
+		return namedParameterJdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()",
+			EmptySqlParameterSource.INSTANCE, Long.class);
+	}
+
+	/***
+	 * 순번 발급 기록이 있는지 확인하는 메서드
+	 * @param sequenceName 순번 이름
+	 * @return 발급 기록 존재 여부
+	 */
+	public boolean exists(String sequenceName) {
+		Integer sequences = namedParameterJdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM id_sequence WHERE sequence_name = :sequenceName",
+			new MapSqlParameterSource("sequenceName", sequenceName), Integer.class);
+		return sequences != null && sequences > 0;
+	}
+}
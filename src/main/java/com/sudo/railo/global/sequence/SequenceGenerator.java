@@ -0,0 +1,100 @@
+package com.sudo.railo.global.sequence;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.sudo.railo.global.redis.RedisUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MySQL에서 순번을 블록 단위로 할당받아 메모리에서 발급하는 순번 생성기
+ *
+ * 인스턴스마다 blockSize 만큼의 구간을 id_sequence 행 UPDATE 한 번으로 선점하고, 구간 내 순번은 락 없이 발급한다.
+ * 구간이 겹치지 않으므로 여러 인스턴스에서도 순번이 중복되지 않는다. (재시작 시 남은 구간은 버려짐)
+ * 발급 기록이 DB에 남으므로 Redis가 초기화되어도 순번이 처음부터 다시 발급되지 않는다.
+ * period가 바뀌면 (ex. 날짜) 새 구간을 할당받아 1부터 다시 시작한다.
+ * 순번 이름(id_sequence.sequence_name)은 {sequence}:{period} 형식이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SequenceGenerator {
+
+	private static final long EXHAUSTED = -1L;
+
+	private final SequenceBlockJdbcRepository sequenceBlockJdbcRepository;
+	private final RedisUtil redisUtil;
+	private final Map<String, SequenceBlock> blocks = new ConcurrentHashMap<>();
+
+	/***
+	 * 다음 순번을 발급하는 메서드
+	 * @param sequence 순번 이름
+	 * @param period 순번 주기 (주기가 바뀌면 1부터 다시 시작)
+	 * @param blockSize 한 번에 할당받을 순번 수
+	 * @return 1부터 시작하는 순번
+	 */
+	public long next(String sequence, String period, int blockSize) {
+		SequenceBlock block = blocks.get(sequence);
+		if (block != null) {
+			long value = block.tryNext(period);
+			if (value != EXHAUSTED) {
+				return value;
+			}
+		}
+		return nextFromNewBlock(sequence, period, blockSize);
+	}
+
+	private synchronized long nextFromNewBlock(String sequence, String period, int blockSize) {
+		// 대기하는 동안 다른 스레드가 새 구간을 할당받았으면 그 구간에서 발급
+		SequenceBlock block = blocks.get(sequence);
+		if (block != null) {
+			long value = block.tryNext(period);
+			if (value != EXHAUSTED) {
+				return value;
+			}
+		}
+
+		String key = sequence + ":" + period;
+		long end = sequenceBlockJdbcRepository.allocate(key, blockSize, findInitialValue(key));
+
+		SequenceBlock newBlock = new SequenceBlock(period, end - blockSize + 1, end);
+		long value = newBlock.tryNext(period);
+		blocks.put(sequence, newBlock);
+		return value;
+	}
+
+	/**
+	 * 발급 기록이 아직 없으면, 이전에 같은 키로 Redis에서 발급하던 순번 이후부터 이어서 발급한다.
+	 */
+	private long findInitialValue(String key) {
+		if (sequenceBlockJdbcRepository.exists(key)) {
+			return 0L;
+		}
+		String issued = redisUtil.get(key);
+		return issued != null ? Long.parseLong(issued) : 0L;
+	}
+
+	private static final class SequenceBlock {
+
+		private final String period;
+		private final AtomicLong next;
+		private final long end;
+
+		private SequenceBlock(String period, long start, long end) {
+			this.period = period;
+			this.next = new AtomicLong(start);
+			this.end = end;
+		}
+
+		private long tryNext(String period) {
+			if (!this.period.equals(period)) {
+				return EXHAUSTED;
+			}
+			long value = next.getAndIncrement();
+			return value <= end ? value : EXHAUSTED;
+		}
+	}
+}
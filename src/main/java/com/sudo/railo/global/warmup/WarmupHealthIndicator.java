@@ -0,0 +1,32 @@
+package com.sudo.railo.global.warmup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 워밍업 완료 여부 헬스 인디케이터
+ *
+ * readiness 그룹에 포함되어, 워밍업이 끝나기 전까지 /actuator/health/readiness 가 DOWN(503)을 반환한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+	private final WarmupService warmupService;
+
+	@Override
+	public Health health() {
+		WarmupService.WarmupResult result = warmupService.getResult();
+		if (result == null) {
+			return Health.down().withDetail("status", "warming up").build();
+		}
+		return Health.up()
+			.withDetail("durationMs", result.durationMs())
+			.withDetail("syntheticCalls", result.syntheticCalls())
+			.withDetail("failedCalls", result.failedCalls())
+			.build();
+	}
+}
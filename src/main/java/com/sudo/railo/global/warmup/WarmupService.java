@@ -0,0 +1,212 @@
+package com.sudo.railo.global.warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import com.sudo.railo.train.application.FareQuoteEngine;
+import com.sudo.railo.train.application.TimetableTemplateService;
+import com.sudo.railo.train.application.TrainScheduleService;
+import com.sudo.railo.train.application.TrainSearchApplicationService;
+import com.sudo.railo.train.application.dto.request.TrainCarListRequest;
+import com.sudo.railo.train.application.dto.request.TrainCarSeatDetailRequest;
+import com.sudo.railo.train.application.dto.request.TrainSearchRequest;
+import com.sudo.railo.train.application.dto.response.TrainCarListResponse;
+import com.sudo.railo.train.domain.FareTable;
+import com.sudo.railo.train.domain.Station;
+import com.sudo.railo.train.domain.type.FareClass;
+import com.sudo.railo.train.infrastructure.StationRepository;
+import com.sudo.railo.train.infrastructure.TrainCarRepository;
+import com.sudo.railo.train.infrastructure.TrainScheduleJdbcRepository.StoredScheduleStop;
+import com.sudo.railo.train.infrastructure.TrainScheduleJdbcRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 직후 워밍업 서비스
+ *
+ * 새 파드가 트래픽을 받기 전에 참조 데이터(역, 구간 운임, 열차 편성, 오늘 운행 스케줄)를 미리 적재하고,
+ * 오늘 운행 스케줄로 열차 검색/좌석 조회/운임 조회를 반복 호출해 Hibernate 메타데이터와 JIT를 데운다.
+ * 워밍업이 끝나야 WarmupHealthIndicator가 UP이 되어 readiness 프로브를 통과한다.
+ * 워밍업 호출이 실패해도 파드가 준비되지 못하는 일이 없도록 실패 건수만 기록하고 완료 처리한다.
+ */
+@Slf4j
+@Service
+public class WarmupService {
+
+	private static final String WARMUP_DEPARTURE_HOUR = "00";
+	private static final Pageable WARMUP_PAGE = PageRequest.of(0, 20, Sort.by("departureTime"));
+
+	private final StationRepository stationRepository;
+	private final TrainCarRepository trainCarRepository;
+	private final TrainScheduleJdbcRepository trainScheduleJdbcRepository;
+	private final TimetableTemplateService timetableTemplateService;
+	private final FareQuoteEngine fareQuoteEngine;
+	private final TrainScheduleService trainScheduleService;
+	private final TrainSearchApplicationService trainSearchApplicationService;
+	private final Timer warmupTimer;
+
+	@Value("${warmup.enabled:true}")
+	private boolean enabled;
+
+	@Value("${warmup.sample-size:20}")
+	private int sampleSize;
+
+	@Value("${warmup.iterations:5}")
+	private int iterations;
+
+	// 워밍업 결과 (완료 전에는 null)
+	private volatile WarmupResult result;
+
+	public WarmupService(StationRepository stationRepository, TrainCarRepository trainCarRepository,
+		TrainScheduleJdbcRepository trainScheduleJdbcRepository, TimetableTemplateService timetableTemplateService,
+		FareQuoteEngine fareQuoteEngine, TrainScheduleService trainScheduleService,
+		TrainSearchApplicationService trainSearchApplicationService, MeterRegistry meterRegistry) {
+		this.stationRepository = stationRepository;
+		this.trainCarRepository = trainCarRepository;
+		this.trainScheduleJdbcRepository = trainScheduleJdbcRepository;
+		this.timetableTemplateService = timetableTemplateService;
+		this.fareQuoteEngine = fareQuoteEngine;
+		this.trainScheduleService = trainScheduleService;
+		this.trainSearchApplicationService = trainSearchApplicationService;
+		this.warmupTimer = Timer.builder("application.warmup")
+			.description("기동 워밍업 소요 시간")
+			.register(meterRegistry);
+	}
+
+	public WarmupResult getResult() {
+		return result;
+	}
+
+	/***
+	 * 참조 데이터를 적재하고 합성 요청을 반복 호출하는 메서드 (기동 완료 시 한 번 실행)
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		if (!enabled) {
+			result = new WarmupResult(0, 0, 0);
+			return;
+		}
+		long startedAt = System.nanoTime();
+		log.info("워밍업 시작");
+
+		WarmupCalls calls = new WarmupCalls();
+		try {
+			List<WarmupRoute> routes = preload();
+			for (int i = 0; i < iterations; i++) {
+				routes.forEach(route -> replay(route, calls));
+			}
+		} catch (Exception e) {
+			log.warn("워밍업 참조 데이터 적재 실패", e);
+			calls.failed++;
+		}
+
+		long elapsed = System.nanoTime() - startedAt;
+		warmupTimer.record(elapsed, TimeUnit.NANOSECONDS);
+		result = new WarmupResult(TimeUnit.NANOSECONDS.toMillis(elapsed), calls.total, calls.failed);
+		log.info("워밍업 완료: 합성 호출 {}건(실패 {}건), {}ms", calls.total, calls.failed, result.durationMs());
+	}
+
+	/**
+	 * 참조 데이터를 적재하고, 오늘 운행 스케줄 중 일부를 (시발역, 종착역) 구간으로 골라 반환한다.
+	 */
+	private List<WarmupRoute> preload() {
+		Map<String, Long> stationIds = stationRepository.findAll().stream()
+			.collect(Collectors.toMap(Station::getStationName, Station::getId, (a, b) -> a));
+		fareQuoteEngine.loadAll();
+		int trainCars = trainCarRepository.findAll().size();
+		timetableTemplateService.getTemplate();
+
+		LocalDate today = LocalDate.now();
+		Map<Long, List<StoredScheduleStop>> stopsBySchedule = trainScheduleJdbcRepository
+			.findScheduleStops(today, today).stream()
+			.collect(Collectors.groupingBy(StoredScheduleStop::trainScheduleId));
+		log.info("워밍업 참조 데이터 적재 완료: 역 {}개, 객차 {}개, 오늘 운행 스케줄 {}개",
+			stationIds.size(), trainCars, stopsBySchedule.size());
+
+		List<WarmupRoute> routes = new ArrayList<>();
+		int step = Math.max(1, stopsBySchedule.size() / Math.max(1, sampleSize));
+		List<Long> trainScheduleIds = stopsBySchedule.keySet().stream().sorted().toList();
+		for (int i = 0; i < trainScheduleIds.size() && routes.size() < sampleSize; i += step) {
+			Long trainScheduleId = trainScheduleIds.get(i);
+			List<StoredScheduleStop> stops = stopsBySchedule.get(trainScheduleId).stream()
+				.sorted(Comparator.comparingInt(StoredScheduleStop::stopOrder))
+				.toList();
+			Long departureStationId = stationIds.get(stops.get(0).stationName());
+			Long arrivalStationId = stationIds.get(stops.get(stops.size() - 1).stationName());
+			if (departureStationId != null && arrivalStationId != null
+				&& !departureStationId.equals(arrivalStationId)) {
+				routes.add(new WarmupRoute(trainScheduleId, departureStationId, arrivalStationId, today));
+			}
+		}
+		return routes;
+	}
+
+	/**
+	 * 사용자 요청과 같은 경로(검색 -> 객차 목록 -> 좌석 상세, 운임 조회)로 호출한다.
+	 */
+	private void replay(WarmupRoute route, WarmupCalls calls) {
+		calls.call(() -> trainScheduleService.searchTrains(new TrainSearchRequest(route.departureStationId(),
+			route.arrivalStationId(), route.operationDate(), 1, WARMUP_DEPARTURE_HOUR, null), WARMUP_PAGE));
+
+		TrainCarListResponse trainCars = calls.call(() -> trainSearchApplicationService.getAvailableTrainCars(
+			new TrainCarListRequest(route.trainScheduleId(), route.departureStationId(), route.arrivalStationId(),
+				1)));
+		if (trainCars != null && !trainCars.carInfos().isEmpty()) {
+			calls.call(() -> trainSearchApplicationService.getTrainCarSeatDetail(new TrainCarSeatDetailRequest(
+				trainCars.carInfos().get(0).id(), route.trainScheduleId(), route.departureStationId(),
+				route.arrivalStationId())));
+		}
+
+		calls.call(() -> {
+			FareTable fareTable = fareQuoteEngine.getFareTable(route.departureStationId(), route.arrivalStationId());
+			return fareTable.total(FareClass.STANDARD, FareTable.adultPassengerCounts(1));
+		});
+	}
+
+	public record WarmupResult(long durationMs, int syntheticCalls, int failedCalls) {
+	}
+
+	private record WarmupRoute(
+		Long trainScheduleId,
+		Long departureStationId,
+		Long arrivalStationId,
+		LocalDate operationDate
+	) {
+	}
+
+	/**
+	 * 합성 호출 건수/실패 건수 집계 (워밍업 스레드 하나에서만 사용)
+	 */
+	private static class WarmupCalls {
+
+		private int total;
+		private int failed;
+
+		private <T> T call(Supplier<T> call) {
+			total++;
+			try {
+				return call.get();
+			} catch (Exception e) {
+				failed++;
+				log.debug("워밍업 호출 실패: {}", e.getMessage());
+				return null;
+			}
+		}
+	}
+}
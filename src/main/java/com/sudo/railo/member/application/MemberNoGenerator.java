@@ -1,15 +1,12 @@
 package com.sudo.railo.member.application;
 
-import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 
 import org.springframework.stereotype.Component;
 
-import com.sudo.railo.global.redis.RedisUtil;
+import com.sudo.railo.global.sequence.SequenceGenerator;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,25 +16,19 @@ public class MemberNoGenerator {
 
 	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
 	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private static final String SEQUENCE_NAME = "todayKey"; // 기존 Redis 키(todayKey:yyyyMMdd)의 순번을 이어서 발급
+	private static final int BLOCK_SIZE = 20;
 
-	private final RedisUtil redisUtil;
+	private final SequenceGenerator sequenceGenerator;
 
 	public String generateMemberNo() {
-		String today = LocalDate.now().format(DATE_FORMATTER);
-		String redisKey = "todayKey:" + today;
+		LocalDate today = LocalDate.now(ZONE_ID);
+		String todayStr = today.format(DATE_FORMATTER);
 
-		Long counter = redisUtil.increment(redisKey);
-
-		// 자정까지 남은 시간 계산
-		ZonedDateTime midnightToday = ZonedDateTime.of(LocalDate.now(ZONE_ID), LocalTime.MAX, ZONE_ID);
-		Instant midnightInstant = midnightToday.toInstant();
-
-		// 자정 만료
-		redisUtil.expireAt(redisKey, midnightInstant);
+		long counter = sequenceGenerator.next(SEQUENCE_NAME, todayStr, BLOCK_SIZE);
 
 		String paddedCounter = String.format("%04d", counter);
 
-		return today + paddedCounter;
+		return todayStr + paddedCounter;
 	}
 }
-
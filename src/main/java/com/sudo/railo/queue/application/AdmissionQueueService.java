@@ -0,0 +1,168 @@
+package com.sudo.railo.queue.application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.sudo.railo.global.exception.error.BusinessException;
+import com.sudo.railo.queue.application.dto.request.QueueTicketRequest;
+import com.sudo.railo.queue.application.dto.response.QueueTicketResponse;
+import com.sudo.railo.queue.config.AdmissionProperties;
+import com.sudo.railo.queue.exception.QueueError;
+import com.sudo.railo.queue.infra.AdmissionQueueRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예매 오픈 시 가상 대기실 서비스
+ *
+ * 운행일 단위로 대기열을 구성하고, 매 초 그룹별 admitsPerSecond 명씩 입장시킨다.
+ * 예매 오픈은 운행일 단위로 열리고 입장 시점에는 이용할 열차를 고르기 전이므로, 스케줄 그룹은 운행일로 나눈다.
+ * 입장한 대기표만 예매/좌석 API를 호출할 수 있다.
+ * 대기표는 발급한 회원만 사용할 수 있고, 입장 후 maxUses 번 사용하거나 예약을 완료하면 소진된다.
+ * 예약 요청의 운행일이 대기표의 운행일과 다르면 거부한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AdmissionQueueService {
+
+	// 입장 확인된 요청에 대기표의 운행일(그룹)을 담는 요청 속성
+	public static final String ADMITTED_GROUP_ATTRIBUTE = AdmissionQueueService.class.getName() + ".admittedGroup";
+
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+	private final AdmissionProperties admissionProperties;
+	private final AdmissionQueueRepository admissionQueueRepository;
+
+	/***
+	 * 대기표를 발급하는 메서드
+	 * @param request 대기표 발급 요청 DTO
+	 * @param memberNo 대기표를 발급받는 회원 번호
+	 * @return 대기표와 대기 순번
+	 */
+	public QueueTicketResponse issueTicket(QueueTicketRequest request, String memberNo) {
+		String group = request.operationDate().toString();
+		String token = UUID.randomUUID().toString();
+
+		// 대기열은 운행일이 끝나면 자동 삭제
+		Instant expireAt = request.operationDate().plusDays(1)
+			.atStartOfDay(ZONE_ID)
+			.toInstant();
+		admissionQueueRepository.enqueue(group, token, memberNo, Duration.ofMinutes(admissionProperties.getTicketTtl()),
+			expireAt);
+		return getStatus(token, memberNo);
+	}
+
+	/***
+	 * 대기 상태(순번, 예상 대기 시간)를 조회하는 메서드
+	 * @param token 대기표 토큰
+	 * @param memberNo 조회하는 회원 번호 (다른 회원의 대기표는 찾을 수 없는 것으로 처리)
+	 */
+	public QueueTicketResponse getStatus(String token, String memberNo) {
+		if (isAdmittedTo(token, memberNo)) {
+			return QueueTicketResponse.admitted(token);
+		}
+		if (!admissionQueueRepository.findOwner(token).map(memberNo::equals).orElse(false)) {
+			throw new BusinessException(QueueError.QUEUE_TICKET_NOT_FOUND);
+		}
+		String group = admissionQueueRepository.findGroup(token)
+			.orElseThrow(() -> new BusinessException(QueueError.QUEUE_TICKET_NOT_FOUND));
+		Optional<Long> rank = admissionQueueRepository.findRank(group, token);
+
+		// 조회 직전에 입장 처리된 경우
+		if (rank.isEmpty()) {
+			if (isAdmittedTo(token, memberNo)) {
+				return QueueTicketResponse.admitted(token);
+			}
+			throw new BusinessException(QueueError.QUEUE_TICKET_NOT_FOUND);
+		}
+
+		long position = rank.get() + 1;
+		long etaSeconds = (position + admissionProperties.getAdmitsPerSecond() - 1)
+			/ admissionProperties.getAdmitsPerSecond();
+		return QueueTicketResponse.waiting(token, position, etaSeconds);
+	}
+
+	private boolean isAdmittedTo(String token, String memberNo) {
+		return admissionQueueRepository.findAdmittedOwner(token).map(memberNo::equals).orElse(false);
+	}
+
+	/***
+	 * 입장한 대기표를 한 번 사용하는 메서드
+	 * @param token 대기표 토큰
+	 * @param memberNo 요청한 회원 번호
+	 * @return 대기표의 운행일(그룹)
+	 * @throws BusinessException 입장 전이거나, 다른 회원의 대기표이거나, 사용 횟수를 모두 소진한 경우
+	 */
+	public String enter(String token, String memberNo) {
+		long remaining = admissionQueueRepository.use(token, memberNo);
+		if (remaining == AdmissionQueueRepository.NOT_OWNER) {
+			throw new BusinessException(QueueError.QUEUE_TICKET_NOT_OWNED);
+		}
+		if (remaining == AdmissionQueueRepository.EXHAUSTED) {
+			throw new BusinessException(QueueError.QUEUE_TICKET_EXHAUSTED);
+		}
+		if (remaining == AdmissionQueueRepository.NOT_ADMITTED) {
+			throw new BusinessException(QueueError.QUEUE_NOT_ADMITTED);
+		}
+		return admissionQueueRepository.findAdmittedGroup(token)
+			.orElseThrow(() -> new BusinessException(QueueError.QUEUE_NOT_ADMITTED));
+	}
+
+	/***
+	 * 예약을 완료한 대기표를 소진하는 메서드 (같은 대기표로 다시 예약할 수 없음)
+	 */
+	public void consume(String token) {
+		admissionQueueRepository.consume(token);
+	}
+
+	/***
+	 * 예약하려는 운행일이 대기표의 운행일과 같은지 확인하는 메서드
+	 * 대기열을 거치지 않는 요청(대기열 비활성화, 보호 대상 외 경로)은 확인하지 않는다.
+	 * @param operationDate 예약하려는 운행일
+	 */
+	public void verifyOperationDate(LocalDate operationDate) {
+		if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+			return;
+		}
+		Object admittedGroup = attributes.getRequest().getAttribute(ADMITTED_GROUP_ATTRIBUTE);
+		if (admittedGroup != null && !admittedGroup.equals(operationDate.toString())) {
+			throw new BusinessException(QueueError.QUEUE_TICKET_DATE_MISMATCH);
+		}
+	}
+
+	/***
+	 * 그룹별로 초당 입장 인원만큼 입장 처리하는 메서드
+	 * 여러 인스턴스가 동시에 실행해도 초당 한 번만 입장 처리된다.
+	 */
+	public void admitNext() {
+		if (!admissionQueueRepository.tryAcquireAdmitLock(Instant.now().getEpochSecond())) {
+			return;
+		}
+
+		LocalDate today = LocalDate.now(ZONE_ID);
+		Duration admittedTtl = Duration.ofMinutes(admissionProperties.getAdmittedTtl());
+		for (String group : admissionQueueRepository.findGroups()) {
+			List<String> admitted = admissionQueueRepository.admit(group, admissionProperties.getAdmitsPerSecond(),
+				admissionProperties.getMaxUses(), admittedTtl);
+			if (!admitted.isEmpty()) {
+				log.debug("대기열 입장 처리: group={}, 입장={}명", group, admitted.size());
+			}
+
+			// 지난 운행일의 빈 대기열 정리
+			if (LocalDate.parse(group).isBefore(today) && admissionQueueRepository.countWaiting(group) == 0) {
+				admissionQueueRepository.removeGroup(group);
+			}
+		}
+	}
+}
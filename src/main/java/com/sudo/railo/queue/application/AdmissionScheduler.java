@@ -0,0 +1,30 @@
+package com.sudo.railo.queue.application;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sudo.railo.queue.config.AdmissionProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdmissionScheduler {
+
+	private final AdmissionProperties admissionProperties;
+	private final AdmissionQueueService admissionQueueService;
+
+	@Scheduled(fixedRate = 1000) // 매 초마다 실행
+	public void admitNext() {
+		if (!admissionProperties.isEnabled()) {
+			return;
+		}
+		try {
+			admissionQueueService.admitNext();
+		} catch (Exception e) {
+			log.error("대기열 입장 처리 실패", e);
+		}
+	}
+}
@@ -0,0 +1,14 @@
+package com.sudo.railo.queue.application.dto.request;
+
+import java.time.LocalDate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "대기표 발급 요청 DTO")
+public record QueueTicketRequest(
+	@Schema(description = "예매하려는 운행 날짜 (같은 운행일의 스케줄은 하나의 대기열을 사용)", example = "2025-10-05")
+	@NotNull(message = "운행 날짜는 필수입니다")
+	LocalDate operationDate
+) {
+}
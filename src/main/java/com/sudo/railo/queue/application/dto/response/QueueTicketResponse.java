@@ -0,0 +1,29 @@
+package com.sudo.railo.queue.application.dto.response;
+
+import com.sudo.railo.queue.domain.QueueTicketStatus;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "대기표 응답 DTO")
+public record QueueTicketResponse(
+	@Schema(description = "대기표 토큰 (입장 후 X-Queue-Token 헤더로 전달)", example = "0b9f6f0e-4a3c-4c47-9f0c-6a8f0c8c1c1a")
+	String token,
+
+	@Schema(description = "대기 상태", example = "WAITING")
+	QueueTicketStatus status,
+
+	@Schema(description = "현재 대기 순번 (입장 시 0)", example = "1520")
+	long position,
+
+	@Schema(description = "예상 대기 시간(초)", example = "16")
+	long etaSeconds
+) {
+
+	public static QueueTicketResponse waiting(String token, long position, long etaSeconds) {
+		return new QueueTicketResponse(token, QueueTicketStatus.WAITING, position, etaSeconds);
+	}
+
+	public static QueueTicketResponse admitted(String token) {
+		return new QueueTicketResponse(token, QueueTicketStatus.ADMITTED, 0, 0);
+	}
+}
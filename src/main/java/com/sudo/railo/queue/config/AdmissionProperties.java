@@ -0,0 +1,29 @@
+package com.sudo.railo.queue.config;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예매 오픈 시 대기열(입장 제어) 설정
+ */
+@Getter
+@RequiredArgsConstructor
+@ConfigurationProperties(prefix = "admission")
+public class AdmissionProperties {
+
+	private final boolean enabled;
+	private final int admitsPerSecond;    // 그룹별 초당 입장 인원
+	private final int admittedTtl;        // 입장 후 예매 가능 시간(분)
+	private final int ticketTtl;          // 대기표 유효 시간(분)
+	private final int maxUses;            // 입장 후 대기표 최대 사용 횟수
+	private final List<String> protectedPaths;
+	private final List<String> consumePaths; // 성공하면 대기표를 소진하는 경로 (예약 생성)
+
+	public List<String> getConsumePaths() {
+		return consumePaths != null ? consumePaths : List.of();
+	}
+}
@@ -0,0 +1,37 @@
+package com.sudo.railo.queue.docs;
+
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import com.sudo.railo.global.exception.error.ErrorResponse;
+import com.sudo.railo.global.success.SuccessResponse;
+import com.sudo.railo.queue.application.dto.request.QueueTicketRequest;
+import com.sudo.railo.queue.application.dto.response.QueueTicketResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@Tag(name = "Queue")
+public interface QueueControllerDocs {
+
+	@Operation(method = "POST", summary = "대기표 발급", description = "운행일 단위 대기열에 대기표를 발급합니다. 입장 후 X-Queue-Token 헤더로 예매/좌석 API를 호출할 수 있습니다.", security = {
+		@SecurityRequirement(name = "bearerAuth")})
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "201", description = "대기표가 성공적으로 발급되었습니다."),
+		@ApiResponse(responseCode = "400", description = "요청 본문이 유효하지 않습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	SuccessResponse<QueueTicketResponse> issueTicket(@RequestBody QueueTicketRequest request, String memberNo);
+
+	@Operation(method = "GET", summary = "대기 상태 조회", description = "대기 순번과 예상 대기 시간을 조회합니다.", security = {
+		@SecurityRequirement(name = "bearerAuth")})
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "200", description = "대기 상태를 성공적으로 조회했습니다."),
+		@ApiResponse(responseCode = "404", description = "대기표를 찾을 수 없습니다.", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+	})
+	SuccessResponse<QueueTicketResponse> getStatus(@PathVariable String token, String memberNo);
+}
@@ -0,0 +1,14 @@
+package com.sudo.railo.queue.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum QueueTicketStatus {
+
+	WAITING("대기중"),
+	ADMITTED("입장");
+
+	private final String description;
+}
@@ -0,0 +1,24 @@
+package com.sudo.railo.queue.exception;
+
+import org.springframework.http.HttpStatus;
+
+import com.sudo.railo.global.exception.error.ErrorCode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum QueueError implements ErrorCode {
+
+	QUEUE_TICKET_REQUIRED("대기열 입장권이 필요합니다.", HttpStatus.PRECONDITION_REQUIRED, "Q_001"),
+	QUEUE_NOT_ADMITTED("아직 입장 순서가 아닙니다.", HttpStatus.TOO_MANY_REQUESTS, "Q_002"),
+	QUEUE_TICKET_NOT_FOUND("대기표를 찾을 수 없습니다.", HttpStatus.NOT_FOUND, "Q_003"),
+	QUEUE_TICKET_NOT_OWNED("다른 회원의 대기표는 사용할 수 없습니다.", HttpStatus.FORBIDDEN, "Q_004"),
+	QUEUE_TICKET_EXHAUSTED("대기표 사용 횟수를 모두 소진했습니다. 대기표를 다시 발급해주세요.", HttpStatus.GONE, "Q_005"),
+	QUEUE_TICKET_DATE_MISMATCH("대기표의 운행일과 예약하려는 운행일이 다릅니다.", HttpStatus.BAD_REQUEST, "Q_006");
+
+	private final String message;
+	private final HttpStatus status;
+	private final String code;
+}
@@ -0,0 +1,160 @@
+package com.sudo.railo.queue.infra;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 입장 대기열 Redis 저장소
+ *
+ * - queue:waiting:{그룹}  : 대기 중인 대기표 (ZSET, score = 발급 순번)
+ * - queue:seq:{그룹}      : 대기표 발급 순번 (STRING)
+ * - queue:groups          : 대기열이 존재하는 그룹 목록 (SET)
+ * - queue:ticket:{토큰}   : 대기표의 그룹, 발급 회원 (HASH, TTL = 대기표 유효 시간)
+ * - queue:admitted:{토큰} : 입장 완료된 대기표의 그룹, 발급 회원, 남은 사용 횟수 (HASH, TTL = 예매 가능 시간)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AdmissionQueueRepository {
+
+	private static final String WAITING_PREFIX = "queue:waiting:";
+	private static final String SEQUENCE_PREFIX = "queue:seq:";
+	private static final String GROUPS_KEY = "queue:groups";
+	private static final String TICKET_PREFIX = "queue:ticket:";
+	private static final String ADMITTED_PREFIX = "queue:admitted:";
+	private static final String ADMIT_LOCK_PREFIX = "queue:admit-lock:";
+	private static final String GROUP_FIELD = "group";
+	private static final String MEMBER_FIELD = "memberNo";
+	private static final String REMAINING_FIELD = "remaining";
+
+	public static final long NOT_ADMITTED = -1L;
+	public static final long NOT_OWNER = -2L;
+	public static final long EXHAUSTED = -3L;
+
+	// 발급 회원이 맞으면 남은 사용 횟수를 1 차감하고 차감 후 값을 반환 (모두 사용했으면 입장 정보 삭제)
+	private static final RedisScript<Long> USE_SCRIPT = new DefaultRedisScript<>(
+		"local owner = redis.call('HGET', KEYS[1], 'memberNo') "
+			+ "if not owner then return -1 end "
+			+ "if owner ~= ARGV[1] then return -2 end "
+			+ "local remaining = redis.call('HINCRBY', KEYS[1], 'remaining', -1) "
+			+ "if remaining < 0 then redis.call('DEL', KEYS[1]) return -3 end "
+			+ "return remaining",
+		Long.class);
+
+	private final RedisTemplate<String, String> stringRedisTemplate;
+
+	/***
+	 * 대기열 맨 뒤에 대기표를 추가하는 메서드
+	 */
+	public void enqueue(String group, String token, String memberNo, Duration ticketTtl, Instant expireAt) {
+		String waitingKey = WAITING_PREFIX + group;
+		String sequenceKey = SEQUENCE_PREFIX + group;
+		String ticketKey = TICKET_PREFIX + token;
+
+		// 입장 처리 시 발급 회원을 읽으므로 대기열에 넣기 전에 대기표 정보를 먼저 저장
+		stringRedisTemplate.opsForHash().putAll(ticketKey, Map.of(GROUP_FIELD, group, MEMBER_FIELD, memberNo));
+		stringRedisTemplate.expire(ticketKey, ticketTtl);
+		Long sequence = stringRedisTemplate.opsForValue().increment(sequenceKey);
+		stringRedisTemplate.opsForZSet().add(waitingKey, token, sequence);
+		stringRedisTemplate.opsForSet().add(GROUPS_KEY, group);
+		stringRedisTemplate.expireAt(waitingKey, expireAt);
+		stringRedisTemplate.expireAt(sequenceKey, expireAt);
+	}
+
+	public Optional<String> findGroup(String token) {
+		return Optional.ofNullable(stringRedisTemplate.<String, String>opsForHash().get(TICKET_PREFIX + token,
+			GROUP_FIELD));
+	}
+
+	public Optional<String> findOwner(String token) {
+		return Optional.ofNullable(stringRedisTemplate.<String, String>opsForHash().get(TICKET_PREFIX + token,
+			MEMBER_FIELD));
+	}
+
+	public Optional<String> findAdmittedOwner(String token) {
+		return Optional.ofNullable(stringRedisTemplate.<String, String>opsForHash().get(ADMITTED_PREFIX + token,
+			MEMBER_FIELD));
+	}
+
+	public Optional<String> findAdmittedGroup(String token) {
+		return Optional.ofNullable(stringRedisTemplate.<String, String>opsForHash().get(ADMITTED_PREFIX + token,
+			GROUP_FIELD));
+	}
+
+	public Optional<Long> findRank(String group, String token) {
+		return Optional.ofNullable(stringRedisTemplate.opsForZSet().rank(WAITING_PREFIX + group, token));
+	}
+
+	public Set<String> findGroups() {
+		Set<String> groups = stringRedisTemplate.opsForSet().members(GROUPS_KEY);
+		return groups != null ? groups : Set.of();
+	}
+
+	public void removeGroup(String group) {
+		stringRedisTemplate.opsForSet().remove(GROUPS_KEY, group);
+	}
+
+	public long countWaiting(String group) {
+		Long size = stringRedisTemplate.opsForZSet().zCard(WAITING_PREFIX + group);
+		return size != null ? size : 0L;
+	}
+
+	/***
+	 * 대기열 앞에서 count 만큼 꺼내 입장 처리하는 메서드
+	 * @return 입장 처리된 대기표 목록
+	 */
+	public List<String> admit(String group, int count, int maxUses, Duration admittedTtl) {
+		Set<TypedTuple<String>> popped = stringRedisTemplate.opsForZSet().popMin(WAITING_PREFIX + group, count);
+		if (popped == null || popped.isEmpty()) {
+			return List.of();
+		}
+		List<String> tokens = popped.stream().map(TypedTuple::getValue).toList();
+		for (String token : tokens) {
+			// 대기 중 대기표가 만료되었으면 발급 회원을 알 수 없으므로 입장시키지 않음
+			Optional<String> owner = findOwner(token);
+			if (owner.isEmpty()) {
+				continue;
+			}
+			String admittedKey = ADMITTED_PREFIX + token;
+			stringRedisTemplate.opsForHash().putAll(admittedKey, Map.of(GROUP_FIELD, group, MEMBER_FIELD, owner.get(),
+				REMAINING_FIELD, String.valueOf(maxUses)));
+			stringRedisTemplate.expire(admittedKey, admittedTtl);
+		}
+		return tokens;
+	}
+
+	/***
+	 * 입장한 대기표를 한 번 사용하는 메서드
+	 * @return 남은 사용 횟수, 또는 NOT_ADMITTED / NOT_OWNER / EXHAUSTED
+	 */
+	public long use(String token, String memberNo) {
+		Long remaining = stringRedisTemplate.execute(USE_SCRIPT, List.of(ADMITTED_PREFIX + token), memberNo);
+		return remaining != null ? remaining : NOT_ADMITTED;
+	}
+
+	/***
+	 * 입장한 대기표를 소진하는 메서드 (예약 완료 시)
+	 */
+	public void consume(String token) {
+		stringRedisTemplate.delete(ADMITTED_PREFIX + token);
+	}
+
+	/***
+	 * 초 단위 입장 처리 권한을 획득하는 메서드 (여러 인스턴스 중 하나만 입장 처리)
+	 */
+	public boolean tryAcquireAdmitLock(long epochSecond) {
+		return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+			.setIfAbsent(ADMIT_LOCK_PREFIX + epochSecond, "1", Duration.ofSeconds(2)));
+	}
+}
@@ -0,0 +1,135 @@
+package com.sudo.railo.queue.presentation;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sudo.railo.global.exception.error.BusinessException;
+import com.sudo.railo.global.exception.error.ErrorCode;
+import com.sudo.railo.global.exception.error.ErrorResponse;
+import com.sudo.railo.global.idempotency.IdempotencyService;
+import com.sudo.railo.queue.application.AdmissionQueueService;
+import com.sudo.railo.queue.application.dto.response.QueueTicketResponse;
+import com.sudo.railo.queue.config.AdmissionProperties;
+import com.sudo.railo.queue.exception.QueueError;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+// 예매/좌석 API 요청 중 대기열을 통과(입장)한 요청만 통과시키는 역할을 수행
+@RequiredArgsConstructor
+public class AdmissionFilter extends OncePerRequestFilter {
+
+	public static final String QUEUE_TOKEN_HEADER = "X-Queue-Token";
+
+	private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+	private static final String RESERVATION_IDEMPOTENCY_SCOPE = "reservation:"; // ReservationController와 같은 범위
+	private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+	private final AdmissionProperties admissionProperties;
+	private final AdmissionQueueService admissionQueueService;
+	private final IdempotencyService idempotencyService;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		// 좌석을 새로 점유하는 POST 요청만 대기열 대상 (조회, 취소, 삭제는 제외)
+		if (!admissionProperties.isEnabled() || !HttpMethod.POST.matches(request.getMethod())) {
+			return true;
+		}
+		String requestUri = request.getRequestURI();
+		return admissionProperties.getProtectedPaths().stream()
+			.noneMatch(pattern -> PATH_MATCHER.match(pattern, requestUri));
+	}
+
+	@Override
+	protected void doFilterInternal(
+		HttpServletRequest request,
+		HttpServletResponse response,
+		FilterChain filterChain
+	) throws ServletException, IOException {
+
+		String token = request.getHeader(QUEUE_TOKEN_HEADER);
+		if (!StringUtils.hasText(token)) {
+			writeError(response, QueueError.QUEUE_TICKET_REQUIRED, null);
+			return;
+		}
+
+		// 대기표는 발급한 회원만 사용 가능 (JwtFilter 이후에 실행되므로 인증 정보가 있음)
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !authentication.isAuthenticated()) {
+			writeError(response, QueueError.QUEUE_TICKET_NOT_OWNED, null);
+			return;
+		}
+		String memberNo = authentication.getName();
+
+		// 이미 완료된 예약 요청의 재시도는 대기표가 소진되었어도 통과시켜 저장된 응답을 돌려받게 함
+		// (컨트롤러가 요청 본문까지 확인해 저장된 응답만 반환하므로 새 예약은 생성되지 않음)
+		if (isCompletedReplay(request, memberNo)) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		String admittedGroup;
+		try {
+			admittedGroup = admissionQueueService.enter(token, memberNo);
+		} catch (BusinessException e) {
+			writeNotAdmitted(response, e, token, memberNo);
+			return;
+		}
+
+		request.setAttribute(AdmissionQueueService.ADMITTED_GROUP_ATTRIBUTE, admittedGroup);
+		filterChain.doFilter(request, response);
+
+		// 예약에 성공하면 대기표를 소진해 같은 대기표로 다시 예약할 수 없게 함
+		if (HttpStatus.valueOf(response.getStatus()).is2xxSuccessful() && isConsumePath(request)) {
+			admissionQueueService.consume(token);
+		}
+	}
+
+	private void writeNotAdmitted(HttpServletResponse response, BusinessException e, String token, String memberNo)
+		throws IOException {
+		if (e.getErrorCode() != QueueError.QUEUE_NOT_ADMITTED) {
+			writeError(response, e.getErrorCode(), null);
+			return;
+		}
+		try {
+			QueueTicketResponse status = admissionQueueService.getStatus(token, memberNo);
+			writeError(response, QueueError.QUEUE_NOT_ADMITTED,
+				Map.of("position", status.position(), "etaSeconds", status.etaSeconds()));
+		} catch (BusinessException ex) {
+			writeError(response, ex.getErrorCode(), null);
+		}
+	}
+
+	private boolean isCompletedReplay(HttpServletRequest request, String memberNo) {
+		String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+		return StringUtils.hasText(idempotencyKey) && isConsumePath(request)
+			&& idempotencyService.hasCompletedResponse(RESERVATION_IDEMPOTENCY_SCOPE + memberNo, idempotencyKey);
+	}
+
+	private boolean isConsumePath(HttpServletRequest request) {
+		String requestUri = request.getRequestURI();
+		return admissionProperties.getConsumePaths().stream()
+			.anyMatch(pattern -> PATH_MATCHER.match(pattern, requestUri));
+	}
+
+	private void writeError(HttpServletResponse response, ErrorCode errorCode, Object details) throws IOException {
+		response.setStatus(errorCode.getStatus().value());
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding("UTF-8");
+		objectMapper.writeValue(response.getWriter(), ErrorResponse.of(errorCode, details));
+	}
+}
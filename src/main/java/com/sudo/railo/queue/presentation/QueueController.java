@@ -0,0 +1,53 @@
+package com.sudo.railo.queue.presentation;
+
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.sudo.railo.global.success.SuccessResponse;
+import com.sudo.railo.queue.application.AdmissionQueueService;
+import com.sudo.railo.queue.application.dto.request.QueueTicketRequest;
+import com.sudo.railo.queue.application.dto.response.QueueTicketResponse;
+import com.sudo.railo.queue.docs.QueueControllerDocs;
+import com.sudo.railo.queue.success.QueueSuccess;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/queue/tickets")
+@RequiredArgsConstructor
+public class QueueController implements QueueControllerDocs {
+
+	private final AdmissionQueueService admissionQueueService;
+
+	/***
+	 * 대기표를 발급하는 메서드
+	 * @param request 대기표 발급 요청 DTO
+	 * @param memberNo 회원 번호
+	 * @return 대기표와 대기 순번
+	 */
+	@PostMapping
+	public SuccessResponse<QueueTicketResponse> issueTicket(@Valid @RequestBody QueueTicketRequest request,
+		@AuthenticationPrincipal(expression = "username") String memberNo) {
+		QueueTicketResponse response = admissionQueueService.issueTicket(request, memberNo);
+		return SuccessResponse.of(QueueSuccess.QUEUE_TICKET_ISSUE_SUCCESS, response);
+	}
+
+	/***
+	 * 대기 상태를 조회하는 메서드
+	 * @param token 대기표 토큰
+	 * @param memberNo 회원 번호
+	 * @return 대기 순번과 예상 대기 시간
+	 */
+	@GetMapping("/{token}")
+	public SuccessResponse<QueueTicketResponse> getStatus(@PathVariable String token,
+		@AuthenticationPrincipal(expression = "username") String memberNo) {
+		QueueTicketResponse response = admissionQueueService.getStatus(token, memberNo);
+		return SuccessResponse.of(QueueSuccess.QUEUE_TICKET_STATUS_SUCCESS, response);
+	}
+}
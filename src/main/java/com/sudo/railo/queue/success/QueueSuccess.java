@@ -0,0 +1,19 @@
+package com.sudo.railo.queue.success;
+
+import org.springframework.http.HttpStatus;
+
+import com.sudo.railo.global.success.SuccessCode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum QueueSuccess implements SuccessCode {
+
+	QUEUE_TICKET_ISSUE_SUCCESS(HttpStatus.CREATED, "대기표가 성공적으로 발급되었습니다."),
+	QUEUE_TICKET_STATUS_SUCCESS(HttpStatus.OK, "대기 상태를 성공적으로 조회했습니다.");
+
+	private final HttpStatus status;
+	private final String message;
+}
@@ -0,0 +1,111 @@
+package com.sudo.railo.train.application;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.sudo.railo.global.exception.error.BusinessException;
+import com.sudo.railo.train.domain.FareTable;
+import com.sudo.railo.train.domain.StationFare;
+import com.sudo.railo.train.exception.TrainErrorCode;
+import com.sudo.railo.train.infrastructure.FareTableSnapshotRepository.SnapshotFare;
+import com.sudo.railo.train.infrastructure.FareTableSnapshotRepository;
+import com.sudo.railo.train.infrastructure.StationFareJdbcRepository;
+import com.sudo.railo.train.infrastructure.StationFareRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 구간 운임표 캐시
+ * 구간별 운임표는 최초 조회 시 한 번만 계산하고, 운임 데이터가 바뀌면 evictAll()로 비운다.
+ * 운임은 방향과 관계없이 같으므로 상행/하행 구간이 같은 운임표를 공유한다.
+ * 전체 적재 결과는 버전 스탬프가 붙은 스냅샷 파일로 남겨, 다음 기동 때 DB 대신 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FareQuoteEngine {
+
+	private final StationFareRepository stationFareRepository;
+	private final StationFareJdbcRepository stationFareJdbcRepository;
+	private final FareTableSnapshotRepository fareTableSnapshotRepository;
+
+	// (작은 역 ID << 32 | 큰 역 ID) -> 운임표
+	private final Map<Long, FareTable> fareTables = new ConcurrentHashMap<>();
+
+	/***
+	 * 구간 운임표를 조회하는 메서드
+	 * @param departureStationId 출발역 ID
+	 * @param arrivalStationId 도착역 ID
+	 * @return 구간 운임표
+	 */
+	public FareTable getFareTable(Long departureStationId, Long arrivalStationId) {
+		long key = key(departureStationId, arrivalStationId);
+		FareTable fareTable = fareTables.get(key);
+		if (fareTable != null) {
+			return fareTable;
+		}
+		StationFare stationFare = stationFareRepository
+			.findByStations(departureStationId, arrivalStationId)
+			.orElseThrow(() -> new BusinessException(TrainErrorCode.STATION_FARE_NOT_FOUND));
+		return fareTables.computeIfAbsent(key, k -> toFareTable(stationFare));
+	}
+
+	/***
+	 * 이미 조회한 구간 요금으로 운임표를 조회하는 메서드
+	 */
+	public FareTable getFareTable(StationFare stationFare) {
+		long key = key(stationFare.getDepartureStation().getId(), stationFare.getArrivalStation().getId());
+		return fareTables.computeIfAbsent(key, k -> toFareTable(stationFare));
+	}
+
+	/***
+	 * 전체 구간 운임표를 미리 계산하는 메서드
+	 * DB 버전 스탬프가 같은 스냅샷이 있으면 DB 대신 스냅샷에서 적재하고, 없으면 DB에서 만든 뒤 스냅샷을 저장한다.
+	 */
+	public void loadAll() {
+		String versionStamp = stationFareJdbcRepository.findVersionStamp();
+		Optional<List<SnapshotFare>> snapshot = fareTableSnapshotRepository.find(versionStamp);
+		if (snapshot.isPresent()) {
+			snapshot.get().forEach(fare -> fareTables.put(fare.routeKey(),
+				FareTable.of(fare.standardFare(), fare.firstClassFare())));
+			log.info("구간 운임표 스냅샷 적재 완료: {}건 (버전 {})", snapshot.get().size(), versionStamp);
+			return;
+		}
+
+		List<StationFare> stationFares = stationFareRepository.findAll();
+		stationFares.forEach(this::getFareTable);
+		fareTableSnapshotRepository.save(versionStamp, stationFares.stream()
+			.map(fare -> new SnapshotFare(key(fare.getDepartureStation().getId(), fare.getArrivalStation().getId()),
+				fare.getStandardFare(), fare.getFirstClassFare()))
+			.toList());
+		log.info("구간 운임표 적재 완료: {}건 (버전 {})", fareTables.size(), versionStamp);
+	}
+
+	/***
+	 * 운임표를 비우고 다시 적재하는 메서드 (DB가 바뀌었으면 스냅샷도 새로 저장)
+	 */
+	public void reload() {
+		evictAll();
+		loadAll();
+	}
+
+	/***
+	 * 운임표 캐시를 비우는 메서드 (운임 데이터 변경 시 호출)
+	 */
+	public void evictAll() {
+		fareTables.clear();
+	}
+
+	private FareTable toFareTable(StationFare stationFare) {
+		return FareTable.of(stationFare.getStandardFare(), stationFare.getFirstClassFare());
+	}
+
+	private long key(long departureStationId, long arrivalStationId) {
+		return Math.min(departureStationId, arrivalStationId) << 32 | Math.max(departureStationId, arrivalStationId);
+	}
+}
@@ -0,0 +1,50 @@
+package com.sudo.railo.train.application;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.sudo.railo.train.domain.type.BusinessDayType;
+
+/**
+ * 공휴일 달력
+ * 운행 캘린더와 정기권 사용 가능 여부 판단에서 같은 공휴일 기준을 사용한다.
+ * TODO : 공휴일 API 연동 후 판단 처리 로직 추가 필요
+ */
+@Component
+public class HolidayCalendar {
+
+	// 2025년 공휴일 임시 하드코딩
+	private static final Set<LocalDate> HOLIDAYS = Set.of(
+		LocalDate.of(2025, 1, 1),   // 신정
+		LocalDate.of(2025, 1, 28),  // 설날 연휴
+		LocalDate.of(2025, 1, 29),  // 설날
+		LocalDate.of(2025, 1, 30),  // 설날 연휴
+		LocalDate.of(2025, 3, 1),   // 삼일절
+		LocalDate.of(2025, 5, 5),   // 어린이날
+		LocalDate.of(2025, 6, 6),   // 현충일
+		LocalDate.of(2025, 8, 15),  // 광복절
+		LocalDate.of(2025, 10, 3),  // 개천절
+		LocalDate.of(2025, 10, 5),  // 추석 연휴
+		LocalDate.of(2025, 10, 6),  // 추석 연휴
+		LocalDate.of(2025, 10, 7),  // 추석 연휴
+		LocalDate.of(2025, 10, 8),  // 추석
+		LocalDate.of(2025, 10, 9),  // 한글날
+		LocalDate.of(2025, 12, 25)  // 크리스마스
+	);
+
+	/**
+	 * 공휴일 여부 판단
+	 */
+	public boolean isHoliday(LocalDate date) {
+		return HOLIDAYS.contains(date);
+	}
+
+	/**
+	 * 영업일 구분 (평일/주말/공휴일)
+	 */
+	public BusinessDayType getBusinessDayType(LocalDate date) {
+		return BusinessDayType.fromDate(date, isHoliday(date));
+	}
+}
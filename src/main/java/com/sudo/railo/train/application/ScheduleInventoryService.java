@@ -0,0 +1,85 @@
+package com.sudo.railo.train.application;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sudo.railo.global.exception.error.BusinessException;
+import com.sudo.railo.train.domain.ScheduleInventory;
+import com.sudo.railo.train.domain.type.CarType;
+import com.sudo.railo.train.exception.TrainErrorCode;
+import com.sudo.railo.train.infrastructure.ScheduleInventoryRepository;
+import com.sudo.railo.train.infrastructure.TrainScheduleJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 운행 스케줄 잔여 좌석 카운터 서비스
+ *
+ * 좌석 예약/반환 시 호출 트랜잭션 안에서 카운터를 원자적으로 증감한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleInventoryService {
+
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+	private final ScheduleInventoryRepository scheduleInventoryRepository;
+	private final TrainScheduleJdbcRepository trainScheduleJdbcRepository;
+
+	/***
+	 * 운행 스케줄의 좌석 타입별 잔여 좌석 카운터를 조회하는 메서드
+	 */
+	@Transactional(readOnly = true)
+	public Map<CarType, ScheduleInventory> getInventories(Long trainScheduleId) {
+		Map<CarType, ScheduleInventory> inventories = new EnumMap<>(CarType.class);
+		scheduleInventoryRepository.findByTrainScheduleId(trainScheduleId)
+			.forEach(inventory -> inventories.put(inventory.getCarType(), inventory));
+		return inventories;
+	}
+
+	/***
+	 * 좌석 예약만큼 잔여 좌석을 차감하는 메서드
+	 * 잔여 좌석이 부족하면 차감하지 않고 예외를 던져 호출 트랜잭션(좌석 예약)을 롤백시킨다.
+	 */
+	@Transactional
+	public void reserve(Long trainScheduleId, CarType carType, int count) {
+		if (count <= 0) {
+			return;
+		}
+		if (scheduleInventoryRepository.reserve(trainScheduleId, carType, count) == 0) {
+			throw new BusinessException(TrainErrorCode.INSUFFICIENT_SEATS);
+		}
+	}
+
+	/***
+	 * 반환된 좌석만큼 잔여 좌석을 늘리는 메서드
+	 */
+	@Transactional
+	public void release(Long trainScheduleId, CarType carType, int count) {
+		if (count <= 0) {
+			return;
+		}
+		scheduleInventoryRepository.release(trainScheduleId, carType, count);
+	}
+
+	/***
+	 * 카운터가 없는 운행 스케줄(기존 데이터)에 카운터를 생성하는 메서드
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void backfill() {
+		int created = trainScheduleJdbcRepository.backfillInventories(LocalDate.now(ZONE_ID));
+		if (created > 0) {
+			log.info("잔여 좌석 카운터 {}건 생성", created);
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package com.sudo.railo.train.application;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sudo.railo.booking.application.BookingEventOutboxService;
+import com.sudo.railo.booking.domain.BookingEventType;
+import com.sudo.railo.booking.domain.event.ScheduleOperationChangedEvent;
+import com.sudo.railo.global.exception.error.BusinessException;
+import com.sudo.railo.train.application.dto.request.ScheduleBulkOperationRequest;
+import com.sudo.railo.train.application.dto.response.ScheduleBulkOperationResponse;
+import com.sudo.railo.train.domain.status.OperationStatus;
+import com.sudo.railo.train.exception.TrainErrorCode;
+import com.sudo.railo.train.infrastructure.TrainScheduleJdbcRepository;
+import com.sudo.railo.train.infrastructure.TrainScheduleJdbcRepository.ScheduleSelection;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 운행 상태 일괄 변경 서비스 (관리자)
+ *
+ * 열차/노선/기간으로 고른 운행 스케줄을 엔티티 단위 변경 감지 대신 청크 단위 UPDATE로 운행 취소/지연 처리한다.
+ * 청크마다 트랜잭션을 나누고, 같은 트랜잭션에서 변경된 스케줄을 변경 후 운행 상태별로 묶어 Outbox에 적재한다.
+ * 예약자 알림은 이벤트 구독자(ScheduleChangeNotificationHandler)가 알림 큐로 보낸다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleOperationService {
+
+	private static final int MAX_OPERATION_DAYS = 31;
+	private static final List<OperationStatus> CANCELLABLE_STATUSES = List.of(
+		OperationStatus.ACTIVE, OperationStatus.DELAYED, OperationStatus.SUSPENDED);
+	private static final List<OperationStatus> DELAYABLE_STATUSES = List.of(
+		OperationStatus.ACTIVE, OperationStatus.DELAYED);
+
+	private final TransactionTemplate transactionTemplate;
+	private final TrainScheduleJdbcRepository trainScheduleJdbcRepository;
+	private final BookingEventOutboxService bookingEventOutboxService;
+
+	@Value("${train.operation.chunk-size:1000}")
+	private int chunkSize;
+
+	/***
+	 * 운행 스케줄을 일괄 운행 취소하는 메서드
+	 * @return 운행 취소된 스케줄 수
+	 */
+	public ScheduleBulkOperationResponse cancel(ScheduleBulkOperationRequest request) {
+		ScheduleSelection selection = toSelection(request);
+		int changed = changeInChunks(selection, CANCELLABLE_STATUSES, OperationStatus.CANCELLED, 0);
+		log.info("운행 스케줄 일괄 운행 취소 완료: {}, {}건", selection, changed);
+		return new ScheduleBulkOperationResponse(changed);
+	}
+
+	/***
+	 * 운행 스케줄에 지연 시간을 일괄 추가하는 메서드
+	 * @return 지연 처리된 스케줄 수
+	 */
+	public ScheduleBulkOperationResponse delay(ScheduleBulkOperationRequest request) {
+		if (request.delayMinutes() == null) {
+			throw new BusinessException(TrainErrorCode.DELAY_MINUTES_REQUIRED);
+		}
+		ScheduleSelection selection = toSelection(request);
+		int changed = changeInChunks(selection, DELAYABLE_STATUSES, OperationStatus.DELAYED, request.delayMinutes());
+		log.info("운행 스케줄 일괄 지연 완료: {}, {}분, {}건", selection, request.delayMinutes(), changed);
+		return new ScheduleBulkOperationResponse(changed);
+	}
+
+	/**
+	 * 대상 스케줄을 ID 순으로 청크만큼 잠그고 변경한다. (지연은 상태가 그대로 남으므로 키셋으로 다음 청크를 고른다)
+	 */
+	private int changeInChunks(ScheduleSelection selection, List<OperationStatus> statuses,
+		OperationStatus operationStatus, int delayMinutes) {
+		int changed = 0;
+		long lastId = 0;
+		while (true) {
+			long afterId = lastId;
+			List<Long> trainScheduleIds = transactionTemplate.execute(
+				status -> changeChunk(selection, statuses, afterId, operationStatus, delayMinutes));
+			if (trainScheduleIds == null || trainScheduleIds.isEmpty()) {
+				return changed;
+			}
+			changed += trainScheduleIds.size();
+			lastId = trainScheduleIds.get(trainScheduleIds.size() - 1);
+			if (trainScheduleIds.size() < chunkSize) {
+				return changed;
+			}
+		}
+	}
+
+	private List<Long> changeChunk(ScheduleSelection selection, List<OperationStatus> statuses, long afterId,
+		OperationStatus operationStatus, int delayMinutes) {
+		List<Long> trainScheduleIds = trainScheduleJdbcRepository.lockScheduleIds(selection, statuses, afterId,
+			chunkSize);
+		if (trainScheduleIds.isEmpty()) {
+			return trainScheduleIds;
+		}
+
+		if (operationStatus == OperationStatus.CANCELLED) {
+			trainScheduleJdbcRepository.cancelSchedules(trainScheduleIds);
+			appendChangedEvent(trainScheduleIds, OperationStatus.CANCELLED, 0);
+			return trainScheduleIds;
+		}
+
+		// 누적 지연이 기준 미만이면 운행 상태가 그대로이므로, 변경 후 실제 운행 상태별로 나눠 이벤트를 적재한다
+		trainScheduleJdbcRepository.delaySchedules(trainScheduleIds, delayMinutes);
+		Map<OperationStatus, List<Long>> idsByStatus = new EnumMap<>(OperationStatus.class);
+		trainScheduleJdbcRepository.findOperationStatuses(trainScheduleIds).forEach((trainScheduleId, status) ->
+			idsByStatus.computeIfAbsent(status, key -> new ArrayList<>()).add(trainScheduleId));
+		idsByStatus.forEach((status, ids) -> appendChangedEvent(ids, status, delayMinutes));
+		return trainScheduleIds;
+	}
+
+	private void appendChangedEvent(List<Long> trainScheduleIds, OperationStatus operationStatus,
+		int delayMinutes) {
+		bookingEventOutboxService.append(BookingEventType.SCHEDULE_OPERATION_CHANGED, null,
+			new ScheduleOperationChangedEvent(trainScheduleIds, operationStatus, delayMinutes));
+	}
+
+	private ScheduleSelection toSelection(ScheduleBulkOperationRequest request) {
+		if (request.endDate().isBefore(request.startDate())
+			|| ChronoUnit.DAYS.between(request.startDate(), request.endDate()) >= MAX_OPERATION_DAYS) {
+			throw new BusinessException(TrainErrorCode.INVALID_OPERATION_PERIOD);
+		}
+		String line = request.line() != null && !request.line().isBlank() ? request.line().strip() : null;
+		return new ScheduleSelection(request.startDate(), request.endDate(), request.trainNumber(), line);
+	}
+}
@@ -1,21 +1,24 @@
 package com.sudo.railo.train.application;
 
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 
 import org.apache.poi.ss.usermodel.Sheet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.sudo.railo.train.application.dto.excel.StationFareData;
 import com.sudo.railo.train.application.dto.excel.StationFareHeader;
 import com.sudo.railo.train.domain.Station;
-import com.sudo.railo.train.domain.StationFare;
-import com.sudo.railo.train.infrastructure.StationFareRepository;
+import com.sudo.railo.train.infrastructure.StationFareJdbcRepository.NewStationFare;
+import com.sudo.railo.train.infrastructure.StationFareJdbcRepository;
 import com.sudo.railo.train.infrastructure.excel.StationFareParser;
 
 import lombok.RequiredArgsConstructor;
@@ -28,26 +31,38 @@ public class StationFareCreator {
 
 	private final StationFareParser parser;
 	private final StationService stationService;
-	private final StationFareRepository stationFareRepository;
+	private final StationFareJdbcRepository stationFareJdbcRepository;
+	private final FareQuoteEngine fareQuoteEngine;
+
+	@Value("${train.excel.streaming:true}")
+	private boolean streaming;
+
+	/***
+	 * 구간 유니크 키가 없으면 역방향/중복 구간을 정리한 뒤 추가하는 메서드 (기동 시 한 번 실행)
+	 * 스키마 자동 갱신은 중복 구간이 남아 있으면 키 추가에 실패하므로, 데이터를 먼저 정리하고 직접 추가한다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void migrateRouteUniqueKey() {
+		try {
+			if (stationFareJdbcRepository.hasRouteUniqueKey()) {
+				return;
+			}
+			int deleted = stationFareJdbcRepository.deleteRedundantFares();
+			stationFareJdbcRepository.addRouteUniqueKey();
+			log.info("구간 운임 유니크 키 추가 완료: 역방향/중복 운임 데이터 {}개 삭제", deleted);
+		} catch (Exception e) {
+			log.warn("구간 운임 유니크 키 추가 실패", e);
+		}
+	}
 
 	@Transactional
 	public void createStationFare() {
 		try {
 			log.info("운임표 생성 시작");
 
-			List<Sheet> sheets = parser.getSheets();
-			Set<StationFareData> stationFareData = new HashSet<>();
-			sheets.forEach(sheet -> {
-				log.info("{} 시트 파싱 시작", sheet.getSheetName());
-
-				StationFareHeader header = parser.getHeader(sheet);
-				List<StationFareData> data = parser.getStationFareData(sheet, header);
-				stationFareData.addAll(data);
-
-				log.info("{} 시트 파싱 종료", sheet.getSheetName());
-			});
-
+			Set<StationFareData> stationFareData = streaming ? streamStationFareData() : parseStationFareData();
 			persistStationFare(stationFareData);
+			fareQuoteEngine.evictAll();
 
 			log.info("운임표 생성 완료");
 		} catch (Exception ex) {
@@ -55,6 +70,35 @@ public class StationFareCreator {
 		}
 	}
 
+	private Set<StationFareData> parseStationFareData() {
+		List<Sheet> sheets = parser.getSheets();
+		Set<StationFareData> stationFareData = new LinkedHashSet<>();
+		sheets.forEach(sheet -> {
+			log.info("{} 시트 파싱 시작", sheet.getSheetName());
+
+			StationFareHeader header = parser.getHeader(sheet);
+			List<StationFareData> data = parser.getStationFareData(sheet, header);
+			stationFareData.addAll(data);
+
+			log.info("{} 시트 파싱 종료", sheet.getSheetName());
+		});
+		return stationFareData;
+	}
+
+	/**
+	 * 운임표를 행 단위로 읽는다. 중복 구간은 읽는 즉시 제거되므로 구간 수만큼만 메모리에 유지한다.
+	 */
+	private Set<StationFareData> streamStationFareData() {
+		Set<StationFareData> stationFareData = new LinkedHashSet<>();
+		parser.streamStationFareData(stationFareData::add);
+		log.info("{}개 구간 운임 파싱 종료", stationFareData.size());
+		return stationFareData;
+	}
+
+	/**
+	 * 구간 운임을 방향과 관계없이 한 번만 저장한다.
+	 * 같은 구간이 양방향으로 모두 있으면 시트/행 순서상 먼저 읽은 운임을 사용한다.
+	 */
 	private void persistStationFare(Set<StationFareData> stationFareData) {
 		List<String> stationNames = stationFareData.stream()
 			.flatMap(data -> Stream.of(data.departureStation(), data.arrivalStation()))
@@ -62,25 +106,29 @@ public class StationFareCreator {
 			.toList();
 		Map<String, Station> stations = stationService.findOrCreateStation(stationNames);
 
-		List<StationFare> stationFares = new ArrayList<>();
-		stationFares.addAll(stationFareData.stream()
-			.map(data -> StationFare.create(
-				stations.get(data.departureStation()),
-				stations.get(data.arrivalStation()),
+		Map<Long, NewStationFare> stationFares = new LinkedHashMap<>();
+		int asymmetric = 0;
+		for (StationFareData data : stationFareData) {
+			NewStationFare fare = NewStationFare.of(
+				stations.get(data.departureStation()).getId(),
+				stations.get(data.arrivalStation()).getId(),
 				data.standardFare(),
 				data.firstClassFare()
-			)).toList());
-
-		// TODO: 역방향 운임
-		stationFares.addAll(stationFareData.stream()
-			.map(data -> StationFare.create(
-				stations.get(data.arrivalStation()),
-				stations.get(data.departureStation()),
-				data.standardFare(),
-				data.firstClassFare()
-			)).toList());
+			);
+			NewStationFare existing = stationFares.putIfAbsent(fare.routeKey(), fare);
+			if (existing != null && !existing.equals(fare)) {
+				asymmetric++;
+			}
+		}
+		if (asymmetric > 0) {
+			log.warn("양방향 운임이 다른 구간 {}개는 먼저 읽은 운임으로 저장합니다.", asymmetric);
+		}
 
-		stationFareRepository.saveAll(stationFares);
-		log.info("{}개 운임 데이터 저장 완료", stationFares.size());
+		int deleted = stationFareJdbcRepository.deleteRedundantFares();
+		if (deleted > 0) {
+			log.info("역방향/중복 운임 데이터 {}개 삭제", deleted);
+		}
+		stationFareJdbcRepository.upsert(List.copyOf(stationFares.values()));
+		log.info("{}개 구간 운임 데이터 저장 완료", stationFares.size());
 	}
 }
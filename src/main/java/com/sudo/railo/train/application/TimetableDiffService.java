@@ -0,0 +1,422 @@
+package com.sudo.railo.train.application;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sudo.railo.booking.application.BookingEventOutboxService;
+import com.sudo.railo.booking.application.ReservationHistoryService;
+import com.sudo.railo.booking.application.dto.ReservedSegmentInfo;
+import com.sudo.railo.booking.domain.BookingEventType;
+import com.sudo.railo.booking.domain.ReservationStatus;
+import com.sudo.railo.booking.domain.event.ScheduleOperationChangedEvent;
+import com.sudo.railo.booking.infra.ReservationRepository;
+import com.sudo.railo.train.application.dto.TimetableDiffResult;
+import com.sudo.railo.train.application.dto.excel.TimetableStop;
+import com.sudo.railo.train.application.dto.excel.TimetableTemplate;
+import com.sudo.railo.train.application.dto.excel.TimetableTrain;
+import com.sudo.railo.train.domain.status.OperationStatus;
+import com.sudo.railo.train.infrastructure.TrainScheduleJdbcRepository;
+import com.sudo.railo.train.infrastructure.TrainScheduleJdbcRepository.NewScheduleStop;
+import com.sudo.railo.train.infrastructure.TrainScheduleJdbcRepository.ScheduleUpdate;
+import com.sudo.railo.train.infrastructure.TrainScheduleJdbcRepository.StopTimeUpdate;
+import com.sudo.railo.train.infrastructure.TrainScheduleJdbcRepository.StoredSchedule;
+import com.sudo.railo.train.infrastructure.TrainScheduleRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시간표 재적재 서비스
+ *
+ * 시간표 엑셀이 바뀌면 이미 생성된 운행 스케줄(오늘 이후)을 (열차 번호, 운행일) 단위로 새 템플릿과 비교해
+ * 추가/변경/운행 취소된 스케줄만 배치로 반영한다.
+ * 전체를 지우고 다시 만들지 않으므로 스케줄 ID가 유지되고, 예약도 그대로 남는다.
+ * 운행 취소는 관리자 일괄 운행 취소와 같은 운행 상태 변경 이벤트를 Outbox에 적재해 예약자에게 알리고,
+ * 바뀐 정차역이 유효한 예약의 구간을 포함하지 않는 스케줄은 반영하지 않고 결과에 건수를 남긴다.
+ */
+@Slf4j
+@Service
+public class TimetableDiffService {
+
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private static final int QUERY_CHUNK_SIZE = 1000;
+	private static final List<ReservationStatus> ACTIVE_RESERVATION_STATUSES = List.of(
+		ReservationStatus.RESERVED, ReservationStatus.PAID);
+
+	private final TimetableTemplateService timetableTemplateService;
+	private final TrainScheduleCreator trainScheduleCreator;
+	private final StationService stationService;
+	private final TrainScheduleRepository trainScheduleRepository;
+	private final TrainScheduleJdbcRepository trainScheduleJdbcRepository;
+	private final ReservationRepository reservationRepository;
+	private final ReservationHistoryService reservationHistoryService;
+	private final BookingEventOutboxService bookingEventOutboxService;
+	private final Timer reimportTimer;
+	private final Counter insertedSchedules;
+	private final Counter updatedSchedules;
+	private final Counter cancelledSchedules;
+
+	// 마지막으로 반영한 시간표 체크섬
+	private volatile String appliedChecksum;
+
+	public TimetableDiffService(TimetableTemplateService timetableTemplateService,
+		TrainScheduleCreator trainScheduleCreator, StationService stationService,
+		TrainScheduleRepository trainScheduleRepository, TrainScheduleJdbcRepository trainScheduleJdbcRepository,
+		ReservationRepository reservationRepository, ReservationHistoryService reservationHistoryService,
+		BookingEventOutboxService bookingEventOutboxService, MeterRegistry meterRegistry) {
+		this.timetableTemplateService = timetableTemplateService;
+		this.trainScheduleCreator = trainScheduleCreator;
+		this.stationService = stationService;
+		this.trainScheduleRepository = trainScheduleRepository;
+		this.trainScheduleJdbcRepository = trainScheduleJdbcRepository;
+		this.reservationRepository = reservationRepository;
+		this.reservationHistoryService = reservationHistoryService;
+		this.bookingEventOutboxService = bookingEventOutboxService;
+
+		// 재적재 소요 시간과 변경 유형별 스케줄 수
+		this.reimportTimer = Timer.builder("train.schedule.reimport")
+			.register(meterRegistry);
+		this.insertedSchedules = changeCounter(meterRegistry, "insert");
+		this.updatedSchedules = changeCounter(meterRegistry, "update");
+		this.cancelledSchedules = changeCounter(meterRegistry, "cancel");
+	}
+
+	/***
+	 * 마지막 재적재 이후 시간표 엑셀이 바뀐 경우에만 재적재하는 메서드
+	 */
+	@Transactional
+	public TimetableDiffResult reimportIfChanged() {
+		TimetableTemplate template = timetableTemplateService.getTemplate();
+		if (template.checksum().equals(appliedChecksum)) {
+			return TimetableDiffResult.empty();
+		}
+		return reimport(template);
+	}
+
+	/***
+	 * 현재 시간표로 오늘 이후 운행 스케줄을 재적재하는 메서드
+	 */
+	@Transactional
+	public TimetableDiffResult reimport() {
+		return reimport(timetableTemplateService.getTemplate());
+	}
+
+	private TimetableDiffResult reimport(TimetableTemplate template) {
+		LocalDate startDate = LocalDate.now(ZONE_ID);
+		Optional<LocalDate> lastOperationDate = trainScheduleRepository.findLastOperationDate();
+		if (lastOperationDate.isEmpty() || lastOperationDate.get().isBefore(startDate)) {
+			markApplied(template.checksum());
+			return TimetableDiffResult.empty();
+		}
+		LocalDate endDate = lastOperationDate.get();
+
+		long startedAt = System.nanoTime();
+		log.info("[{} ~ {}] 시간표 재적재 시작: {}", startDate, endDate, template.checksum());
+
+		TimetableDiff diff = diff(template, startDate, endDate);
+		TimetableDiffResult result = apply(template, diff);
+
+		long elapsedNanos = System.nanoTime() - startedAt;
+		reimportTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+		insertedSchedules.increment(result.inserted());
+		updatedSchedules.increment(result.updated());
+		cancelledSchedules.increment(result.cancelled());
+		markApplied(template.checksum());
+
+		log.info("[{} ~ {}] 시간표 재적재 완료: 추가 {}개, 변경 {}개, 취소 {}개, 제외 {}개, {}ms", startDate, endDate,
+			result.inserted(), result.updated(), result.cancelled(), result.skipped(),
+			TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+		return result;
+	}
+
+	/**
+	 * 저장된 스케줄과 템플릿을 (열차 번호, 운행일) 단위로 비교한다.
+	 * 스케줄이 생성되지 않은 운행일은 스케줄 생성 배치가 담당하므로 비교하지 않는다.
+	 */
+	private TimetableDiff diff(TimetableTemplate template, LocalDate startDate, LocalDate endDate) {
+		Map<LocalDate, Map<Integer, StoredSchedule>> storedByDate = new TreeMap<>();
+		trainScheduleJdbcRepository.findSchedules(startDate, endDate).forEach(schedule ->
+			storedByDate.computeIfAbsent(schedule.operationDate(), date -> new HashMap<>())
+				.putIfAbsent(schedule.trainNumber(), schedule));
+
+		Map<Long, List<TimetableStop>> storedStops = new HashMap<>();
+		trainScheduleJdbcRepository.findScheduleStops(startDate, endDate).forEach(stop ->
+			storedStops.computeIfAbsent(stop.trainScheduleId(), id -> new ArrayList<>()).add(
+				new TimetableStop(stop.stopOrder(), stop.arrivalTime(), stop.departureTime(), stop.stationName())));
+
+		TimetableDiff diff = new TimetableDiff();
+		storedByDate.forEach((date, storedSchedules) -> {
+			Map<Integer, TimetableTrain> expected = template.trains().stream()
+				.filter(train -> train.operatesOn(date))
+				.collect(Collectors.toMap(TimetableTrain::trainNumber, Function.identity(), (first, second) -> first,
+					LinkedHashMap::new));
+
+			List<TimetableTrain> inserts = new ArrayList<>();
+			expected.forEach((trainNumber, train) -> {
+				StoredSchedule schedule = storedSchedules.get(trainNumber);
+				if (schedule == null) {
+					inserts.add(train);
+					return;
+				}
+				// 운행 취소된 스케줄은 관리자가 취소했을 수 있으므로 시간표만으로 되살리지 않는다.
+				if (schedule.operationStatus() == OperationStatus.CANCELLED) {
+					return;
+				}
+				List<TimetableStop> stops = storedStops.getOrDefault(schedule.id(), List.of());
+				if (!train.scheduleName().equals(schedule.scheduleName()) || !sameStops(stops, train.stops())) {
+					diff.changes().add(new ScheduleChange(schedule.id(), train, stops));
+				}
+			});
+			if (!inserts.isEmpty()) {
+				diff.inserts().put(date, inserts);
+			}
+
+			storedSchedules.forEach((trainNumber, schedule) -> {
+				if (!expected.containsKey(trainNumber) && schedule.operationStatus() != OperationStatus.CANCELLED) {
+					diff.cancellations().add(schedule.id());
+				}
+			});
+		});
+		return diff;
+	}
+
+	private TimetableDiffResult apply(TimetableTemplate template, TimetableDiff diff) {
+		int cancelled = cancelSchedules(diff.cancellations());
+
+		List<ScheduleChange> changes = List.of();
+		if (!diff.changes().isEmpty()) {
+			Map<String, Long> stationIds = stationService.findOrCreateStation(template.stationNames()).entrySet()
+				.stream()
+				.collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getId()));
+			changes = excludeUncoveredSegments(diff.changes(), stationIds);
+			updateSchedules(changes, stationIds);
+		}
+
+		int inserted = diff.inserts().isEmpty()
+			? 0
+			: trainScheduleCreator.insertTrainSchedules(template.stationNames(), diff.inserts());
+
+		evictReservationHistories(changes.stream().map(ScheduleChange::trainScheduleId).toList());
+
+		return new TimetableDiffResult(inserted, changes.size(), cancelled, diff.changes().size() - changes.size());
+	}
+
+	/**
+	 * 시간표에서 빠진 스케줄을 운행 취소하고, 청크마다 운행 상태 변경 이벤트를 Outbox에 적재한다.
+	 * 예약자 알림과 예약 내역 캐시 삭제는 관리자 일괄 운행 취소와 같이 이벤트 구독자가 처리한다.
+	 */
+	private int cancelSchedules(List<Long> trainScheduleIds) {
+		int cancelled = 0;
+		for (int from = 0; from < trainScheduleIds.size(); from += QUERY_CHUNK_SIZE) {
+			List<Long> chunk = List.copyOf(trainScheduleIds.subList(from, Math.min(from + QUERY_CHUNK_SIZE,
+				trainScheduleIds.size())));
+			cancelled += trainScheduleJdbcRepository.cancelSchedules(chunk);
+			bookingEventOutboxService.append(BookingEventType.SCHEDULE_OPERATION_CHANGED, null,
+				new ScheduleOperationChangedEvent(chunk, OperationStatus.CANCELLED, 0));
+		}
+		return cancelled;
+	}
+
+	/**
+	 * 유효한 예약의 구간(출발역 -> 도착역)을 바뀐 정차역이 포함하지 않는 스케줄은 제외한다.
+	 * 정차역을 다시 생성하면 예약이 가리키는 정차역이 사라지므로, 관리자가 예약을 정리한 뒤 다시 재적재해야 한다.
+	 */
+	private List<ScheduleChange> excludeUncoveredSegments(List<ScheduleChange> changes,
+		Map<String, Long> stationIds) {
+		Map<Long, ScheduleChange> changesById = changes.stream()
+			.collect(Collectors.toMap(ScheduleChange::trainScheduleId, Function.identity(), (first, second) -> first,
+				LinkedHashMap::new));
+		List<Long> trainScheduleIds = List.copyOf(changesById.keySet());
+		for (int from = 0; from < trainScheduleIds.size(); from += QUERY_CHUNK_SIZE) {
+			List<Long> chunk = trainScheduleIds.subList(from, Math.min(from + QUERY_CHUNK_SIZE,
+				trainScheduleIds.size()));
+			for (ReservedSegmentInfo segment : reservationRepository.findReservedSegmentsByTrainScheduleIds(chunk,
+				ACTIVE_RESERVATION_STATUSES)) {
+				ScheduleChange change = changesById.get(segment.trainScheduleId());
+				if (change != null && !covers(change.train(), segment, stationIds)) {
+					changesById.remove(segment.trainScheduleId());
+					log.warn("예약 구간이 사라지는 시간표 변경 제외: trainScheduleId={}, 예약 구간 {} -> {}",
+						segment.trainScheduleId(), segment.departureStationId(), segment.arrivalStationId());
+				}
+			}
+		}
+		return List.copyOf(changesById.values());
+	}
+
+	private boolean covers(TimetableTrain train, ReservedSegmentInfo segment, Map<String, Long> stationIds) {
+		int departureOrder = -1;
+		int arrivalOrder = -1;
+		for (TimetableStop stop : train.stops()) {
+			Long stationId = stationIds.get(stop.stationName());
+			if (departureOrder < 0 && segment.departureStationId().equals(stationId)) {
+				departureOrder = stop.stopOrder();
+			}
+			if (segment.arrivalStationId().equals(stationId)) {
+				arrivalOrder = stop.stopOrder();
+			}
+		}
+		return departureOrder >= 0 && departureOrder < arrivalOrder;
+	}
+
+	/**
+	 * 정차역 구성이 같으면 바뀐 정차 시간만 변경하고, 구성이 바뀌었으면 정차역을 다시 생성한다.
+	 */
+	private void updateSchedules(List<ScheduleChange> changes, Map<String, Long> stationIds) {
+		List<ScheduleUpdate> scheduleUpdates = new ArrayList<>(changes.size());
+		List<StopTimeUpdate> stopTimeUpdates = new ArrayList<>();
+		List<ScheduleChange> replaced = new ArrayList<>();
+
+		for (ScheduleChange change : changes) {
+			List<TimetableStop> stops = change.train().stops();
+			TimetableStop firstStop = stops.get(0);
+			TimetableStop lastStop = stops.get(stops.size() - 1);
+			scheduleUpdates.add(new ScheduleUpdate(
+				change.trainScheduleId(),
+				change.train().scheduleName(),
+				firstStop.departureTime(),
+				lastStop.arrivalTime(),
+				stationIds.get(firstStop.stationName()),
+				stationIds.get(lastStop.stationName())
+			));
+
+			if (!sameStations(change.storedStops(), stops)) {
+				replaced.add(change);
+				continue;
+			}
+			for (int i = 0; i < stops.size(); i++) {
+				TimetableStop stop = stops.get(i);
+				if (!sameStop(change.storedStops().get(i), stop)) {
+					stopTimeUpdates.add(new StopTimeUpdate(change.trainScheduleId(), stop.stopOrder(),
+						stop.arrivalTime(), stop.departureTime()));
+				}
+			}
+		}
+
+		trainScheduleJdbcRepository.updateSchedules(scheduleUpdates);
+		trainScheduleJdbcRepository.updateScheduleStopTimes(stopTimeUpdates);
+		replaceScheduleStops(replaced, stationIds);
+	}
+
+	private void replaceScheduleStops(List<ScheduleChange> replaced, Map<String, Long> stationIds) {
+		if (replaced.isEmpty()) {
+			return;
+		}
+		trainScheduleJdbcRepository.deleteScheduleStops(replaced.stream()
+			.map(ScheduleChange::trainScheduleId)
+			.toList());
+
+		int stopCount = replaced.stream().mapToInt(change -> change.train().stops().size()).sum();
+		long stopId = trainScheduleJdbcRepository.allocateScheduleStopIds(stopCount) - 1;
+		List<NewScheduleStop> stops = new ArrayList<>();
+		for (ScheduleChange change : replaced) {
+			for (TimetableStop stop : change.train().stops()) {
+				stops.add(new NewScheduleStop(++stopId, change.trainScheduleId(), stop.stopOrder(),
+					stop.arrivalTime(), stop.departureTime(), stationIds.get(stop.stationName())));
+			}
+		}
+		trainScheduleJdbcRepository.insertScheduleStops(stops);
+	}
+
+	/**
+	 * 변경된 스케줄에 예약이 있는 회원의 예약 내역 캐시만 삭제한다. (트랜잭션 커밋 후 실행)
+	 */
+	private void evictReservationHistories(List<Long> trainScheduleIds) {
+		for (int from = 0; from < trainScheduleIds.size(); from += QUERY_CHUNK_SIZE) {
+			List<Long> chunk = trainScheduleIds.subList(from, Math.min(from + QUERY_CHUNK_SIZE,
+				trainScheduleIds.size()));
+			reservationRepository.findMemberNosByTrainScheduleIds(chunk, ACTIVE_RESERVATION_STATUSES)
+				.forEach(reservationHistoryService::evict);
+		}
+	}
+
+	private void markApplied(String checksum) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			appliedChecksum = checksum;
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				appliedChecksum = checksum;
+			}
+		});
+	}
+
+	private boolean sameStops(List<TimetableStop> stored, List<TimetableStop> expected) {
+		if (stored.size() != expected.size()) {
+			return false;
+		}
+		for (int i = 0; i < stored.size(); i++) {
+			if (!sameStop(stored.get(i), expected.get(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean sameStations(List<TimetableStop> stored, List<TimetableStop> expected) {
+		if (stored.size() != expected.size()) {
+			return false;
+		}
+		for (int i = 0; i < stored.size(); i++) {
+			if (stored.get(i).stopOrder() != expected.get(i).stopOrder()
+				|| !stored.get(i).stationName().equals(expected.get(i).stationName())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * DB의 TIME 컬럼은 초 단위까지만 저장하므로, 초 단위로 맞춰 비교한다.
+	 */
+	private boolean sameStop(TimetableStop stored, TimetableStop expected) {
+		return stored.stopOrder() == expected.stopOrder()
+			&& stored.stationName().equals(expected.stationName())
+			&& Objects.equals(truncate(stored.arrivalTime()), truncate(expected.arrivalTime()))
+			&& Objects.equals(truncate(stored.departureTime()), truncate(expected.departureTime()));
+	}
+
+	private LocalTime truncate(LocalTime localTime) {
+		return localTime != null ? localTime.truncatedTo(ChronoUnit.SECONDS) : null;
+	}
+
+	private static Counter changeCounter(MeterRegistry meterRegistry, String type) {
+		return Counter.builder("train.schedule.reimport.changes")
+			.tag("type", type)
+			.register(meterRegistry);
+	}
+
+	private record ScheduleChange(long trainScheduleId, TimetableTrain train, List<TimetableStop> storedStops) {
+	}
+
+	private record TimetableDiff(
+		Map<LocalDate, List<TimetableTrain>> inserts,
+		List<ScheduleChange> changes,
+		List<Long> cancellations
+	) {
+		TimetableDiff() {
+			this(new LinkedHashMap<>(), new ArrayList<>(), new ArrayList<>());
+		}
+	}
+}
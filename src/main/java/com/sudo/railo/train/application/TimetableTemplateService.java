@@ -0,0 +1,55 @@
+package com.sudo.railo.train.application;
+
+import org.springframework.stereotype.Service;
+
+import com.sudo.railo.train.application.dto.excel.TimetableTemplate;
+import com.sudo.railo.train.infrastructure.TimetableTemplateFileRepository;
+import com.sudo.railo.train.infrastructure.excel.TrainScheduleParser;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 운행 시간표 템플릿 제공 서비스
+ *
+ * 엑셀 파일이 바뀌지 않았다면(체크섬 동일) 메모리 → 디스크 캐시 순으로 재사용하고,
+ * 바뀐 경우에만 엑셀을 다시 파싱한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimetableTemplateService {
+
+	private final TrainScheduleParser parser;
+	private final TimetableTemplateFileRepository timetableTemplateFileRepository;
+
+	private volatile TimetableTemplate template;
+
+	public TimetableTemplate getTemplate() {
+		String checksum = parser.getFileChecksum();
+		TimetableTemplate current = template;
+		if (current != null && current.checksum().equals(checksum)) {
+			return current;
+		}
+		return loadTemplate(checksum);
+	}
+
+	private synchronized TimetableTemplate loadTemplate(String checksum) {
+		if (template != null && template.checksum().equals(checksum)) {
+			return template;
+		}
+
+		TimetableTemplate loaded = timetableTemplateFileRepository.find(checksum)
+			.orElseGet(() -> compileTemplate(checksum));
+		template = loaded;
+		return loaded;
+	}
+
+	private TimetableTemplate compileTemplate(String checksum) {
+		log.info("시간표 템플릿 생성 시작: {}", checksum);
+		TimetableTemplate compiled = parser.compileTimetable(checksum);
+		timetableTemplateFileRepository.save(compiled);
+		log.info("시간표 템플릿 생성 완료: {}개 열차", compiled.trains().size());
+		return compiled;
+	}
+}
@@ -0,0 +1,111 @@
+package com.sudo.railo.train.application;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sudo.railo.train.infrastructure.TrainScheduleArchiveJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 지난 운행 스케줄 보관 서비스
+ *
+ * 보관 기간이 지난 운행일의 행을 청크 단위(청크마다 트랜잭션)로 보관 테이블로 옮겨,
+ * 검색/좌석 조회가 사용하는 원본 테이블과 인덱스에는 운행 예정 기간의 데이터만 남긴다.
+ * - 잔여 좌석, 좌석 예약: 모두 보관 (예약 내역의 좌석 정보는 보관 테이블에서 조회)
+ * - 운행 스케줄, 정차역: 예약이 참조하지 않는 스케줄만 보관 (예약이 외래 키로 참조)
+ * - 예약, 승객, 승차권, QR, 발권 요청: 운행일이 예약 보관 기간(기본 365일)을 지난 스케줄은 예약까지 함께 보관
+ *   (보관된 예약은 예약 내역에서 더 이상 조회되지 않는다)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrainScheduleArchiveService {
+
+	private final TransactionTemplate transactionTemplate;
+	private final TrainScheduleArchiveJdbcRepository trainScheduleArchiveJdbcRepository;
+
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+	@Value("${train.archive.retention-days:30}")
+	private int retentionDays;
+
+	@Value("${train.archive.reservation-retention-days:365}")
+	private int reservationRetentionDays;
+
+	@Value("${train.archive.chunk-size:500}")
+	private int chunkSize;
+
+	/***
+	 * 보관 테이블을 미리 생성하는 메서드 (예약 내역 조회가 보관 테이블을 함께 조회하므로 기동 시 생성)
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void createArchiveTables() {
+		try {
+			trainScheduleArchiveJdbcRepository.createArchiveTables();
+		} catch (Exception e) {
+			log.warn("운행 스케줄 보관 테이블 생성 실패", e);
+		}
+	}
+
+	/***
+	 * 보관 기간이 지난 운행 스케줄을 보관 테이블로 옮기는 메서드
+	 * @return 옮긴 행 수
+	 */
+	public long archive() {
+		LocalDate today = LocalDate.now(ZONE_ID);
+		LocalDate cutoff = today.minusDays(retentionDays);
+		LocalDate reservationCutoff = today.minusDays(reservationRetentionDays);
+		long startedAt = System.nanoTime();
+		log.info("[{} 이전] 운행 스케줄 보관 시작", cutoff);
+
+		long movedRows = 0;
+		int schedules = 0;
+		long lastId = 0;
+		while (true) {
+			List<Long> trainScheduleIds = trainScheduleArchiveJdbcRepository.findScheduleIdsBefore(cutoff, lastId,
+				chunkSize);
+			if (trainScheduleIds.isEmpty()) {
+				break;
+			}
+			lastId = trainScheduleIds.get(trainScheduleIds.size() - 1);
+
+			ArchivedChunk chunk = transactionTemplate.execute(status -> archiveChunk(trainScheduleIds,
+				reservationCutoff));
+			movedRows += chunk.movedRows();
+			schedules += chunk.schedules();
+		}
+
+		log.info("[{} 이전] 운행 스케줄 보관 완료: 스케줄 {}개, 전체 {}행, {}ms", cutoff, schedules, movedRows,
+			TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+		return movedRows;
+	}
+
+	/**
+	 * 외래 키를 고려해 자식 테이블부터 옮긴다.
+	 * 예약 보관 기간이 지난 스케줄은 예약을 먼저 옮겨, 예약이 참조하지 않는 스케줄로 함께 보관한다.
+	 */
+	private ArchivedChunk archiveChunk(List<Long> trainScheduleIds, LocalDate reservationCutoff) {
+		long movedRows = trainScheduleArchiveJdbcRepository.moveSeatReservations(trainScheduleIds);
+		movedRows += trainScheduleArchiveJdbcRepository.moveInventories(trainScheduleIds);
+		movedRows += trainScheduleArchiveJdbcRepository.moveReservations(
+			trainScheduleArchiveJdbcRepository.findScheduleIdsOperatedBefore(trainScheduleIds, reservationCutoff));
+
+		List<Long> unreservedIds = trainScheduleArchiveJdbcRepository.findUnreservedScheduleIds(trainScheduleIds);
+		movedRows += trainScheduleArchiveJdbcRepository.moveScheduleStops(unreservedIds);
+		int schedules = trainScheduleArchiveJdbcRepository.moveSchedules(unreservedIds);
+		return new ArchivedChunk(schedules, movedRows + schedules);
+	}
+
+	private record ArchivedChunk(int schedules, long movedRows) {
+	}
+}
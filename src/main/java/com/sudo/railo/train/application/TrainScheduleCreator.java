@@ -1,35 +1,72 @@
 package com.sudo.railo.train.application;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
-import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.util.CellAddress;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.sudo.railo.train.application.dto.excel.ScheduleStopData;
-import com.sudo.railo.train.application.dto.excel.TrainScheduleData;
-import com.sudo.railo.train.domain.ScheduleStop;
+import com.sudo.railo.train.application.dto.excel.TimetableStop;
+import com.sudo.railo.train.application.dto.excel.TimetableTemplate;
+import com.sudo.railo.train.application.dto.excel.TimetableTrain;
+import com.sudo.railo.train.application.dto.excel.TrainData;
 import com.sudo.railo.train.domain.Station;
 import com.sudo.railo.train.domain.Train;
-import com.sudo.railo.train.domain.TrainSchedule;
+import com.sudo.railo.train.domain.type.CarType;
+import com.sudo.railo.train.infrastructure.TrainScheduleJdbcRepository;
+import com.sudo.railo.train.infrastructure.TrainScheduleJdbcRepository.NewScheduleInventory;
+import com.sudo.railo.train.infrastructure.TrainScheduleJdbcRepository.NewScheduleStop;
+import com.sudo.railo.train.infrastructure.TrainScheduleJdbcRepository.NewTrainSchedule;
 import com.sudo.railo.train.infrastructure.TrainScheduleRepository;
-import com.sudo.railo.train.infrastructure.excel.TrainScheduleParser;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class TrainScheduleCreator {
 
-	private final TrainScheduleParser parser;
+	private final TimetableTemplateService timetableTemplateService;
 	private final StationService stationService;
 	private final TrainService trainService;
 	private final TrainScheduleRepository trainScheduleRepository;
+	private final TrainScheduleJdbcRepository trainScheduleJdbcRepository;
+	private final Timer materializeTimer;
+	private final Counter materializedRows;
+	private final AtomicLong lastRowsPerSecond = new AtomicLong();
+
+	public TrainScheduleCreator(TimetableTemplateService timetableTemplateService, StationService stationService,
+		TrainService trainService, TrainScheduleRepository trainScheduleRepository,
+		TrainScheduleJdbcRepository trainScheduleJdbcRepository, MeterRegistry meterRegistry) {
+		this.timetableTemplateService = timetableTemplateService;
+		this.stationService = stationService;
+		this.trainService = trainService;
+		this.trainScheduleRepository = trainScheduleRepository;
+		this.trainScheduleJdbcRepository = trainScheduleJdbcRepository;
+
+		// 스케줄 생성 소요 시간, 저장한 행 수(스케줄 + 정차역 + 잔여 좌석)와 마지막 실행의 초당 행 수
+		this.materializeTimer = Timer.builder("train.schedule.materialize")
+			.register(meterRegistry);
+		this.materializedRows = Counter.builder("train.schedule.materialize.rows")
+			.register(meterRegistry);
+		Gauge.builder("train.schedule.materialize.rows.per.second", lastRowsPerSecond, AtomicLong::get)
+			.register(meterRegistry);
+	}
 
 	@Transactional
 	public void createTrainSchedule() {
@@ -42,67 +79,178 @@ public class TrainScheduleCreator {
 
 	@Transactional
 	public void createTrainSchedule(LocalDate localDate) {
-		if (trainScheduleRepository.existsByOperationDate(localDate)) {
-			log.info("[{}] 이미 운행 스케줄이 존재합니다.", localDate);
-			return;
-		}
+		createTrainSchedules(localDate, localDate);
+	}
 
-		log.info("[{}] 운행 스케줄 생성 시작", localDate);
+	/**
+	 * 기간 내 운행 스케줄을 한 번에 생성한다. (이미 스케줄이 있는 운행일은 건너뜀)
+	 *
+	 * 시간표 템플릿을 운행일별로 병렬 전개한 뒤, 미리 할당한 ID로 스케줄/정차역/잔여 좌석을 배치 INSERT 한다.
+	 * @return 생성한 운행 스케줄 수
+	 */
+	@Transactional
+	public int createTrainSchedules(LocalDate startDate, LocalDate endDate) {
+		Set<LocalDate> existingDates = new HashSet<>(
+			trainScheduleRepository.findOperationDatesBetween(startDate, endDate));
+		List<LocalDate> dates = startDate.datesUntil(endDate.plusDays(1))
+			.filter(date -> !existingDates.contains(date))
+			.toList();
+		existingDates.forEach(date -> log.info("[{}] 이미 운행 스케줄이 존재합니다.", date));
+		if (dates.isEmpty()) {
+			return 0;
+		}
 
-		List<Sheet> sheets = parser.getSheets();
-		sheets.forEach(sheet -> {
-			// 하행
-			CellAddress downTrainAddress = parser.getFirstCellAddress(sheet, 0);
-			parseAndPersistTrainSchedule(sheet, downTrainAddress, localDate);
+		log.info("[{} ~ {}] 운행 스케줄 생성 시작 ({}일)", startDate, endDate, dates.size());
 
-			// 상행
-			CellAddress upTrainAddress = parser.getFirstCellAddress(sheet, downTrainAddress.getColumn() + 1);
-			parseAndPersistTrainSchedule(sheet, upTrainAddress, localDate);
-		});
+		// 엑셀은 템플릿을 만들 때만 파싱하고, 운행일별 스케줄은 템플릿에서 전개
+		TimetableTemplate template = timetableTemplateService.getTemplate();
+		Map<LocalDate, List<TimetableTrain>> trainsByDate = new LinkedHashMap<>();
+		for (LocalDate date : dates) {
+			trainsByDate.put(date, template.trains().stream()
+				.filter(train -> train.operatesOn(date))
+				.toList());
+		}
 
-		log.info("[{}] 운행 스케줄 생성 완료", localDate);
+		int created = insertTrainSchedules(template.stationNames(), trainsByDate);
+		log.info("[{} ~ {}] 운행 스케줄 생성 완료: 스케줄 {}개", startDate, endDate, created);
+		return created;
 	}
 
-	private void parseAndPersistTrainSchedule(Sheet sheet, CellAddress address, LocalDate localDate) {
-		List<String> stationNames = parser.getStationNames(sheet, address);
-		Map<String, Station> stationMap = stationService.findOrCreateStation(stationNames);
+	/**
+	 * 운행일별 열차 목록으로 스케줄/정차역/잔여 좌석을 생성한다. (트랜잭션 내에서 호출)
+	 *
+	 * 운행일별로 병렬 전개한 뒤, 미리 할당한 ID로 배치 INSERT 한다.
+	 * @param stationNames 정차역 이름 목록 (없는 역은 생성)
+	 * @param trainsByDate 운행일별 생성할 열차 목록
+	 * @return 생성한 운행 스케줄 수
+	 */
+	@Transactional
+	public int insertTrainSchedules(List<String> stationNames, Map<LocalDate, List<TimetableTrain>> trainsByDate) {
+		long startedAt = System.nanoTime();
 
-		List<TrainScheduleData> trainScheduleData = parser.getTrainScheduleData(sheet, address, localDate);
-		Map<Integer, Train> trainMap = trainService.findOrCreateTrains(trainScheduleData.stream()
-			.map(TrainScheduleData::getTrainData)
+		Map<String, Long> stationIds = stationService.findOrCreateStation(stationNames).entrySet().stream()
+			.collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getId()));
+		Map<Integer, TrainInfo> trains = findOrCreateTrains(trainsByDate.values().stream()
+			.flatMap(List::stream)
 			.toList());
 
-		List<TrainSchedule> trainSchedules = trainScheduleData.stream()
-			.map(data -> createTrainSchedule(data, trainMap, stationMap))
+		// 운행일별 ID 시작 위치를 먼저 계산해 두면, 운행일끼리 독립적으로 병렬 전개할 수 있다.
+		List<Map.Entry<LocalDate, List<TimetableTrain>>> entries = List.copyOf(trainsByDate.entrySet());
+		int scheduleCount = 0;
+		int stopCount = 0;
+		for (Map.Entry<LocalDate, List<TimetableTrain>> entry : entries) {
+			scheduleCount += entry.getValue().size();
+			stopCount += entry.getValue().stream().mapToInt(train -> train.stops().size()).sum();
+		}
+		long scheduleId = trainScheduleJdbcRepository.allocateScheduleIds(scheduleCount) - 1;
+		long stopId = trainScheduleJdbcRepository.allocateScheduleStopIds(stopCount) - 1;
+		List<IdRange> idRanges = new ArrayList<>(entries.size());
+		for (Map.Entry<LocalDate, List<TimetableTrain>> entry : entries) {
+			idRanges.add(new IdRange(scheduleId + 1, stopId + 1));
+			for (TimetableTrain train : entry.getValue()) {
+				scheduleId++;
+				stopId += train.stops().size();
+			}
+		}
+
+		List<MaterializedDate> materialized = IntStream.range(0, entries.size())
+			.parallel()
+			.mapToObj(i -> materialize(entries.get(i).getKey(), entries.get(i).getValue(), idRanges.get(i), trains,
+				stationIds))
 			.toList();
 
-		trainScheduleRepository.saveAll(trainSchedules);
-		log.info("[{}] {}개의 운행 스케줄 저장 완료", sheet.getSheetName(), trainSchedules.size());
+		List<NewTrainSchedule> schedules = new ArrayList<>();
+		List<NewScheduleStop> stops = new ArrayList<>();
+		List<NewScheduleInventory> inventories = new ArrayList<>();
+		materialized.forEach(date -> {
+			schedules.addAll(date.schedules());
+			stops.addAll(date.stops());
+			inventories.addAll(date.inventories());
+		});
+
+		trainScheduleJdbcRepository.insertSchedules(schedules);
+		trainScheduleJdbcRepository.insertScheduleStops(stops);
+		trainScheduleJdbcRepository.insertInventories(inventories);
+
+		long elapsedNanos = System.nanoTime() - startedAt;
+		long rows = (long)schedules.size() + stops.size() + inventories.size();
+		materializeTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+		materializedRows.increment(rows);
+		lastRowsPerSecond.set(rows * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1));
+
+		log.info("운행 스케줄 저장 완료: 운행일 {}일, 스케줄 {}개, 전체 {}행, {}ms", entries.size(), schedules.size(), rows,
+			TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+		return schedules.size();
+	}
+
+	/**
+	 * 열차를 조회(없으면 생성)하고, 병렬 전개 중에 지연 로딩이 일어나지 않도록 필요한 값만 꺼내 둔다.
+	 */
+	private Map<Integer, TrainInfo> findOrCreateTrains(List<TimetableTrain> timetableTrains) {
+		List<TrainData> trainData = List.copyOf(timetableTrains.stream()
+			.map(train -> TrainData.of(train.trainNumber(), train.trainName()))
+			.collect(Collectors.toMap(TrainData::getTrainNumber, Function.identity(), (first, second) -> first))
+			.values());
+
+		Map<Integer, TrainInfo> trains = new HashMap<>();
+		trainService.findOrCreateTrains(trainData).forEach((trainNumber, train) ->
+			trains.put(trainNumber, TrainInfo.from(train)));
+		return trains;
+	}
+
+	private MaterializedDate materialize(LocalDate date, List<TimetableTrain> timetableTrains, IdRange idRange,
+		Map<Integer, TrainInfo> trains, Map<String, Long> stationIds) {
+		List<NewTrainSchedule> schedules = new ArrayList<>();
+		List<NewScheduleStop> stops = new ArrayList<>();
+		List<NewScheduleInventory> inventories = new ArrayList<>();
+
+		long scheduleId = idRange.firstScheduleId();
+		long stopId = idRange.firstStopId();
+		for (TimetableTrain timetableTrain : timetableTrains) {
+			TrainInfo train = trains.get(timetableTrain.trainNumber());
+			TimetableStop firstStop = timetableTrain.stops().get(0);
+			TimetableStop lastStop = timetableTrain.stops().get(timetableTrain.stops().size() - 1);
+			schedules.add(new NewTrainSchedule(
+				scheduleId,
+				timetableTrain.scheduleName(),
+				date,
+				firstStop.departureTime(),
+				lastStop.arrivalTime(),
+				train.id(),
+				stationIds.get(firstStop.stationName()),
+				stationIds.get(lastStop.stationName())
+			));
+
+			for (TimetableStop stop : timetableTrain.stops()) {
+				stops.add(new NewScheduleStop(stopId++, scheduleId, stop.stopOrder(), stop.arrivalTime(),
+					stop.departureTime(), stationIds.get(stop.stationName())));
+			}
+
+			long trainScheduleId = scheduleId;
+			train.totalSeats().forEach((carType, totalSeats) ->
+				inventories.add(new NewScheduleInventory(trainScheduleId, carType, totalSeats)));
+			scheduleId++;
+		}
+		return new MaterializedDate(schedules, stops, inventories);
+	}
+
+	private record IdRange(long firstScheduleId, long firstStopId) {
+	}
+
+	private record TrainInfo(Long id, Map<CarType, Integer> totalSeats) {
+
+		static TrainInfo from(Train train) {
+			Map<CarType, Integer> totalSeats = new EnumMap<>(CarType.class);
+			train.getSupportedCarTypes()
+				.forEach(carType -> totalSeats.put(carType, train.getTotalSeatsByType(carType)));
+			return new TrainInfo(train.getId(), totalSeats);
+		}
 	}
 
-	private TrainSchedule createTrainSchedule(TrainScheduleData data, Map<Integer, Train> trainMap,
-		Map<String, Station> stationMap) {
-		Train train = trainMap.get(data.getTrainData().getTrainNumber());
-		ScheduleStopData firstStop = data.getFirstStop();
-		ScheduleStopData lastStop = data.getLastStop();
-
-		List<ScheduleStop> scheduleStops = data.getScheduleStopData().stream()
-			.map(scheduleStopData -> ScheduleStop.create(
-				scheduleStopData.getStopOrder(),
-				scheduleStopData.getArrivalTime(),
-				scheduleStopData.getDepartureTime(),
-				stationMap.get(scheduleStopData.getStationName())
-			)).toList();
-
-		return TrainSchedule.create(
-			data.getScheduleName(),
-			data.getOperationDate(),
-			firstStop.getDepartureTime(),
-			lastStop.getArrivalTime(),
-			train,
-			stationMap.get(firstStop.getStationName()),
-			stationMap.get(lastStop.getStationName()),
-			scheduleStops
-		);
+	private record MaterializedDate(
+		List<NewTrainSchedule> schedules,
+		List<NewScheduleStop> stops,
+		List<NewScheduleInventory> inventories
+	) {
 	}
 }
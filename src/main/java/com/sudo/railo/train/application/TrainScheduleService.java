@@ -26,9 +26,12 @@ import com.sudo.railo.train.application.dto.response.StandingTypeInfo;
 import com.sudo.railo.train.application.dto.response.TrainSearchResponse;
 import com.sudo.railo.train.application.dto.response.TrainSearchSlicePageResponse;
 import com.sudo.railo.train.application.validator.TrainSearchValidator;
+import com.sudo.railo.train.domain.FareTable;
 import com.sudo.railo.train.domain.StationFare;
 import com.sudo.railo.train.domain.TrainSchedule;
 import com.sudo.railo.train.domain.type.CarType;
+import com.sudo.railo.train.domain.type.FareClass;
+import com.sudo.railo.train.domain.type.PassengerType;
 import com.sudo.railo.train.exception.TrainErrorCode;
 import com.sudo.railo.train.infrastructure.SeatReservationRepositoryCustom;
 import com.sudo.railo.train.infrastructure.StationFareRepository;
@@ -54,6 +57,8 @@ public class TrainScheduleService {
 	private final StationFareRepository stationFareRepository;
 	private final StationRepository stationRepository;
 	private final SeatReservationRepositoryCustom seatReservationRepositoryCustom;
+	private final FareQuoteEngine fareQuoteEngine;
+	private final HolidayCalendar holidayCalendar;
 
 	/**
 	 * 운행 캘린더 조회
@@ -69,7 +74,7 @@ public class TrainScheduleService {
 
 		List<OperationCalendarItem> calendar = startDate.datesUntil(endDate.plusDays(1))
 			.map(date -> {
-				boolean isHoliday = isHoliday(date);
+				boolean isHoliday = holidayCalendar.isHoliday(date);
 				boolean hasSchedule = datesWithSchedule.contains(date);
 				return OperationCalendarItem.create(date, isHoliday, hasSchedule);
 			})
@@ -81,33 +86,6 @@ public class TrainScheduleService {
 		return calendar;
 	}
 
-	/**
-	 * 휴일 여부 판단
-	 * TODO : 공휴일 API 연동 후 판단 처리 로직 추가 필요
-	 */
-	private boolean isHoliday(LocalDate date) {
-		// 2025년 공휴일 임시 하드코딩
-		Set<LocalDate> holidays2025 = Set.of(
-			LocalDate.of(2025, 1, 1),   // 신정
-			LocalDate.of(2025, 1, 28),  // 설날 연휴
-			LocalDate.of(2025, 1, 29),  // 설날
-			LocalDate.of(2025, 1, 30),  // 설날 연휴
-			LocalDate.of(2025, 3, 1),   // 삼일절
-			LocalDate.of(2025, 5, 5),   // 어린이날
-			LocalDate.of(2025, 6, 6),   // 현충일
-			LocalDate.of(2025, 8, 15),  // 광복절
-			LocalDate.of(2025, 10, 3),  // 개천절
-			LocalDate.of(2025, 10, 5),  // 추석 연휴
-			LocalDate.of(2025, 10, 6),  // 추석 연휴
-			LocalDate.of(2025, 10, 7),  // 추석 연휴
-			LocalDate.of(2025, 10, 8),  // 추석
-			LocalDate.of(2025, 10, 9),  // 한글날
-			LocalDate.of(2025, 12, 25)  // 크리스마스
-		);
-
-		return holidays2025.contains(date);
-	}
-
 	/**
 	 * 통합 열차 조회 (메인 검색)
 	 * 1. 조회 조건으로 기본 열차 정보 조회 (페이징)
@@ -133,11 +111,12 @@ public class TrainScheduleService {
 			return TrainSearchSlicePageResponse.empty(pageable);
 		}
 
-		// 3. 구간별 요금 정보 조회 (일반실/특실 요금)
+		// 3. 구간별 요금 정보 조회 (일반실/특실 요금), 승객 구성별 총 요금은 페이지당 한 번만 계산
 		StationFare fare = findStationFare(request.departureStationId(), request.arrivalStationId());
+		PartyFare partyFare = calculatePartyFare(fare, request);
 
 		// 4. 각 열차별 좌석 상태 계산 및 응답 생성
-		List<TrainSearchResponse> trainSearchResults = processTrainSearchResults(trainSlice.getContent(), fare,
+		List<TrainSearchResponse> trainSearchResults = processTrainSearchResults(trainSlice.getContent(), partyFare,
 			request);
 
 		log.info("Slice 기반 열차 조회 완료: {}건 조회, hasNext: {}", trainSearchResults.size(), trainSlice.hasNext());
@@ -185,21 +164,38 @@ public class TrainScheduleService {
 	 */
 	private StationFare findStationFare(Long departureStationId, Long arrivalStationId) {
 		log.debug("요금 정보 조회: {} -> {}", departureStationId, arrivalStationId);
-		return stationFareRepository.findByDepartureStationIdAndArrivalStationId(departureStationId, arrivalStationId)
+		return stationFareRepository.findByStations(departureStationId, arrivalStationId)
 			.orElseThrow(() -> {
 				log.error("요금 정보 없음: {} -> {}", departureStationId, arrivalStationId);
 				return new BusinessException(TrainErrorCode.STATION_FARE_NOT_FOUND);
 			});
 	}
 
+	/**
+	 * 승객 구성별 요금 계산 (1인 어른 요금 + 승객 전체 요금)
+	 */
+	private PartyFare calculatePartyFare(StationFare fare, TrainSearchRequest request) {
+		FareTable fareTable = fareQuoteEngine.getFareTable(fare);
+		int[] passengerCounts = request.getPassengerCounts();
+
+		return new PartyFare(
+			fareTable.fare(FareClass.STANDARD, PassengerType.ADULT),
+			fareTable.fare(FareClass.FIRST_CLASS, PassengerType.ADULT),
+			fareTable.fare(FareClass.STANDING, PassengerType.ADULT),
+			fareTable.total(FareClass.STANDARD, passengerCounts),
+			fareTable.total(FareClass.FIRST_CLASS, passengerCounts),
+			fareTable.total(FareClass.STANDING, passengerCounts)
+		);
+	}
+
 	/**
 	 * 열차 조회 결과 일괄 처리 (각 열차별로 좌석 상태 계산)
 	 * @param trainInfos 기본 열차 정보 리스트
-	 * @param fare 구간 요금 정보
+	 * @param fare 승객 구성별 요금 정보
 	 * @param request 조회 요청 정보
 	 * @return 좌석 상태가 포함된 열차 조회 결과
 	 */
-	private List<TrainSearchResponse> processTrainSearchResults(List<TrainBasicInfo> trainInfos, StationFare fare,
+	private List<TrainSearchResponse> processTrainSearchResults(List<TrainBasicInfo> trainInfos, PartyFare fare,
 		TrainSearchRequest request) {
 
 		List<TrainSearchResponse> results = trainInfos.stream()
@@ -231,11 +227,11 @@ public class TrainScheduleService {
 	/**
 	 * 개별 열차 처리 (좌석 상태 계산 + 응답 생성)
 	 * @param trainInfo 기본 열차 정보
-	 * @param fare 구간 요금 정보
+	 * @param fare 승객 구성별 요금 정보
 	 * @param request 조회 요청 정보
 	 * @return 처리된 열차 조회 응답 (실패시 null)
 	 */
-	private TrainSearchResponse processIndividualTrain(TrainBasicInfo trainInfo, StationFare fare,
+	private TrainSearchResponse processIndividualTrain(TrainBasicInfo trainInfo, PartyFare fare,
 		TrainSearchRequest request) {
 		try {
 			SectionSeatStatus sectionStatus = calculateSectionSeatStatus(
@@ -255,12 +251,12 @@ public class TrainScheduleService {
 	 * 열차 조회 응답 생성
 	 * @param trainInfo 기본 열차 정보
 	 * @param sectionStatus 계산된 좌석 상태
-	 * @param fare 구간 요금 정보
+	 * @param fare 승객 구성별 요금 정보
 	 * @param passengerCount 승객 수
 	 * @return 완성된 열차 조회 응답
 	 */
 	private TrainSearchResponse createTrainSearchResponse(TrainBasicInfo trainInfo, SectionSeatStatus sectionStatus,
-		StationFare fare, int passengerCount) {
+		PartyFare fare, int passengerCount) {
 
 		boolean hasStanding = sectionStatus.standingAvailable();
 
@@ -268,7 +264,8 @@ public class TrainScheduleService {
 		SeatTypeInfo standardSeatInfo = SeatTypeInfo.create(
 			sectionStatus.standardAvailable(),
 			sectionStatus.standardTotal(),
-			fare.getStandardFare(),
+			fare.standardFare(),
+			fare.standardTotal(),
 			passengerCount,
 			"일반실",
 			hasStanding
@@ -276,7 +273,8 @@ public class TrainScheduleService {
 		SeatTypeInfo firstClassSeatInfo = SeatTypeInfo.create(
 			sectionStatus.firstClassAvailable(),
 			sectionStatus.firstClassTotal(),
-			fare.getFirstClassFare(),
+			fare.firstClassFare(),
+			fare.firstClassTotal(),
 			passengerCount,
 			"특실",
 			false
@@ -302,13 +300,13 @@ public class TrainScheduleService {
 	/**
 	 * 입석 정보 생성 (필요한 경우만)
 	 */
-	private StandingTypeInfo createStandingInfoIfNeeded(SectionSeatStatus sectionStatus, StationFare fare) {
+	private StandingTypeInfo createStandingInfoIfNeeded(SectionSeatStatus sectionStatus, PartyFare fare) {
 		boolean shouldShowStanding = sectionStatus.standingAvailable() &&
 			(!sectionStatus.canReserveStandard() || !sectionStatus.canReserveFirstClass());
 
 		if (shouldShowStanding) {
-			int standingFare = (int)(fare.getStandardFare() * 0.9);
-			return StandingTypeInfo.create(sectionStatus.maxAdditionalStanding(), 50, standingFare);
+			return StandingTypeInfo.create(sectionStatus.maxAdditionalStanding(), 50, fare.standingFare(),
+				fare.standingTotal());
 		}
 		return null;
 	}
@@ -414,4 +412,10 @@ public class TrainScheduleService {
 		boolean canReserveStanding, int maxOccupancyInRoute
 	) {
 	}
+
+	private record PartyFare(
+		int standardFare, int firstClassFare, int standingFare,
+		int standardTotal, int firstClassTotal, int standingTotal
+	) {
+	}
 }
@@ -0,0 +1,24 @@
+package com.sudo.railo.train.application.dto;
+
+/**
+ * 시간표 재적재 결과 DTO
+ *
+ * @param inserted 새로 생성한 운행 스케줄 수
+ * @param updated 정차 시간/정차역이 바뀐 운행 스케줄 수
+ * @param cancelled 시간표에서 빠져 운행 취소한 운행 스케줄 수
+ * @param skipped 바뀐 정차역이 예약 구간을 포함하지 않아 반영하지 않은 운행 스케줄 수
+ */
+public record TimetableDiffResult(
+	int inserted,
+	int updated,
+	int cancelled,
+	int skipped
+) {
+	public static TimetableDiffResult empty() {
+		return new TimetableDiffResult(0, 0, 0, 0);
+	}
+
+	public boolean hasChanges() {
+		return inserted + updated + cancelled > 0;
+	}
+}
@@ -0,0 +1,25 @@
+package com.sudo.railo.train.application.dto.excel;
+
+import java.io.Serializable;
+import java.time.LocalTime;
+
+/**
+ * 시간표 템플릿의 정차역
+ * 첫 번째 정차역은 도착 시간이, 마지막 정차역은 출발 시간이 `null`이다.
+ */
+public record TimetableStop(
+	int stopOrder,
+	LocalTime arrivalTime,
+	LocalTime departureTime,
+	String stationName
+) implements Serializable {
+
+	public static TimetableStop from(ScheduleStopData data) {
+		return new TimetableStop(data.getStopOrder(), data.getArrivalTime(), data.getDepartureTime(),
+			data.getStationName());
+	}
+
+	public ScheduleStopData toScheduleStopData() {
+		return ScheduleStopData.of(stopOrder, arrivalTime, departureTime, stationName);
+	}
+}
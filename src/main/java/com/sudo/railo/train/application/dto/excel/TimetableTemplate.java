@@ -0,0 +1,32 @@
+package com.sudo.railo.train.application.dto.excel;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 운행 시간표 엑셀을 한 번 파싱해 만든 불변 시간표 템플릿
+ * 운행일별 스케줄은 POI 없이 템플릿 × 날짜로 전개한다.
+ *
+ * @param checksum 원본 엑셀 파일의 SHA-256 체크섬
+ * @param stationNames 시간표에 등장하는 역 이름 (등장 순서)
+ * @param trains 열차 목록
+ */
+public record TimetableTemplate(
+	String checksum,
+	List<String> stationNames,
+	List<TimetableTrain> trains
+) implements Serializable {
+
+	public TimetableTemplate {
+		stationNames = List.copyOf(stationNames);
+		trains = List.copyOf(trains);
+	}
+
+	public List<TrainScheduleData> expand(LocalDate localDate) {
+		return trains.stream()
+			.filter(train -> train.operatesOn(localDate))
+			.map(train -> train.toTrainScheduleData(localDate))
+			.toList();
+	}
+}
@@ -0,0 +1,41 @@
+package com.sudo.railo.train.application.dto.excel;
+
+import java.io.Serializable;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 시간표 템플릿의 열차 한 편
+ *
+ * @param operatingDays 운행 요일 비트 마스크 (월요일 = 1 << 0, ..., 일요일 = 1 << 6)
+ */
+public record TimetableTrain(
+	String scheduleName,
+	int trainNumber,
+	String trainName,
+	int operatingDays,
+	List<TimetableStop> stops
+) implements Serializable {
+
+	public static final int EVERY_DAY = 0b111_1111;
+
+	public TimetableTrain {
+		stops = List.copyOf(stops);
+	}
+
+	public static int dayMask(DayOfWeek dayOfWeek) {
+		return 1 << (dayOfWeek.getValue() - 1);
+	}
+
+	public boolean operatesOn(LocalDate localDate) {
+		return (operatingDays & dayMask(localDate.getDayOfWeek())) != 0;
+	}
+
+	public TrainScheduleData toTrainScheduleData(LocalDate localDate) {
+		List<ScheduleStopData> scheduleStopData = stops.stream()
+			.map(TimetableStop::toScheduleStopData)
+			.toList();
+		return TrainScheduleData.of(scheduleName, localDate, scheduleStopData, TrainData.of(trainNumber, trainName));
+	}
+}
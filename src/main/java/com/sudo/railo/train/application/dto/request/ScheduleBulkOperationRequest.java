@@ -0,0 +1,36 @@
+package com.sudo.railo.train.application.dto.request;
+
+import java.time.LocalDate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 운행 상태 일괄 변경 요청 (관리자)
+ * 열차 번호와 노선을 지정하지 않으면 기간 내 전체 운행 스케줄이 대상이다.
+ */
+@Schema(description = "운행 상태 일괄 변경 요청")
+public record ScheduleBulkOperationRequest(
+	@Schema(description = "운행 시작일", example = "2025-07-01", requiredMode = Schema.RequiredMode.REQUIRED)
+	@NotNull(message = "운행 시작일은 필수입니다")
+	LocalDate startDate,
+
+	@Schema(description = "운행 종료일", example = "2025-07-01", requiredMode = Schema.RequiredMode.REQUIRED)
+	@NotNull(message = "운행 종료일은 필수입니다")
+	LocalDate endDate,
+
+	@Schema(description = "열차 번호 (없으면 전체)", example = "1")
+	@Min(value = 1, message = "열차 번호는 1 이상이어야 합니다")
+	Integer trainNumber,
+
+	@Schema(description = "노선 - 시간표 시트 이름 (없으면 전체)", example = "경부선")
+	String line,
+
+	@Schema(description = "추가할 지연 시간(분), 지연 처리 시 필수", example = "30")
+	@Min(value = 1, message = "지연 시간은 1분 이상이어야 합니다")
+	@Max(value = 1440, message = "지연 시간은 1440분 이하여야 합니다")
+	Integer delayMinutes
+) {
+}
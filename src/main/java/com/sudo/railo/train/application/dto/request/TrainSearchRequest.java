@@ -2,6 +2,10 @@ package com.sudo.railo.train.application.dto.request;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.List;
+
+import com.sudo.railo.train.domain.FareTable;
+import com.sudo.railo.train.domain.PassengerSummary;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.FutureOrPresent;
@@ -37,7 +41,10 @@ public record TrainSearchRequest(
 			"10", "11", "12", "13", "14", "15", "16", "17", "18", "19",
 			"20", "21", "22", "23"})
 	@Pattern(regexp = "^([01]?[0-9]|2[0-3])$", message = "출발 시간은 00~23 사이의 정시 값이어야 합니다")
-	String departureHour
+	String departureHour,
+
+	@Schema(description = "승객 유형별 인원 (없으면 승객 수만큼 어른으로 계산)")
+	List<PassengerSummary> passengers
 ) {
 
 	/**
@@ -53,4 +60,15 @@ public record TrainSearchRequest(
 
 		return requestTime;
 	}
+
+	/**
+	 * 승객 유형별 인원수 (PassengerType 순서)
+	 * - 승객 유형 정보가 없으면 승객 수만큼 어른으로 계산
+	 */
+	public int[] getPassengerCounts() {
+		if (passengers == null || passengers.isEmpty()) {
+			return FareTable.adultPassengerCounts(passengerCount);
+		}
+		return FareTable.toPassengerCounts(passengers);
+	}
 }
@@ -0,0 +1,10 @@
+package com.sudo.railo.train.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "운행 상태 일괄 변경 결과")
+public record ScheduleBulkOperationResponse(
+	@Schema(description = "변경된 운행 스케줄 수", example = "42")
+	int changedSchedules
+) {
+}
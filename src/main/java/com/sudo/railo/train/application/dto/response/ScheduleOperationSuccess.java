@@ -0,0 +1,20 @@
+package com.sudo.railo.train.application.dto.response;
+
+import org.springframework.http.HttpStatus;
+
+import com.sudo.railo.global.success.SuccessCode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ScheduleOperationSuccess implements SuccessCode {
+
+	SCHEDULE_BULK_CANCEL_SUCCESS(HttpStatus.OK, "운행 스케줄 일괄 운행 취소가 완료되었습니다."),
+	SCHEDULE_BULK_DELAY_SUCCESS(HttpStatus.OK, "운행 스케줄 일괄 지연 처리가 완료되었습니다."),
+	TIMETABLE_REIMPORT_SUCCESS(HttpStatus.OK, "시간표 재적재가 완료되었습니다.");
+
+	private final HttpStatus status;
+	private final String message;
+}
@@ -16,6 +16,9 @@ public record SeatTypeInfo(
 	@Schema(description = "요금", example = "14100")
 	int fare,
 
+	@Schema(description = "승객 전체 요금", example = "42300")
+	int totalFare,
+
 	@Schema(description = "좌석 상태", example = "AVAILABLE")
 	SeatAvailabilityStatus status,
 
@@ -26,14 +29,14 @@ public record SeatTypeInfo(
 	String displayText
 ) {
 	// 입석 정보 포함
-	public static SeatTypeInfo create(int availableSeats, int totalSeats, int fare,
+	public static SeatTypeInfo create(int availableSeats, int totalSeats, int fare, int totalFare,
 		int passengerCount, String seatTypeName, boolean hasStanding) {
 
 		SeatAvailabilityStatus status = determineSeatStatus(availableSeats, passengerCount, hasStanding);
 		boolean canReserve = availableSeats >= passengerCount;
 		String displayText = createDisplayText(status, seatTypeName, availableSeats, passengerCount);
 
-		return new SeatTypeInfo(availableSeats, totalSeats, fare, status, canReserve, displayText);
+		return new SeatTypeInfo(availableSeats, totalSeats, fare, totalFare, status, canReserve, displayText);
 	}
 
 	/**
@@ -13,10 +13,13 @@ public record StandingTypeInfo(
 	@Schema(description = "입석 요금", example = "12690")
 	int fare,
 
+	@Schema(description = "승객 전체 입석 요금", example = "38070")
+	int totalFare,
+
 	@Schema(description = "화면 표시용 텍스트", example = "입석")
 	String displayText
 ) {
-	public static StandingTypeInfo create(int availableStanding, int maxStanding, int fare) {
-		return new StandingTypeInfo(availableStanding, maxStanding, fare, "입석");
+	public static StandingTypeInfo create(int availableStanding, int maxStanding, int fare, int totalFare) {
+		return new StandingTypeInfo(availableStanding, maxStanding, fare, totalFare, "입석");
 	}
 }
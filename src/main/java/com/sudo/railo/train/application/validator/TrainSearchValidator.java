@@ -7,6 +7,7 @@ import org.springframework.stereotype.Component;
 
 import com.sudo.railo.global.exception.error.BusinessException;
 import com.sudo.railo.train.application.dto.request.TrainSearchRequest;
+import com.sudo.railo.train.domain.PassengerSummary;
 import com.sudo.railo.train.exception.TrainErrorCode;
 
 @Component
@@ -19,6 +20,7 @@ public class TrainSearchValidator {
 		validateRoute(request);
 		validateOperationDate(request);
 		validateDepartureTime(request);
+		validatePassengers(request);
 	}
 
 	private void validateRoute(TrainSearchRequest request) {
@@ -43,4 +45,23 @@ public class TrainSearchValidator {
 			}
 		}
 	}
+
+	/**
+	 * 승객 유형별 인원을 보낸 경우 유형이 있어야 하고, 인원 합계가 승객 수와 같아야 함
+	 */
+	private void validatePassengers(TrainSearchRequest request) {
+		if (request.passengers() == null || request.passengers().isEmpty()) {
+			return;
+		}
+		int total = 0;
+		for (PassengerSummary passenger : request.passengers()) {
+			if (passenger == null || passenger.getPassengerType() == null || passenger.getCount() < 0) {
+				throw new BusinessException(TrainErrorCode.PASSENGER_COUNT_MISMATCH);
+			}
+			total += passenger.getCount();
+		}
+		if (total != request.passengerCount()) {
+			throw new BusinessException(TrainErrorCode.PASSENGER_COUNT_MISMATCH);
+		}
+	}
 }
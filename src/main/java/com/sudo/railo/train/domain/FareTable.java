@@ -0,0 +1,81 @@
+package com.sudo.railo.train.domain;
+
+import java.util.List;
+
+import com.sudo.railo.train.domain.type.FareClass;
+import com.sudo.railo.train.domain.type.PassengerType;
+
+/**
+ * 구간 운임표
+ * 객실 등급(일반실/특실/입석)과 승객 유형별 운임을 미리 계산해 두고 정수 연산으로 조회한다.
+ */
+public final class FareTable {
+
+	private static final int STANDING_RATE_PERCENT = 90; // 입석은 일반실 운임의 90%
+	private static final FareClass[] FARE_CLASSES = FareClass.values();
+	private static final PassengerType[] PASSENGER_TYPES = PassengerType.values();
+
+	// [객실 등급][승객 유형] 순서로 평탄화한 운임
+	private final int[] fares;
+
+	private FareTable(int[] fares) {
+		this.fares = fares;
+	}
+
+	public static FareTable of(int standardFare, int firstClassFare) {
+		int standingFare = standardFare * STANDING_RATE_PERCENT / 100;
+		int[] baseFares = {standardFare, firstClassFare, standingFare};
+
+		int[] fares = new int[FARE_CLASSES.length * PASSENGER_TYPES.length];
+		for (FareClass fareClass : FARE_CLASSES) {
+			for (PassengerType passengerType : PASSENGER_TYPES) {
+				fares[index(fareClass, passengerType)] = passengerType.applyFareRate(baseFares[fareClass.ordinal()]);
+			}
+		}
+		return new FareTable(fares);
+	}
+
+	/***
+	 * 승객 1인 운임을 조회하는 메서드
+	 */
+	public int fare(FareClass fareClass, PassengerType passengerType) {
+		return fares[index(fareClass, passengerType)];
+	}
+
+	/***
+	 * 승객 유형별 인원수로 총 운임을 계산하는 메서드
+	 * @param passengerCounts PassengerType 순서의 인원수 배열
+	 */
+	public int total(FareClass fareClass, int[] passengerCounts) {
+		int offset = fareClass.ordinal() * PASSENGER_TYPES.length;
+		int total = 0;
+		for (int i = 0; i < passengerCounts.length; i++) {
+			total += fares[offset + i] * passengerCounts[i];
+		}
+		return total;
+	}
+
+	/***
+	 * 승객 정보를 PassengerType 순서의 인원수 배열로 변환하는 메서드
+	 */
+	public static int[] toPassengerCounts(List<PassengerSummary> passengers) {
+		int[] counts = new int[PASSENGER_TYPES.length];
+		for (PassengerSummary passenger : passengers) {
+			counts[passenger.getPassengerType().ordinal()] += passenger.getCount();
+		}
+		return counts;
+	}
+
+	/***
+	 * 성인 인원수 배열을 생성하는 메서드 (승객 유형 없이 인원수만 있는 경우)
+	 */
+	public static int[] adultPassengerCounts(int passengerCount) {
+		int[] counts = new int[PASSENGER_TYPES.length];
+		counts[PassengerType.ADULT.ordinal()] = passengerCount;
+		return counts;
+	}
+
+	private static int index(FareClass fareClass, PassengerType passengerType) {
+		return fareClass.ordinal() * PASSENGER_TYPES.length + passengerType.ordinal();
+	}
+}
@@ -0,0 +1,28 @@
+package com.sudo.railo.train.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 미리 할당하는 ID의 마지막 발급 값 (테이블별 한 행)
+ * 운행 스케줄/정차역은 배치 INSERT 전에 ID를 미리 할당하는데, 원본 테이블의 최대 ID를 기준으로 하면
+ * 보관 테이블로 옮겨진 ID가 다시 발급되므로 발급한 값을 따로 기록한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "id_sequence")
+public class IdSequence {
+
+	@Id
+	@Column(name = "sequence_name", length = 64)
+	private String sequenceName;
+
+	@Column(name = "last_id", nullable = false)
+	private long lastId;
+}
@@ -1,4 +1,6 @@
-package com.sudo.railo.booking.domain;
+package com.sudo.railo.train.domain;
+
+import com.sudo.railo.train.domain.type.PassengerType;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
@@ -0,0 +1,77 @@
+package com.sudo.railo.train.domain;
+
+import com.sudo.railo.train.domain.type.CarType;
+import com.sudo.railo.train.domain.type.SeatAvailabilityStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 운행 스케줄의 좌석 타입별 잔여 좌석 카운터
+ *
+ * 좌석 예약/반환 시 조건부 UPDATE로 원자적으로 증감하며, 필요할 때만 조회한다.
+ * 좌석은 운행 스케줄당 한 번만 예약되므로(좌석 예약 유니크 제약) 잔여 좌석 수는 전 구간 기준이며,
+ * 잔여 좌석이 부족하면 차감하지 않고 예약을 거절한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+	name = "schedule_inventory",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_schedule_inventory_car_type",
+			columnNames = {"train_schedule_id", "car_type"})
+	}
+)
+public class ScheduleInventory {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "schedule_inventory_id")
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "train_schedule_id", nullable = false)
+	private TrainSchedule trainSchedule;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private CarType carType;
+
+	private int totalSeats;
+
+	private int availableSeats;
+
+	/* 조회 로직 */
+
+	// 예약 가능 여부 확인
+	public boolean canReserve(int seatCount) {
+		return availableSeats >= seatCount;
+	}
+
+	// 좌석 가용성 상태 확인
+	public SeatAvailabilityStatus getSeatAvailabilityStatus() {
+		if (availableSeats == 0) {
+			return SeatAvailabilityStatus.SOLD_OUT;
+		} else if (availableSeats <= 5) {
+			return SeatAvailabilityStatus.FEW_REMAINING;
+		} else if (availableSeats <= 10) {
+			return SeatAvailabilityStatus.LIMITED;
+		} else {
+			return SeatAvailabilityStatus.AVAILABLE;
+		}
+	}
+}
@@ -8,15 +8,30 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 구간 운임
+ *
+ * 운임은 방향과 관계없이 같으므로 한 구간을 (작은 역 ID, 큰 역 ID) 순서로 한 번만 저장한다.
+ * 조회는 {@code StationFareRepository.findByStations}로 방향과 관계없이 한다.
+ */
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
+@Table(
+	name = "station_fare",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_station_fare_route",
+			columnNames = {"departure_station_id", "arrival_station_id"})
+	}
+)
 public class StationFare {
 
 	@Id
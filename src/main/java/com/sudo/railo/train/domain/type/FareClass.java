@@ -0,0 +1,15 @@
+package com.sudo.railo.train.domain.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum FareClass {
+
+	STANDARD("일반실"),
+	FIRST_CLASS("특실"),
+	STANDING("입석");
+
+	private final String description;
+}
@@ -0,0 +1,28 @@
+package com.sudo.railo.train.domain.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PassengerType {
+	ADULT(1000), // 정상가
+	CHILD(600), // 10~40% 할인
+	INFANT(250), // 좌석 지정 시 75% 할인, 좌석 지정 안하면 100% 할인
+	SENIOR(700), // 30% 할인
+	DISABLED_HEAVY(500), // 50% 할인 (보호자 1인 포함)
+	DISABLED_LIGHT(700), // 30% 할인
+	VETERAN(500); // 연 6회 무임, 6회 초과 시 50% 할인
+
+	// 운임 적용률 (천분율)
+	private final int fareRatePermille;
+
+	/***
+	 * 운임 적용률을 적용한 금액을 계산하는 메서드 (원 단위 미만 절사)
+	 * @param fare 원래 운임
+	 * @return 할인이 적용된 운임
+	 */
+	public int applyFareRate(int fare) {
+		return (int)((long)fare * fareRatePermille / 1000);
+	}
+}
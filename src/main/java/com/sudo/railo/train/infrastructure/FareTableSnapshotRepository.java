@@ -0,0 +1,121 @@
+package com.sudo.railo.train.infrastructure;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 구간 운임표 스냅샷 파일 저장소
+ *
+ * 구간 운임을 고정 길이 바이너리로 저장하고, 기동 시 메모리 매핑으로 읽어 DB 조회 없이 운임표를 적재한다.
+ * 파일 헤더의 DB 버전 스탬프가 현재 DB와 다르거나 형식 버전이 다르면 없는 것으로 보고 DB에서 다시 만든다.
+ * [매직(4) | 형식 버전(4) | 스탬프 길이(4) | 스탬프 | 구간 수(4) | (구간 키(8), 일반실 운임(4), 특실 운임(4)) * 구간 수]
+ */
+@Slf4j
+@Repository
+public class FareTableSnapshotRepository {
+
+	private static final int MAGIC = 0x52464152; // "RFAR"
+	private static final int FORMAT_VERSION = 1;
+	private static final int ENTRY_BYTES = Long.BYTES + Integer.BYTES * 2;
+	private static final String FILE_NAME = "fare-tables.snapshot";
+
+	private final Path snapshotDir;
+
+	public FareTableSnapshotRepository(
+		@Value("${booking.fare.snapshot-dir:${java.io.tmpdir}/railo}") String snapshotDir) {
+		this.snapshotDir = Path.of(snapshotDir);
+	}
+
+	/***
+	 * 버전 스탬프가 일치하는 스냅샷을 읽는 메서드
+	 * @param versionStamp 현재 DB의 구간 운임 버전 스탬프
+	 * @return 스냅샷의 구간 운임 목록 (없거나 오래되었거나 손상되었으면 empty)
+	 */
+	public Optional<List<SnapshotFare>> find(String versionStamp) {
+		Path file = snapshotDir.resolve(FILE_NAME);
+		if (!Files.isRegularFile(file)) {
+			return Optional.empty();
+		}
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+				return Optional.empty();
+			}
+			byte[] stamp = new byte[buffer.getInt()];
+			buffer.get(stamp);
+			if (!versionStamp.equals(new String(stamp, StandardCharsets.UTF_8))) {
+				log.info("구간 운임표 스냅샷이 DB와 다릅니다: {}", file);
+				return Optional.empty();
+			}
+
+			int count = buffer.getInt();
+			if (buffer.remaining() != (long)count * ENTRY_BYTES) {
+				log.warn("구간 운임표 스냅샷 크기가 올바르지 않습니다: {}", file);
+				return Optional.empty();
+			}
+			List<SnapshotFare> fares = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				fares.add(new SnapshotFare(buffer.getLong(), buffer.getInt(), buffer.getInt()));
+			}
+			return Optional.of(fares);
+		} catch (IOException | BufferUnderflowException | NegativeArraySizeException ex) {
+			log.warn("구간 운임표 스냅샷을 읽을 수 없습니다: {}", file, ex);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 임시 파일에 쓴 뒤 이동해, 다른 인스턴스(공유 볼륨)가 작성 중인 파일을 읽지 않도록 한다.
+	 */
+	public void save(String versionStamp, List<SnapshotFare> fares) {
+		Path file = snapshotDir.resolve(FILE_NAME);
+		byte[] stamp = versionStamp.getBytes(StandardCharsets.UTF_8);
+		ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * 4 + stamp.length + fares.size() * ENTRY_BYTES)
+			.putInt(MAGIC)
+			.putInt(FORMAT_VERSION)
+			.putInt(stamp.length)
+			.put(stamp)
+			.putInt(fares.size());
+		fares.forEach(fare -> buffer.putLong(fare.routeKey())
+			.putInt(fare.standardFare())
+			.putInt(fare.firstClassFare()));
+		buffer.flip();
+
+		try {
+			Files.createDirectories(snapshotDir);
+			Path tempFile = Files.createTempFile(snapshotDir, "fare-tables-", ".tmp");
+			try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+				while (buffer.hasRemaining()) {
+					channel.write(buffer);
+				}
+			}
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException ex) {
+			// 스냅샷 저장 실패는 다음 적재 때 다시 시도
+			log.warn("구간 운임표 스냅샷을 저장할 수 없습니다: {}", file, ex);
+		}
+	}
+
+	/**
+	 * @param routeKey (작은 역 ID << 32 | 큰 역 ID)
+	 */
+	public record SnapshotFare(long routeKey, int standardFare, int firstClassFare) {
+	}
+}
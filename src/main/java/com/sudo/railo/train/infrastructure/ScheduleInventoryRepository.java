@@ -0,0 +1,42 @@
+package com.sudo.railo.train.infrastructure;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.sudo.railo.train.domain.ScheduleInventory;
+import com.sudo.railo.train.domain.type.CarType;
+
+/**
+ * 운행 스케줄 잔여 좌석 카운터 Repository
+ */
+@Repository
+public interface ScheduleInventoryRepository extends JpaRepository<ScheduleInventory, Long> {
+
+	List<ScheduleInventory> findByTrainScheduleId(Long trainScheduleId);
+
+	/***
+	 * 잔여 좌석이 충분할 때만 차감하는 메서드
+	 * @return 변경된 행 수 (0이면 잔여 좌석 부족)
+	 */
+	@Modifying
+	@Query("UPDATE ScheduleInventory i SET i.availableSeats = i.availableSeats - :count "
+		+ "WHERE i.trainSchedule.id = :trainScheduleId AND i.carType = :carType AND i.availableSeats >= :count")
+	int reserve(@Param("trainScheduleId") Long trainScheduleId, @Param("carType") CarType carType,
+		@Param("count") int count);
+
+	/***
+	 * 반환된 좌석만큼 잔여 좌석을 늘리는 메서드 (총 좌석 수를 넘지 않음)
+	 */
+	@Modifying
+	@Query("UPDATE ScheduleInventory i SET i.availableSeats = CASE "
+		+ "WHEN i.availableSeats + :count > i.totalSeats THEN i.totalSeats "
+		+ "ELSE i.availableSeats + :count END "
+		+ "WHERE i.trainSchedule.id = :trainScheduleId AND i.carType = :carType")
+	int release(@Param("trainScheduleId") Long trainScheduleId, @Param("carType") CarType carType,
+		@Param("count") int count);
+}
@@ -1,8 +1,21 @@
 package com.sudo.railo.train.infrastructure;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.sudo.railo.train.domain.Seat;
 
 public interface SeatRepository extends JpaRepository<Seat, Long> {
+
+	/***
+	 * 좌석 목록을 객차 정보와 함께 조회하는 메서드
+	 * @param seatIds 좌석 ID 목록
+	 * @return 좌석 리스트
+	 */
+	@Query("SELECT s FROM Seat s JOIN FETCH s.trainCar WHERE s.id IN :seatIds")
+	List<Seat> findAllWithTrainCarByIdIn(@Param("seatIds") Collection<Long> seatIds);
 }
@@ -0,0 +1,143 @@
+package com.sudo.railo.train.infrastructure;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 구간 운임 JDBC 저장소
+ *
+ * (출발역, 도착역) 유니크 키로 배치 UPSERT 하므로 운임표를 여러 번 적재해도 구간당 한 행만 남는다.
+ * 운임 데이터를 바꿀 때마다 같은 트랜잭션에서 id_sequence의 운임 버전을 올려, 운임표 스냅샷이 버전으로 변경을 감지한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StationFareJdbcRepository {
+
+	private static final int BATCH_SIZE = 1000;
+	private static final String VERSION_SEQUENCE = "station_fare_version";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/***
+	 * 구간 운임을 일괄 저장하는 메서드 (이미 있는 구간은 운임만 변경)
+	 * @param stationFares (작은 역 ID, 큰 역 ID) 순서로 정규화된 구간 운임 목록
+	 */
+	public void upsert(List<NewStationFare> stationFares) {
+		SqlParameterSource[] batchArgs = stationFares.stream()
+			.map(fare -> new MapSqlParameterSource()
+				.addValue("departureStationId", fare.departureStationId())
+				.addValue("arrivalStationId", fare.arrivalStationId())
+				.addValue("standardFare", fare.standardFare())
+				.addValue("firstClassFare", fare.firstClassFare()))
+			.toArray(SqlParameterSource[]::new);
+
+		for (int from = 0; from < batchArgs.length; from += BATCH_SIZE) {
+			int to = Math.min(from + BATCH_SIZE, batchArgs.length);
+			SqlParameterSource[] chunk = new SqlParameterSource[to - from];
+			System.arraycopy(batchArgs, from, chunk, 0, chunk.length);
+			namedParameterJdbcTemplate.batchUpdate(
+				"INSERT INTO station_fare (departure_station_id, arrival_station_id, standard_fare, first_class_fare) "
+					+ "VALUES (:departureStationId, :arrivalStationId, :standardFare, :firstClassFare) "
+					+ "ON DUPLICATE KEY UPDATE standard_fare = VALUES(standard_fare), "
+					+ "first_class_fare = VALUES(first_class_fare)",
+				chunk);
+		}
+		increaseVersion();
+	}
+
+	/***
+	 * 이전 적재 방식으로 저장된 역방향/중복 구간 운임을 삭제하는 메서드
+	 * 유니크 키를 추가하기 전에 쌓인 데이터를 정리해, 구간당 (작은 역 ID, 큰 역 ID) 한 행만 남긴다.
+	 * 역방향으로만 저장된 구간은 정방향 행을 먼저 만든 뒤 삭제한다.
+	 * @return 삭제된 행 수
+	 */
+	public int deleteRedundantFares() {
+		namedParameterJdbcTemplate.update(
+			"INSERT INTO station_fare (departure_station_id, arrival_station_id, standard_fare, first_class_fare) "
+				+ "SELECT reversed.arrival_station_id, reversed.departure_station_id, reversed.standard_fare, "
+				+ "reversed.first_class_fare FROM station_fare reversed "
+				+ "WHERE reversed.departure_station_id > reversed.arrival_station_id AND NOT EXISTS ("
+				+ "SELECT 1 FROM station_fare normal WHERE normal.departure_station_id = reversed.arrival_station_id "
+				+ "AND normal.arrival_station_id = reversed.departure_station_id)",
+			EmptySqlParameterSource.INSTANCE);
+		int reversed = namedParameterJdbcTemplate.update(
+			"DELETE FROM station_fare WHERE departure_station_id > arrival_station_id",
+			EmptySqlParameterSource.INSTANCE);
+		int duplicated = namedParameterJdbcTemplate.update(
+			"DELETE newer FROM station_fare newer "
+				+ "JOIN station_fare older ON older.departure_station_id = newer.departure_station_id "
+				+ "AND older.arrival_station_id = newer.arrival_station_id "
+				+ "AND older.station_fare_id < newer.station_fare_id",
+			EmptySqlParameterSource.INSTANCE);
+		if (reversed + duplicated > 0) {
+			increaseVersion();
+		}
+		return reversed + duplicated;
+	}
+
+	/***
+	 * 구간 유니크 키(uk_station_fare_route) 존재 여부를 조회하는 메서드
+	 */
+	public boolean hasRouteUniqueKey() {
+		Integer indexes = namedParameterJdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() "
+				+ "AND table_name = 'station_fare' AND index_name = 'uk_station_fare_route'",
+			EmptySqlParameterSource.INSTANCE, Integer.class);
+		return indexes != null && indexes > 0;
+	}
+
+	/***
+	 * 구간 유니크 키를 추가하는 메서드 (중복 구간을 먼저 정리해야 함)
+	 */
+	public void addRouteUniqueKey() {
+		namedParameterJdbcTemplate.update(
+			"ALTER TABLE station_fare ADD CONSTRAINT uk_station_fare_route "
+				+ "UNIQUE (departure_station_id, arrival_station_id)",
+			EmptySqlParameterSource.INSTANCE);
+	}
+
+	/***
+	 * 구간 운임 데이터의 버전 스탬프를 조회하는 메서드
+	 * 운임 적재로 데이터가 바뀔 때마다 올린 버전이며, 한 번도 적재하지 않았으면 0이다. (DB를 직접 수정하면 바뀌지 않음)
+	 */
+	public String findVersionStamp() {
+		List<Long> versions = namedParameterJdbcTemplate.queryForList(
+			"SELECT last_id FROM id_sequence WHERE sequence_name = :sequenceName",
+			new MapSqlParameterSource("sequenceName", VERSION_SEQUENCE), Long.class);
+		return String.valueOf(versions.isEmpty() ? 0L : versions.get(0));
+	}
+
+	private void increaseVersion() {
+		namedParameterJdbcTemplate.update(
+			"INSERT INTO id_sequence (sequence_name, last_id) VALUES (:sequenceName, 1) "
+				+ "ON DUPLICATE KEY UPDATE last_id = last_id + 1",
+			new MapSqlParameterSource("sequenceName", VERSION_SEQUENCE));
+	}
+
+	public record NewStationFare(
+		long departureStationId,
+		long arrivalStationId,
+		int standardFare,
+		int firstClassFare
+	) {
+
+		/**
+		 * 방향과 관계없이 (작은 역 ID, 큰 역 ID) 순서로 정규화한다.
+		 */
+		public static NewStationFare of(long stationId, long otherStationId, int standardFare, int firstClassFare) {
+			return new NewStationFare(Math.min(stationId, otherStationId), Math.max(stationId, otherStationId),
+				standardFare, firstClassFare);
+		}
+
+		public long routeKey() {
+			return departureStationId << 32 | arrivalStationId;
+		}
+	}
+}
@@ -21,4 +21,13 @@ public interface StationFareRepository extends JpaRepository<StationFare, Long>
 	 */
 	Optional<StationFare> findByDepartureStationIdAndArrivalStationId(
 		Long departureStationId, Long arrivalStationId);
+
+	/**
+	 * 방향과 관계없이 두 역 사이 구간의 요금 정보 조회
+	 * - 구간 운임은 (작은 역 ID, 큰 역 ID) 순서로 한 번만 저장됨
+	 */
+	default Optional<StationFare> findByStations(Long stationId, Long otherStationId) {
+		return findByDepartureStationIdAndArrivalStationId(
+			Math.min(stationId, otherStationId), Math.max(stationId, otherStationId));
+	}
 }
@@ -0,0 +1,81 @@
+package com.sudo.railo.train.infrastructure;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import com.sudo.railo.train.application.dto.excel.TimetableTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 시간표 템플릿 디스크 캐시
+ *
+ * 엑셀 파일 체크섬별로 `timetable-{체크섬}.bin` 파일에 직렬화해 저장한다.
+ * 캐시를 읽지 못하면(클래스 변경, 파일 손상 등) 없는 것으로 보고 다시 파싱하도록 한다.
+ */
+@Slf4j
+@Repository
+public class TimetableTemplateFileRepository {
+
+	private static final String FILE_PREFIX = "timetable-";
+	private static final String FILE_SUFFIX = ".bin";
+
+	private final Path cacheDir;
+
+	public TimetableTemplateFileRepository(
+		@Value("${train.schedule.template.cache-dir:${java.io.tmpdir}/railo}") String cacheDir) {
+		this.cacheDir = Path.of(cacheDir);
+	}
+
+	public Optional<TimetableTemplate> find(String checksum) {
+		Path file = resolve(checksum);
+		if (!Files.isRegularFile(file)) {
+			return Optional.empty();
+		}
+
+		try (InputStream stream = Files.newInputStream(file);
+			 ObjectInputStream input = new ObjectInputStream(stream)) {
+			TimetableTemplate template = (TimetableTemplate)input.readObject();
+			if (!checksum.equals(template.checksum())) {
+				return Optional.empty();
+			}
+			return Optional.of(template);
+		} catch (IOException | ClassNotFoundException | ClassCastException ex) {
+			log.warn("시간표 템플릿 캐시를 읽을 수 없습니다: {}", file, ex);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 임시 파일에 쓴 뒤 이동해, 다른 인스턴스가 작성 중인 파일을 읽지 않도록 한다.
+	 */
+	public void save(TimetableTemplate template) {
+		Path file = resolve(template.checksum());
+		try {
+			Files.createDirectories(cacheDir);
+			Path tempFile = Files.createTempFile(cacheDir, FILE_PREFIX, ".tmp");
+			try (OutputStream stream = Files.newOutputStream(tempFile);
+				 ObjectOutputStream output = new ObjectOutputStream(stream)) {
+				output.writeObject(template);
+			}
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException ex) {
+			// 캐시 저장 실패는 다음 파싱 때 다시 시도
+			log.warn("시간표 템플릿 캐시를 저장할 수 없습니다: {}", file, ex);
+		}
+	}
+
+	private Path resolve(String checksum) {
+		return cacheDir.resolve(FILE_PREFIX + checksum + FILE_SUFFIX);
+	}
+}
@@ -0,0 +1,165 @@
+package com.sudo.railo.train.infrastructure;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 운행 스케줄 보관 JDBC 저장소
+ *
+ * 지난 운행일의 스케줄 관련 행을 같은 구조의 보관 테이블(*_archive)로 옮긴다.
+ * 보관 테이블은 원본 테이블과 같은 컬럼/인덱스를 가지며 외래 키는 없다.
+ * 스키마 자동 갱신으로 원본 테이블에만 컬럼이 추가되어도 어긋나지 않도록 컬럼을 이름으로 지정해 복사한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TrainScheduleArchiveJdbcRepository {
+
+	// 보관 테이블별 복사 컬럼
+	private static final Map<String, String> ARCHIVE_COLUMNS = Map.of(
+		"train_schedule", "train_schedule_id, schedule_name, operation_date, departure_time, arrival_time, "
+			+ "operation_status, delay_minutes, train_id, departure_station_id, arrival_station_id",
+		"schedule_stop", "schedule_stop_id, stop_order, arrival_time, departure_time, train_schedule_id, station_id",
+		"schedule_inventory", "schedule_inventory_id, train_schedule_id, car_type, total_seats, available_seats",
+		"seat_reservation", "seat_reservation_id, train_schedule_id, seat_id, reservation_id, passenger_type, "
+			+ "seat_status, reserved_at, departure_station_id, arrival_station_id, is_standing, version, created_at, "
+			+ "updated_at",
+		"reservation", "reservation_id, train_schedule_id, member_id, departure_station_id, arrival_station_id, "
+			+ "reservation_code, trip_type, total_passengers, reservation_status, expires_at, reserved_at, paid_at, "
+			+ "cancelled_at",
+		"reservation_passenger", "reservation_passenger_id, reservation_id, passenger_type, passenger_count, "
+			+ "free_count",
+		"ticket", "ticket_id, reservation_id, qr_id, created_at, updated_at, passenger_type, payment_status, "
+			+ "payment_at, status, vendor_code, purchase_date, purchase_seq, purchase_uid",
+		"qr", "qr_id, is_usable, created_at, updated_at, scan_count, qr_url",
+		"ticket_issue_request", "ticket_issue_request_id, reservation_id, status, attempts, locked_by, locked_until, "
+			+ "processed_at, last_error, created_at, updated_at");
+	private static final String SCHEDULE_CONDITION = "train_schedule_id IN (:ids)";
+	private static final String RESERVATION_CONDITION =
+		"reservation_id IN (SELECT r.reservation_id FROM reservation r WHERE r.train_schedule_id IN (:ids))";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/***
+	 * 보관 테이블이 없으면 원본 테이블 구조로 생성하는 메서드 (트랜잭션 밖에서 호출)
+	 */
+	public void createArchiveTables() {
+		ARCHIVE_COLUMNS.keySet().forEach(table -> namedParameterJdbcTemplate.update(
+			"CREATE TABLE IF NOT EXISTS " + table + "_archive LIKE " + table,
+			EmptySqlParameterSource.INSTANCE));
+	}
+
+	/***
+	 * 보관 대상 운행 스케줄 ID를 조회하는 메서드
+	 * @param cutoff 이 날짜 이전 운행일이 보관 대상
+	 * @param afterId 이 ID 이후부터 조회 (키셋 페이지네이션)
+	 * @param limit 최대 조회 개수
+	 * @return 스케줄 ID 오름차순 목록
+	 */
+	public List<Long> findScheduleIdsBefore(LocalDate cutoff, long afterId, int limit) {
+		return namedParameterJdbcTemplate.queryForList(
+			"SELECT train_schedule_id FROM train_schedule "
+				+ "WHERE operation_date < :cutoff AND train_schedule_id > :afterId "
+				+ "ORDER BY train_schedule_id LIMIT :limit",
+			new MapSqlParameterSource()
+				.addValue("cutoff", Date.valueOf(cutoff))
+				.addValue("afterId", afterId)
+				.addValue("limit", limit),
+			Long.class);
+	}
+
+	/***
+	 * 예약이 참조하지 않는 운행 스케줄 ID만 걸러내는 메서드
+	 * 예약이 참조하는 스케줄은 예약 내역 조회에 필요하므로 스케줄과 정차역을 원본 테이블에 남긴다.
+	 */
+	public List<Long> findUnreservedScheduleIds(List<Long> trainScheduleIds) {
+		return namedParameterJdbcTemplate.queryForList(
+			"SELECT ts.train_schedule_id FROM train_schedule ts "
+				+ "WHERE ts.train_schedule_id IN (:ids) "
+				+ "AND NOT EXISTS (SELECT 1 FROM reservation r WHERE r.train_schedule_id = ts.train_schedule_id)",
+			new MapSqlParameterSource("ids", trainScheduleIds),
+			Long.class);
+	}
+
+	/***
+	 * 운행일이 기준일 이전인 운행 스케줄 ID만 걸러내는 메서드
+	 * @param cutoff 이 날짜 이전 운행일만 반환
+	 */
+	public List<Long> findScheduleIdsOperatedBefore(List<Long> trainScheduleIds, LocalDate cutoff) {
+		if (trainScheduleIds.isEmpty()) {
+			return List.of();
+		}
+		return namedParameterJdbcTemplate.queryForList(
+			"SELECT train_schedule_id FROM train_schedule "
+				+ "WHERE train_schedule_id IN (:ids) AND operation_date < :cutoff",
+			new MapSqlParameterSource()
+				.addValue("ids", trainScheduleIds)
+				.addValue("cutoff", Date.valueOf(cutoff)),
+			Long.class);
+	}
+
+	public int moveSeatReservations(List<Long> trainScheduleIds) {
+		return move("seat_reservation", SCHEDULE_CONDITION, trainScheduleIds);
+	}
+
+	public int moveInventories(List<Long> trainScheduleIds) {
+		return move("schedule_inventory", SCHEDULE_CONDITION, trainScheduleIds);
+	}
+
+	public int moveScheduleStops(List<Long> trainScheduleIds) {
+		return move("schedule_stop", SCHEDULE_CONDITION, trainScheduleIds);
+	}
+
+	public int moveSchedules(List<Long> trainScheduleIds) {
+		return move("train_schedule", SCHEDULE_CONDITION, trainScheduleIds);
+	}
+
+	/***
+	 * 운행 스케줄의 예약과 승객, 승차권, QR, 발권 요청을 옮기는 메서드 (좌석 예약을 먼저 옮긴 뒤 호출)
+	 * @return 옮긴 행 수
+	 */
+	public int moveReservations(List<Long> trainScheduleIds) {
+		if (trainScheduleIds.isEmpty()) {
+			return 0;
+		}
+		// 승차권이 QR을 외래 키로 참조하므로 QR ID를 먼저 조회하고 승차권을 옮긴 뒤 옮긴다
+		List<Long> qrIds = namedParameterJdbcTemplate.queryForList(
+			"SELECT t.qr_id FROM ticket t JOIN reservation r ON r.reservation_id = t.reservation_id "
+				+ "WHERE r.train_schedule_id IN (:ids) AND t.qr_id IS NOT NULL",
+			new MapSqlParameterSource("ids", trainScheduleIds),
+			Long.class);
+
+		int moved = move("ticket_issue_request", RESERVATION_CONDITION, trainScheduleIds);
+		moved += move("ticket", RESERVATION_CONDITION, trainScheduleIds);
+		moved += move("qr", "qr_id IN (:ids)", qrIds);
+		moved += move("reservation_passenger", RESERVATION_CONDITION, trainScheduleIds);
+		return moved + move("reservation", SCHEDULE_CONDITION, trainScheduleIds);
+	}
+
+	/**
+	 * 조건에 맞는 행을 보관 테이블로 복사한 뒤 원본에서 삭제한다. (같은 트랜잭션 내에서 호출)
+	 * @return 옮긴 행 수
+	 */
+	private int move(String table, String condition, List<Long> ids) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		String columns = ARCHIVE_COLUMNS.get(table);
+		MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+		namedParameterJdbcTemplate.update(
+			"INSERT INTO " + table + "_archive (" + columns + ") SELECT " + columns + " FROM " + table
+				+ " WHERE " + condition,
+			params);
+		return namedParameterJdbcTemplate.update(
+			"DELETE FROM " + table + " WHERE " + condition,
+			params);
+	}
+}
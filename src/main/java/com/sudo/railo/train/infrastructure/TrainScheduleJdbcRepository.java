@@ -0,0 +1,462 @@
+package com.sudo.railo.train.infrastructure;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.EmptySqlParameterSource;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.sudo.railo.booking.domain.SeatStatus;
+import com.sudo.railo.train.domain.status.OperationStatus;
+import com.sudo.railo.train.domain.type.CarType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 운행 스케줄 JDBC 저장소
+ *
+ * 여러 운행일의 스케줄, 정차역을 미리 할당한 ID로, 잔여 좌석 카운터와 함께 배치 INSERT 한다.
+ * (rewriteBatchedStatements 설정으로 multi-row INSERT로 전송)
+ * 시간표 재적재 시에는 저장된 스케줄을 조회해 바뀐 부분만 배치 UPDATE 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TrainScheduleJdbcRepository {
+
+	private static final int BATCH_SIZE = 1000;
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/***
+	 * 운행 스케줄 ID를 연속으로 할당하는 메서드 (트랜잭션 내에서 호출)
+	 * 커밋할 때까지 다른 트랜잭션의 할당을 막으며, 보관 테이블로 옮겨진 ID도 다시 할당하지 않는다.
+	 * @param count 할당할 개수
+	 * @return 할당한 첫 ID
+	 */
+	public long allocateScheduleIds(int count) {
+		return allocateIds("train_schedule", "train_schedule_id", count);
+	}
+
+	/***
+	 * 정차역 ID를 연속으로 할당하는 메서드 (트랜잭션 내에서 호출)
+	 * @param count 할당할 개수
+	 * @return 할당한 첫 ID
+	 */
+	public long allocateScheduleStopIds(int count) {
+		return allocateIds("schedule_stop", "schedule_stop_id", count);
+	}
+
+	public void insertSchedules(List<NewTrainSchedule> schedules) {
+		batchUpdate(
+			"INSERT INTO train_schedule (train_schedule_id, schedule_name, operation_date, departure_time, "
+				+ "arrival_time, operation_status, delay_minutes, train_id, departure_station_id, arrival_station_id) "
+				+ "VALUES (:id, :scheduleName, :operationDate, :departureTime, :arrivalTime, :operationStatus, 0, "
+				+ ":trainId, :departureStationId, :arrivalStationId)",
+			schedules.stream()
+				.map(schedule -> new MapSqlParameterSource()
+					.addValue("id", schedule.id())
+					.addValue("scheduleName", schedule.scheduleName())
+					.addValue("operationDate", Date.valueOf(schedule.operationDate()))
+					.addValue("departureTime", toTime(schedule.departureTime()), Types.TIME)
+					.addValue("arrivalTime", toTime(schedule.arrivalTime()), Types.TIME)
+					.addValue("operationStatus", OperationStatus.ACTIVE.name())
+					.addValue("trainId", schedule.trainId())
+					.addValue("departureStationId", schedule.departureStationId())
+					.addValue("arrivalStationId", schedule.arrivalStationId()))
+				.toArray(SqlParameterSource[]::new));
+	}
+
+	public void insertScheduleStops(List<NewScheduleStop> stops) {
+		batchUpdate(
+			"INSERT INTO schedule_stop (schedule_stop_id, train_schedule_id, stop_order, arrival_time, "
+				+ "departure_time, station_id) "
+				+ "VALUES (:id, :trainScheduleId, :stopOrder, :arrivalTime, :departureTime, :stationId)",
+			stops.stream()
+				.map(stop -> new MapSqlParameterSource()
+					.addValue("id", stop.id())
+					.addValue("trainScheduleId", stop.trainScheduleId())
+					.addValue("stopOrder", stop.stopOrder())
+					.addValue("arrivalTime", toTime(stop.arrivalTime()), Types.TIME)
+					.addValue("departureTime", toTime(stop.departureTime()), Types.TIME)
+					.addValue("stationId", stop.stationId()))
+				.toArray(SqlParameterSource[]::new));
+	}
+
+	public void insertInventories(List<NewScheduleInventory> inventories) {
+		batchUpdate(
+			"INSERT INTO schedule_inventory (train_schedule_id, car_type, total_seats, available_seats) "
+				+ "VALUES (:trainScheduleId, :carType, :totalSeats, :totalSeats)",
+			inventories.stream()
+				.map(inventory -> new MapSqlParameterSource()
+					.addValue("trainScheduleId", inventory.trainScheduleId())
+					.addValue("carType", inventory.carType().name())
+					.addValue("totalSeats", inventory.totalSeats()))
+				.toArray(SqlParameterSource[]::new));
+	}
+
+	/***
+	 * 잔여 좌석 카운터가 없는 운행 스케줄(오늘 이후)에 카운터를 생성하는 메서드
+	 * 총 좌석 수에서 현재 점유 중인 좌석 예약 수를 뺀 값으로 시작한다.
+	 * @return 생성된 카운터 수
+	 */
+	public int backfillInventories(LocalDate fromDate) {
+		return namedParameterJdbcTemplate.update(
+			"INSERT INTO schedule_inventory (train_schedule_id, car_type, total_seats, available_seats) "
+				+ "SELECT ts.train_schedule_id, tc.car_type, SUM(tc.total_seats), "
+				+ "GREATEST(SUM(tc.total_seats) - ("
+				+ "SELECT COUNT(*) FROM seat_reservation sr "
+				+ "JOIN seat s ON s.seat_id = sr.seat_id "
+				+ "JOIN train_car c ON c.train_car_id = s.train_car_id "
+				+ "WHERE sr.train_schedule_id = ts.train_schedule_id AND c.car_type = tc.car_type "
+				+ "AND sr.seat_status IN (:heldStatuses)), 0) "
+				+ "FROM train_schedule ts "
+				+ "JOIN train_car tc ON tc.train_id = ts.train_id "
+				+ "WHERE ts.operation_date >= :fromDate "
+				+ "AND NOT EXISTS (SELECT 1 FROM schedule_inventory i "
+				+ "WHERE i.train_schedule_id = ts.train_schedule_id) "
+				+ "GROUP BY ts.train_schedule_id, tc.car_type",
+			new MapSqlParameterSource()
+				.addValue("fromDate", Date.valueOf(fromDate))
+				.addValue("heldStatuses", List.of(SeatStatus.RESERVED.name(), SeatStatus.LOCKED.name())));
+	}
+
+	/***
+	 * 기간 내 운행 스케줄을 조회하는 메서드 (시간표 비교용)
+	 */
+	public List<StoredSchedule> findSchedules(LocalDate startDate, LocalDate endDate) {
+		return namedParameterJdbcTemplate.query(
+			"SELECT ts.train_schedule_id, t.train_number, ts.operation_date, ts.schedule_name, ts.operation_status "
+				+ "FROM train_schedule ts "
+				+ "JOIN train t ON t.train_id = ts.train_id "
+				+ "WHERE ts.operation_date BETWEEN :startDate AND :endDate",
+			dateRangeParams(startDate, endDate),
+			(rs, rowNum) -> new StoredSchedule(
+				rs.getLong("train_schedule_id"),
+				rs.getInt("train_number"),
+				rs.getDate("operation_date").toLocalDate(),
+				rs.getString("schedule_name"),
+				OperationStatus.valueOf(rs.getString("operation_status"))
+			));
+	}
+
+	/***
+	 * 기간 내 운행 스케줄의 정차역을 조회하는 메서드 (시간표 비교용)
+	 * @return 스케줄 ID, 정차 순서 순으로 정렬된 정차역 목록
+	 */
+	public List<StoredScheduleStop> findScheduleStops(LocalDate startDate, LocalDate endDate) {
+		return namedParameterJdbcTemplate.query(
+			"SELECT ss.train_schedule_id, ss.stop_order, ss.arrival_time, ss.departure_time, s.station_name "
+				+ "FROM schedule_stop ss "
+				+ "JOIN train_schedule ts ON ts.train_schedule_id = ss.train_schedule_id "
+				+ "JOIN station s ON s.station_id = ss.station_id "
+				+ "WHERE ts.operation_date BETWEEN :startDate AND :endDate "
+				+ "ORDER BY ss.train_schedule_id, ss.stop_order",
+			dateRangeParams(startDate, endDate),
+			(rs, rowNum) -> new StoredScheduleStop(
+				rs.getLong("train_schedule_id"),
+				rs.getInt("stop_order"),
+				toLocalTime(rs.getTime("arrival_time")),
+				toLocalTime(rs.getTime("departure_time")),
+				rs.getString("station_name")
+			));
+	}
+
+	/***
+	 * 운행 스케줄의 이름, 출발/도착 시간과 역을 일괄 변경하는 메서드
+	 */
+	public void updateSchedules(List<ScheduleUpdate> updates) {
+		batchUpdate(
+			"UPDATE train_schedule SET schedule_name = :scheduleName, departure_time = :departureTime, "
+				+ "arrival_time = :arrivalTime, departure_station_id = :departureStationId, "
+				+ "arrival_station_id = :arrivalStationId "
+				+ "WHERE train_schedule_id = :id",
+			updates.stream()
+				.map(update -> new MapSqlParameterSource()
+					.addValue("id", update.id())
+					.addValue("scheduleName", update.scheduleName())
+					.addValue("departureTime", toTime(update.departureTime()), Types.TIME)
+					.addValue("arrivalTime", toTime(update.arrivalTime()), Types.TIME)
+					.addValue("departureStationId", update.departureStationId())
+					.addValue("arrivalStationId", update.arrivalStationId()))
+				.toArray(SqlParameterSource[]::new));
+	}
+
+	/***
+	 * 정차역의 도착/출발 시간을 일괄 변경하는 메서드 (정차역 구성이 같은 경우)
+	 */
+	public void updateScheduleStopTimes(List<StopTimeUpdate> updates) {
+		batchUpdate(
+			"UPDATE schedule_stop SET arrival_time = :arrivalTime, departure_time = :departureTime "
+				+ "WHERE train_schedule_id = :trainScheduleId AND stop_order = :stopOrder",
+			updates.stream()
+				.map(update -> new MapSqlParameterSource()
+					.addValue("trainScheduleId", update.trainScheduleId())
+					.addValue("stopOrder", update.stopOrder())
+					.addValue("arrivalTime", toTime(update.arrivalTime()), Types.TIME)
+					.addValue("departureTime", toTime(update.departureTime()), Types.TIME))
+				.toArray(SqlParameterSource[]::new));
+	}
+
+	/***
+	 * 운행 스케줄의 정차역을 모두 삭제하는 메서드 (정차역 구성이 바뀌어 다시 생성하는 경우)
+	 */
+	public void deleteScheduleStops(List<Long> trainScheduleIds) {
+		updateInChunks("DELETE FROM schedule_stop WHERE train_schedule_id IN (:ids)", trainScheduleIds,
+			new MapSqlParameterSource());
+	}
+
+	/***
+	 * 운행 스케줄을 운행 취소 상태로 일괄 변경하는 메서드
+	 * @return 변경된 스케줄 수
+	 */
+	public int cancelSchedules(List<Long> trainScheduleIds) {
+		return updateInChunks(
+			"UPDATE train_schedule SET operation_status = :cancelled "
+				+ "WHERE train_schedule_id IN (:ids) AND operation_status <> :cancelled",
+			trainScheduleIds,
+			new MapSqlParameterSource("cancelled", OperationStatus.CANCELLED.name()));
+	}
+
+	/***
+	 * 운행 상태 일괄 변경 대상 스케줄 ID를 잠그고 조회하는 메서드 (트랜잭션 내에서 호출)
+	 * @param selection 운행 기간과 열차 번호/노선 조건 (null인 조건은 제외)
+	 * @param statuses 변경 대상 운행 상태
+	 * @param afterId 이 ID 이후부터 조회 (키셋 페이지네이션)
+	 * @param limit 최대 조회 개수
+	 * @return 스케줄 ID 오름차순 목록
+	 */
+	public List<Long> lockScheduleIds(ScheduleSelection selection, List<OperationStatus> statuses, long afterId,
+		int limit) {
+		StringBuilder sql = new StringBuilder("SELECT ts.train_schedule_id FROM train_schedule ts ");
+		MapSqlParameterSource params = dateRangeParams(selection.startDate(), selection.endDate())
+			.addValue("statuses", statuses.stream().map(OperationStatus::name).toList())
+			.addValue("afterId", afterId)
+			.addValue("limit", limit);
+		if (selection.trainNumber() != null) {
+			sql.append("JOIN train t ON t.train_id = ts.train_id AND t.train_number = :trainNumber ");
+			params.addValue("trainNumber", selection.trainNumber());
+		}
+		sql.append("WHERE ts.operation_date BETWEEN :startDate AND :endDate ")
+			.append("AND ts.operation_status IN (:statuses) AND ts.train_schedule_id > :afterId ");
+		if (selection.line() != null) {
+			// 스케줄 이름은 "{열차 종류}-{열차 번호} {시트 이름(노선)}" 형식
+			sql.append("AND ts.schedule_name LIKE :line ESCAPE '!' ");
+			params.addValue("line", "% " + escapeLike(selection.line()));
+		}
+		sql.append("ORDER BY ts.train_schedule_id LIMIT :limit FOR UPDATE");
+		return namedParameterJdbcTemplate.queryForList(sql.toString(), params, Long.class);
+	}
+
+	/***
+	 * 운행 스케줄에 지연 시간을 일괄 추가하는 메서드
+	 * 누적 지연이 5분 이상이면 지연 상태로 바꾼다. (TrainSchedule.addDelay와 같은 기준)
+	 * @return 변경된 스케줄 수
+	 */
+	public int delaySchedules(List<Long> trainScheduleIds, int delayMinutes) {
+		// MySQL은 SET 절을 왼쪽부터 적용하므로 상태를 먼저 바꾼 뒤 지연 시간을 더한다
+		return updateInChunks(
+			"UPDATE train_schedule SET operation_status = CASE WHEN delay_minutes + :delayMinutes >= 5 "
+				+ "THEN :delayed ELSE operation_status END, delay_minutes = delay_minutes + :delayMinutes "
+				+ "WHERE train_schedule_id IN (:ids) AND operation_status IN (:active, :delayed)",
+			trainScheduleIds,
+			new MapSqlParameterSource()
+				.addValue("delayMinutes", delayMinutes)
+				.addValue("active", OperationStatus.ACTIVE.name())
+				.addValue("delayed", OperationStatus.DELAYED.name()));
+	}
+
+	/***
+	 * 운행 스케줄의 현재 운행 상태를 조회하는 메서드
+	 * @return 스케줄 ID 오름차순의 (스케줄 ID, 운행 상태)
+	 */
+	public Map<Long, OperationStatus> findOperationStatuses(List<Long> trainScheduleIds) {
+		Map<Long, OperationStatus> operationStatuses = new LinkedHashMap<>();
+		if (trainScheduleIds.isEmpty()) {
+			return operationStatuses;
+		}
+		namedParameterJdbcTemplate.query(
+			"SELECT train_schedule_id, operation_status FROM train_schedule "
+				+ "WHERE train_schedule_id IN (:ids) ORDER BY train_schedule_id",
+			new MapSqlParameterSource("ids", trainScheduleIds),
+			rs -> {
+				operationStatuses.put(rs.getLong("train_schedule_id"),
+					OperationStatus.valueOf(rs.getString("operation_status")));
+			});
+		return operationStatuses;
+	}
+
+	/**
+	 * 발급 기록을 잠그고 count만큼 늘린다. 처음 할당할 때는 원본/보관 테이블의 최대 ID로 발급 기록을 만든다.
+	 */
+	private long allocateIds(String table, String idColumn, int count) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("sequenceName", table)
+			.addValue("count", count);
+		Integer sequences = namedParameterJdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM id_sequence WHERE sequence_name = :sequenceName", params, Integer.class);
+		if (sequences == null || sequences == 0) {
+			long lastId = findMaxId(table, idColumn);
+			if (tableExists(table + "_archive")) {
+				lastId = Math.max(lastId, findMaxId(table + "_archive", idColumn));
+			}
+			namedParameterJdbcTemplate.update(
+				"INSERT IGNORE INTO id_sequence (sequence_name, last_id) VALUES (:sequenceName, :lastId)",
+				new MapSqlParameterSource()
+					.addValue("sequenceName", table)
+					.addValue("lastId", lastId));
+		}
+		if (count == 0) {
+			return 0L;
+		}
+
+		// LAST_INSERT_ID(expr)는 연결별 값이므로 같은 트랜잭션(연결)에서 바로 읽는다
+		int updated = namedParameterJdbcTemplate.update(
+			"UPDATE id_sequence SET last_id = LAST_INSERT_ID(last_id + :count) WHERE sequence_name = :sequenceName",
+			params);
+		if (updated != 1) {
+			throw new IllegalStateException("ID 발급 기록이 없습니다: " + table);
+		}
+		Long lastId = namedParameterJdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()",
+			EmptySqlParameterSource.INSTANCE, Long.class);
+		return lastId - count + 1;
+	}
+
+	private long findMaxId(String table, String idColumn) {
+		Long maxId = namedParameterJdbcTemplate.queryForObject(
+			"SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table, EmptySqlParameterSource.INSTANCE, Long.class);
+		return maxId != null ? maxId : 0L;
+	}
+
+	private boolean tableExists(String table) {
+		Integer tables = namedParameterJdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = :table",
+			new MapSqlParameterSource("table", table), Integer.class);
+		return tables != null && tables > 0;
+	}
+
+	private void batchUpdate(String sql, SqlParameterSource[] batchArgs) {
+		for (int from = 0; from < batchArgs.length; from += BATCH_SIZE) {
+			int to = Math.min(from + BATCH_SIZE, batchArgs.length);
+			SqlParameterSource[] chunk = new SqlParameterSource[to - from];
+			System.arraycopy(batchArgs, from, chunk, 0, chunk.length);
+			namedParameterJdbcTemplate.batchUpdate(sql, chunk);
+		}
+	}
+
+	private int updateInChunks(String sql, List<Long> ids, MapSqlParameterSource params) {
+		int updated = 0;
+		for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+			params.addValue("ids", ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())));
+			updated += namedParameterJdbcTemplate.update(sql, params);
+		}
+		return updated;
+	}
+
+	/**
+	 * LIKE 패턴의 와일드카드(%, _)와 이스케이프 문자(!)를 이스케이프한다.
+	 */
+	private String escapeLike(String value) {
+		return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+	}
+
+	private MapSqlParameterSource dateRangeParams(LocalDate startDate, LocalDate endDate) {
+		return new MapSqlParameterSource()
+			.addValue("startDate", Date.valueOf(startDate))
+			.addValue("endDate", Date.valueOf(endDate));
+	}
+
+	private Time toTime(LocalTime localTime) {
+		return localTime != null ? Time.valueOf(localTime) : null;
+	}
+
+	private LocalTime toLocalTime(Time time) {
+		return time != null ? time.toLocalTime() : null;
+	}
+
+	public record NewTrainSchedule(
+		long id,
+		String scheduleName,
+		LocalDate operationDate,
+		LocalTime departureTime,
+		LocalTime arrivalTime,
+		Long trainId,
+		Long departureStationId,
+		Long arrivalStationId
+	) {
+	}
+
+	public record NewScheduleStop(
+		long id,
+		long trainScheduleId,
+		int stopOrder,
+		LocalTime arrivalTime,
+		LocalTime departureTime,
+		Long stationId
+	) {
+	}
+
+	public record NewScheduleInventory(
+		long trainScheduleId,
+		CarType carType,
+		int totalSeats
+	) {
+	}
+
+	public record StoredSchedule(
+		long id,
+		int trainNumber,
+		LocalDate operationDate,
+		String scheduleName,
+		OperationStatus operationStatus
+	) {
+	}
+
+	public record StoredScheduleStop(
+		long trainScheduleId,
+		int stopOrder,
+		LocalTime arrivalTime,
+		LocalTime departureTime,
+		String stationName
+	) {
+	}
+
+	public record ScheduleUpdate(
+		long id,
+		String scheduleName,
+		LocalTime departureTime,
+		LocalTime arrivalTime,
+		Long departureStationId,
+		Long arrivalStationId
+	) {
+	}
+
+	/**
+	 * 운행 상태 일괄 변경 대상 조건
+	 * @param trainNumber 열차 번호 (null이면 전체)
+	 * @param line 노선(시간표 시트 이름, null이면 전체)
+	 */
+	public record ScheduleSelection(
+		LocalDate startDate,
+		LocalDate endDate,
+		Integer trainNumber,
+		String line
+	) {
+	}
+
+	public record StopTimeUpdate(
+		long trainScheduleId,
+		int stopOrder,
+		LocalTime arrivalTime,
+		LocalTime departureTime
+	) {
+	}
+}
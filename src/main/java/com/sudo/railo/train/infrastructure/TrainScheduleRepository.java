@@ -1,10 +1,12 @@
 package com.sudo.railo.train.infrastructure;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.sudo.railo.train.domain.TrainSchedule;
 
@@ -14,4 +16,9 @@ public interface TrainScheduleRepository extends JpaRepository<TrainSchedule, Lo
 	Optional<LocalDate> findLastOperationDate();
 
 	boolean existsByOperationDate(LocalDate operationDate);
+
+	@Query("SELECT DISTINCT ts.operationDate FROM TrainSchedule ts "
+		+ "WHERE ts.operationDate BETWEEN :startDate AND :endDate")
+	List<LocalDate> findOperationDatesBetween(@Param("startDate") LocalDate startDate,
+		@Param("endDate") LocalDate endDate);
 }
@@ -1,17 +1,35 @@
 package com.sudo.railo.train.infrastructure.excel;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.StreamUtils;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
 abstract class ExcelParser {
 
@@ -28,10 +46,7 @@ abstract class ExcelParser {
 		try (FileInputStream stream = new FileInputStream(FILES_DIR + getFileName())) {
 			Workbook workbook = WorkbookFactory.create(stream);
 			for (Sheet sheet : workbook) {
-				boolean isExcluded = getExcludeSheetNames().stream()
-					.anyMatch(excludeName -> sheet.getSheetName().contains(excludeName));
-
-				if (!isExcluded) {
+				if (!isExcluded(sheet.getSheetName())) {
 					sheets.add(sheet);
 				}
 			}
@@ -43,6 +58,63 @@ abstract class ExcelParser {
 		return sheets;
 	}
 
+	/**
+	 * XSSF 이벤트 API로 시트를 행 단위로 읽는다.
+	 * 워크북 전체를 메모리에 올리는 `getSheets()`와 달리 공유 문자열 테이블과 현재 행만 유지한다.
+	 */
+	protected void readSheets(ExcelRowHandler handler) {
+		File file = new File(FILES_DIR + getFileName());
+		if (!file.isFile()) {
+			throw new IllegalStateException("파일을 찾을 수 없습니다: " + getFileName());
+		}
+
+		OPCPackage pkg = null;
+		try {
+			pkg = OPCPackage.open(file, PackageAccess.READ);
+			XSSFReader reader = new XSSFReader(pkg);
+			ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+
+			XSSFReader.SheetIterator sheets = (XSSFReader.SheetIterator)reader.getSheetsData();
+			while (sheets.hasNext()) {
+				try (InputStream stream = sheets.next()) {
+					String sheetName = sheets.getSheetName();
+					if (isExcluded(sheetName)) {
+						continue;
+					}
+
+					handler.startSheet(sheetName);
+					XMLReader xmlReader = XMLHelper.newXMLReader();
+					xmlReader.setContentHandler(new ExcelSheetContentHandler(sharedStrings, handler));
+					xmlReader.parse(new InputSource(stream));
+				}
+			}
+		} catch (IOException | OpenXML4JException | SAXException | ParserConfigurationException ex) {
+			throw new IllegalStateException("파일을 읽을 수 없습니다." + getFileName(), ex);
+		} finally {
+			// 읽기 전용 패키지는 저장하지 않고 닫는다.
+			if (pkg != null) {
+				pkg.revert();
+			}
+		}
+	}
+
+	/**
+	 * 엑셀 파일의 SHA-256 체크섬 (파싱 결과 캐시의 키)
+	 */
+	public String getFileChecksum() {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			try (InputStream stream = new DigestInputStream(new FileInputStream(FILES_DIR + getFileName()), digest)) {
+				StreamUtils.drain(stream);
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (FileNotFoundException ex) {
+			throw new IllegalStateException("파일을 찾을 수 없습니다: " + getFileName(), ex);
+		} catch (IOException | NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("파일을 읽을 수 없습니다." + getFileName(), ex);
+		}
+	}
+
 	protected boolean isEmpty(Row row, int cellNum) {
 		if (ObjectUtils.isEmpty(row)) {
 			return true;
@@ -51,4 +123,9 @@ abstract class ExcelParser {
 		Cell cell = row.getCell(cellNum, Row.MissingCellPolicy.RETURN_BLANK_AS_NULL);
 		return ObjectUtils.isEmpty(cell);
 	}
+
+	private boolean isExcluded(String sheetName) {
+		return getExcludeSheetNames().stream()
+			.anyMatch(sheetName::contains);
+	}
 }
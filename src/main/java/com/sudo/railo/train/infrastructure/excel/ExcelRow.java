@@ -0,0 +1,98 @@
+package com.sudo.railo.train.infrastructure.excel;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.springframework.util.StringUtils;
+
+/**
+ * 스트리밍 파싱 중인 현재 행
+ *
+ * 셀 값은 문자열(String) 또는 숫자(Double)로만 보관하며, 다음 행을 읽을 때 재사용된다.
+ */
+final class ExcelRow {
+
+	private final List<Object> values = new ArrayList<>();
+	private int rowNum;
+
+	void reset(int rowNum) {
+		this.rowNum = rowNum;
+		values.clear();
+	}
+
+	void setValue(int column, Object value) {
+		while (values.size() <= column) {
+			values.add(null);
+		}
+		values.set(column, value);
+	}
+
+	/**
+	 * 0부터 시작하는 행 번호
+	 */
+	int getRowNum() {
+		return rowNum;
+	}
+
+	int getLastCellNum() {
+		return values.size();
+	}
+
+	boolean isEmpty(int column) {
+		return getValue(column) == null;
+	}
+
+	boolean isNumeric(int column) {
+		return getValue(column) instanceof Double;
+	}
+
+	boolean hasText(int column) {
+		Object value = getValue(column);
+		return value != null && StringUtils.hasText(value.toString());
+	}
+
+	String getString(int column) {
+		Object value = getValue(column);
+		if (value == null) {
+			return "";
+		}
+		if (!(value instanceof String stringValue)) {
+			throw new IllegalStateException("문자열 셀이 아닙니다: " + rowNum + "행 " + column + "열");
+		}
+		return stringValue;
+	}
+
+	double getNumeric(int column) {
+		Object value = getValue(column);
+		if (value == null) {
+			return 0;
+		}
+		if (!(value instanceof Double numericValue)) {
+			throw new IllegalStateException("숫자 셀이 아닙니다: " + rowNum + "행 " + column + "열");
+		}
+		return numericValue;
+	}
+
+	LocalTime getLocalTime(int column) {
+		return DateUtil.getLocalDateTime(getNumeric(column)).toLocalTime();
+	}
+
+	/**
+	 * `start` 열부터 값이 있는 첫 번째 열을 찾는다.
+	 * @return 열 번호, 없으면 -1
+	 */
+	int findFirstTextColumn(int start) {
+		for (int c = start; c < values.size(); c++) {
+			if (hasText(c)) {
+				return c;
+			}
+		}
+		return -1;
+	}
+
+	private Object getValue(int column) {
+		return column < values.size() ? values.get(column) : null;
+	}
+}
@@ -0,0 +1,14 @@
+package com.sudo.railo.train.infrastructure.excel;
+
+/**
+ * 스트리밍 파싱 시 시트와 행을 순서대로 전달받는 핸들러
+ */
+interface ExcelRowHandler {
+
+	void startSheet(String sheetName);
+
+	/**
+	 * 값이 있는 행만 전달되며, 전달된 `row`는 다음 행을 읽을 때 재사용된다.
+	 */
+	void handleRow(ExcelRow row);
+}
@@ -0,0 +1,111 @@
+package com.sudo.railo.train.infrastructure.excel;
+
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * 시트 XML(sheetN.xml)을 SAX로 읽어 행 단위로 전달하는 핸들러
+ *
+ * 셀 서식은 해석하지 않고 원본 값만 읽는다. (문자열은 공유 문자열 테이블에서 조회)
+ * 시간 셀은 하루 기준 소수(ex. 0.5 = 12:00)로 전달된다.
+ */
+final class ExcelSheetContentHandler extends DefaultHandler {
+
+	private static final String ROW = "row";
+	private static final String CELL = "c";
+	private static final String VALUE = "v";
+	private static final String INLINE_TEXT = "t";
+	private static final String REFERENCE = "r";
+	private static final String TYPE = "t";
+
+	private static final String TYPE_SHARED_STRING = "s";
+	private static final String TYPE_NUMBER = "n";
+	private static final String TYPE_BOOLEAN = "b";
+
+	private final SharedStrings sharedStrings;
+	private final ExcelRowHandler rowHandler;
+	private final ExcelRow row = new ExcelRow();
+	private final StringBuilder text = new StringBuilder();
+
+	private int nextRowNum;
+	private int nextColumn;
+	private int column;
+	private String cellType;
+	private boolean readingText;
+
+	ExcelSheetContentHandler(SharedStrings sharedStrings, ExcelRowHandler rowHandler) {
+		this.sharedStrings = sharedStrings;
+		this.rowHandler = rowHandler;
+	}
+
+	@Override
+	public void startElement(String uri, String localName, String qName, Attributes attributes) {
+		switch (name(localName, qName)) {
+			case ROW -> {
+				String reference = attributes.getValue(REFERENCE);
+				row.reset(reference != null ? Integer.parseInt(reference) - 1 : nextRowNum);
+				nextColumn = 0;
+			}
+			case CELL -> {
+				String reference = attributes.getValue(REFERENCE);
+				column = reference != null ? new CellReference(reference).getCol() : nextColumn;
+				nextColumn = column + 1;
+				cellType = attributes.getValue(TYPE);
+				text.setLength(0);
+			}
+			case VALUE, INLINE_TEXT -> readingText = true;
+			default -> {
+			}
+		}
+	}
+
+	@Override
+	public void endElement(String uri, String localName, String qName) {
+		switch (name(localName, qName)) {
+			case VALUE, INLINE_TEXT -> readingText = false;
+			case CELL -> {
+				// 서식만 있고 값이 없는 셀은 빈 셀로 취급
+				if (!text.isEmpty()) {
+					row.setValue(column, toValue());
+				}
+			}
+			case ROW -> {
+				rowHandler.handleRow(row);
+				nextRowNum = row.getRowNum() + 1;
+			}
+			default -> {
+			}
+		}
+	}
+
+	@Override
+	public void characters(char[] ch, int start, int length) {
+		if (readingText) {
+			text.append(ch, start, length);
+		}
+	}
+
+	private Object toValue() {
+		String value = text.toString();
+		if (cellType == null || TYPE_NUMBER.equals(cellType)) {
+			return Double.parseDouble(value);
+		}
+		if (TYPE_SHARED_STRING.equals(cellType)) {
+			return sharedStrings.getItemAt(Integer.parseInt(value)).getString();
+		}
+		if (TYPE_BOOLEAN.equals(cellType)) {
+			return "1".equals(value) ? "TRUE" : "FALSE";
+		}
+		// 인라인 문자열(inlineStr), 수식 문자열(str), 오류(e)
+		return value;
+	}
+
+	private String name(String localName, String qName) {
+		if (localName != null && !localName.isEmpty()) {
+			return localName;
+		}
+		return qName.substring(qName.indexOf(':') + 1);
+	}
+}
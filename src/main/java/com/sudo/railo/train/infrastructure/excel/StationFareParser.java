@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
@@ -104,4 +105,98 @@ public class StationFareParser extends ExcelParser {
 		}
 		return stationFareData;
 	}
+
+	/**
+	 * XSSF 이벤트 API로 시트를 행 단위로 읽으면서 운임 데이터를 하나씩 전달한다.
+	 * 병합 영역 정보는 시트 XML의 끝에 있으므로, 헤더를 찾은 뒤 일반실 운임이 숫자인 첫 행부터 운임 데이터로 본다.
+	 *
+	 * @param consumer 파싱된 운임 데이터를 전달받을 콜백
+	 */
+	public void streamStationFareData(Consumer<StationFareData> consumer) {
+		readSheets(new StationFareRowHandler(consumer));
+	}
+
+	private static class StationFareRowHandler implements ExcelRowHandler {
+
+		private final Consumer<StationFareData> consumer;
+		private final Map<StationFareHeaderType, Integer> headerMap = new HashMap<>();
+
+		private Integer departureStationIdx;
+		private Integer standardIdx;
+		private boolean dataStarted;
+		private boolean finished;
+		private int nextRow;
+
+		StationFareRowHandler(Consumer<StationFareData> consumer) {
+			this.consumer = consumer;
+		}
+
+		@Override
+		public void startSheet(String sheetName) {
+			log.info("{} 시트 파싱 시작", sheetName);
+			headerMap.clear();
+			departureStationIdx = null;
+			standardIdx = null;
+			dataStarted = false;
+			finished = false;
+		}
+
+		@Override
+		public void handleRow(ExcelRow row) {
+			if (finished) {
+				return;
+			}
+
+			if (!dataStarted) {
+				if (!isFirstDataRow(row)) {
+					collectHeader(row);
+					return;
+				}
+				dataStarted = true;
+			} else if (row.getRowNum() != nextRow || row.isEmpty(departureStationIdx)) {
+				// 빈 행이 나오거나, 출발역이 없다면 파싱을 종료한다.
+				finished = true;
+				return;
+			}
+			nextRow = row.getRowNum() + 1;
+
+			try {
+				Integer firstClassIdx = headerMap.getOrDefault(StationFareHeaderType.FIRST_CLASS,
+					headerMap.get(StationFareHeaderType.SUPERIOR_CLASS));
+				if (firstClassIdx == null) {
+					throw new IllegalStateException("특실 운임 헤더를 찾을 수 없습니다.");
+				}
+
+				consumer.accept(new StationFareData(
+					row.getString(departureStationIdx),
+					row.getString(departureStationIdx + 1),
+					(int)row.getNumeric(standardIdx),
+					(int)row.getNumeric(firstClassIdx + 2)
+				));
+			} catch (Exception ex) {
+				log.error("운임표 파싱 중 예외가 발생했습니다", ex);
+			}
+		}
+
+		private boolean isFirstDataRow(ExcelRow row) {
+			return departureStationIdx != null && standardIdx != null
+				&& row.hasText(departureStationIdx) && row.isNumeric(standardIdx);
+		}
+
+		private void collectHeader(ExcelRow row) {
+			for (int c = 0; c < row.getLastCellNum(); c++) {
+				if (!row.hasText(c) || row.isNumeric(c)) {
+					continue;
+				}
+
+				String cellValue = row.getString(c).replaceAll(" ", "");
+				StationFareHeaderType type = StationFareHeaderType.from(cellValue);
+				if (type != null) {
+					headerMap.putIfAbsent(type, c);
+				}
+			}
+			departureStationIdx = headerMap.get(StationFareHeaderType.SECTION);
+			standardIdx = headerMap.get(StationFareHeaderType.STANDARD);
+		}
+	}
 }
@@ -1,11 +1,15 @@
 package com.sudo.railo.train.infrastructure.excel;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.TextStyle;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
@@ -17,6 +21,9 @@ import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
 import com.sudo.railo.train.application.dto.excel.ScheduleStopData;
+import com.sudo.railo.train.application.dto.excel.TimetableStop;
+import com.sudo.railo.train.application.dto.excel.TimetableTemplate;
+import com.sudo.railo.train.application.dto.excel.TimetableTrain;
 import com.sudo.railo.train.application.dto.excel.TrainData;
 import com.sudo.railo.train.application.dto.excel.TrainScheduleData;
 
@@ -67,8 +74,7 @@ public class TrainScheduleParser extends ExcelParser {
 		List<String> stationNames = getStationNames(sheet, address);
 		int operationDateIdx = stationIdx + stationNames.size();
 
-		String dayOfWeek = localDate.getDayOfWeek()
-			.getDisplayName(TextStyle.SHORT, Locale.KOREAN);
+		String dayOfWeek = getDayOfWeek(localDate);
 
 		List<TrainScheduleData> trainScheduleData = new ArrayList<>();
 		int rowNum = address.getRow() + 2;
@@ -82,21 +88,51 @@ public class TrainScheduleParser extends ExcelParser {
 
 			// 운행일이 `매일`이 아니면서, `dayOfWeek`가 포함되지 않는다면 파싱하지 않는다.
 			String operationDate = row.getCell(operationDateIdx).getStringCellValue();
-			if (!operationDate.equals(OPERATION_DATE_EVERY_DAY) && !operationDate.contains(dayOfWeek)) {
+			if (!isOperating(operationDate, dayOfWeek)) {
 				continue;
 			}
 
 			int trainNumber = (int)row.getCell(trainNumberIdx).getNumericCellValue();
-			String trainName = row.getCell(trainNameIdx).getStringCellValue().replaceAll("_", "-");
-			TrainData trainData = TrainData.of(trainNumber, trainName);
+			String trainName = row.getCell(trainNameIdx).getStringCellValue();
 
-			List<ScheduleStopData> scheduleStopData = getScheduleStopData(row, stationIdx, stationNames);
-			String scheduleName = String.format("%s-%03d %s", trainName, trainNumber, sheetName);
-			trainScheduleData.add(TrainScheduleData.of(scheduleName, localDate, scheduleStopData, trainData));
+			List<LocalTime> departureTimes = new ArrayList<>();
+			for (int i = 0; i < stationNames.size(); i++) {
+				departureTimes.add(LocalTime.from(row.getCell(stationIdx + i).getLocalDateTimeCellValue()));
+			}
+			trainScheduleData.add(createTrainScheduleData(sheetName, trainNumber, trainName, localDate,
+				getScheduleStopData(departureTimes, stationNames)));
 		}
 		return trainScheduleData;
 	}
 
+	/**
+	 * XSSF 이벤트 API로 시트를 행 단위로 읽으면서 운행 스케줄을 하나씩 전달한다.
+	 * 워크북 전체를 메모리에 올리지 않으며, 현재 행과 하행/상행 역 이름 목록만 유지한다.
+	 *
+	 * @param localDate 운행일
+	 * @param consumer 파싱된 운행 스케줄을 전달받을 콜백
+	 */
+	public void streamTrainScheduleData(LocalDate localDate, Consumer<TrainScheduleData> consumer) {
+		readSheets(new TrainScheduleRowHandler(train -> {
+			if (train.operatesOn(localDate)) {
+				consumer.accept(train.toTrainScheduleData(localDate));
+			}
+		}));
+	}
+
+	/**
+	 * 시간표 전체를 한 번 읽어 운행일과 무관한 시간표 템플릿을 만든다.
+	 * `비고` 열의 운행일은 요일 비트 마스크로 변환한다.
+	 *
+	 * @param checksum 원본 엑셀 파일의 체크섬
+	 */
+	public TimetableTemplate compileTimetable(String checksum) {
+		List<TimetableTrain> trains = new ArrayList<>();
+		TrainScheduleRowHandler handler = new TrainScheduleRowHandler(trains::add);
+		readSheets(handler);
+		return new TimetableTemplate(checksum, List.copyOf(handler.stationNames), trains);
+	}
+
 	public List<String> getStationNames(Sheet sheet, CellAddress address) {
 		Row row = sheet.getRow(address.getRow());
 		int stationIdx = address.getColumn() + 2;
@@ -114,13 +150,12 @@ public class TrainScheduleParser extends ExcelParser {
 		return stationNames;
 	}
 
-	private List<ScheduleStopData> getScheduleStopData(Row row, int start, List<String> stationNames) {
+	private List<ScheduleStopData> getScheduleStopData(List<LocalTime> departureTimes, List<String> stationNames) {
 		List<ScheduleStopData> scheduleStopData = new ArrayList<>();
 
 		int stopOrder = 0;
 		for (int i = 0; i < stationNames.size(); i++) {
-			Cell cell = row.getCell(start + i);
-			LocalTime departureTime = LocalTime.from(cell.getLocalDateTimeCellValue());
+			LocalTime departureTime = departureTimes.get(i);
 			if (departureTime.equals(LocalTime.MIDNIGHT)) {
 				continue;
 			}
@@ -139,4 +174,159 @@ public class TrainScheduleParser extends ExcelParser {
 
 		return scheduleStopData;
 	}
+
+	private TrainScheduleData createTrainScheduleData(String sheetName, int trainNumber, String trainName,
+		LocalDate localDate, List<ScheduleStopData> scheduleStopData) {
+		String name = trainName.replaceAll("_", "-");
+		TrainData trainData = TrainData.of(trainNumber, name);
+		String scheduleName = String.format("%s-%03d %s", name, trainNumber, sheetName);
+		return TrainScheduleData.of(scheduleName, localDate, scheduleStopData, trainData);
+	}
+
+	private boolean isOperating(String operationDate, String dayOfWeek) {
+		return operationDate.equals(OPERATION_DATE_EVERY_DAY) || operationDate.contains(dayOfWeek);
+	}
+
+	private String getDayOfWeek(LocalDate localDate) {
+		return getDayOfWeek(localDate.getDayOfWeek());
+	}
+
+	private String getDayOfWeek(DayOfWeek dayOfWeek) {
+		return dayOfWeek.getDisplayName(TextStyle.SHORT, Locale.KOREAN);
+	}
+
+	private int getOperatingDays(String operationDate) {
+		int operatingDays = 0;
+		for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+			if (isOperating(operationDate, getDayOfWeek(dayOfWeek))) {
+				operatingDays |= TimetableTrain.dayMask(dayOfWeek);
+			}
+		}
+		return operatingDays;
+	}
+
+	private TimetableTrain createTimetableTrain(String sheetName, int trainNumber, String trainName,
+		int operatingDays, List<ScheduleStopData> scheduleStopData) {
+		String name = trainName.replaceAll("_", "-");
+		String scheduleName = String.format("%s-%03d %s", name, trainNumber, sheetName);
+		List<TimetableStop> stops = scheduleStopData.stream()
+			.map(TimetableStop::from)
+			.toList();
+		return new TimetableTrain(scheduleName, trainNumber, name, operatingDays, stops);
+	}
+
+	/**
+	 * 시트마다 하행/상행 시간표 영역을 찾아 행 단위로 파싱하는 핸들러
+	 * 영역의 시작 지점은 `getFirstCellAddress`와 같은 규칙으로 찾는다.
+	 */
+	private class TrainScheduleRowHandler implements ExcelRowHandler {
+
+		private final Consumer<TimetableTrain> consumer;
+		private final Set<String> stationNames = new LinkedHashSet<>();
+
+		private String sheetName;
+		private TrainBlock downTrain;
+		private TrainBlock upTrain;
+
+		TrainScheduleRowHandler(Consumer<TimetableTrain> consumer) {
+			this.consumer = consumer;
+		}
+
+		@Override
+		public void startSheet(String sheetName) {
+			this.sheetName = sheetName;
+			this.downTrain = null;
+			this.upTrain = null;
+		}
+
+		@Override
+		public void handleRow(ExcelRow row) {
+			// 하행
+			if (downTrain == null) {
+				int column = row.findFirstTextColumn(0);
+				if (column >= 0) {
+					downTrain = new TrainBlock(row.getRowNum() + 1, column);
+				}
+			}
+
+			// 상행
+			if (downTrain != null && upTrain == null) {
+				int column = row.findFirstTextColumn(downTrain.trainNumberIdx + 1);
+				if (column >= 0) {
+					upTrain = new TrainBlock(row.getRowNum() + 1, column);
+				}
+			}
+
+			if (downTrain != null) {
+				downTrain.accept(row);
+			}
+			if (upTrain != null) {
+				upTrain.accept(row);
+			}
+		}
+
+		private class TrainBlock {
+
+			private final int headerRow;
+			private final int trainNumberIdx;
+			private final int trainNameIdx;
+			private final int stationIdx;
+			private final List<String> stationNames = new ArrayList<>();
+			private int nextRow;
+			private boolean finished;
+
+			TrainBlock(int headerRow, int column) {
+				this.headerRow = headerRow;
+				this.trainNumberIdx = column;
+				this.trainNameIdx = column + 1;
+				this.stationIdx = column + 2;
+				this.nextRow = headerRow + 3;
+			}
+
+			void accept(ExcelRow row) {
+				if (finished || row.getRowNum() < headerRow) {
+					return;
+				}
+
+				if (row.getRowNum() == headerRow) {
+					// `stationIdx`위치부터 `비고`를 찾기 전까지 역 이름을 파싱한다.
+					for (int i = stationIdx; i < row.getLastCellNum(); i++) {
+						String stationName = row.getString(i);
+						if (stationName.contains(OPERATION_DATE_COLUMN)) {
+							break;
+						}
+						stationNames.add(stationName);
+					}
+					TrainScheduleRowHandler.this.stationNames.addAll(stationNames);
+					return;
+				}
+
+				if (row.getRowNum() < nextRow) {
+					return;
+				}
+
+				// 빈 행이 나오거나, 열차 번호가 없다면 파싱을 종료한다.
+				if (row.getRowNum() > nextRow || stationNames.isEmpty() || row.isEmpty(trainNumberIdx)) {
+					finished = true;
+					return;
+				}
+				nextRow = row.getRowNum() + 1;
+
+				int operatingDays = getOperatingDays(row.getString(stationIdx + stationNames.size()));
+				if (operatingDays == 0) {
+					return;
+				}
+
+				int trainNumber = (int)row.getNumeric(trainNumberIdx);
+				String trainName = row.getString(trainNameIdx);
+
+				List<LocalTime> departureTimes = new ArrayList<>(stationNames.size());
+				for (int i = 0; i < stationNames.size(); i++) {
+					departureTimes.add(row.getLocalTime(stationIdx + i));
+				}
+				consumer.accept(createTimetableTrain(sheetName, trainNumber, trainName, operatingDays,
+					getScheduleStopData(departureTimes, stationNames)));
+			}
+		}
+	}
 }
@@ -3,6 +3,9 @@ package com.sudo.railo.train.infrastructure.scheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.sudo.railo.train.application.FareQuoteEngine;
+import com.sudo.railo.train.application.TimetableDiffService;
+import com.sudo.railo.train.application.TrainScheduleArchiveService;
 import com.sudo.railo.train.application.TrainScheduleCreator;
 
 import lombok.RequiredArgsConstructor;
@@ -14,16 +17,45 @@ import lombok.extern.slf4j.Slf4j;
 public class TrainScheduler {
 
 	private final TrainScheduleCreator trainScheduleCreator;
+	private final TimetableDiffService timetableDiffService;
+	private final TrainScheduleArchiveService trainScheduleArchiveService;
+	private final FareQuoteEngine fareQuoteEngine;
 
 	/**
 	 * 매일 오전 2시에 운행 스케줄을 생성한다.
+	 * 시간표 엑셀이 바뀌었으면 먼저 이미 생성된 운행 스케줄에 변경분을 반영한다.
+	 * 마지막으로 구간 운임표를 다시 적재해, 운임 데이터가 바뀌었으면 스냅샷을 새로 저장한다.
 	 */
 	@Scheduled(cron = "0 0 2 * * *")
 	public void createTodayTrainSchedule() {
+		try {
+			timetableDiffService.reimportIfChanged();
+		} catch (Exception ex) {
+			log.error("시간표 재적재 중 오류가 발생했습니다.", ex);
+		}
+
 		try {
 			trainScheduleCreator.createTrainSchedule();
 		} catch (Exception ex) {
 			log.error("운행 스케줄 생성 중 오류가 발생했습니다.", ex);
 		}
+
+		try {
+			fareQuoteEngine.reload();
+		} catch (Exception ex) {
+			log.error("구간 운임표 재적재 중 오류가 발생했습니다.", ex);
+		}
+	}
+
+	/**
+	 * 매일 오전 3시에 보관 기간이 지난 운행 스케줄을 보관 테이블로 옮긴다.
+	 */
+	@Scheduled(cron = "0 0 3 * * *")
+	public void archivePastTrainSchedule() {
+		try {
+			trainScheduleArchiveService.archive();
+		} catch (Exception ex) {
+			log.error("운행 스케줄 보관 중 오류가 발생했습니다.", ex);
+		}
 	}
 }
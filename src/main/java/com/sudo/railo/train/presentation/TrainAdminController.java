@@ -0,0 +1,64 @@
+package com.sudo.railo.train.presentation;
+
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.sudo.railo.global.success.SuccessResponse;
+import com.sudo.railo.train.application.ScheduleOperationService;
+import com.sudo.railo.train.application.TimetableDiffService;
+import com.sudo.railo.train.application.dto.TimetableDiffResult;
+import com.sudo.railo.train.application.dto.request.ScheduleBulkOperationRequest;
+import com.sudo.railo.train.application.dto.response.ScheduleBulkOperationResponse;
+import com.sudo.railo.train.application.dto.response.ScheduleOperationSuccess;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1/admin/train-schedules")
+@RequiredArgsConstructor
+@Tag(name = "운행 관리", description = "관리자 운행 상태 일괄 변경, 시간표 재적재 API")
+public class TrainAdminController {
+
+	private final ScheduleOperationService scheduleOperationService;
+	private final TimetableDiffService timetableDiffService;
+
+	/**
+	 * 운행 스케줄 일괄 운행 취소
+	 */
+	@PostMapping("/cancel")
+	@Operation(summary = "운행 스케줄 일괄 운행 취소",
+		description = "열차 번호, 노선(시간표 시트 이름), 운행 기간으로 고른 운행 스케줄을 운행 취소하고 예약자에게 알립니다.")
+	public SuccessResponse<ScheduleBulkOperationResponse> cancelSchedules(
+		@Valid @RequestBody ScheduleBulkOperationRequest request) {
+		ScheduleBulkOperationResponse response = scheduleOperationService.cancel(request);
+		return SuccessResponse.of(ScheduleOperationSuccess.SCHEDULE_BULK_CANCEL_SUCCESS, response);
+	}
+
+	/**
+	 * 운행 스케줄 일괄 지연
+	 */
+	@PostMapping("/delay")
+	@Operation(summary = "운행 스케줄 일괄 지연",
+		description = "열차 번호, 노선(시간표 시트 이름), 운행 기간으로 고른 운행 스케줄에 지연 시간을 더하고 예약자에게 알립니다.")
+	public SuccessResponse<ScheduleBulkOperationResponse> delaySchedules(
+		@Valid @RequestBody ScheduleBulkOperationRequest request) {
+		ScheduleBulkOperationResponse response = scheduleOperationService.delay(request);
+		return SuccessResponse.of(ScheduleOperationSuccess.SCHEDULE_BULK_DELAY_SUCCESS, response);
+	}
+
+	/**
+	 * 현재 시간표로 운행 스케줄 재적재
+	 */
+	@PostMapping("/reimport")
+	@Operation(summary = "시간표 재적재",
+		description = "현재 시간표 엑셀로 오늘 이후 운행 스케줄을 비교해 추가/변경/운행 취소하고, 운행 취소된 스케줄의 예약자에게 알립니다.")
+	public SuccessResponse<TimetableDiffResult> reimportSchedules() {
+		TimetableDiffResult response = timetableDiffService.reimport();
+		return SuccessResponse.of(ScheduleOperationSuccess.TIMETABLE_REIMPORT_SUCCESS, response);
+	}
+}
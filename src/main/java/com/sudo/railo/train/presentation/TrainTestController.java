@@ -25,9 +25,7 @@ public class TrainTestController {
 		LocalDate startDate = LocalDate.now();
 		LocalDate endDate = startDate.plusMonths(1);
 
-		for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-			trainScheduleCreator.createTrainSchedule(date);
-		}
+		trainScheduleCreator.createTrainSchedules(startDate, endDate);
 
 		return ResponseEntity.ok("열차 스케줄 생성");
 	}
@@ -0,0 +1,143 @@
+package com.sudo.railo.booking.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sudo.railo.booking.application.dto.BookingEventMessage;
+import com.sudo.railo.booking.config.BookingConfig;
+import com.sudo.railo.booking.domain.BookingEventType;
+import com.sudo.railo.booking.infra.BookingEventOutboxJdbcRepository;
+import com.sudo.railo.booking.infra.BookingEventStreamRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class BookingEventRelayTest {
+
+	private static final int BATCH_SIZE = 100;
+	private static final int MAX_ATTEMPTS = 5;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@Mock
+	private BookingEventOutboxJdbcRepository bookingEventOutboxJdbcRepository;
+
+	@Mock
+	private BookingEventStreamRepository bookingEventStreamRepository;
+
+	@Mock
+	private BookingEventHandler handler;
+
+	private SimpleMeterRegistry meterRegistry;
+	private BookingEventRelay bookingEventRelay;
+
+	@BeforeEach
+	void setUp() {
+		BookingConfig bookingConfig = new BookingConfig(null, null, null, null,
+			new BookingConfig.Outbox(BATCH_SIZE, MAX_ATTEMPTS, 7, false, "booking-events", 1000));
+		meterRegistry = new SimpleMeterRegistry();
+		bookingEventRelay = new BookingEventRelay(bookingConfig, transactionTemplate,
+			bookingEventOutboxJdbcRepository, bookingEventStreamRepository, List.of(handler), meterRegistry);
+
+		lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+			invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+		lenient().doAnswer(invocation -> {
+			invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+	}
+
+	@Test
+	@DisplayName("점유한 이벤트 중 구독자가 지원하는 이벤트만 전달하고 모두 발행 완료 처리한다")
+	void relayNextBatchPublishesSupportedEvents() {
+		BookingEventMessage cancelled = message(1L, BookingEventType.RESERVATION_CANCELLED);
+		BookingEventMessage paid = message(2L, BookingEventType.RESERVATION_PAID);
+		when(bookingEventOutboxJdbcRepository.claim(BATCH_SIZE, MAX_ATTEMPTS)).thenReturn(List.of(cancelled, paid));
+		when(handler.supports(BookingEventType.RESERVATION_CANCELLED)).thenReturn(true);
+		when(handler.supports(BookingEventType.RESERVATION_PAID)).thenReturn(false);
+
+		int relayed = bookingEventRelay.relayNextBatch();
+
+		assertThat(relayed).isEqualTo(2);
+		verify(handler).handle(List.of(cancelled));
+		verify(bookingEventOutboxJdbcRepository).markPublished(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+		verify(bookingEventStreamRepository, never()).addAll(any(), any(), anyLong());
+		assertThat(meterRegistry.counter("booking.outbox.published", "type", "RESERVATION_CANCELLED").count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("점유한 이벤트가 없으면 발행하지 않는다")
+	void relayNextBatchSkipsWhenNothingClaimed() {
+		when(bookingEventOutboxJdbcRepository.claim(BATCH_SIZE, MAX_ATTEMPTS)).thenReturn(List.of());
+
+		assertThat(bookingEventRelay.relayNextBatch()).isZero();
+		verifyNoInteractions(handler);
+		verify(bookingEventOutboxJdbcRepository, never()).markPublished(any(), any());
+	}
+
+	@Test
+	@DisplayName("일괄 발행이 실패하면 건별로 다시 발행해 실패한 이벤트만 실패 처리한다")
+	void relayNextBatchFallsBackToOneByOne() {
+		BookingEventMessage failing = message(1L, BookingEventType.RESERVATION_CANCELLED);
+		BookingEventMessage succeeding = message(2L, BookingEventType.RESERVATION_EXPIRED);
+		when(bookingEventOutboxJdbcRepository.claim(BATCH_SIZE, MAX_ATTEMPTS))
+			.thenReturn(List.of(failing, succeeding));
+		when(bookingEventOutboxJdbcRepository.claimOne(anyLong())).thenReturn(true);
+		when(handler.supports(any())).thenReturn(true);
+		doAnswer(invocation -> {
+			List<BookingEventMessage> messages = invocation.getArgument(0);
+			if (messages.contains(failing)) {
+				throw new IllegalStateException("handler failure");
+			}
+			return null;
+		}).when(handler).handle(any());
+
+		int relayed = bookingEventRelay.relayNextBatch();
+
+		assertThat(relayed).isEqualTo(2);
+		verify(bookingEventOutboxJdbcRepository).markFailed(List.of(1L), "handler failure");
+		verify(bookingEventOutboxJdbcRepository).markPublished(eq(List.of(2L)), any(LocalDateTime.class));
+		verify(bookingEventOutboxJdbcRepository, never()).markPublished(eq(List.of(1L)), any());
+		assertThat(meterRegistry.counter("booking.outbox.failed", "type", "RESERVATION_CANCELLED").count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("건별 발행 중 다른 인스턴스가 먼저 발행한 이벤트는 다시 발행하지 않는다")
+	void relayOneByOneSkipsEventsClaimedElsewhere() {
+		BookingEventMessage failing = message(1L, BookingEventType.RESERVATION_CANCELLED);
+		BookingEventMessage alreadyPublished = message(2L, BookingEventType.RESERVATION_CANCELLED);
+		when(bookingEventOutboxJdbcRepository.claim(BATCH_SIZE, MAX_ATTEMPTS))
+			.thenReturn(List.of(failing, alreadyPublished));
+		when(bookingEventOutboxJdbcRepository.claimOne(1L)).thenReturn(true);
+		when(bookingEventOutboxJdbcRepository.claimOne(2L)).thenReturn(false);
+		when(handler.supports(any())).thenReturn(true);
+		doThrow(new IllegalStateException("handler failure")).when(handler).handle(any());
+
+		bookingEventRelay.relayNextBatch();
+
+		verify(handler, never()).handle(List.of(alreadyPublished));
+		verify(bookingEventOutboxJdbcRepository, never()).markFailed(eq(List.of(2L)), any());
+	}
+
+	private BookingEventMessage message(Long eventId, BookingEventType eventType) {
+		return new BookingEventMessage(eventId, eventType, 10L, "{}", LocalDateTime.now().minusSeconds(1));
+	}
+}
@@ -0,0 +1,83 @@
+package com.sudo.railo.booking.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.Base64;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sudo.railo.booking.application.dto.QrTokenPayload;
+import com.sudo.railo.booking.config.BookingConfig;
+import com.sudo.railo.booking.exception.BookingError;
+import com.sudo.railo.global.exception.error.BusinessException;
+
+class QrTokenProviderTest {
+
+	private static final String SECRET = Base64.getEncoder()
+		.encodeToString("railo-qr-secret-for-test-32-bytes".getBytes());
+	private static final Instant VALID_FROM = Instant.parse("2025-07-01T00:00:00Z");
+	private static final Instant VALID_UNTIL = Instant.parse("2025-07-01T03:00:00Z");
+
+	private final QrTokenProvider qrTokenProvider = new QrTokenProvider(
+		new BookingConfig(null, null, null, new BookingConfig.Qr(SECRET, 60, 60), null));
+
+	private final QrTokenPayload payload = new QrTokenPayload(1L, 54L, 2L, 11L, 120L, VALID_FROM, VALID_UNTIL);
+
+	@Test
+	@DisplayName("발급한 QR 토큰을 검증하면 같은 승차권 정보를 반환한다")
+	void verifyIssuedToken() {
+		String token = qrTokenProvider.issue(payload);
+
+		assertThat(qrTokenProvider.verify(token, VALID_FROM.plusSeconds(60))).isEqualTo(payload);
+	}
+
+	@Test
+	@DisplayName("입석 승차권은 좌석 ID 없이 검증된다")
+	void verifyStandingToken() {
+		QrTokenPayload standing = new QrTokenPayload(1L, 54L, 2L, 11L, null, VALID_FROM, VALID_UNTIL);
+
+		QrTokenPayload verified = qrTokenProvider.verify(qrTokenProvider.issue(standing), VALID_FROM);
+
+		assertThat(verified.seatId()).isNull();
+	}
+
+	@Test
+	@DisplayName("변조된 QR 토큰은 검증에 실패한다")
+	void rejectTamperedToken() {
+		byte[] bytes = Base64.getUrlDecoder().decode(qrTokenProvider.issue(payload));
+		bytes[8] ^= 1;
+		String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+		assertThatThrownBy(() -> qrTokenProvider.verify(tampered, VALID_FROM))
+			.isInstanceOf(BusinessException.class)
+			.extracting("errorCode")
+			.isEqualTo(BookingError.QR_TOKEN_INVALID);
+	}
+
+	@Test
+	@DisplayName("사용 가능 시간이 지난 QR 토큰은 검증에 실패한다")
+	void rejectExpiredToken() {
+		String token = qrTokenProvider.issue(payload);
+
+		assertThatThrownBy(() -> qrTokenProvider.verify(token, VALID_UNTIL.plusSeconds(1)))
+			.isInstanceOf(BusinessException.class)
+			.extracting("errorCode")
+			.isEqualTo(BookingError.QR_TOKEN_EXPIRED);
+	}
+
+	@Test
+	@DisplayName("QR 서명 키가 설정되지 않았거나 너무 짧으면 생성에 실패한다")
+	void rejectMissingSecret() {
+		String shortSecret = Base64.getEncoder().encodeToString("short".getBytes());
+
+		assertThatThrownBy(() -> new QrTokenProvider(
+			new BookingConfig(null, null, null, new BookingConfig.Qr("", 60, 60), null)))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("QR_SECRET");
+		assertThatThrownBy(() -> new QrTokenProvider(
+			new BookingConfig(null, null, null, new BookingConfig.Qr(shortSecret, 60, 60), null)))
+			.isInstanceOf(IllegalStateException.class);
+	}
+}
@@ -0,0 +1,211 @@
+package com.sudo.railo.booking.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.sudo.railo.booking.application.dto.EntitlementUsageInfo;
+import com.sudo.railo.booking.application.dto.ReleasedSeatInfo;
+import com.sudo.railo.booking.application.dto.request.ReservationDeleteRequest;
+import com.sudo.railo.booking.domain.BookingEventType;
+import com.sudo.railo.booking.domain.Reservation;
+import com.sudo.railo.booking.domain.ReservationStatus;
+import com.sudo.railo.booking.domain.event.ReservationCancelledEvent;
+import com.sudo.railo.booking.domain.event.ReservationsExpiredEvent;
+import com.sudo.railo.booking.exception.BookingError;
+import com.sudo.railo.booking.infra.ReservationJdbcRepository;
+import com.sudo.railo.booking.infra.ReservationPassengerRepository;
+import com.sudo.railo.booking.infra.ReservationRepository;
+import com.sudo.railo.booking.infra.SeatReservationRepository;
+import com.sudo.railo.global.exception.error.BusinessException;
+import com.sudo.railo.train.application.ScheduleInventoryService;
+import com.sudo.railo.train.domain.type.CarType;
+import com.sudo.railo.train.domain.type.PassengerType;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationServiceTest {
+
+	private static final Long RESERVATION_ID = 1L;
+	private static final String MEMBER_NO = "202507020001";
+
+	@Mock
+	private ReservationRepository reservationRepository;
+
+	@Mock
+	private ReservationJdbcRepository reservationJdbcRepository;
+
+	@Mock
+	private ReservationPassengerRepository reservationPassengerRepository;
+
+	@Mock
+	private SeatReservationRepository seatReservationRepository;
+
+	@Mock
+	private VeteranEntitlementService veteranEntitlementService;
+
+	@Mock
+	private ReservationHistoryService reservationHistoryService;
+
+	@Mock
+	private BookingEventOutboxService bookingEventOutboxService;
+
+	@Mock
+	private ScheduleInventoryService scheduleInventoryService;
+
+	@Mock
+	private TicketRevocationService ticketRevocationService;
+
+	@Mock(answer = Answers.RETURNS_DEEP_STUBS)
+	private Reservation reservation;
+
+	@InjectMocks
+	private ReservationService reservationService;
+
+	@Test
+	@DisplayName("예약을 취소하면 좌석과 잔여 좌석, 보훈 무임 횟수를 반환하고 취소 이벤트를 적재한다")
+	void cancelReservationReleasesSeatsAndAppendsEvent() {
+		List<ReleasedSeatInfo> releasedSeats = List.of(
+			new ReleasedSeatInfo(10L, 100L, CarType.STANDARD),
+			new ReleasedSeatInfo(10L, 101L, CarType.STANDARD),
+			new ReleasedSeatInfo(10L, 200L, CarType.FIRST_CLASS));
+		List<EntitlementUsageInfo> usages = List.of(new EntitlementUsageInfo(MEMBER_NO, LocalDate.now(), 1L));
+		givenReservationOwnedBy(MEMBER_NO);
+		when(reservation.getTrainSchedule().getId()).thenReturn(10L);
+		when(reservation.getDepartureStation().getId()).thenReturn(1L);
+		when(reservation.getArrivalStation().getId()).thenReturn(2L);
+		when(reservation.getTotalPassengers()).thenReturn(4);
+		when(seatReservationRepository.findReleasedSeatsByReservationId(RESERVATION_ID)).thenReturn(releasedSeats);
+		when(reservationPassengerRepository.sumFreeCountsByReservationIds(List.of(RESERVATION_ID),
+			PassengerType.VETERAN)).thenReturn(usages);
+
+		reservationService.cancelReservation(RESERVATION_ID, user(MEMBER_NO));
+
+		verify(reservation).cancel(any(LocalDateTime.class));
+		verify(seatReservationRepository).releaseAllByReservationId(eq(RESERVATION_ID), any(LocalDateTime.class));
+		verify(ticketRevocationService).revokeByReservationId(RESERVATION_ID);
+		verify(scheduleInventoryService).release(10L, CarType.STANDARD, 2);
+		verify(scheduleInventoryService).release(10L, CarType.FIRST_CLASS, 1);
+		verify(veteranEntitlementService).releaseAfterCommit(usages);
+		verify(bookingEventOutboxService).append(BookingEventType.RESERVATION_CANCELLED, RESERVATION_ID,
+			new ReservationCancelledEvent(RESERVATION_ID, MEMBER_NO, 10L, 1L, 2L, releasedSeats, 1));
+		verify(reservationHistoryService).evict(MEMBER_NO);
+	}
+
+	@Test
+	@DisplayName("다른 회원의 예약은 취소할 수 없다")
+	void cancelReservationRejectsOtherMember() {
+		givenReservationOwnedBy("202507020002");
+
+		assertThatThrownBy(() -> reservationService.cancelReservation(RESERVATION_ID, user(MEMBER_NO)))
+			.isInstanceOf(BusinessException.class)
+			.hasMessage(BookingError.RESERVATION_ACCESS_DENIED.getMessage());
+		verify(reservation, never()).cancel(any());
+		verifyNoInteractions(seatReservationRepository, scheduleInventoryService, bookingEventOutboxService);
+	}
+
+	@Test
+	@DisplayName("취소된 예약은 예약 기록만 삭제한다")
+	void deleteReservationDeletesCancelledReservation() {
+		givenReservationOwnedBy(MEMBER_NO);
+		when(reservation.getReservationStatus()).thenReturn(ReservationStatus.CANCELLED);
+
+		reservationService.deleteReservation(new ReservationDeleteRequest(RESERVATION_ID), user(MEMBER_NO));
+
+		verify(reservationRepository).delete(reservation);
+		verify(reservationHistoryService).evict(MEMBER_NO);
+		verifyNoInteractions(scheduleInventoryService, bookingEventOutboxService);
+	}
+
+	@Test
+	@DisplayName("좌석을 점유 중인 예약은 취소하지 않고 삭제할 수 없다")
+	void deleteReservationRejectsActiveReservation() {
+		givenReservationOwnedBy(MEMBER_NO);
+		when(reservation.getReservationStatus()).thenReturn(ReservationStatus.PAID);
+
+		assertThatThrownBy(() -> reservationService.deleteReservation(new ReservationDeleteRequest(RESERVATION_ID),
+			user(MEMBER_NO)))
+			.isInstanceOf(BusinessException.class)
+			.hasMessage(BookingError.RESERVATION_NOT_DELETABLE.getMessage());
+		verify(reservationRepository, never()).delete(any());
+	}
+
+	@Test
+	@DisplayName("다른 회원의 예약은 삭제할 수 없다")
+	void deleteReservationRejectsOtherMember() {
+		givenReservationOwnedBy("202507020002");
+
+		assertThatThrownBy(() -> reservationService.deleteReservation(new ReservationDeleteRequest(RESERVATION_ID),
+			user(MEMBER_NO)))
+			.isInstanceOf(BusinessException.class)
+			.hasMessage(BookingError.RESERVATION_ACCESS_DENIED.getMessage());
+		verify(reservationRepository, never()).delete(any());
+	}
+
+	@Test
+	@DisplayName("만료된 예약을 삭제하고 반환된 좌석을 잔여 좌석에 반영한 뒤 만료 이벤트를 적재한다")
+	void expireReservationsReleasesSeatsAndAppendsEvent() {
+		List<Long> reservationIds = List.of(1L, 2L);
+		List<ReleasedSeatInfo> releasedSeats = List.of(
+			new ReleasedSeatInfo(10L, 100L, CarType.STANDARD),
+			new ReleasedSeatInfo(20L, 200L, CarType.STANDARD));
+		when(reservationJdbcRepository.lockExpiredIds(any(LocalDateTime.class))).thenReturn(reservationIds);
+		when(seatReservationRepository.findReleasedSeatsByReservationIds(reservationIds)).thenReturn(releasedSeats);
+		when(reservationJdbcRepository.deleteUnpaid(reservationIds)).thenReturn(2);
+
+		reservationService.expireReservations();
+
+		verify(scheduleInventoryService).release(10L, CarType.STANDARD, 1);
+		verify(scheduleInventoryService).release(20L, CarType.STANDARD, 1);
+		verify(bookingEventOutboxService).append(BookingEventType.RESERVATION_EXPIRED, null,
+			new ReservationsExpiredEvent(reservationIds, releasedSeats));
+	}
+
+	@Test
+	@DisplayName("잠근 예약 중 일부만 삭제되면 좌석을 반환하지 않고 롤백한다")
+	void expireReservationsRollsBackWhenStatusChanged() {
+		List<Long> reservationIds = List.of(1L, 2L);
+		when(reservationJdbcRepository.lockExpiredIds(any(LocalDateTime.class))).thenReturn(reservationIds);
+		when(seatReservationRepository.findReleasedSeatsByReservationIds(reservationIds)).thenReturn(
+			List.of(new ReleasedSeatInfo(10L, 100L, CarType.STANDARD)));
+		when(reservationJdbcRepository.deleteUnpaid(reservationIds)).thenReturn(1);
+
+		assertThatThrownBy(() -> reservationService.expireReservations())
+			.isInstanceOf(IllegalStateException.class);
+		verifyNoInteractions(scheduleInventoryService, bookingEventOutboxService);
+	}
+
+	@Test
+	@DisplayName("만료된 예약이 없으면 아무것도 하지 않는다")
+	void expireReservationsSkipsWhenNothingExpired() {
+		when(reservationJdbcRepository.lockExpiredIds(any(LocalDateTime.class))).thenReturn(List.of());
+
+		reservationService.expireReservations();
+
+		verify(reservationJdbcRepository, never()).deleteUnpaid(any());
+		verifyNoInteractions(seatReservationRepository, bookingEventOutboxService);
+	}
+
+	private void givenReservationOwnedBy(String memberNo) {
+		when(reservationRepository.findById(RESERVATION_ID)).thenReturn(Optional.of(reservation));
+		when(reservation.getMember().getMemberDetail().getMemberNo()).thenReturn(memberNo);
+	}
+
+	private UserDetails user(String memberNo) {
+		return User.withUsername(memberNo).password("password").authorities("ROLE_MEMBER").build();
+	}
+}
@@ -0,0 +1,223 @@
+package com.sudo.railo.booking.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.sudo.railo.booking.application.dto.request.ReservationLegRequest;
+import com.sudo.railo.booking.application.dto.request.RoundTripReservationCreateRequest;
+import com.sudo.railo.booking.application.dto.response.RoundTripReservationCreateResponse;
+import com.sudo.railo.booking.domain.Reservation;
+import com.sudo.railo.booking.domain.TripType;
+import com.sudo.railo.booking.exception.BookingError;
+import com.sudo.railo.booking.infra.SeatReservationJdbcRepository;
+import com.sudo.railo.global.exception.error.BusinessException;
+import com.sudo.railo.member.domain.Member;
+import com.sudo.railo.member.infra.MemberRepository;
+import com.sudo.railo.queue.application.AdmissionQueueService;
+import com.sudo.railo.train.application.ScheduleInventoryService;
+import com.sudo.railo.train.domain.PassengerSummary;
+import com.sudo.railo.train.domain.Seat;
+import com.sudo.railo.train.domain.Station;
+import com.sudo.railo.train.domain.Train;
+import com.sudo.railo.train.domain.TrainSchedule;
+import com.sudo.railo.train.domain.status.OperationStatus;
+import com.sudo.railo.train.domain.type.CarType;
+import com.sudo.railo.train.domain.type.PassengerType;
+import com.sudo.railo.train.infrastructure.SeatRepository;
+import com.sudo.railo.train.infrastructure.StationRepository;
+import com.sudo.railo.train.infrastructure.TrainScheduleRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RoundTripReservationServiceTest {
+
+	private static final String MEMBER_NO = "202507020001";
+	private static final Long TRAIN_ID = 1L;
+	private static final Long SEOUL = 1L;
+	private static final Long BUSAN = 2L;
+	private static final LocalDate OPERATION_DATE = LocalDate.of(2025, 7, 1);
+
+	@Mock
+	private ReservationService reservationService;
+
+	@Mock
+	private WaitlistService waitlistService;
+
+	@Mock
+	private TrainScheduleRepository trainScheduleRepository;
+
+	@Mock
+	private MemberRepository memberRepository;
+
+	@Mock
+	private StationRepository stationRepository;
+
+	@Mock
+	private SeatRepository seatRepository;
+
+	@Mock
+	private ScheduleInventoryService scheduleInventoryService;
+
+	@Mock
+	private SeatReservationJdbcRepository seatReservationJdbcRepository;
+
+	@Mock
+	private AdmissionQueueService admissionQueueService;
+
+	@InjectMocks
+	private RoundTripReservationService roundTripReservationService;
+
+	@Test
+	@DisplayName("가는 편과 오는 편을 함께 예약하고 스케줄별로 잔여 좌석을 차감한다")
+	void createsBothLegs() {
+		RoundTripReservationCreateRequest request = request(
+			new ReservationLegRequest(10L, SEOUL, BUSAN, List.of(100L)),
+			new ReservationLegRequest(20L, BUSAN, SEOUL, List.of(200L)));
+		givenSchedules(schedule(10L, LocalTime.of(8, 0)), schedule(20L, LocalTime.of(18, 0)));
+		givenMemberStationsAndSeats();
+		Reservation outbound = reservation(1L);
+		Reservation inbound = reservation(2L);
+		when(reservationService.createLeg(any(), any(), any(), any(), any(), eq(TripType.RT)))
+			.thenReturn(outbound, inbound);
+		when(seatReservationJdbcRepository.insertAll(any())).thenReturn(List.of(1000L, 1001L));
+
+		RoundTripReservationCreateResponse response = roundTripReservationService.createReservation(request,
+			user());
+
+		assertThat(response.outbound().reservationId()).isEqualTo(1L);
+		assertThat(response.outbound().seatReservationIds()).containsExactly(1000L);
+		assertThat(response.inbound().reservationId()).isEqualTo(2L);
+		assertThat(response.inbound().seatReservationIds()).containsExactly(1001L);
+		verify(waitlistService).completeHold(10L, 100L, CarType.STANDARD, MEMBER_NO);
+		verify(waitlistService).completeHold(20L, 200L, CarType.STANDARD, MEMBER_NO);
+		verify(scheduleInventoryService).reserve(10L, CarType.STANDARD, 1);
+		verify(scheduleInventoryService).reserve(20L, CarType.STANDARD, 1);
+	}
+
+	@Test
+	@DisplayName("한쪽 구간의 좌석이 이미 예약되었으면 두 구간 모두 예약하지 않는다")
+	void rejectsBothLegsWhenSeatAlreadyReserved() {
+		RoundTripReservationCreateRequest request = request(
+			new ReservationLegRequest(10L, SEOUL, BUSAN, List.of(100L)),
+			new ReservationLegRequest(20L, BUSAN, SEOUL, List.of(200L)));
+		givenSchedules(schedule(10L, LocalTime.of(8, 0)), schedule(20L, LocalTime.of(18, 0)));
+		givenMemberStationsAndSeats();
+		Reservation outbound = reservation(1L);
+		Reservation inbound = reservation(2L);
+		when(reservationService.createLeg(any(), any(), any(), any(), any(), eq(TripType.RT)))
+			.thenReturn(outbound, inbound);
+		when(seatReservationJdbcRepository.insertAll(any()))
+			.thenThrow(new DataIntegrityViolationException("uk_seat_reservation"));
+
+		assertThatThrownBy(() -> roundTripReservationService.createReservation(request, user()))
+			.isInstanceOf(BusinessException.class)
+			.hasMessage(BookingError.SEAT_ALREADY_RESERVED.getMessage());
+		verify(waitlistService, never()).completeHold(any(), any(), any(), any());
+		verifyNoInteractions(scheduleInventoryService);
+	}
+
+	@Test
+	@DisplayName("오는 편이 가는 편의 역방향이 아니거나 먼저 출발하면 예외가 발생한다")
+	void rejectsInvalidLegs() {
+		givenSchedules(schedule(10L, LocalTime.of(18, 0)), schedule(20L, LocalTime.of(8, 0)));
+
+		assertThatThrownBy(() -> roundTripReservationService.createReservation(request(
+			new ReservationLegRequest(10L, SEOUL, BUSAN, List.of(100L)),
+			new ReservationLegRequest(20L, BUSAN, SEOUL, List.of(200L))), user()))
+			.isInstanceOf(BusinessException.class)
+			.hasMessage(BookingError.ROUND_TRIP_LEGS_INVALID.getMessage());
+		assertThatThrownBy(() -> roundTripReservationService.createReservation(request(
+			new ReservationLegRequest(20L, SEOUL, BUSAN, List.of(100L)),
+			new ReservationLegRequest(10L, SEOUL, BUSAN, List.of(200L))), user()))
+			.isInstanceOf(BusinessException.class)
+			.hasMessage(BookingError.ROUND_TRIP_LEGS_INVALID.getMessage());
+		verifyNoInteractions(reservationService, seatReservationJdbcRepository);
+	}
+
+	@Test
+	@DisplayName("구간별 좌석 수가 승객 수와 다르면 예외가 발생한다")
+	void rejectsSeatCountMismatch() {
+		RoundTripReservationCreateRequest request = request(
+			new ReservationLegRequest(10L, SEOUL, BUSAN, List.of(100L)),
+			new ReservationLegRequest(20L, BUSAN, SEOUL, List.of(200L, 201L)));
+
+		assertThatThrownBy(() -> roundTripReservationService.createReservation(request, user()))
+			.isInstanceOf(BusinessException.class)
+			.hasMessage(BookingError.RESERVATION_CREATE_SEATS_INVALID.getMessage());
+		verifyNoInteractions(trainScheduleRepository, reservationService);
+	}
+
+	private RoundTripReservationCreateRequest request(ReservationLegRequest outbound, ReservationLegRequest inbound) {
+		PassengerSummary adult = mock(PassengerSummary.class, withSettings().strictness(Strictness.LENIENT));
+		when(adult.getPassengerType()).thenReturn(PassengerType.ADULT);
+		when(adult.getCount()).thenReturn(1);
+		return new RoundTripReservationCreateRequest(List.of(adult), outbound, inbound);
+	}
+
+	private void givenSchedules(TrainSchedule... schedules) {
+		when(trainScheduleRepository.findAllById(any())).thenReturn(List.of(schedules));
+	}
+
+	private void givenMemberStationsAndSeats() {
+		when(memberRepository.findByMemberNo(MEMBER_NO)).thenReturn(Optional.of(mock(Member.class)));
+		List<Station> stations = List.of(station(SEOUL), station(BUSAN));
+		List<Seat> seats = List.of(seat(100L), seat(200L));
+		when(stationRepository.findAllById(any())).thenReturn(stations);
+		when(seatRepository.findAllWithTrainCarByIdIn(any())).thenReturn(seats);
+	}
+
+	private TrainSchedule schedule(Long id, LocalTime departureTime) {
+		Train train = mock(Train.class, withSettings().strictness(Strictness.LENIENT));
+		when(train.getId()).thenReturn(TRAIN_ID);
+		TrainSchedule trainSchedule = mock(TrainSchedule.class, withSettings().strictness(Strictness.LENIENT));
+		when(trainSchedule.getId()).thenReturn(id);
+		when(trainSchedule.getOperationStatus()).thenReturn(OperationStatus.ACTIVE);
+		when(trainSchedule.getOperationDate()).thenReturn(OPERATION_DATE);
+		when(trainSchedule.getDepartureTime()).thenReturn(departureTime);
+		when(trainSchedule.getTrain()).thenReturn(train);
+		return trainSchedule;
+	}
+
+	private Station station(Long id) {
+		Station station = mock(Station.class);
+		when(station.getId()).thenReturn(id);
+		return station;
+	}
+
+	private Seat seat(Long id) {
+		Seat seat = mock(Seat.class, withSettings()
+			.defaultAnswer(Answers.RETURNS_DEEP_STUBS)
+			.strictness(Strictness.LENIENT));
+		when(seat.getId()).thenReturn(id);
+		when(seat.getTrainCar().getCarType()).thenReturn(CarType.STANDARD);
+		when(seat.getTrainCar().getTrain().getId()).thenReturn(TRAIN_ID);
+		return seat;
+	}
+
+	private Reservation reservation(Long id) {
+		Reservation reservation = mock(Reservation.class);
+		when(reservation.getId()).thenReturn(id);
+		return reservation;
+	}
+
+	private UserDetails user() {
+		return User.withUsername(MEMBER_NO).password("password").authorities("ROLE_MEMBER").build();
+	}
+}
@@ -0,0 +1,155 @@
+package com.sudo.railo.booking.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sudo.railo.booking.config.BookingConfig;
+import com.sudo.railo.booking.infra.TicketIssueJdbcRepository;
+import com.sudo.railo.booking.infra.TicketIssueJdbcRepository.ClaimedRequest;
+import com.sudo.railo.booking.infra.TicketIssueJdbcRepository.IssuePassenger;
+import com.sudo.railo.booking.infra.TicketIssueJdbcRepository.NewTicket;
+import com.sudo.railo.train.domain.type.PassengerType;
+
+@ExtendWith(MockitoExtension.class)
+class TicketIssueServiceTest {
+
+	private static final String WORKER_ID = "worker-1";
+	private static final int BATCH_SIZE = 50;
+	private static final int LEASE_SECONDS = 30;
+	private static final int MAX_ATTEMPTS = 3;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@Mock
+	private TicketIssueJdbcRepository ticketIssueJdbcRepository;
+
+	@Mock
+	private TicketSequenceGenerator ticketSequenceGenerator;
+
+	@Mock
+	private QrTokenProvider qrTokenProvider;
+
+	private TicketIssueService ticketIssueService;
+
+	@BeforeEach
+	void setUp() {
+		BookingConfig bookingConfig = new BookingConfig(null, null,
+			new BookingConfig.TicketIssue(4, BATCH_SIZE, LEASE_SECONDS, MAX_ATTEMPTS, "01"),
+			new BookingConfig.Qr("secret", 60, 60), null);
+		ticketIssueService = new TicketIssueService(bookingConfig, transactionTemplate, ticketIssueJdbcRepository,
+			ticketSequenceGenerator, qrTokenProvider);
+
+		lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+			invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+		lenient().doAnswer(invocation -> {
+			invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+		lenient().when(ticketSequenceGenerator.currentPurchaseDate()).thenReturn("0701");
+		lenient().when(ticketSequenceGenerator.nextPurchaseSeq("0701")).thenReturn("10000", "10001", "10002");
+	}
+
+	@Test
+	@DisplayName("배치 크기만큼 발권 요청을 점유 시간과 함께 점유한다")
+	void issueNextBatchClaimsWithLease() {
+		when(ticketIssueJdbcRepository.claim(eq(WORKER_ID), eq(BATCH_SIZE), any())).thenReturn(List.of());
+		LocalDateTime before = LocalDateTime.now();
+
+		assertThat(ticketIssueService.issueNextBatch(WORKER_ID)).isZero();
+
+		ArgumentCaptor<LocalDateTime> lockedUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(ticketIssueJdbcRepository).claim(eq(WORKER_ID), eq(BATCH_SIZE), lockedUntil.capture());
+		assertThat(lockedUntil.getValue()).isAfterOrEqualTo(before.plusSeconds(LEASE_SECONDS))
+			.isBeforeOrEqualTo(LocalDateTime.now().plusSeconds(LEASE_SECONDS));
+		verify(ticketIssueJdbcRepository, never()).findPassengers(any());
+	}
+
+	@Test
+	@DisplayName("승객별 QR과 승차권을 생성하고, 승차권 고유번호는 예약 내 승객 순번으로 매긴다")
+	void issueNextBatchIssuesTicketsPerPassenger() {
+		ClaimedRequest first = new ClaimedRequest(1L, 10L, 1);
+		ClaimedRequest second = new ClaimedRequest(2L, 20L, 1);
+		when(ticketIssueJdbcRepository.claim(eq(WORKER_ID), eq(BATCH_SIZE), any())).thenReturn(List.of(first, second));
+		List<IssuePassenger> passengers = List.of(passenger(10L, PassengerType.ADULT),
+			passenger(10L, PassengerType.CHILD), passenger(20L, PassengerType.ADULT));
+		when(ticketIssueJdbcRepository.findPassengers(List.of(10L, 20L))).thenReturn(passengers);
+		when(ticketIssueJdbcRepository.insertQrs(any())).thenReturn(List.of(100L, 101L, 102L));
+		when(ticketIssueJdbcRepository.insertTickets(any())).thenReturn(List.of(1000L, 1001L, 1002L));
+		when(qrTokenProvider.issue(any())).thenReturn("token-1", "token-2", "token-3");
+		when(ticketIssueJdbcRepository.markDone(List.of(1L, 2L), WORKER_ID)).thenReturn(2);
+
+		assertThat(ticketIssueService.issueNextBatch(WORKER_ID)).isEqualTo(2);
+
+		ArgumentCaptor<List<NewTicket>> tickets = ArgumentCaptor.forClass(List.class);
+		verify(ticketIssueJdbcRepository).insertTickets(tickets.capture());
+		assertThat(tickets.getValue()).extracting(NewTicket::reservationId, NewTicket::qrId, NewTicket::purchaseSeq,
+				NewTicket::purchaseUid)
+			.containsExactly(
+				tuple(10L, 100L, "10000", "01"),
+				tuple(10L, 101L, "10001", "02"),
+				tuple(20L, 102L, "10002", "01"));
+		verify(ticketIssueJdbcRepository).updateQrUrls(List.of(100L, 101L, 102L),
+			List.of("token-1", "token-2", "token-3"));
+		verify(ticketIssueJdbcRepository, never()).markFailed(any(), any(), anyInt(), any());
+	}
+
+	@Test
+	@DisplayName("점유가 만료되어 다른 워커에게 넘어간 요청은 완료 처리하지 못하고 건별 처리에서 실패로 기록한다")
+	void issueNextBatchRollsBackRequestsClaimedByAnotherWorker() {
+		ClaimedRequest mine = new ClaimedRequest(1L, 10L, 1);
+		ClaimedRequest taken = new ClaimedRequest(2L, 20L, 1);
+		when(ticketIssueJdbcRepository.claim(eq(WORKER_ID), eq(BATCH_SIZE), any())).thenReturn(List.of(mine, taken));
+		when(ticketIssueJdbcRepository.findPassengers(any())).thenReturn(List.of());
+		when(ticketIssueJdbcRepository.markDone(List.of(1L, 2L), WORKER_ID)).thenReturn(1);
+		when(ticketIssueJdbcRepository.markDone(List.of(1L), WORKER_ID)).thenReturn(1);
+		when(ticketIssueJdbcRepository.markDone(List.of(2L), WORKER_ID)).thenReturn(0);
+
+		assertThat(ticketIssueService.issueNextBatch(WORKER_ID)).isEqualTo(2);
+
+		verify(ticketIssueJdbcRepository).markFailed(eq(taken), eq(WORKER_ID), eq(MAX_ATTEMPTS), anyString());
+		verify(ticketIssueJdbcRepository, never()).markFailed(eq(mine), any(), anyInt(), any());
+	}
+
+	@Test
+	@DisplayName("발권 중 실패한 요청만 재시도 대상으로 기록한다")
+	void issueNextBatchMarksOnlyFailedRequests() {
+		ClaimedRequest succeeding = new ClaimedRequest(1L, 10L, 1);
+		ClaimedRequest failing = new ClaimedRequest(2L, 20L, MAX_ATTEMPTS);
+		when(ticketIssueJdbcRepository.claim(eq(WORKER_ID), eq(BATCH_SIZE), any()))
+			.thenReturn(List.of(succeeding, failing));
+		when(ticketIssueJdbcRepository.findPassengers(List.of(10L, 20L)))
+			.thenThrow(new IllegalStateException("batch failure"));
+		when(ticketIssueJdbcRepository.findPassengers(List.of(10L))).thenReturn(List.of());
+		when(ticketIssueJdbcRepository.findPassengers(List.of(20L)))
+			.thenThrow(new IllegalStateException("passenger failure"));
+		when(ticketIssueJdbcRepository.markDone(List.of(1L), WORKER_ID)).thenReturn(1);
+
+		ticketIssueService.issueNextBatch(WORKER_ID);
+
+		verify(ticketIssueJdbcRepository).markFailed(failing, WORKER_ID, MAX_ATTEMPTS, "passenger failure");
+		verify(ticketIssueJdbcRepository, never()).markFailed(eq(succeeding), any(), anyInt(), any());
+	}
+
+	private IssuePassenger passenger(Long reservationId, PassengerType passengerType) {
+		LocalDateTime departureAt = LocalDateTime.of(2025, 7, 1, 8, 0);
+		return new IssuePassenger(reservationId, passengerType, departureAt.minusDays(1), 54L, 1L, 2L, 120L,
+			departureAt, departureAt.plusHours(2));
+	}
+}
@@ -0,0 +1,83 @@
+package com.sudo.railo.booking.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sudo.railo.booking.domain.BookingEventType;
+import com.sudo.railo.booking.domain.event.TicketsRevokedEvent;
+import com.sudo.railo.booking.domain.event.TicketsRevokedEvent.RevokedTicket;
+import com.sudo.railo.booking.infra.TicketIssueJdbcRepository;
+import com.sudo.railo.booking.infra.TicketJdbcRepository;
+import com.sudo.railo.booking.infra.TicketJdbcRepository.IssuedTicket;
+
+@ExtendWith(MockitoExtension.class)
+class TicketRevocationServiceTest {
+
+	private static final Long RESERVATION_ID = 1L;
+	private static final LocalDate OPERATION_DATE = LocalDate.of(2025, 7, 1);
+
+	@Mock
+	private TicketJdbcRepository ticketJdbcRepository;
+
+	@Mock
+	private TicketIssueJdbcRepository ticketIssueJdbcRepository;
+
+	@Mock
+	private BookingEventOutboxService bookingEventOutboxService;
+
+	@InjectMocks
+	private TicketRevocationService ticketRevocationService;
+
+	@Test
+	@DisplayName("발권된 승차권을 취소하고 무효화 이벤트를 적재한다")
+	void revokeCancelsTicketsAndAppendsEvent() {
+		when(ticketJdbcRepository.lockIssuedTickets(RESERVATION_ID)).thenReturn(List.of(
+			new IssuedTicket(10L, OPERATION_DATE), new IssuedTicket(11L, OPERATION_DATE)));
+
+		int revoked = ticketRevocationService.revokeByReservationId(RESERVATION_ID);
+
+		assertThat(revoked).isEqualTo(2);
+		verify(ticketJdbcRepository).cancelTickets(eq(List.of(10L, 11L)), any(LocalDateTime.class));
+		verify(bookingEventOutboxService).append(BookingEventType.TICKETS_REVOKED, RESERVATION_ID,
+			new TicketsRevokedEvent(RESERVATION_ID, List.of(
+				new RevokedTicket(10L, OPERATION_DATE), new RevokedTicket(11L, OPERATION_DATE))));
+	}
+
+	@Test
+	@DisplayName("재발권은 기존 승차권을 무효화한 뒤 발권 요청을 다시 대기 상태로 되돌린다")
+	void reissueRevokesThenRequestsReissue() {
+		when(ticketJdbcRepository.lockIssuedTickets(RESERVATION_ID)).thenReturn(List.of(
+			new IssuedTicket(10L, OPERATION_DATE)));
+
+		ticketRevocationService.reissueByReservationId(RESERVATION_ID);
+
+		InOrder inOrder = inOrder(ticketJdbcRepository, ticketIssueJdbcRepository);
+		inOrder.verify(ticketJdbcRepository).cancelTickets(eq(List.of(10L)), any(LocalDateTime.class));
+		inOrder.verify(ticketIssueJdbcRepository).requestReissue(RESERVATION_ID);
+	}
+
+	@Test
+	@DisplayName("아직 발권 전이어도 재발권 요청은 남겨 진행 중인 발권이 현재 좌석으로 다시 처리되게 한다")
+	void reissueRequestsReissueBeforeIssuance() {
+		when(ticketJdbcRepository.lockIssuedTickets(RESERVATION_ID)).thenReturn(List.of());
+
+		ticketRevocationService.reissueByReservationId(RESERVATION_ID);
+
+		verify(ticketJdbcRepository, never()).cancelTickets(any(), any());
+		verifyNoInteractions(bookingEventOutboxService);
+		verify(ticketIssueJdbcRepository).requestReissue(RESERVATION_ID);
+	}
+}
@@ -0,0 +1,132 @@
+package com.sudo.railo.booking.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.sudo.railo.booking.application.dto.EntitlementUsageInfo;
+import com.sudo.railo.booking.application.dto.MemberFreeCountInfo;
+import com.sudo.railo.booking.infra.EntitlementCounterRepository;
+import com.sudo.railo.booking.infra.ReservationPassengerRepository;
+import com.sudo.railo.train.domain.type.PassengerType;
+
+@ExtendWith(MockitoExtension.class)
+class VeteranEntitlementServiceTest {
+
+	private static final String ENTITLEMENT = "veteran-free";
+	private static final String MEMBER_NO = "202507020001";
+	private static final int YEAR = 2025;
+	private static final LocalDate OPERATION_DATE = LocalDate.of(YEAR, 7, 1);
+
+	@Mock
+	private EntitlementCounterRepository entitlementCounterRepository;
+
+	@Mock
+	private ReservationPassengerRepository reservationPassengerRepository;
+
+	@InjectMocks
+	private VeteranEntitlementService veteranEntitlementService;
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	@DisplayName("사용 횟수가 적재되지 않은 회원은 DB에서 집계해 적재한 뒤 다시 사용 처리한다")
+	void claimFreeTripsLoadsMissingCounter() {
+		when(entitlementCounterRepository.claim(eq(ENTITLEMENT), eq(YEAR), eq(MEMBER_NO),
+			eq(VeteranEntitlementService.FREE_TRIPS_PER_YEAR), eq(2), any(), any()))
+			.thenReturn(EntitlementCounterRepository.NOT_LOADED, 1L);
+		when(reservationPassengerRepository.sumFreeCountByMemberNo(eq(MEMBER_NO), eq(PassengerType.VETERAN), any(),
+			eq(LocalDate.of(YEAR, 1, 1)), eq(LocalDate.of(YEAR, 12, 31)))).thenReturn(5L);
+
+		int claimed = veteranEntitlementService.claimFreeTrips(MEMBER_NO, OPERATION_DATE, 2);
+
+		assertThat(claimed).isEqualTo(1);
+		verify(entitlementCounterRepository).load(eq(ENTITLEMENT), eq(YEAR), eq(MEMBER_NO), eq(5L), any());
+	}
+
+	@Test
+	@DisplayName("예약 트랜잭션이 롤백되면 사용 처리한 무임 횟수를 반환하고, 커밋되면 진행 중 표시만 해제한다")
+	void claimFreeTripsReturnsTripsOnRollback() {
+		when(entitlementCounterRepository.claim(eq(ENTITLEMENT), eq(YEAR), eq(MEMBER_NO), anyInt(), anyInt(), any(),
+			any())).thenReturn(2L);
+
+		TransactionSynchronizationManager.initSynchronization();
+		veteranEntitlementService.claimFreeTrips(MEMBER_NO, OPERATION_DATE, 2);
+		completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+		verify(entitlementCounterRepository).complete(ENTITLEMENT, YEAR, MEMBER_NO, 2);
+
+		TransactionSynchronizationManager.initSynchronization();
+		veteranEntitlementService.claimFreeTrips(MEMBER_NO, OPERATION_DATE, 2);
+		completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+		verify(entitlementCounterRepository).complete(ENTITLEMENT, YEAR, MEMBER_NO, 0);
+	}
+
+	@Test
+	@DisplayName("국가유공자 승객이 없으면 무임 혜택을 사용하지 않는다")
+	void claimFreeTripsSkipsWithoutVeterans() {
+		assertThat(veteranEntitlementService.claimFreeTrips(MEMBER_NO, OPERATION_DATE, 0)).isZero();
+		verifyNoInteractions(entitlementCounterRepository, reservationPassengerRepository);
+	}
+
+	@Test
+	@DisplayName("취소된 예약의 무임 혜택은 커밋 직전에 반환 진행 중으로 표시하고 커밋된 뒤에 반환한다")
+	void releaseAfterCommitReturnsTripsAfterCommit() {
+		List<EntitlementUsageInfo> usages = List.of(new EntitlementUsageInfo(MEMBER_NO, OPERATION_DATE, 2L));
+
+		TransactionSynchronizationManager.initSynchronization();
+		veteranEntitlementService.releaseAfterCommit(usages);
+		verifyNoInteractions(entitlementCounterRepository);
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.beforeCommit(false));
+		verify(entitlementCounterRepository).beginRelease(eq(ENTITLEMENT), eq(YEAR), eq(MEMBER_NO), any(), any());
+		completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+		verify(entitlementCounterRepository).complete(ENTITLEMENT, YEAR, MEMBER_NO, 2);
+	}
+
+	@Test
+	@DisplayName("DB 집계와 다른 회원만 보정하고, Redis에 없는 회원은 적재한다")
+	void reconcileCorrectsMismatchedMembers() {
+		when(entitlementCounterRepository.findVersions(ENTITLEMENT, YEAR)).thenReturn(Map.of(MEMBER_NO, "3"));
+		when(entitlementCounterRepository.findAll(ENTITLEMENT, YEAR)).thenReturn(Map.of(
+			MEMBER_NO, "4",
+			"202507020002", "1"));
+		when(reservationPassengerRepository.sumFreeCountsByMember(eq(PassengerType.VETERAN), any(), any(), any()))
+			.thenReturn(List.of(
+				new MemberFreeCountInfo(MEMBER_NO, 2L),
+				new MemberFreeCountInfo("202507020002", 1L),
+				new MemberFreeCountInfo("202507020003", 6L)));
+		when(entitlementCounterRepository.reconcile(ENTITLEMENT, YEAR, MEMBER_NO, "3", 2L)).thenReturn(true);
+
+		int corrected = veteranEntitlementService.reconcile(YEAR);
+
+		assertThat(corrected).isEqualTo(1);
+		verify(entitlementCounterRepository, never()).reconcile(any(), anyInt(), eq("202507020002"), any(),
+			anyLong());
+		verify(entitlementCounterRepository).load(eq(ENTITLEMENT), eq(YEAR), eq("202507020003"), eq(6L), any());
+	}
+
+	private void completeTransaction(int status) {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+		synchronizations.forEach(sync -> sync.afterCompletion(status));
+	}
+}
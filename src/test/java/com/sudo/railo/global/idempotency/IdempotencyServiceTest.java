@@ -0,0 +1,143 @@
+package com.sudo.railo.global.idempotency;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sudo.railo.global.exception.error.BusinessException;
+import com.sudo.railo.global.exception.error.GlobalError;
+import com.sudo.railo.global.idempotency.IdempotencyService.IdempotencyRecord;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+	private static final String SCOPE = "reservation:202507020001";
+	private static final String KEY = "8f14e45f-ceea-467f-a0e6-1b2c3d4e5f60";
+	private static final String REDIS_KEY = "idempotency:" + SCOPE + ":" + KEY;
+	private static final Duration TTL = Duration.ofHours(24);
+	private static final Duration IN_PROGRESS_TTL = Duration.ofSeconds(15);
+
+	@Mock
+	private RedisTemplate<String, String> stringRedisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private IdempotencyService idempotencyService;
+
+	@BeforeEach
+	void setUp() {
+		idempotencyService = new IdempotencyService(stringRedisTemplate, objectMapper);
+		lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+	}
+
+	@Test
+	@DisplayName("키를 선점한 최초 요청은 처리 중 표시를 짧게 두고, 실행 후 응답을 보관 기간만큼 저장한다")
+	void executesAndStoresResponseOnFirstRequest() throws JsonProcessingException {
+		when(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), eq(IN_PROGRESS_TTL))).thenReturn(true);
+
+		TestResponse response = idempotencyService.execute(SCOPE, KEY, new TestRequest(1L), TTL,
+			TestResponse.class, () -> new TestResponse(100L));
+
+		assertThat(response).isEqualTo(new TestResponse(100L));
+		verify(valueOperations).set(REDIS_KEY, completedRecord(new TestRequest(1L), response), TTL);
+	}
+
+	@Test
+	@DisplayName("같은 키로 다시 요청하면 실행하지 않고 저장된 응답을 반환한다")
+	void replaysStoredResponse() throws JsonProcessingException {
+		when(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), eq(IN_PROGRESS_TTL))).thenReturn(false);
+		when(valueOperations.get(REDIS_KEY)).thenReturn(completedRecord(new TestRequest(1L), new TestResponse(100L)));
+		AtomicInteger executions = new AtomicInteger();
+
+		TestResponse response = idempotencyService.execute(SCOPE, KEY, new TestRequest(1L), TTL,
+			TestResponse.class, () -> new TestResponse(executions.incrementAndGet()));
+
+		assertThat(response).isEqualTo(new TestResponse(100L));
+		assertThat(executions).hasValue(0);
+		verify(valueOperations, never()).set(any(), any(), any(Duration.class));
+	}
+
+	@Test
+	@DisplayName("같은 키로 다른 요청 본문을 보내면 예외가 발생한다")
+	void rejectsReusedKeyWithDifferentRequest() throws JsonProcessingException {
+		when(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), eq(IN_PROGRESS_TTL))).thenReturn(false);
+		when(valueOperations.get(REDIS_KEY)).thenReturn(completedRecord(new TestRequest(1L), new TestResponse(100L)));
+
+		assertThatThrownBy(() -> idempotencyService.execute(SCOPE, KEY, new TestRequest(2L), TTL,
+			TestResponse.class, () -> new TestResponse(200L)))
+			.isInstanceOf(BusinessException.class)
+			.hasMessage(GlobalError.IDEMPOTENCY_KEY_REUSED.getMessage());
+	}
+
+	@Test
+	@DisplayName("실행이 실패하면 재시도할 수 있도록 키를 삭제한다")
+	void deletesKeyWhenActionFails() {
+		when(valueOperations.setIfAbsent(eq(REDIS_KEY), anyString(), eq(IN_PROGRESS_TTL))).thenReturn(true);
+
+		assertThatThrownBy(() -> idempotencyService.execute(SCOPE, KEY, new TestRequest(1L), TTL,
+			TestResponse.class, () -> {
+				throw new IllegalStateException("action failure");
+			}))
+			.isInstanceOf(IllegalStateException.class);
+		verify(stringRedisTemplate).delete(REDIS_KEY);
+		verify(valueOperations, never()).set(any(), any(), any(Duration.class));
+	}
+
+	@Test
+	@DisplayName("비어 있거나 너무 긴 키는 허용하지 않는다")
+	void rejectsInvalidKey() {
+		assertThatThrownBy(() -> idempotencyService.execute(SCOPE, " ", new TestRequest(1L), TTL,
+			TestResponse.class, () -> new TestResponse(100L)))
+			.isInstanceOf(BusinessException.class)
+			.hasMessage(GlobalError.INVALID_IDEMPOTENCY_KEY.getMessage());
+		assertThatThrownBy(() -> idempotencyService.execute(SCOPE, "k".repeat(101), new TestRequest(1L), TTL,
+			TestResponse.class, () -> new TestResponse(100L)))
+			.isInstanceOf(BusinessException.class)
+			.hasMessage(GlobalError.INVALID_IDEMPOTENCY_KEY.getMessage());
+		verifyNoInteractions(stringRedisTemplate);
+	}
+
+	@Test
+	@DisplayName("완료된 요청의 응답이 저장되어 있을 때만 저장된 응답이 있다고 판단한다")
+	void hasCompletedResponseOnlyForCompletedRecords() throws JsonProcessingException {
+		when(valueOperations.get(REDIS_KEY)).thenReturn(
+			completedRecord(new TestRequest(1L), new TestResponse(100L)),
+			objectMapper.writeValueAsString(new IdempotencyRecord("fingerprint", false, null)),
+			null);
+
+		assertThat(idempotencyService.hasCompletedResponse(SCOPE, KEY)).isTrue();
+		assertThat(idempotencyService.hasCompletedResponse(SCOPE, KEY)).isFalse();
+		assertThat(idempotencyService.hasCompletedResponse(SCOPE, KEY)).isFalse();
+	}
+
+	private String completedRecord(Object request, Object response) throws JsonProcessingException {
+		String fingerprint = DigestUtils.md5DigestAsHex(
+			objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8));
+		return objectMapper.writeValueAsString(
+			IdempotencyRecord.completed(fingerprint, objectMapper.writeValueAsString(response)));
+	}
+
+	record TestRequest(Long trainScheduleId) {
+	}
+
+	record TestResponse(long reservationId) {
+	}
+}
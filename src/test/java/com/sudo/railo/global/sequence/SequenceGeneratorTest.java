@@ -0,0 +1,115 @@
+package com.sudo.railo.global.sequence;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sudo.railo.global.redis.RedisUtil;
+
+@ExtendWith(MockitoExtension.class)
+class SequenceGeneratorTest {
+
+	private static final int BLOCK_SIZE = 10;
+
+	@Mock
+	private SequenceBlockJdbcRepository sequenceBlockJdbcRepository;
+
+	@Mock
+	private RedisUtil redisUtil;
+
+	@InjectMocks
+	private SequenceGenerator sequenceGenerator;
+
+	private final AtomicLong lastId = new AtomicLong();
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(sequenceBlockJdbcRepository.exists(anyString())).thenReturn(true);
+		lenient().when(sequenceBlockJdbcRepository.allocate(anyString(), anyInt(), anyLong()))
+			.thenAnswer(invocation -> lastId.addAndGet(invocation.<Integer>getArgument(1)));
+	}
+
+	@Test
+	@DisplayName("블록 단위로 DB에서 할당받고 블록 내 순번은 메모리에서 발급한다")
+	void nextLeasesBlockOnce() {
+		List<Long> values = IntStream.range(0, BLOCK_SIZE)
+			.mapToObj(i -> sequenceGenerator.next("test", "20250101", BLOCK_SIZE))
+			.toList();
+
+		assertThat(values).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+		verify(sequenceBlockJdbcRepository, times(1)).allocate("test:20250101", BLOCK_SIZE, 0L);
+	}
+
+	@Test
+	@DisplayName("블록을 모두 사용하면 다음 블록을 할당받는다")
+	void nextLeasesNewBlockWhenExhausted() {
+		IntStream.range(0, BLOCK_SIZE).forEach(i -> sequenceGenerator.next("test", "20250101", BLOCK_SIZE));
+
+		long value = sequenceGenerator.next("test", "20250101", BLOCK_SIZE);
+
+		assertThat(value).isEqualTo(BLOCK_SIZE + 1);
+		verify(sequenceBlockJdbcRepository, times(2)).allocate("test:20250101", BLOCK_SIZE, 0L);
+	}
+
+	@Test
+	@DisplayName("주기가 바뀌면 새 순번 이름으로 블록을 할당받는다")
+	void nextLeasesNewBlockWhenPeriodChanges() {
+		sequenceGenerator.next("test", "20250101", BLOCK_SIZE);
+		sequenceGenerator.next("test", "20250102", BLOCK_SIZE);
+
+		verify(sequenceBlockJdbcRepository).allocate("test:20250101", BLOCK_SIZE, 0L);
+		verify(sequenceBlockJdbcRepository).allocate("test:20250102", BLOCK_SIZE, 0L);
+	}
+
+	@Test
+	@DisplayName("발급 기록이 없으면 기존 Redis 키에서 발급하던 순번 다음부터 발급한다")
+	void nextContinuesFromRedisWhenNotRecorded() {
+		when(sequenceBlockJdbcRepository.exists("test:20250101")).thenReturn(false);
+		when(redisUtil.get("test:20250101")).thenReturn("25");
+		when(sequenceBlockJdbcRepository.allocate("test:20250101", BLOCK_SIZE, 25L)).thenReturn(35L);
+
+		assertThat(sequenceGenerator.next("test", "20250101", BLOCK_SIZE)).isEqualTo(26L);
+	}
+
+	@Test
+	@DisplayName("동시에 발급해도 순번이 중복되지 않는다")
+	void nextIsUniqueUnderConcurrency() throws Exception {
+		int threads = 8;
+		int perThread = 1000;
+		Set<Long> issued = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> futures = IntStream.range(0, threads)
+				.<Future<?>>mapToObj(t -> executor.submit(() -> {
+					for (int i = 0; i < perThread; i++) {
+						issued.add(sequenceGenerator.next("test", "20250101", BLOCK_SIZE));
+					}
+				}))
+				.toList();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertThat(issued).hasSize(threads * perThread);
+	}
+}
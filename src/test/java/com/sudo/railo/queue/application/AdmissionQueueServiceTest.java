@@ -0,0 +1,137 @@
+package com.sudo.railo.queue.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sudo.railo.global.exception.error.BusinessException;
+import com.sudo.railo.queue.application.dto.response.QueueTicketResponse;
+import com.sudo.railo.queue.config.AdmissionProperties;
+import com.sudo.railo.queue.domain.QueueTicketStatus;
+import com.sudo.railo.queue.exception.QueueError;
+import com.sudo.railo.queue.infra.AdmissionQueueRepository;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionQueueServiceTest {
+
+	private static final String TOKEN = "token";
+	private static final String MEMBER_NO = "202507020001";
+	private static final int ADMITS_PER_SECOND = 100;
+	private static final int MAX_USES = 3;
+
+	@Mock
+	private AdmissionQueueRepository admissionQueueRepository;
+
+	private AdmissionQueueService admissionQueueService;
+
+	@BeforeEach
+	void setUp() {
+		AdmissionProperties admissionProperties = new AdmissionProperties(true, ADMITS_PER_SECOND, 10, 30, MAX_USES,
+			List.of(), List.of());
+		admissionQueueService = new AdmissionQueueService(admissionProperties, admissionQueueRepository);
+	}
+
+	@Test
+	@DisplayName("대기 순번과 초당 입장 인원으로 예상 대기 시간을 올림 계산한다")
+	void getStatusReturnsPositionAndEta() {
+		when(admissionQueueRepository.findAdmittedOwner(TOKEN)).thenReturn(Optional.empty());
+		when(admissionQueueRepository.findOwner(TOKEN)).thenReturn(Optional.of(MEMBER_NO));
+		when(admissionQueueRepository.findGroup(TOKEN)).thenReturn(Optional.of("2025-07-01"));
+		when(admissionQueueRepository.findRank("2025-07-01", TOKEN)).thenReturn(Optional.of(150L));
+
+		QueueTicketResponse response = admissionQueueService.getStatus(TOKEN, MEMBER_NO);
+
+		assertThat(response.status()).isEqualTo(QueueTicketStatus.WAITING);
+		assertThat(response.position()).isEqualTo(151L);
+		assertThat(response.etaSeconds()).isEqualTo(2L);
+	}
+
+	@Test
+	@DisplayName("순번 조회 직전에 입장 처리된 대기표는 입장 상태로 응답한다")
+	void getStatusReturnsAdmittedWhenAdmittedMeanwhile() {
+		when(admissionQueueRepository.findAdmittedOwner(TOKEN)).thenReturn(Optional.empty(),
+			Optional.of(MEMBER_NO));
+		when(admissionQueueRepository.findOwner(TOKEN)).thenReturn(Optional.of(MEMBER_NO));
+		when(admissionQueueRepository.findGroup(TOKEN)).thenReturn(Optional.of("2025-07-01"));
+		when(admissionQueueRepository.findRank("2025-07-01", TOKEN)).thenReturn(Optional.empty());
+
+		assertThat(admissionQueueService.getStatus(TOKEN, MEMBER_NO).status()).isEqualTo(QueueTicketStatus.ADMITTED);
+	}
+
+	@Test
+	@DisplayName("다른 회원의 대기표는 찾을 수 없는 것으로 처리한다")
+	void getStatusHidesOtherMembersTicket() {
+		when(admissionQueueRepository.findAdmittedOwner(TOKEN)).thenReturn(Optional.empty());
+		when(admissionQueueRepository.findOwner(TOKEN)).thenReturn(Optional.of("202507020002"));
+
+		assertThatThrownBy(() -> admissionQueueService.getStatus(TOKEN, MEMBER_NO))
+			.isInstanceOf(BusinessException.class)
+			.hasMessage(QueueError.QUEUE_TICKET_NOT_FOUND.getMessage());
+	}
+
+	@Test
+	@DisplayName("입장한 대기표를 사용하면 대기표의 운행일을 반환한다")
+	void enterReturnsAdmittedGroup() {
+		when(admissionQueueRepository.use(TOKEN, MEMBER_NO)).thenReturn(2L);
+		when(admissionQueueRepository.findAdmittedGroup(TOKEN)).thenReturn(Optional.of("2025-07-01"));
+
+		assertThat(admissionQueueService.enter(TOKEN, MEMBER_NO)).isEqualTo("2025-07-01");
+	}
+
+	@Test
+	@DisplayName("다른 회원의 대기표나 사용 횟수를 소진한 대기표로는 입장할 수 없다")
+	void enterRejectsInvalidTickets() {
+		when(admissionQueueRepository.use(TOKEN, MEMBER_NO)).thenReturn(AdmissionQueueRepository.NOT_OWNER,
+			AdmissionQueueRepository.EXHAUSTED, AdmissionQueueRepository.NOT_ADMITTED);
+
+		assertThatThrownBy(() -> admissionQueueService.enter(TOKEN, MEMBER_NO))
+			.hasMessage(QueueError.QUEUE_TICKET_NOT_OWNED.getMessage());
+		assertThatThrownBy(() -> admissionQueueService.enter(TOKEN, MEMBER_NO))
+			.hasMessage(QueueError.QUEUE_TICKET_EXHAUSTED.getMessage());
+		assertThatThrownBy(() -> admissionQueueService.enter(TOKEN, MEMBER_NO))
+			.hasMessage(QueueError.QUEUE_NOT_ADMITTED.getMessage());
+		verify(admissionQueueRepository, never()).findAdmittedGroup(any());
+	}
+
+	@Test
+	@DisplayName("입장 처리 권한을 얻지 못한 인스턴스는 입장 처리하지 않는다")
+	void admitNextSkipsWithoutLock() {
+		when(admissionQueueRepository.tryAcquireAdmitLock(anyLong())).thenReturn(false);
+
+		admissionQueueService.admitNext();
+
+		verify(admissionQueueRepository, never()).admit(any(), anyInt(), anyInt(), any());
+	}
+
+	@Test
+	@DisplayName("그룹별로 초당 입장 인원만큼 입장시키고, 지난 운행일의 빈 대기열은 정리한다")
+	void admitNextAdmitsPerGroupAndRemovesPastEmptyGroups() {
+		String pastGroup = LocalDate.now(ZoneId.of("Asia/Seoul")).minusDays(1).toString();
+		String todayGroup = LocalDate.now(ZoneId.of("Asia/Seoul")).toString();
+		when(admissionQueueRepository.tryAcquireAdmitLock(anyLong())).thenReturn(true);
+		when(admissionQueueRepository.findGroups()).thenReturn(Set.of(pastGroup, todayGroup));
+		when(admissionQueueRepository.admit(anyString(), anyInt(), anyInt(), any())).thenReturn(List.of());
+		when(admissionQueueRepository.countWaiting(pastGroup)).thenReturn(0L);
+
+		admissionQueueService.admitNext();
+
+		verify(admissionQueueRepository).admit(pastGroup, ADMITS_PER_SECOND, MAX_USES, Duration.ofMinutes(10));
+		verify(admissionQueueRepository).admit(todayGroup, ADMITS_PER_SECOND, MAX_USES, Duration.ofMinutes(10));
+		verify(admissionQueueRepository).removeGroup(pastGroup);
+		verify(admissionQueueRepository, never()).removeGroup(todayGroup);
+	}
+}
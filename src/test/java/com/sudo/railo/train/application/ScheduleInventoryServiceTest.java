@@ -0,0 +1,71 @@
+package com.sudo.railo.train.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sudo.railo.global.exception.error.BusinessException;
+import com.sudo.railo.train.domain.type.CarType;
+import com.sudo.railo.train.exception.TrainErrorCode;
+import com.sudo.railo.train.infrastructure.ScheduleInventoryRepository;
+import com.sudo.railo.train.infrastructure.TrainScheduleJdbcRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleInventoryServiceTest {
+
+	private static final Long TRAIN_SCHEDULE_ID = 54L;
+
+	@Mock
+	private ScheduleInventoryRepository scheduleInventoryRepository;
+
+	@Mock
+	private TrainScheduleJdbcRepository trainScheduleJdbcRepository;
+
+	@InjectMocks
+	private ScheduleInventoryService scheduleInventoryService;
+
+	@Test
+	@DisplayName("잔여 좌석이 충분하면 조건부 UPDATE로 차감한다")
+	void reserveDecrementsCounter() {
+		when(scheduleInventoryRepository.reserve(TRAIN_SCHEDULE_ID, CarType.STANDARD, 2)).thenReturn(1);
+
+		scheduleInventoryService.reserve(TRAIN_SCHEDULE_ID, CarType.STANDARD, 2);
+
+		verify(scheduleInventoryRepository).reserve(TRAIN_SCHEDULE_ID, CarType.STANDARD, 2);
+	}
+
+	@Test
+	@DisplayName("잔여 좌석이 부족하면 카운터를 건드리지 않고 예약을 거절한다")
+	void reserveRejectsWhenCounterIsShort() {
+		when(scheduleInventoryRepository.reserve(TRAIN_SCHEDULE_ID, CarType.FIRST_CLASS, 3)).thenReturn(0);
+
+		assertThatThrownBy(() -> scheduleInventoryService.reserve(TRAIN_SCHEDULE_ID, CarType.FIRST_CLASS, 3))
+			.isInstanceOf(BusinessException.class)
+			.hasMessage(TrainErrorCode.INSUFFICIENT_SEATS.getMessage());
+		verify(scheduleInventoryRepository, never()).release(any(), any(), anyInt());
+	}
+
+	@Test
+	@DisplayName("0석 이하의 차감/반환은 DB를 호출하지 않는다")
+	void ignoresEmptyCounts() {
+		scheduleInventoryService.reserve(TRAIN_SCHEDULE_ID, CarType.STANDARD, 0);
+		scheduleInventoryService.release(TRAIN_SCHEDULE_ID, CarType.STANDARD, -1);
+
+		verifyNoInteractions(scheduleInventoryRepository);
+	}
+
+	@Test
+	@DisplayName("반환된 좌석 수만큼 잔여 좌석을 늘린다")
+	void releaseIncrementsCounter() {
+		scheduleInventoryService.release(TRAIN_SCHEDULE_ID, CarType.STANDARD, 2);
+
+		verify(scheduleInventoryRepository).release(TRAIN_SCHEDULE_ID, CarType.STANDARD, 2);
+	}
+}
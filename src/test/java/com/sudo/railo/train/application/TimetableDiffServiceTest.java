@@ -0,0 +1,175 @@
+package com.sudo.railo.train.application;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sudo.railo.booking.application.BookingEventOutboxService;
+import com.sudo.railo.booking.application.ReservationHistoryService;
+import com.sudo.railo.booking.application.dto.ReservedSegmentInfo;
+import com.sudo.railo.booking.domain.BookingEventType;
+import com.sudo.railo.booking.domain.event.ScheduleOperationChangedEvent;
+import com.sudo.railo.booking.infra.ReservationRepository;
+import com.sudo.railo.train.application.dto.TimetableDiffResult;
+import com.sudo.railo.train.application.dto.excel.TimetableStop;
+import com.sudo.railo.train.application.dto.excel.TimetableTemplate;
+import com.sudo.railo.train.application.dto.excel.TimetableTrain;
+import com.sudo.railo.train.domain.Station;
+import com.sudo.railo.train.domain.status.OperationStatus;
+import com.sudo.railo.train.infrastructure.TrainScheduleJdbcRepository;
+import com.sudo.railo.train.infrastructure.TrainScheduleJdbcRepository.ScheduleUpdate;
+import com.sudo.railo.train.infrastructure.TrainScheduleJdbcRepository.StoredSchedule;
+import com.sudo.railo.train.infrastructure.TrainScheduleJdbcRepository.StoredScheduleStop;
+import com.sudo.railo.train.infrastructure.TrainScheduleRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TimetableDiffServiceTest {
+
+	private static final LocalDate TODAY = LocalDate.now(ZoneId.of("Asia/Seoul"));
+	private static final List<String> STATION_NAMES = List.of("서울", "대전", "부산");
+
+	@Mock
+	private TimetableTemplateService timetableTemplateService;
+
+	@Mock
+	private TrainScheduleCreator trainScheduleCreator;
+
+	@Mock
+	private StationService stationService;
+
+	@Mock
+	private TrainScheduleRepository trainScheduleRepository;
+
+	@Mock
+	private TrainScheduleJdbcRepository trainScheduleJdbcRepository;
+
+	@Mock
+	private ReservationRepository reservationRepository;
+
+	@Mock
+	private ReservationHistoryService reservationHistoryService;
+
+	@Mock
+	private BookingEventOutboxService bookingEventOutboxService;
+
+	private TimetableDiffService timetableDiffService;
+
+	@BeforeEach
+	void setUp() {
+		timetableDiffService = new TimetableDiffService(timetableTemplateService, trainScheduleCreator,
+			stationService, trainScheduleRepository, trainScheduleJdbcRepository, reservationRepository,
+			reservationHistoryService, bookingEventOutboxService, new SimpleMeterRegistry());
+		when(trainScheduleRepository.findLastOperationDate()).thenReturn(Optional.of(TODAY));
+	}
+
+	@Test
+	@DisplayName("시간표에서 빠진 스케줄은 운행 취소하고 예약자 알림을 위한 운행 상태 변경 이벤트를 적재한다")
+	void reimportCancelsRemovedSchedulesAndAppendsEvent() {
+		List<TimetableStop> stops = List.of(stop(1, "서울", 8, 0), stop(2, "부산", 10, 30));
+		givenTemplate(train(1, stops));
+		givenStoredSchedules(
+			List.of(stored(101L, 1), stored(102L, 2)),
+			List.of(storedStops(101L, stops), storedStops(102L, stops)));
+		when(trainScheduleJdbcRepository.cancelSchedules(List.of(102L))).thenReturn(1);
+
+		TimetableDiffResult result = timetableDiffService.reimport();
+
+		assertThat(result).isEqualTo(new TimetableDiffResult(0, 0, 1, 0));
+		verify(bookingEventOutboxService).append(BookingEventType.SCHEDULE_OPERATION_CHANGED, null,
+			new ScheduleOperationChangedEvent(List.of(102L), OperationStatus.CANCELLED, 0));
+		verify(trainScheduleJdbcRepository, never()).updateSchedules(any());
+		verifyNoInteractions(trainScheduleCreator);
+	}
+
+	@Test
+	@DisplayName("바뀐 정차역이 예약 구간을 포함하지 않는 스케줄은 반영하지 않고 제외 건수로 남긴다")
+	void reimportSkipsChangesThatDropReservedSegments() {
+		List<TimetableStop> storedStops = List.of(stop(1, "서울", 8, 0), stop(2, "대전", 9, 0),
+			stop(3, "부산", 10, 30));
+		List<TimetableStop> droppedStop = List.of(stop(1, "서울", 8, 0), stop(2, "부산", 10, 30));
+		List<TimetableStop> delayedStops = List.of(stop(1, "서울", 8, 0), stop(2, "대전", 9, 10),
+			stop(3, "부산", 10, 40));
+		givenTemplate(train(1, droppedStop), train(2, delayedStops));
+		givenStoredSchedules(
+			List.of(stored(101L, 1), stored(102L, 2)),
+			List.of(storedStops(101L, storedStops), storedStops(102L, storedStops)));
+		givenStations();
+		when(reservationRepository.findReservedSegmentsByTrainScheduleIds(eq(List.of(101L, 102L)), any()))
+			.thenReturn(List.of(
+				new ReservedSegmentInfo(101L, 1L, 2L),
+				new ReservedSegmentInfo(102L, 1L, 2L)));
+		when(reservationRepository.findMemberNosByTrainScheduleIds(eq(List.of(102L)), any()))
+			.thenReturn(List.of("202507020001"));
+
+		TimetableDiffResult result = timetableDiffService.reimport();
+
+		assertThat(result).isEqualTo(new TimetableDiffResult(0, 1, 0, 1));
+		ArgumentCaptor<List<ScheduleUpdate>> updates = ArgumentCaptor.forClass(List.class);
+		verify(trainScheduleJdbcRepository).updateSchedules(updates.capture());
+		assertThat(updates.getValue()).extracting(ScheduleUpdate::id).containsExactly(102L);
+		verify(trainScheduleJdbcRepository, never()).deleteScheduleStops(any());
+		verify(reservationHistoryService).evict("202507020001");
+	}
+
+	private void givenTemplate(TimetableTrain... trains) {
+		when(timetableTemplateService.getTemplate()).thenReturn(
+			new TimetableTemplate("checksum", STATION_NAMES, List.of(trains)));
+	}
+
+	private void givenStoredSchedules(List<StoredSchedule> schedules, List<List<StoredScheduleStop>> stops) {
+		when(trainScheduleJdbcRepository.findSchedules(TODAY, TODAY)).thenReturn(schedules);
+		when(trainScheduleJdbcRepository.findScheduleStops(TODAY, TODAY)).thenReturn(
+			stops.stream().flatMap(List::stream).toList());
+	}
+
+	private void givenStations() {
+		Map<String, Station> stations = Map.of(
+			"서울", station(1L),
+			"대전", station(2L),
+			"부산", station(3L));
+		when(stationService.findOrCreateStation(STATION_NAMES)).thenReturn(stations);
+	}
+
+	private TimetableTrain train(int trainNumber, List<TimetableStop> stops) {
+		return new TimetableTrain("KTX " + trainNumber, trainNumber, "KTX", TimetableTrain.EVERY_DAY, stops);
+	}
+
+	private TimetableStop stop(int stopOrder, String stationName, int hour, int minute) {
+		LocalTime time = LocalTime.of(hour, minute);
+		return new TimetableStop(stopOrder, time, time, stationName);
+	}
+
+	private StoredSchedule stored(long id, int trainNumber) {
+		return new StoredSchedule(id, trainNumber, TODAY, "KTX " + trainNumber, OperationStatus.ACTIVE);
+	}
+
+	private List<StoredScheduleStop> storedStops(long trainScheduleId, List<TimetableStop> stops) {
+		return stops.stream()
+			.map(stop -> new StoredScheduleStop(trainScheduleId, stop.stopOrder(), stop.arrivalTime(),
+				stop.departureTime(), stop.stationName()))
+			.toList();
+	}
+
+	private Station station(Long id) {
+		Station station = mock(Station.class);
+		when(station.getId()).thenReturn(id);
+		return station;
+	}
+}
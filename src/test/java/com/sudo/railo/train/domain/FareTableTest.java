@@ -0,0 +1,54 @@
+package com.sudo.railo.train.domain;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sudo.railo.train.domain.type.FareClass;
+import com.sudo.railo.train.domain.type.PassengerType;
+
+class FareTableTest {
+
+	private final FareTable fareTable = FareTable.of(59800, 83700);
+
+	@Test
+	@DisplayName("승객 유형별 운임은 기존 할인율 계산과 같다")
+	void fareMatchesDiscountRate() {
+		for (PassengerType passengerType : PassengerType.values()) {
+			BigDecimal rate = BigDecimal.valueOf(passengerType.getFareRatePermille() / 1000.0);
+			int expected = BigDecimal.valueOf(59800).multiply(rate).intValue();
+
+			assertThat(fareTable.fare(FareClass.STANDARD, passengerType)).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	@DisplayName("입석 운임은 일반실 운임의 90%이다")
+	void standingFareIsNinetyPercentOfStandard() {
+		assertThat(fareTable.fare(FareClass.STANDING, PassengerType.ADULT)).isEqualTo(53820);
+		assertThat(fareTable.fare(FareClass.STANDING, PassengerType.CHILD)).isEqualTo(32292);
+	}
+
+	@Test
+	@DisplayName("승객 구성별 총 운임을 계산한다")
+	void totalSumsPassengerFares() {
+		int[] passengerCounts = new int[PassengerType.values().length];
+		passengerCounts[PassengerType.ADULT.ordinal()] = 2;
+		passengerCounts[PassengerType.CHILD.ordinal()] = 1;
+
+		int expected = 2 * fareTable.fare(FareClass.FIRST_CLASS, PassengerType.ADULT)
+			+ fareTable.fare(FareClass.FIRST_CLASS, PassengerType.CHILD);
+		assertThat(fareTable.total(FareClass.FIRST_CLASS, passengerCounts)).isEqualTo(expected);
+	}
+
+	@Test
+	@DisplayName("승객 유형 정보가 없으면 전원 어른으로 계산한다")
+	void adultPassengerCounts() {
+		int[] passengerCounts = FareTable.adultPassengerCounts(3);
+
+		assertThat(fareTable.total(FareClass.STANDARD, passengerCounts)).isEqualTo(3 * 59800);
+	}
+}
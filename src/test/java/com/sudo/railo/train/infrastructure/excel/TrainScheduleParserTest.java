@@ -0,0 +1,78 @@
+package com.sudo.railo.train.infrastructure.excel;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellAddress;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sudo.railo.train.application.dto.excel.TimetableTemplate;
+import com.sudo.railo.train.application.dto.excel.TrainScheduleData;
+
+class TrainScheduleParserTest {
+
+	private final TrainScheduleParser parser = new TrainScheduleParser() {
+		@Override
+		protected String getFileName() {
+			return "train_schedule.xlsx";
+		}
+	};
+
+	@Test
+	@DisplayName("스트리밍 파싱 결과는 워크북 전체를 읽는 파싱 결과와 같다")
+	void streamingParseMatchesWorkbookParse() {
+		// 평일/주말 운행 열차가 모두 포함되도록 금요일, 일요일 확인
+		for (LocalDate localDate : List.of(LocalDate.of(2025, 7, 4), LocalDate.of(2025, 7, 6))) {
+			List<String> expected = new ArrayList<>();
+			for (Sheet sheet : parser.getSheets()) {
+				CellAddress downTrainAddress = parser.getFirstCellAddress(sheet, 0);
+				parser.getTrainScheduleData(sheet, downTrainAddress, localDate)
+					.forEach(data -> expected.add(toText(data)));
+
+				CellAddress upTrainAddress = parser.getFirstCellAddress(sheet, downTrainAddress.getColumn() + 1);
+				parser.getTrainScheduleData(sheet, upTrainAddress, localDate)
+					.forEach(data -> expected.add(toText(data)));
+			}
+
+			List<String> actual = new ArrayList<>();
+			parser.streamTrainScheduleData(localDate, data -> actual.add(toText(data)));
+
+			assertThat(expected).isNotEmpty();
+			assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+		}
+	}
+
+	@Test
+	@DisplayName("시간표 템플릿을 운행일로 전개한 결과는 운행일 기준 파싱 결과와 같다")
+	void expandedTemplateMatchesParse() {
+		TimetableTemplate template = parser.compileTimetable(parser.getFileChecksum());
+
+		for (LocalDate localDate : List.of(LocalDate.of(2025, 7, 4), LocalDate.of(2025, 7, 6))) {
+			List<String> expected = new ArrayList<>();
+			parser.streamTrainScheduleData(localDate, data -> expected.add(toText(data)));
+
+			List<String> actual = template.expand(localDate).stream()
+				.map(this::toText)
+				.toList();
+
+			assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+		}
+	}
+
+	private String toText(TrainScheduleData data) {
+		StringBuilder text = new StringBuilder(data.getScheduleName())
+			.append(' ').append(data.getOperationDate())
+			.append(' ').append(data.getTrainData().getTrainType());
+		data.getScheduleStopData().forEach(stop -> text
+			.append(" | ").append(stop.getStopOrder())
+			.append(' ').append(stop.getStationName())
+			.append(' ').append(stop.getArrivalTime())
+			.append(' ').append(stop.getDepartureTime()));
+		return text.toString();
+	}
+}